@@ -1,5 +1,5 @@
 grammar Query;
-select: 'select' fields 'from' entity where? skip? limit? order? EOF;
+select: 'select' fields 'from' entity where? skip? limit? order? fetch? EOF;
 delete: 'delete' deleteFields? 'from' entity where? EOF;
 insert: 'insert' entity (conditions | json) ttl? EOF;
 update: 'update' entity (conditions | json) EOF;
@@ -13,6 +13,7 @@ conditions: '(' changes ')';
 star: '*';
 skip: 'skip' INT;
 limit: 'limit' INT;
+fetch: 'fetch' INT;
 order: 'order' 'by' orderName (orderName)*;
 orderName: name | name asc | name desc;
 where: 'where' condition (and condition| or condition)* ;
@@ -37,8 +38,8 @@ change: name '=' value;
 key: value;
 keys: value (','value)*;
 value: ( number | string | array | function | parameter | json);
-name: ANY_NAME;
-entity: ANY_NAME;
+name: ANY_NAME | 'fetch';
+entity: ANY_NAME | 'fetch';
 array: '{' element (',' element)* '}';
 function: convert;
 convert: 'convert(' element ',' name')';
@@ -13,10 +13,11 @@
 module org.eclipse.jnosql.communication.column {
     requires org.eclipse.jnosql.communication.core;
     requires org.eclipse.jnosql.communication.query;
-    requires jakarta.json.bind;
     requires jakarta.json;
     requires jakarta.data.api;
 
+    exports org.eclipse.jnosql.communication.column;
     opens org.eclipse.jnosql.communication.column;
+    uses org.eclipse.jnosql.communication.column.ColumnConfiguration;
 
 }
\ No newline at end of file
@@ -21,12 +21,10 @@ import org.eclipse.jnosql.communication.Condition;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.Value;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.StreamSupport;
 
-import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -44,16 +42,25 @@ public final class ColumnCondition {
 
     private final boolean readOnly;
 
+    private final ConditionList<ColumnCondition> conditions;
+
     private ColumnCondition(Column column, Condition condition) {
         this.column = column;
         this.condition = condition;
         this.readOnly = false;
+        this.conditions = null;
     }
 
     private ColumnCondition(Column column, Condition condition, boolean readOnly) {
+        this(column, condition, readOnly, null);
+    }
+
+    private ColumnCondition(Column column, Condition condition, boolean readOnly,
+                            ConditionList<ColumnCondition> conditions) {
         this.column = column;
         this.condition = condition;
         this.readOnly = readOnly;
+        this.conditions = conditions;
     }
 
     /**
@@ -85,11 +92,7 @@ public final class ColumnCondition {
     public ColumnCondition and(ColumnCondition condition) {
         validateReadOnly();
         requireNonNull(condition, "Conditions is required");
-        if (Condition.AND.equals(this.condition)) {
-            Column newColumn = getConditions(condition, Condition.AND);
-            return new ColumnCondition(newColumn, Condition.AND);
-        }
-        return ColumnCondition.and(this, condition);
+        return join(Condition.AND, this, condition);
     }
 
     /**
@@ -119,18 +122,33 @@ public final class ColumnCondition {
     public ColumnCondition or(ColumnCondition condition) {
         validateReadOnly();
         requireNonNull(condition, "Condition is required");
-        if (Condition.OR.equals(this.condition)) {
-            Column newColumn = getConditions(condition, Condition.OR);
-            return new ColumnCondition(newColumn, Condition.OR);
+        return join(Condition.OR, this, condition);
+    }
+
+    private ConditionList<ColumnCondition> conditions() {
+        if (conditions == null) {
+            return ConditionList.of(column.get(new TypeReference<List<ColumnCondition>>() {
+            }));
         }
-        return ColumnCondition.or(this, condition);
+        return conditions;
     }
 
-    private Column getConditions(ColumnCondition columnCondition, Condition condition) {
-        List<ColumnCondition> conditions = new ArrayList<>(column.get(new TypeReference<List<ColumnCondition>>() {
-        }));
-        conditions.add(columnCondition);
-        return Column.of(condition.getNameField(), conditions);
+    /**
+     * Joins the conditions as a flat list, the conditions that already have the same AND or OR are spliced,
+     * instead of nested, and their list is appended in place when it is not shared yet.
+     */
+    private static ColumnCondition join(Condition condition, ColumnCondition... conditions) {
+        ConditionList<ColumnCondition> joined = null;
+        for (ColumnCondition element : conditions) {
+            requireNonNull(element, "condition is required");
+            List<ColumnCondition> elements = condition.equals(element.condition)
+                    ? element.conditions() : List.of(element);
+            joined = joined == null ? ConditionList.of(elements) : joined.appendAll(elements);
+        }
+        if (joined == null) {
+            joined = ConditionList.empty();
+        }
+        return new ColumnCondition(Column.of(condition.getNameField(), joined), condition, false, joined);
     }
 
     private void validateReadOnly() {
@@ -166,10 +184,10 @@ public final class ColumnCondition {
 
     public static ColumnCondition readOnly(ColumnCondition condition) {
         requireNonNull(condition, "condition is required");
-        return new ColumnCondition(condition.column(), condition.condition(), true);
+        return new ColumnCondition(condition.column(), condition.condition(), true, condition.conditions);
     }
 
-    static ColumnCondition of(Column column, Condition condition) {
+    public static ColumnCondition of(Column column, Condition condition) {
         return new ColumnCondition(requireNonNull(column, "Column is required"), condition);
     }
 
@@ -426,6 +444,7 @@ public final class ColumnCondition {
      * ColumnCondition condition = ColumnCondition.eq(name).and(ColumnCondition.gte(age));
      * }
      * The {@link ColumnCondition#column()} will have "_AND" as key and the list of condition as value.
+     * The conditions that already are AND are flattened into the list instead of nested.
      *
      * @param conditions the conditions to be aggregated
      * @return the new {@link ColumnCondition} instance
@@ -433,8 +452,7 @@ public final class ColumnCondition {
      */
     public static ColumnCondition and(ColumnCondition... conditions) {
         requireNonNull(conditions, "condition is required");
-        Column column = Column.of(Condition.AND.getNameField(), asList(conditions));
-        return ColumnCondition.of(column, Condition.AND);
+        return join(Condition.AND, conditions);
     }
 
     /**
@@ -448,6 +466,7 @@ public final class ColumnCondition {
      * ColumnCondition condition = ColumnCondition.eq(name).or(ColumnCondition.gte(age));
      * }
      * The {@link ColumnCondition#column()} will have "_OR" as key and the list of condition as value.
+     * The conditions that already are OR are flattened into the list instead of nested.
      *
      * @param conditions the conditions to be aggregated
      * @return the new {@link ColumnCondition} instance
@@ -455,8 +474,7 @@ public final class ColumnCondition {
      */
     public static ColumnCondition or(ColumnCondition... conditions) {
         requireNonNull(conditions, "condition is required");
-        Column column = Column.of(Condition.OR.getNameField(), asList(conditions));
-        return ColumnCondition.of(column, Condition.OR);
+        return join(Condition.OR, conditions);
     }
 
 
@@ -18,11 +18,14 @@ package org.eclipse.jnosql.communication.column;
 
 
 import jakarta.data.exceptions.NonUniqueResultException;
+import org.eclipse.jnosql.communication.AggregateCapability;
+import org.eclipse.jnosql.communication.AggregateFallback;
 
 import java.time.Duration;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -130,6 +133,7 @@ public interface ColumnManager extends AutoCloseable {
      */
     default long count(ColumnQuery query) {
         Objects.requireNonNull(query, "query is required");
+        AggregateFallback.INSTANCE.record(AggregateCapability.COUNT, query.name());
         return this.select(DefaultColumnQuery.countBy(query)).count();
     }
 
@@ -141,9 +145,23 @@ public interface ColumnManager extends AutoCloseable {
      */
     default boolean exists(ColumnQuery query) {
         Objects.requireNonNull(query, "query is required");
+        AggregateFallback.INSTANCE.record(AggregateCapability.EXISTS, query.name());
         return this.select(DefaultColumnQuery.existsBy(query)).findAny().isPresent();
     }
 
+    /**
+     * Returns the aggregate operations that this manager runs natively, in other words, the operations whose
+     * default implementation, which selects the entities, is overridden. The mapping layer uses it to reduce the
+     * payload of the operations that are not native.
+     * The default implementation returns an empty set; a driver that overrides {@link ColumnManager#count(ColumnQuery)}
+     * or {@link ColumnManager#exists(ColumnQuery)} should declare it.
+     *
+     * @return the native aggregate operations
+     */
+    default Set<AggregateCapability> aggregateCapabilities() {
+        return Set.of();
+    }
+
     /**
      * Executes a query and returns the result, when the operations are <b>insert</b>, <b>update</b> and <b>select</b>
      * command it will return the result of the operation when the command is <b>delete</b> it will return an empty collection.
@@ -22,52 +22,61 @@ import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 /**
  * An object that represents a precompiled Query statement.
+ * The query is parsed once, each execution creates its own params from the parsed query, thus, the same
+ * statement might run several times with different values. The values given by
+ * {@link ColumnPreparedStatement#bind(String, Object)} belong to this instance; to share the statement between threads
+ * use either {@link ColumnPreparedStatement#result(Map)} or {@link ColumnPreparedStatement#executeBatch(Iterable)},
+ * which receive the values at each execution.
  */
 public final class ColumnPreparedStatement {
 
-    private final ColumnEntity entity;
+    private final Function<Params, ColumnEntity> entity;
 
-    private final ColumnQuery columnQuery;
+    private final Function<Params, ColumnQuery> columnQuery;
 
-    private final ColumnDeleteQuery columnDeleteQuery;
+    private final Function<Params, ColumnDeleteQuery> columnDeleteQuery;
 
     private final PreparedStatementType type;
 
-    private final Params params;
+    private final List<String> paramsNames;
 
-    private final String query;
+    private final Map<String, Object> values = new HashMap<>();
 
-    private final List<String> paramsLeft;
+    private final String query;
 
     private final Duration duration;
 
     private final ColumnManager manager;
 
-    private ColumnPreparedStatement(ColumnEntity entity,
-                                    ColumnQuery columnQuery,
-                                    ColumnDeleteQuery columnDeleteQuery,
+    private ColumnPreparedStatement(Function<Params, ColumnEntity> entity,
+                                    Function<Params, ColumnQuery> columnQuery,
+                                    Function<Params, ColumnDeleteQuery> columnDeleteQuery,
                                     PreparedStatementType type,
                                     Params params,
                                     String query,
-                                    List<String> paramsLeft,
                                     Duration duration,
                                     ColumnManager manager) {
         this.entity = entity;
         this.columnQuery = columnQuery;
         this.columnDeleteQuery = columnDeleteQuery;
         this.type = type;
-        this.params = params;
+        this.paramsNames = List.copyOf(new LinkedHashSet<>(params.getParametersNames()));
         this.query = query;
-        this.paramsLeft = paramsLeft;
         this.manager = manager;
         this.duration = duration;
     }
@@ -83,34 +92,43 @@ public final class ColumnPreparedStatement {
     public ColumnPreparedStatement bind(String name, Object value) {
         Objects.requireNonNull(name, "name is required");
         Objects.requireNonNull(value, "value is required");
-
-        paramsLeft.remove(name);
-        params.bind(name, value);
+        values.put(name, value);
         return this;
     }
 
     /**
-     * Returns the result as a single element otherwise it will return an {@link Optional#empty()}
+     * Executes a query and return the result as {@link Stream}
      *
-     * @return the single result
+     * @return The result stream, if delete it will return an empty list
      */
     public Stream<ColumnEntity> result() {
-        if (!paramsLeft.isEmpty()) {
-            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
-        }
+        return result(values);
+    }
+
+    /**
+     * Executes a query with the given values and return the result as {@link Stream}.
+     * It does not use the values of {@link ColumnPreparedStatement#bind(String, Object)}.
+     *
+     * @param params the values of the parameters by name
+     * @return The result stream, if delete it will return an empty list
+     * @throws NullPointerException when params is null
+     * @throws QueryException       when there is a parameter without value
+     */
+    public Stream<ColumnEntity> result(Map<String, Object> params) {
+        Objects.requireNonNull(params, "params is required");
         switch (type) {
             case SELECT:
-                return manager.select(columnQuery);
+                return manager.select(bind(columnQuery, params));
             case DELETE:
-                manager.delete(columnDeleteQuery);
+                manager.delete(bind(columnDeleteQuery, params));
                 return Stream.empty();
             case UPDATE:
-                return Stream.of(manager.update(entity));
+                return Stream.of(manager.update(bind(entity, params)));
             case INSERT:
                 if (Objects.isNull(duration)) {
-                    return Stream.of(manager.insert(entity));
+                    return Stream.of(manager.insert(bind(entity, params)));
                 } else {
-                    return Stream.of(manager.insert(entity, duration));
+                    return Stream.of(manager.insert(bind(entity, params), duration));
                 }
             default:
                 throw new UnsupportedOperationException("there is not support to operation type: " + type);
@@ -118,10 +136,43 @@ public final class ColumnPreparedStatement {
         }
     }
 
+    /**
+     * Executes the query once to each group of values. The insert and update queries send all the entities
+     * in a single call to the bulk operations of {@link ColumnManager}.
+     *
+     * @param params the values of the parameters by name to each execution
+     * @return the result of all executions, if delete it will return an empty list
+     * @throws NullPointerException when params is null
+     * @throws QueryException       when there is a parameter without value
+     */
+    public Stream<ColumnEntity> executeBatch(Iterable<Map<String, Object>> params) {
+        Objects.requireNonNull(params, "params is required");
+        switch (type) {
+            case UPDATE:
+                return stream(manager.update(entities(params)));
+            case INSERT:
+                if (Objects.isNull(duration)) {
+                    return stream(manager.insert(entities(params)));
+                } else {
+                    return stream(manager.insert(entities(params), duration));
+                }
+            default:
+                List<ColumnEntity> result = new ArrayList<>();
+                for (Map<String, Object> execution : params) {
+                    result(execution).forEach(result::add);
+                }
+                return result.stream();
+        }
+    }
+
+    /**
+     * Returns the result as a single element otherwise it will return an {@link Optional#empty()}
+     *
+     * @return the single result
+     */
     public Optional<ColumnEntity> singleResult() {
         Stream<ColumnEntity> entities = result();
         final Iterator<ColumnEntity> iterator = entities.iterator();
-
         if (!iterator.hasNext()) {
             return Optional.empty();
         }
@@ -129,10 +180,39 @@ public final class ColumnPreparedStatement {
         if (!iterator.hasNext()) {
             return Optional.of(next);
         }
-
         throw new NonUniqueResultException("The select returns more than one entity, select: " + query);
     }
 
+    private List<ColumnEntity> entities(Iterable<Map<String, Object>> params) {
+        List<ColumnEntity> entities = new ArrayList<>();
+        for (Map<String, Object> execution : params) {
+            entities.add(bind(entity, Objects.requireNonNull(execution, "params is required")));
+        }
+        return entities;
+    }
+
+    private <T> T bind(Function<Params, T> statement, Map<String, Object> values) {
+        Params params = Params.newParams();
+        T result = statement.apply(params);
+        List<String> paramsLeft = new ArrayList<>();
+        for (String name : paramsNames) {
+            Object value = values.get(name);
+            if (value == null) {
+                paramsLeft.add(name);
+            } else {
+                params.bind(name, value);
+            }
+        }
+        if (!paramsLeft.isEmpty()) {
+            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
+        }
+        return result;
+    }
+
+    private static Stream<ColumnEntity> stream(Iterable<ColumnEntity> entities) {
+        return StreamSupport.stream(entities.spliterator(), false);
+    }
+
     enum PreparedStatementType {
         SELECT, DELETE, UPDATE, INSERT
     }
@@ -144,45 +224,48 @@ public final class ColumnPreparedStatement {
     }
 
     static ColumnPreparedStatement select(
-            ColumnQuery columnQuery,
-            Params params,
+            Function<Params, ColumnQuery> columnQuery,
             String query,
             ColumnManager manager) {
+        Params params = Params.newParams();
+        columnQuery.apply(params);
         return new ColumnPreparedStatement(null, columnQuery,
                 null, PreparedStatementType.SELECT, params, query,
-                params.getParametersNames(), null, manager);
+                null, manager);
 
     }
 
-    static ColumnPreparedStatement delete(ColumnDeleteQuery columnDeleteQuery,
-                                          Params params,
+    static ColumnPreparedStatement delete(Function<Params, ColumnDeleteQuery> columnDeleteQuery,
                                           String query,
                                           ColumnManager manager) {
-
+        Params params = Params.newParams();
+        columnDeleteQuery.apply(params);
         return new ColumnPreparedStatement(null, null,
                 columnDeleteQuery, PreparedStatementType.DELETE, params, query,
-                params.getParametersNames(), null, manager);
+                null, manager);
 
     }
 
-    static ColumnPreparedStatement insert(ColumnEntity entity,
-                                          Params params,
+    static ColumnPreparedStatement insert(Function<Params, ColumnEntity> entity,
                                           String query,
                                           Duration duration,
                                           ColumnManager manager) {
+        Params params = Params.newParams();
+        entity.apply(params);
         return new ColumnPreparedStatement(entity, null,
                 null, PreparedStatementType.INSERT, params, query,
-                params.getParametersNames(), duration, manager);
+                duration, manager);
 
     }
 
-    static ColumnPreparedStatement update(ColumnEntity entity,
-                                          Params params,
+    static ColumnPreparedStatement update(Function<Params, ColumnEntity> entity,
                                           String query,
                                           ColumnManager manager) {
+        Params params = Params.newParams();
+        entity.apply(params);
         return new ColumnPreparedStatement(entity, null,
                 null, PreparedStatementType.UPDATE, params, query,
-                params.getParametersNames(), null, manager);
+                null, manager);
 
     }
 }
@@ -75,6 +75,16 @@ public interface ColumnQuery {
      */
     List<String> columns();
 
+    /**
+     * A hint to the database of how many entities to bring at each round trip while the result is consumed.
+     * The default value is zero, and it means the driver default. The implementation might ignore this option.
+     *
+     * @return the fetch size
+     */
+    default long fetchSize() {
+        return 0L;
+    }
+
     /**
      * The sorts that contains in this {@link ColumnQuery}
      * The implementation might ignore this option.
@@ -276,6 +286,16 @@ public interface ColumnQuery {
          */
         ColumnQuery build();
 
+        /**
+         * Defines a hint to the database of how many entities to bring at each round trip.
+         * The default value is zero, it means the driver default, and it will replace the current property.
+         *
+         * @param fetchSize the fetch size
+         * @return a query with the fetch size defined
+         * @throws IllegalArgumentException if fetch size is negative
+         */
+        ColumnQueryBuild fetchSize(long fetchSize);
+
         /**
          * Executes {@link ColumnManager#select(ColumnQuery)}
          *
@@ -589,6 +609,16 @@ public interface ColumnQuery {
          */
         ColumnQueryBuilder limit(long limit);
 
+        /**
+         * Defines a hint to the database of how many entities to bring at each round trip.
+         * The default value is zero, it means the driver default, and it will replace the current property.
+         *
+         * @param fetchSize the fetch size
+         * @return the {@link ColumnQueryBuilder}
+         * @throws IllegalArgumentException if fetch size is negative
+         */
+        ColumnQueryBuilder fetchSize(long fetchSize);
+
         /**
          * It will validate and then create a {@link ColumnQuery} instance.
          *
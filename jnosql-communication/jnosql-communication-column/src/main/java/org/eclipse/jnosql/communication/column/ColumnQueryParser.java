@@ -45,7 +45,7 @@ public final class ColumnQueryParser {
      */
     public Stream<ColumnEntity> query(String query, ColumnManager manager, ColumnObserverParser observer) {
         validation(query, manager, observer);
-        String command = query.substring(0, 6);
+        String command = command(query);
         switch (command) {
             case "select":
                 return select.query(query, manager, observer);
@@ -74,7 +74,7 @@ public final class ColumnQueryParser {
      */
     public ColumnPreparedStatement prepare(String query, ColumnManager manager, ColumnObserverParser observer) {
         validation(query, manager, observer);
-        String command = query.substring(0, 6);
+        String command = command(query);
 
         switch (command) {
             case "select":
@@ -95,8 +95,15 @@ public final class ColumnQueryParser {
         Objects.requireNonNull(query, "query is required");
         Objects.requireNonNull(manager, "manager is required");
         Objects.requireNonNull(observer, "manager is observer");
-        if (query.length() < 6) {
+        if (query.strip().length() < 6) {
             throw new QueryException(String.format("The query %s is invalid", query));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * The command of the query, the leading white spaces are ignored as the query grammar does
+     */
+    private static String command(String query) {
+        return query.stripLeading().substring(0, 6);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.column;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An immutable list of the conditions joined by either AND or OR. The lists appended from the same list share
+ * one backing array: the first append on the last element writes in place, and any other one copies the array,
+ * so appending N conditions one by one costs O(N) instead of copying the whole list at each append.
+ *
+ * @param <T> the condition type
+ */
+final class ConditionList<T> extends AbstractList<T> implements RandomAccess {
+
+    private static final int DEFAULT_CAPACITY = 4;
+
+    private final Buffer buffer;
+
+    private final int size;
+
+    private ConditionList(Buffer buffer, int size) {
+        this.buffer = buffer;
+        this.size = size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return (T) buffer.elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a list with the element at the end, this list does not change.
+     *
+     * @param element the element
+     * @return the new list
+     */
+    ConditionList<T> append(T element) {
+        return appendAll(List.of(element));
+    }
+
+    /**
+     * Returns a list with the elements at the end, this list does not change.
+     *
+     * @param elements the elements
+     * @return the new list
+     */
+    ConditionList<T> appendAll(List<? extends T> elements) {
+        int length = size + elements.size();
+        if (buffer.used.compareAndSet(size, length)) {
+            Object[] array = buffer.elements;
+            if (array.length < length) {
+                array = Arrays.copyOf(array, Math.max(length, array.length * 2));
+            }
+            copy(elements, array, size);
+            buffer.elements = array;
+            return new ConditionList<>(buffer, length);
+        }
+        Object[] array = Arrays.copyOf(buffer.elements, Math.max(length, size * 2));
+        copy(elements, array, size);
+        Arrays.fill(array, length, array.length, null);
+        return new ConditionList<>(new Buffer(array, length), length);
+    }
+
+    private static void copy(List<?> elements, Object[] array, int start) {
+        int index = start;
+        for (Object element : elements) {
+            array[index++] = element;
+        }
+    }
+
+    static <T> ConditionList<T> empty() {
+        return new ConditionList<>(new Buffer(new Object[DEFAULT_CAPACITY], 0), 0);
+    }
+
+    static <T> ConditionList<T> of(List<T> elements) {
+        if (elements instanceof ConditionList) {
+            return (ConditionList<T>) elements;
+        }
+        return ConditionList.<T>empty().appendAll(elements);
+    }
+
+    private static final class Buffer {
+
+        private volatile Object[] elements;
+
+        private final AtomicInteger used;
+
+        private Buffer(Object[] elements, int used) {
+            this.elements = elements;
+            this.used = new AtomicInteger(used);
+        }
+    }
+}
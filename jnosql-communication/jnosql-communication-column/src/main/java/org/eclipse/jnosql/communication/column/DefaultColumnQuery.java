@@ -45,15 +45,23 @@ class DefaultColumnQuery implements ColumnQuery {
 
     private final ColumnCondition condition;
 
+    private final long fetchSize;
+
 
     DefaultColumnQuery(long maxResults, long firstResult, String columnFamily,
                        List<String> columns, List<Sort> sorts, ColumnCondition condition) {
+        this(maxResults, firstResult, columnFamily, columns, sorts, condition, 0L);
+    }
+
+    DefaultColumnQuery(long maxResults, long firstResult, String columnFamily,
+                       List<String> columns, List<Sort> sorts, ColumnCondition condition, long fetchSize) {
         this.maxResults = maxResults;
         this.firstResult = firstResult;
         this.columnFamily = columnFamily;
         this.columns = columns;
         this.sorts = sorts;
         this.condition = ofNullable(condition).map(ColumnCondition::readOnly).orElse(null);
+        this.fetchSize = fetchSize;
     }
 
     @Override
@@ -81,6 +89,11 @@ class DefaultColumnQuery implements ColumnQuery {
         return unmodifiableList(columns);
     }
 
+    @Override
+    public long fetchSize() {
+        return fetchSize;
+    }
+
     @Override
     public List<Sort> sorts() {
         return unmodifiableList(sorts);
@@ -100,12 +113,13 @@ class DefaultColumnQuery implements ColumnQuery {
                 Objects.equals(columnFamily, that.name()) &&
                 Objects.equals(columns, that.columns()) &&
                 Objects.equals(sorts, that.sorts()) &&
-                Objects.equals(condition, that.condition().orElse(null));
+                Objects.equals(condition, that.condition().orElse(null)) &&
+                fetchSize == that.fetchSize();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(maxResults, firstResult, columnFamily, columns, sorts, condition);
+        return Objects.hash(maxResults, firstResult, columnFamily, columns, sorts, condition, fetchSize);
     }
 
     @Override
@@ -116,15 +130,16 @@ class DefaultColumnQuery implements ColumnQuery {
                 ", columns=" + columns +
                 ", sorts=" + sorts +
                 ", condition=" + condition +
+                ", fetchSize=" + fetchSize +
                 '}';
     }
     static ColumnQuery countBy(ColumnQuery query) {
         return new DefaultColumnQuery(0, 0, query.name(), query.columns(),
-                Collections.emptyList(), query.condition().orElse(null));
+                Collections.emptyList(), query.condition().orElse(null), query.fetchSize());
     }
 
     static ColumnQuery existsBy(ColumnQuery query) {
         return new DefaultColumnQuery(1, 0, query.name(), query.columns(),
-                Collections.emptyList(), query.condition().orElse(null));
+                Collections.emptyList(), query.condition().orElse(null), query.fetchSize());
     }
 }
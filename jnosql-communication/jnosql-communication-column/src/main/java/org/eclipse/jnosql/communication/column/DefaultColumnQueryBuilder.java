@@ -42,6 +42,8 @@ class DefaultColumnQueryBuilder implements ColumnQuery.ColumnQueryBuilder {
 
     private long limit;
 
+    private long fetchSize;
+
 
     @Override
     public ColumnQuery.ColumnQueryBuilder select(String column) {
@@ -105,13 +107,22 @@ class DefaultColumnQueryBuilder implements ColumnQuery.ColumnQueryBuilder {
         return this;
     }
 
+    @Override
+    public ColumnQuery.ColumnQueryBuilder fetchSize(long fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("The fetch size should not be negative, fetch size: " + fetchSize);
+        }
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
     @Override
     public ColumnQuery build() {
         if (Objects.isNull(documentCollection)) {
             throw new IllegalArgumentException("The document collection is mandatory to build");
         }
         return new DefaultColumnQuery(limit, skip, documentCollection,
-                columns, sorts, condition);
+                columns, sorts, condition, fetchSize);
     }
 
     @Override
@@ -137,6 +148,7 @@ class DefaultColumnQueryBuilder implements ColumnQuery.ColumnQueryBuilder {
         DefaultColumnQueryBuilder that = (DefaultColumnQueryBuilder) o;
         return skip == that.skip
                 && limit == that.limit
+                && fetchSize == that.fetchSize
                 && Objects.equals(columns, that.columns)
                 && Objects.equals(sorts, that.sorts)
                 && Objects.equals(documentCollection, that.documentCollection)
@@ -145,7 +157,7 @@ class DefaultColumnQueryBuilder implements ColumnQuery.ColumnQueryBuilder {
 
     @Override
     public int hashCode() {
-        return Objects.hash(columns, sorts, documentCollection, condition, skip, limit);
+        return Objects.hash(columns, sorts, documentCollection, condition, skip, limit, fetchSize);
     }
 
     @Override
@@ -157,6 +169,7 @@ class DefaultColumnQueryBuilder implements ColumnQuery.ColumnQueryBuilder {
                 ", condition=" + condition +
                 ", skip=" + skip +
                 ", limit=" + limit +
+                ", fetchSize=" + fetchSize +
                 '}';
     }
 }
@@ -50,6 +50,8 @@ class DefaultFluentColumnQueryBuilder extends BaseQueryBuilder implements
 
     private long limit;
 
+    private long fetchSize;
+
     private final List<Sort> sorts = new ArrayList<>();
 
     private final List<String> columns;
@@ -189,7 +191,16 @@ class DefaultFluentColumnQueryBuilder extends BaseQueryBuilder implements
 
     @Override
     public ColumnQuery build() {
-        return new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts, condition);
+        return new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts, condition, fetchSize);
+    }
+
+    @Override
+    public ColumnQueryBuild fetchSize(long fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("The fetch size should not be negative, fetch size: " + fetchSize);
+        }
+        this.fetchSize = fetchSize;
+        return this;
     }
 
     @Override
@@ -20,7 +20,7 @@ package org.eclipse.jnosql.communication.column;
 import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.communication.query.InsertQuery;
-import org.eclipse.jnosql.communication.query.InsertQueryConverter;
+import org.eclipse.jnosql.communication.query.QueryConverters;
 import org.eclipse.jnosql.communication.query.JSONQueryValue;
 import org.eclipse.jnosql.communication.query.QueryCondition;
 
@@ -34,9 +34,7 @@ final class InsertQueryParser extends ConditionQueryParser {
 
 
     Stream<ColumnEntity> query(String query, ColumnManager manager, ColumnObserverParser observer) {
-
-        InsertQueryConverter converter = new InsertQueryConverter();
-        InsertQuery insertQuery = converter.apply(query);
+        InsertQuery insertQuery = QueryConverters.INSTANCE.insert(query);
 
         String columnFamily = insertQuery.entity();
         Params params = Params.newParams();
@@ -57,17 +55,13 @@ final class InsertQueryParser extends ConditionQueryParser {
 
     ColumnPreparedStatement prepare(String query, ColumnManager manager,
                                     ColumnObserverParser observer) {
-
-        InsertQueryConverter converter = new InsertQueryConverter();
-        InsertQuery insertQuery = converter.apply(query);
+        InsertQuery insertQuery = QueryConverters.INSTANCE.insert(query);
 
         String columnFamily = observer.fireEntity(insertQuery.entity());
-        Params params = Params.newParams();
-
         Optional<Duration> ttl = insertQuery.ttl();
-        ColumnEntity entity = getEntity(insertQuery, columnFamily, params, observer);
 
-        return ColumnPreparedStatement.insert(entity, params, query, ttl.orElse(null), manager);
+        return ColumnPreparedStatement.insert(params -> getEntity(insertQuery, columnFamily, params, observer),
+                query, ttl.orElse(null), manager);
 
     }
 
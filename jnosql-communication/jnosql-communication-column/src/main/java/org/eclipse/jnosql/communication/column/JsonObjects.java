@@ -16,23 +16,77 @@
  */
 package org.eclipse.jnosql.communication.column;
 
-
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
 import jakarta.json.JsonObject;
-import jakarta.json.bind.Jsonb;
-import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Converts the {@link JsonObject} to {@link Column} in a single pass: the null values are ignored,
+ * an object with a single field becomes a {@link Column}, the other objects become a {@link List}
+ * of {@link Column}, and the integral numbers are narrowed to either {@link Integer}, {@link Long}
+ * or {@link BigInteger}.
+ */
 final class JsonObjects {
 
-    private static final Jsonb JSON = JsonbBuilder.create();
-
     private JsonObjects() {
     }
 
     static List<Column> getColumns(JsonObject jsonObject) {
-        Map<String, Object> map = JSON.fromJson(jsonObject.toString(), Map.class);
-        return Columns.of(map);
+        List<Column> columns = new ArrayList<>(jsonObject.size());
+        for (Map.Entry<String, JsonValue> entry : jsonObject.entrySet()) {
+            JsonValue value = entry.getValue();
+            if (value.getValueType() != JsonValue.ValueType.NULL) {
+                columns.add(Column.of(entry.getKey(), getValue(value)));
+            }
+        }
+        return columns;
+    }
+
+    private static Object getValue(JsonValue value) {
+        switch (value.getValueType()) {
+            case OBJECT:
+                List<Column> columns = getColumns(value.asJsonObject());
+                if (columns.size() == 1) {
+                    return columns.get(0);
+                }
+                return columns;
+            case ARRAY:
+                JsonArray array = value.asJsonArray();
+                List<Object> values = new ArrayList<>(array.size());
+                for (JsonValue element : array) {
+                    values.add(getValue(element));
+                }
+                return values;
+            case STRING:
+                return ((JsonString) value).getString();
+            case NUMBER:
+                return getNumber((JsonNumber) value);
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            default:
+                return null;
+        }
+    }
+
+    private static Object getNumber(JsonNumber number) {
+        if (!number.isIntegral()) {
+            return number.bigDecimalValue();
+        }
+        BigInteger value = number.bigIntegerValue();
+        if (value.bitLength() < Integer.SIZE) {
+            return value.intValue();
+        } else if (value.bitLength() < Long.SIZE) {
+            return value.longValue();
+        }
+        return value;
     }
 
 }
@@ -22,7 +22,7 @@ import jakarta.data.repository.Sort;
 import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.communication.query.SelectQuery;
-import org.eclipse.jnosql.communication.query.SelectQueryConverter;
+import org.eclipse.jnosql.communication.query.QueryConverters;
 
 import java.util.List;
 import java.util.Objects;
@@ -47,12 +47,9 @@ public final class SelectQueryParser implements BiFunction<SelectQuery, ColumnOb
 
     ColumnPreparedStatement prepare(String query, ColumnManager manager, ColumnObserverParser observer) {
 
-        Params params = Params.newParams();
-        SelectQueryConverter converter = new SelectQueryConverter();
-        SelectQuery selectQuery = converter.apply(query);
-
-        ColumnQuery columnQuery = getColumnQuery(params, selectQuery, observer);
-        return ColumnPreparedStatement.select(columnQuery, params, query, manager);
+        SelectQuery selectQuery = QueryConverters.INSTANCE.select(query);
+        return ColumnPreparedStatement.select(params -> getColumnQuery(params, selectQuery, observer),
+                query, manager);
     }
 
 
@@ -68,9 +65,7 @@ public final class SelectQueryParser implements BiFunction<SelectQuery, ColumnOb
 
 
     private ColumnQuery getColumnQuery(String query, ColumnObserverParser observer) {
-
-        SelectQueryConverter converter = new SelectQueryConverter();
-        SelectQuery selectQuery = converter.apply(query);
+        SelectQuery selectQuery = QueryConverters.INSTANCE.select(query);
         String columnFamily = observer.fireEntity(selectQuery.entity());
         long limit = selectQuery.limit();
         long skip = selectQuery.skip();
@@ -87,7 +82,8 @@ public final class SelectQueryParser implements BiFunction<SelectQuery, ColumnOb
         if (params.isNotEmpty()) {
             throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
         }
-        return new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts, condition);
+        return new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts, condition,
+                selectQuery.fetchSize());
     }
 
     private ColumnQuery getColumnQuery(Params params, SelectQuery selectQuery, ColumnObserverParser observer) {
@@ -104,7 +100,8 @@ public final class SelectQueryParser implements BiFunction<SelectQuery, ColumnOb
                 .map(c -> Conditions.getCondition(c, params, observer, columnFamily))
                 .orElse(null);
 
-        return new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts, condition);
+        return new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts, condition,
+                selectQuery.fetchSize());
     }
 
     private Sort toSort(Sort sort, ColumnObserverParser observer, String entity) {
@@ -22,7 +22,7 @@ import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.communication.query.JSONQueryValue;
 import org.eclipse.jnosql.communication.query.QueryCondition;
 import org.eclipse.jnosql.communication.query.UpdateQuery;
-import org.eclipse.jnosql.communication.query.UpdateQueryConverter;
+import org.eclipse.jnosql.communication.query.QueryConverters;
 
 import java.util.List;
 import java.util.Optional;
@@ -33,9 +33,7 @@ final class UpdateQueryParser extends ConditionQueryParser {
 
 
     Stream<ColumnEntity> query(String query, ColumnManager manager, ColumnObserverParser observer) {
-
-        UpdateQueryConverter converter = new UpdateQueryConverter();
-        UpdateQuery updateQuery = converter.apply(query);
+        UpdateQuery updateQuery = QueryConverters.INSTANCE.update(query);
 
         Params params = Params.newParams();
 
@@ -50,14 +48,9 @@ final class UpdateQueryParser extends ConditionQueryParser {
 
     ColumnPreparedStatement prepare(String query, ColumnManager manager, ColumnObserverParser observer) {
 
-        Params params = Params.newParams();
-
-        UpdateQueryConverter converter = new UpdateQueryConverter();
-        UpdateQuery updateQuery = converter.apply(query);
-
-        ColumnEntity entity = getEntity(params, updateQuery, observer);
-
-        return ColumnPreparedStatement.update(entity, params, query, manager);
+        UpdateQuery updateQuery = QueryConverters.INSTANCE.update(query);
+        return ColumnPreparedStatement.update(params -> getEntity(params, updateQuery, observer),
+                query, manager);
     }
 
 
@@ -0,0 +1,137 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColumnConditionCompilerTest {
+
+    private final ColumnEntity entity = person();
+
+    @Test
+    public void shouldReturnErrorWhenConditionIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> ColumnConditionCompiler.INSTANCE.compile(null));
+    }
+
+    @Test
+    public void shouldCompareByValue() {
+        assertThat(test(ColumnCondition.eq("age", 36L))).isTrue();
+        assertThat(test(ColumnCondition.eq("age", new BigDecimal("36.0")))).isTrue();
+        assertThat(test(ColumnCondition.eq("age", "36"))).isFalse();
+        assertThat(test(ColumnCondition.gt("age", 35.5))).isTrue();
+        assertThat(test(ColumnCondition.gt("age", "35"))).isFalse();
+        assertThat(test(ColumnCondition.gte("age", 36))).isTrue();
+        assertThat(test(ColumnCondition.lt("age", 36))).isFalse();
+        assertThat(test(ColumnCondition.lte("name", "B"))).isTrue();
+        assertThat(test(ColumnCondition.between("age", List.of(30, 40.5)))).isTrue();
+        assertThat(test(ColumnCondition.between("age", List.of(40, 30)))).isFalse();
+    }
+
+    @Test
+    public void shouldTestIn() {
+        assertThat(test(ColumnCondition.in("age", List.of(1, 36L)))).isTrue();
+        assertThat(test(ColumnCondition.in("age", List.of()))).isFalse();
+        List<Object> values = IntStream.range(0, 100).mapToObj(i -> i % 2 == 0 ? i : "text-" + i)
+                .collect(Collectors.toList());
+        assertThat(test(ColumnCondition.in("age", values))).isTrue();
+        assertThat(test(ColumnCondition.in("name", values))).isFalse();
+        values.add("Ada Lovelace");
+        assertThat(test(ColumnCondition.in("name", values))).isTrue();
+    }
+
+    @Test
+    public void shouldTestLike() {
+        assertThat(test(ColumnCondition.like("name", "Ada%"))).isTrue();
+        assertThat(test(ColumnCondition.like("name", "%lace"))).isTrue();
+        assertThat(test(ColumnCondition.like("name", "%Love%"))).isTrue();
+        assertThat(test(ColumnCondition.like("name", "%"))).isTrue();
+        assertThat(test(ColumnCondition.like("name", "Ada Lovelace"))).isTrue();
+        assertThat(test(ColumnCondition.like("name", "A%L%e"))).isTrue();
+        assertThat(test(ColumnCondition.like("name", "_da Lovelac_"))).isTrue();
+        assertThat(test(ColumnCondition.like("name", "Ada"))).isFalse();
+        assertThat(test(ColumnCondition.like("name", "%love%"))).isFalse();
+        assertThat(test(ColumnCondition.like("name", "Ada.*"))).isFalse();
+        assertThat(test(ColumnCondition.like("age", "3%"))).isFalse();
+    }
+
+    @Test
+    public void shouldReadSubColumns() {
+        assertThat(test(ColumnCondition.eq("address.city", "London"))).isTrue();
+        assertThat(test(ColumnCondition.like("address.street", "%Road"))).isTrue();
+        assertThat(test(ColumnCondition.eq("address.country", "UK"))).isFalse();
+        assertThat(test(ColumnCondition.eq("phones.mobile", "123"))).isTrue();
+    }
+
+    @Test
+    public void shouldTestLogicalConditions() {
+        assertThat(test(ColumnCondition.eq("country", "UK"))).isFalse();
+        assertThat(test(ColumnCondition.eq("country", "UK").negate())).isTrue();
+        assertThat(test(ColumnCondition.not(ColumnCondition.eq("name", "Ada Lovelace")))).isFalse();
+        assertThat(test(ColumnCondition.or(ColumnCondition.eq("country", "UK"),
+                ColumnCondition.eq("address.city", "London")))).isTrue();
+        assertThat(test(ColumnCondition.and(ColumnCondition.gt("age", 30),
+                ColumnCondition.like("name", "Ada%"), ColumnCondition.in("address.city", List.of("Paris")))))
+                .isFalse();
+    }
+
+    @Test
+    public void shouldTestTheMostSelectiveConditionFirst() {
+        AtomicInteger reads = new AtomicInteger();
+        ColumnEntity counted = new ColumnEntity("Person") {
+            @Override
+            public Optional<Column> find(String columnName) {
+                reads.incrementAndGet();
+                return entity.find(columnName);
+            }
+        };
+        Predicate<ColumnEntity> predicate = ColumnConditionCompiler.INSTANCE.compile(
+                ColumnCondition.gt("age", 10).and(ColumnCondition.eq("name", "Grace")));
+        assertThat(predicate.test(counted)).isFalse();
+        assertThat(reads.get()).isEqualTo(1);
+
+        reads.set(0);
+        predicate = ColumnConditionCompiler.INSTANCE.compile(
+                ColumnCondition.eq("name", "Grace").or(ColumnCondition.gt("age", 10)));
+        assertThat(predicate.test(counted)).isTrue();
+        assertThat(reads.get()).isEqualTo(1);
+    }
+
+    private boolean test(ColumnCondition condition) {
+        return ColumnConditionCompiler.INSTANCE.compile(condition).test(entity);
+    }
+
+    private static ColumnEntity person() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.add("name", "Ada Lovelace");
+        entity.add("age", 36);
+        entity.add("address", List.of(Column.of("city", "London"), Column.of("street", "Abbey Road")));
+        entity.add("phones", Map.of("mobile", "123"));
+        return entity;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionListTest {
+
+    @Test
+    public void shouldAppend() {
+        ConditionList<String> empty = ConditionList.empty();
+        ConditionList<String> list = empty;
+        for (int index = 0; index < 100; index++) {
+            list = list.append(Integer.toString(index));
+        }
+        assertThat(empty).isEmpty();
+        assertThat(list).hasSize(100).startsWith("0", "1").endsWith("98", "99");
+    }
+
+    @Test
+    public void shouldNotChangeWhenAppendFromSameList() {
+        ConditionList<String> list = ConditionList.of(List.of("a", "b"));
+        ConditionList<String> first = list.append("c");
+        ConditionList<String> second = list.appendAll(List.of("d", "e"));
+        ConditionList<String> third = first.append("f");
+
+        assertThat(list).containsExactly("a", "b");
+        assertThat(first).containsExactly("a", "b", "c");
+        assertThat(second).containsExactly("a", "b", "d", "e");
+        assertThat(third).containsExactly("a", "b", "c", "f");
+    }
+
+    @Test
+    public void shouldBeEqualsToList() {
+        ConditionList<String> list = ConditionList.<String>empty().append("a").append("b");
+        Assertions.assertEquals(List.of("a", "b"), list);
+        Assertions.assertEquals(List.of("a", "b").hashCode(), list.hashCode());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> list.add("c"));
+    }
+
+    @Test
+    public void shouldReuseList() {
+        ConditionList<String> list = ConditionList.of(List.of("a"));
+        assertThat(ConditionList.of(list)).isSameAs(list);
+    }
+}
@@ -244,4 +244,73 @@ public class DefaultColumnConditionTest {
         assertThat(integers).contains(12, 13);
     }
 
-}
\ No newline at end of file
+
+    @Test
+    public void shouldFlattenNestedAnd() {
+        ColumnCondition eq = ColumnCondition.eq(Column.of("name", "otavio"));
+        ColumnCondition gt = ColumnCondition.gt(Column.of("age", 10));
+        ColumnCondition lte = ColumnCondition.lte(Column.of("salary", 10_000.00));
+        ColumnCondition like = ColumnCondition.like(Column.of("city", "Lis%"));
+
+        ColumnCondition and = ColumnCondition.and(ColumnCondition.and(eq, gt), lte).and(like);
+        assertEquals(Condition.AND, and.condition());
+        assertThat(and.column().get(new TypeReference<List<ColumnCondition>>() {
+        })).containsExactly(eq, gt, lte, like);
+    }
+
+    @Test
+    public void shouldFlattenNestedOr() {
+        ColumnCondition eq = ColumnCondition.eq(Column.of("name", "otavio"));
+        ColumnCondition gt = ColumnCondition.gt(Column.of("age", 10));
+        ColumnCondition lte = ColumnCondition.lte(Column.of("salary", 10_000.00));
+
+        ColumnCondition or = eq.or(ColumnCondition.or(gt, lte));
+        assertEquals(Condition.OR, or.condition());
+        assertThat(or.column().get(new TypeReference<List<ColumnCondition>>() {
+        })).containsExactly(eq, gt, lte);
+    }
+
+    @Test
+    public void shouldNotFlattenOtherCondition() {
+        ColumnCondition eq = ColumnCondition.eq(Column.of("name", "otavio"));
+        ColumnCondition gt = ColumnCondition.gt(Column.of("age", 10));
+        ColumnCondition lte = ColumnCondition.lte(Column.of("salary", 10_000.00));
+
+        ColumnCondition or = eq.or(gt);
+        ColumnCondition and = or.and(lte);
+        assertEquals(Condition.AND, and.condition());
+        assertThat(and.column().get(new TypeReference<List<ColumnCondition>>() {
+        })).containsExactly(or, lte);
+    }
+
+    @Test
+    public void shouldKeepConditionWhenAppend() {
+        ColumnCondition eq = ColumnCondition.eq(Column.of("name", "otavio"));
+        ColumnCondition gt = ColumnCondition.gt(Column.of("age", 10));
+        ColumnCondition lte = ColumnCondition.lte(Column.of("salary", 10_000.00));
+        ColumnCondition like = ColumnCondition.like(Column.of("city", "Lis%"));
+
+        ColumnCondition and = eq.and(gt);
+        ColumnCondition first = and.and(lte);
+        ColumnCondition second = and.and(like);
+        assertThat(and.column().get(new TypeReference<List<ColumnCondition>>() {
+        })).containsExactly(eq, gt);
+        assertThat(first.column().get(new TypeReference<List<ColumnCondition>>() {
+        })).containsExactly(eq, gt, lte);
+        assertThat(second.column().get(new TypeReference<List<ColumnCondition>>() {
+        })).containsExactly(eq, gt, like);
+        assertEquals(ColumnCondition.and(eq, gt, lte), first);
+    }
+
+    @Test
+    public void shouldAppendToConditionFromList() {
+        ColumnCondition eq = ColumnCondition.eq(Column.of("name", "otavio"));
+        ColumnCondition gt = ColumnCondition.gt(Column.of("age", 10));
+        ColumnCondition lte = ColumnCondition.lte(Column.of("salary", 10_000.00));
+
+        ColumnCondition and = ColumnCondition.of(Column.of(Condition.AND.getNameField(), List.of(eq, gt)),
+                Condition.AND);
+        assertThat(and.and(lte).column().get(new TypeReference<List<ColumnCondition>>() {
+        })).containsExactly(eq, gt, lte);
+    }
+}
@@ -110,6 +110,21 @@ class DefaultColumnQueryBuilderTest {
         Assertions.assertThrows(IllegalArgumentException.class, () -> builder().from(documentCollection).limit(-1));
     }
 
+    @Test
+    public void shouldSelectFetchSize() {
+        String documentCollection = "documentCollection";
+        ColumnQuery query = builder().from(documentCollection).fetchSize(100).build();
+        assertEquals(100L, query.fetchSize());
+        assertEquals(0L, builder().from(documentCollection).build().fetchSize());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenFetchSizeIsNegative() {
+        String documentCollection = "documentCollection";
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> builder().from(documentCollection).fetchSize(-1));
+    }
+
     @Test
     public void shouldSelectSkip() {
         String documentCollection = "documentCollection";
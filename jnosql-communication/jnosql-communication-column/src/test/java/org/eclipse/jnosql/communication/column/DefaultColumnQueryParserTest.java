@@ -53,7 +53,7 @@ public class DefaultColumnQueryParserTest {
     }
 
     @ParameterizedTest(name = "Should parser the query {0}")
-    @ValueSource(strings = {"select * from God"})
+    @ValueSource(strings = {"select * from God", " \n select * from God"})
     public void shouldReturnParserQuery(String query) {
         ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
         parser.query(query, manager, ColumnObserverParser.EMPTY);
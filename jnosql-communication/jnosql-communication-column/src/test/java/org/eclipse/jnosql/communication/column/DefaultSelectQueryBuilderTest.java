@@ -114,6 +114,20 @@ public class DefaultSelectQueryBuilderTest {
         Assertions.assertThrows(IllegalArgumentException.class, () -> builder().from(columnFamily).limit(-1));
     }
 
+    @Test
+    public void shouldSelectFetchSize() {
+        String columnFamily = "columnFamily";
+        ColumnQuery query = select().from(columnFamily).limit(10).fetchSize(100).build();
+        assertEquals(10L, query.limit());
+        assertEquals(100L, query.fetchSize());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenFetchSizeIsNegative() {
+        String columnFamily = "columnFamily";
+        Assertions.assertThrows(IllegalArgumentException.class, () -> select().from(columnFamily).fetchSize(-1));
+    }
+
     @Test
     public void shouldSelectSkip() {
         String columnFamily = "columnFamily";
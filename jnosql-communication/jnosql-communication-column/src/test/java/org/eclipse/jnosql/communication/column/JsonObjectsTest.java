@@ -0,0 +1,71 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.column;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonObjectsTest {
+
+    @Test
+    public void shouldNarrowNumbers() {
+        List<Column> columns = JsonObjects.getColumns(json("{\"age\": 12, \"population\": 8000000000,"
+                + " \"atoms\": 100000000000000000000, \"salary\": 10.5}"));
+        assertThat(columns).containsExactly(Column.of("age", 12), Column.of("population", 8_000_000_000L),
+                Column.of("atoms", new BigInteger("100000000000000000000")),
+                Column.of("salary", new BigDecimal("10.5")));
+    }
+
+    @Test
+    public void shouldConvertValues() {
+        List<Column> columns = JsonObjects.getColumns(json("{\"name\": \"Ada\", \"active\": true,"
+                + " \"retired\": false, \"nickname\": null}"));
+        assertThat(columns).containsExactly(Column.of("name", "Ada"), Column.of("active", true),
+                Column.of("retired", false));
+    }
+
+    @Test
+    public void shouldConvertObjects() {
+        List<Column> columns = JsonObjects.getColumns(json("{\"address\": {\"city\": \"London\"},"
+                + " \"job\": {\"name\": \"Programmer\", \"salary\": 12}}"));
+        assertThat(columns).containsExactly(Column.of("address", Column.of("city", "London")),
+                Column.of("job", List.of(Column.of("name", "Programmer"), Column.of("salary", 12))));
+    }
+
+    @Test
+    public void shouldConvertNestedArrays() {
+        List<Column> columns = JsonObjects.getColumns(json("{\"matrix\": [[1, 2], [\"a\", null, {\"b\": \"c\"}]]}"));
+        assertThat(columns).containsExactly(Column.of("matrix",
+                List.of(List.of(1, 2), Arrays.asList("a", null, Column.of("b", "c")))));
+    }
+
+    private static JsonObject json(String json) {
+        try (JsonReader reader = Json.createReader(new StringReader(json))) {
+            return reader.readObject();
+        }
+    }
+}
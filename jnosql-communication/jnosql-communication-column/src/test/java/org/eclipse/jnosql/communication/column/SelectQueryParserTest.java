@@ -30,6 +30,7 @@ import org.mockito.Mockito;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.jnosql.communication.column.ColumnCondition.eq;
@@ -80,6 +81,19 @@ public class SelectQueryParserTest {
         assertFalse(columnQuery.condition().isPresent());
     }
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select * from God limit 10 fetch 100"})
+    public void shouldReturnParserQueryWithFetchSize(String query) {
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        parser.query(query, manager, observer);
+        Mockito.verify(manager).select(captor.capture());
+        ColumnQuery columnQuery = captor.getValue();
+
+        assertEquals(10L, columnQuery.limit());
+        assertEquals(100L, columnQuery.fetchSize());
+        assertEquals("God", columnQuery.name());
+    }
+
     @ParameterizedTest(name = "Should parser the query {0}")
     @ValueSource(strings = {"select * from God order by name asc"})
     public void shouldReturnParserQuery4(String query) {
@@ -498,6 +512,22 @@ public class SelectQueryParserTest {
         assertEquals(12, column.get());
     }
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select  * from God where age = @age"})
+    public void shouldExecutePrepareStatementSeveralTimes(String query) {
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+
+        ColumnPreparedStatement prepare = parser.prepare(query, manager, observer);
+        prepare.bind("age", 12);
+        prepare.result();
+        prepare.result(Map.of("age", 20));
+        prepare.bind("age", 30);
+        prepare.result();
+        Mockito.verify(manager, Mockito.times(3)).select(captor.capture());
+        assertThat(captor.getAllValues()).map(q -> q.condition().orElseThrow().column().get())
+                .containsExactly(12, 20, 30);
+    }
+
     private void checkBaseQuery(ColumnQuery columnQuery, long limit, long skip) {
         assertTrue(columnQuery.columns().isEmpty());
         assertTrue(columnQuery.sorts().isEmpty());
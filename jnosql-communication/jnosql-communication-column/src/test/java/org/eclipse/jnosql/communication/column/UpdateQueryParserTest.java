@@ -24,8 +24,8 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
-import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -104,7 +104,7 @@ class UpdateQueryParserTest {
         });
         assertEquals("Person", entity.name());
         assertEquals(Column.of("name", "Ada Lovelace"), entity.find("name").get());
-        assertEquals(Column.of("age", BigDecimal.valueOf(12)), entity.find("age").get());
+        assertEquals(Column.of("age", 12), entity.find("age").get());
         assertThat(siblings).contains("Ana", "Maria");
         Assertions.assertThat(address).contains(
                 Column.of("country", "United Kingdom"),
@@ -132,4 +132,15 @@ class UpdateQueryParserTest {
         assertEquals(Column.of("name", "Diana"), entity.find("name").get());
 
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"update God (name = @name)"})
+    public void shouldExecuteBatch(String query) {
+        ArgumentCaptor<Iterable<ColumnEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
+        ColumnPreparedStatement prepare = parser.prepare(query, manager, observer);
+        prepare.executeBatch(List.of(Map.of("name", "Diana"), Map.of("name", "Artemis")));
+        Mockito.verify(manager).update(captor.capture());
+        assertThat(captor.getValue()).map(e -> e.find("name").orElseThrow().get())
+                .containsExactly("Diana", "Artemis");
+    }
+}
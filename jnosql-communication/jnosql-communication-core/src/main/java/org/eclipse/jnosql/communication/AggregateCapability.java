@@ -0,0 +1,34 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication;
+
+/**
+ * The aggregate operations that a database might run natively, without returning the entities that match the query.
+ * A manager declares the operations that it overrides with a native implementation, thus, the mapping layer knows
+ * when the default implementation, which selects the entities, is going to be used.
+ */
+public enum AggregateCapability {
+
+    /**
+     * The database counts the entities that match a query
+     */
+    COUNT,
+    /**
+     * The database checks whether there is an entity that matches a query
+     */
+    EXISTS
+}
@@ -0,0 +1,82 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the number of times that an aggregate operation ran through the default implementation, which selects the
+ * entities, because the database does not declare it at its {@link AggregateCapability}.
+ * It logs a warning on the first time of each operation and entity name.
+ */
+public enum AggregateFallback {
+
+    INSTANCE;
+
+    private static final Logger LOGGER = Logger.getLogger(AggregateFallback.class.getName());
+
+    private final Map<AggregateCapability, LongAdder> counters = new EnumMap<>(AggregateCapability.class);
+
+    private final Set<String> warned = ConcurrentHashMap.newKeySet();
+
+    AggregateFallback() {
+        for (AggregateCapability capability : AggregateCapability.values()) {
+            counters.put(capability, new LongAdder());
+        }
+    }
+
+    /**
+     * Registers an aggregate operation that ran by selecting the entities
+     *
+     * @param capability the operation
+     * @param name       the entity name
+     * @throws NullPointerException when there is a null parameter
+     */
+    public void record(AggregateCapability capability, String name) {
+        Objects.requireNonNull(capability, "capability is required");
+        Objects.requireNonNull(name, "name is required");
+        counters.get(capability).increment();
+        if (warned.add(capability + ":" + name)) {
+            LOGGER.log(Level.WARNING, "The database does not have a native " + capability + " to " + name
+                    + ", the entities will be selected to run it");
+        }
+    }
+
+    /**
+     * @param capability the operation
+     * @return the number of times that the operation ran by selecting the entities
+     * @throws NullPointerException when capability is null
+     */
+    public long fallbacks(AggregateCapability capability) {
+        Objects.requireNonNull(capability, "capability is required");
+        return counters.get(capability).sum();
+    }
+
+    @Override
+    public String toString() {
+        return "AggregateFallback{" +
+                "counters=" + counters +
+                '}';
+    }
+}
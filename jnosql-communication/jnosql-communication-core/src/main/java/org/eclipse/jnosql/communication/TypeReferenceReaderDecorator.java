@@ -17,12 +17,18 @@
 package org.eclipse.jnosql.communication;
 
 
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Decorators of all {@link TypeReferenceReader}
+ * Decorators of all {@link TypeReferenceReader}.
+ * The reader of each {@link Type} is found once and kept, so the next conversions of the same type skip the readers'
+ * lookup.
  *
  * @see ValueReader
  */
@@ -32,6 +38,8 @@ public final class TypeReferenceReaderDecorator implements TypeReferenceReader {
 
     private final List<TypeReferenceReader> readers = new ArrayList<>();
 
+    private final Map<Type, Optional<TypeReferenceReader>> readerByType = new ConcurrentHashMap<>();
+
     {
         ServiceLoader.load(TypeReferenceReader.class).stream()
                 .map(ServiceLoader.Provider::get)
@@ -44,17 +52,24 @@ public final class TypeReferenceReaderDecorator implements TypeReferenceReader {
 
     @Override
     public boolean test(TypeSupplier type) {
-        return readers.stream().anyMatch(r -> r.test(type));
+        return reader(type).isPresent();
     }
 
     @Override
     public <T> T convert(TypeSupplier<T> typeReference, Object value) {
-
-        TypeReferenceReader valueReader = readers.stream().filter(r -> r.test(typeReference)).findFirst().
-                orElseThrow(() -> new UnsupportedOperationException("The type " + typeReference + " is not supported yet"));
+        TypeReferenceReader valueReader = reader(typeReference).orElseThrow(() -> new UnsupportedOperationException("The type " + typeReference + " is not supported yet"));
         return valueReader.convert(typeReference, value);
     }
 
+    private Optional<TypeReferenceReader> reader(TypeSupplier<?> typeReference) {
+        Type type = typeReference.get();
+        if (type == null) {
+            return readers.stream().filter(r -> r.test(typeReference)).findFirst();
+        }
+        return readerByType.computeIfAbsent(type, t -> readers.stream().filter(r -> r.test(typeReference))
+                .findFirst());
+    }
+
     @Override
     public String toString() {
         return "TypeReferenceReaderDecorator{" + "readers=" + readers +
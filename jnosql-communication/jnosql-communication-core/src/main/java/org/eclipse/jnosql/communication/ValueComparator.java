@@ -0,0 +1,159 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A total order of the values of the conditions and of the entities. The numbers are compared by their numeric value
+ * regardless of their type, thus, 10, 10L and 10.0 are the same value; then the text, the booleans and the other
+ * comparable values of the same type. The values of different kinds are ordered by kind, so the order is total.
+ */
+public enum ValueComparator implements Comparator<Object> {
+
+    INSTANCE;
+
+    private static final int NUMBER = 0;
+    private static final int TEXT = 1;
+    private static final int BOOLEAN = 2;
+    private static final int COMPARABLE = 3;
+    private static final int OTHER = 4;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public int compare(Object first, Object second) {
+        int kind = Integer.compare(kind(first), kind(second));
+        if (kind != 0) {
+            return kind;
+        }
+        switch (kind(first)) {
+            case NUMBER:
+                return compare((Number) first, (Number) second);
+            case TEXT:
+                return first.toString().compareTo(second.toString());
+            case BOOLEAN:
+                return Boolean.compare((Boolean) first, (Boolean) second);
+            case COMPARABLE:
+                if (first.getClass().equals(second.getClass())) {
+                    return ((Comparable) first).compareTo(second);
+                }
+                return first.getClass().getName().compareTo(second.getClass().getName());
+            default:
+                return first.toString().compareTo(second.toString());
+        }
+    }
+
+    /**
+     * Checks whether the values are at the same kind, thus, they have a meaningful order
+     *
+     * @param first  the first value
+     * @param second the second value
+     * @return true when both values are numbers, text or comparable values of the same type
+     */
+    public boolean isComparable(Object first, Object second) {
+        int kind = kind(first);
+        if (kind != kind(second) || kind == OTHER) {
+            return false;
+        }
+        return kind != COMPARABLE || first.getClass().equals(second.getClass());
+    }
+
+    /**
+     * Returns the value normalized to be used as a hash key: the numbers with the same numeric value
+     * and the texts with the same characters have the same key.
+     *
+     * @param value the value
+     * @return the key
+     */
+    public static Object key(Object value) {
+        if (value instanceof Number) {
+            Number number = (Number) value;
+            if (isIntegral(number)) {
+                return number.longValue();
+            }
+            BigDecimal decimal = decimal(number);
+            if (decimal == null) {
+                return number.doubleValue();
+            }
+            decimal = decimal.stripTrailingZeros();
+            if (decimal.scale() <= 0) {
+                try {
+                    return decimal.longValueExact();
+                } catch (ArithmeticException exception) {
+                    return decimal;
+                }
+            }
+            return decimal;
+        } else if (value instanceof CharSequence) {
+            return value.toString();
+        }
+        return value;
+    }
+
+    private static int compare(Number first, Number second) {
+        if (isIntegral(first) && isIntegral(second)) {
+            return Long.compare(first.longValue(), second.longValue());
+        }
+        BigDecimal firstDecimal = decimal(first);
+        BigDecimal secondDecimal = decimal(second);
+        if (firstDecimal == null || secondDecimal == null) {
+            return Double.compare(first.doubleValue(), second.doubleValue());
+        }
+        return firstDecimal.compareTo(secondDecimal);
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Integer || number instanceof Long || number instanceof Short
+                || number instanceof Byte || number instanceof AtomicInteger || number instanceof AtomicLong
+                || (number instanceof BigInteger && ((BigInteger) number).bitLength() < Long.SIZE);
+    }
+
+    private static BigDecimal decimal(Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        } else if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        } else if (isIntegral(number)) {
+            return BigDecimal.valueOf(number.longValue());
+        }
+        double value = number.doubleValue();
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return null;
+        }
+        if (number instanceof Float) {
+            return new BigDecimal(number.toString());
+        }
+        return BigDecimal.valueOf(value);
+    }
+
+    private static int kind(Object value) {
+        if (value instanceof Number) {
+            return NUMBER;
+        } else if (value instanceof CharSequence) {
+            return TEXT;
+        } else if (value instanceof Boolean) {
+            return BOOLEAN;
+        } else if (value instanceof Comparable) {
+            return COMPARABLE;
+        }
+        return OTHER;
+    }
+}
@@ -19,10 +19,13 @@ package org.eclipse.jnosql.communication;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
 
 /**
- * Decorators of all {@link ValueReader} supported by Jakarta NoSQL
+ * Decorators of all {@link ValueReader} supported by Jakarta NoSQL.
+ * The reader of each type is found once and kept, so the next reads of the same type skip the readers' lookup.
  *
  * @see ValueReader
  */
@@ -30,8 +33,20 @@ public final class ValueReaderDecorator implements ValueReader {
 
     private static final ValueReaderDecorator INSTANCE = new ValueReaderDecorator();
 
+    private static final Map<Class<?>, Class<?>> WRAPPERS = Map.of(int.class, Integer.class,
+            long.class, Long.class, double.class, Double.class, float.class, Float.class,
+            boolean.class, Boolean.class, short.class, Short.class, byte.class, Byte.class,
+            char.class, Character.class);
+
     private final List<ValueReader> readers = new ArrayList<>();
 
+    private final ClassValue<Optional<ValueReader>> readerByType = new ClassValue<>() {
+        @Override
+        protected Optional<ValueReader> computeValue(Class<?> type) {
+            return readers.stream().filter(r -> r.test(type)).findFirst();
+        }
+    };
+
     {
         ServiceLoader.load(ValueReader.class).stream()
                 .map(ServiceLoader.Provider::get)
@@ -44,15 +59,19 @@ public final class ValueReaderDecorator implements ValueReader {
 
     @Override
     public boolean test(Class type) {
-        return readers.stream().anyMatch(r -> r.test(type));
+        return readerByType.get(type).isPresent();
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> T read(Class<T> type, Object value) {
         if (type.isInstance(value)) {
             return type.cast(value);
         }
-        ValueReader valueReader = readers.stream().filter(r -> r.test(type)).findFirst().orElseThrow(
+        if (type.isPrimitive() && WRAPPERS.getOrDefault(type, void.class).isInstance(value)) {
+            return (T) value;
+        }
+        ValueReader valueReader = readerByType.get(type).orElseThrow(
                 () -> new UnsupportedOperationException("The type " + type + " is not supported yet"));
         return valueReader.read(type, value);
     }
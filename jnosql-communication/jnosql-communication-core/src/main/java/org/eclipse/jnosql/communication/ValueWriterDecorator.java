@@ -20,9 +20,11 @@ package org.eclipse.jnosql.communication;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
- * Decorators of all {@link ValueWriter} supported by Diana
+ * Decorators of all {@link ValueWriter} supported by Diana.
+ * The writer of each type is found once and kept, so the next writes of the same type skip the writers' lookup.
  *
  * @param <T> current type
  * @param <S> the converted type
@@ -34,6 +36,13 @@ public final class ValueWriterDecorator<T, S> implements ValueWriter<T, S> {
 
     private final List<ValueWriter> writers = new ArrayList<>();
 
+    private final ClassValue<Optional<ValueWriter>> writerByType = new ClassValue<>() {
+        @Override
+        protected Optional<ValueWriter> computeValue(Class<?> type) {
+            return writers.stream().filter(w -> w.test(type)).findFirst();
+        }
+    };
+
     {
         ValueWriter.getWriters().forEach(writers::add);
     }
@@ -47,13 +56,13 @@ public final class ValueWriterDecorator<T, S> implements ValueWriter<T, S> {
 
     @Override
     public boolean test(Class<?> type) {
-        return writers.stream().anyMatch(writerField -> writerField.test(type));
+        return writerByType.get(type).isPresent();
     }
 
     @Override
     public Object write(Object object) {
         Class<?> type = object.getClass();
-        ValueWriter valueWriter = writers.stream().filter(r -> r.test(type)).findFirst().orElseThrow(
+        ValueWriter valueWriter = writerByType.get(type).orElseThrow(
                 () -> new UnsupportedOperationException("The type " + type + " is not supported yet"));
         return valueWriter.write(object);
     }
@@ -0,0 +1,46 @@
+/*
+ *
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AggregateFallbackTest {
+
+    @Test
+    public void shouldReturnErrorWhenParamsAreNull() {
+        assertThrows(NullPointerException.class, () -> AggregateFallback.INSTANCE.record(null, "Person"));
+        assertThrows(NullPointerException.class,
+                () -> AggregateFallback.INSTANCE.record(AggregateCapability.COUNT, null));
+        assertThrows(NullPointerException.class, () -> AggregateFallback.INSTANCE.fallbacks(null));
+    }
+
+    @Test
+    public void shouldRecordByCapability() {
+        long count = AggregateFallback.INSTANCE.fallbacks(AggregateCapability.COUNT);
+        long exists = AggregateFallback.INSTANCE.fallbacks(AggregateCapability.EXISTS);
+
+        AggregateFallback.INSTANCE.record(AggregateCapability.COUNT, "Person");
+        AggregateFallback.INSTANCE.record(AggregateCapability.COUNT, "Person");
+        AggregateFallback.INSTANCE.record(AggregateCapability.EXISTS, "Person");
+
+        assertThat(AggregateFallback.INSTANCE.fallbacks(AggregateCapability.COUNT)).isEqualTo(count + 2);
+        assertThat(AggregateFallback.INSTANCE.fallbacks(AggregateCapability.EXISTS)).isEqualTo(exists + 1);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValueComparatorTest {
+
+    @Test
+    public void shouldCompareNumbersByValue() {
+        assertThat(ValueComparator.INSTANCE.compare(10, 10L)).isZero();
+        assertThat(ValueComparator.INSTANCE.compare(10, 10.0)).isZero();
+        assertThat(ValueComparator.INSTANCE.compare(BigDecimal.valueOf(10.5), 10.4F)).isPositive();
+        assertThat(ValueComparator.INSTANCE.compare(BigInteger.TEN.pow(30), Long.MAX_VALUE)).isPositive();
+        assertThat(ValueComparator.INSTANCE.compare(Double.NaN, 1)).isPositive();
+    }
+
+    @Test
+    public void shouldOrderByKind() {
+        List<Object> values = new ArrayList<>(List.of(true, "Ada", LocalDate.of(2020, 1, 1), 2, 1.5));
+        values.sort(ValueComparator.INSTANCE);
+        assertThat(values).containsExactly(1.5, 2, "Ada", true, LocalDate.of(2020, 1, 1));
+        assertThat(ValueComparator.INSTANCE.isComparable(1, "1")).isFalse();
+        assertThat(ValueComparator.INSTANCE.isComparable(LocalDate.MIN, LocalDate.MAX)).isTrue();
+    }
+
+    @Test
+    public void shouldNormalizeKeys() {
+        assertThat(ValueComparator.key(10)).isEqualTo(ValueComparator.key(10L))
+                .isEqualTo(ValueComparator.key(10.0)).isEqualTo(ValueComparator.key(new BigDecimal("10.00")));
+        assertThat(ValueComparator.key(10.5)).isEqualTo(ValueComparator.key(10.5F));
+        assertThat(ValueComparator.key(new StringBuilder("Ada"))).isEqualTo("Ada");
+    }
+}
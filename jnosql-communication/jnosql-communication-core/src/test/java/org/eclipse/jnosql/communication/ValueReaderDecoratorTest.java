@@ -21,6 +21,8 @@ import org.eclipse.jnosql.communication.ValueReaderDecorator;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -49,6 +51,28 @@ public class ValueReaderDecoratorTest {
         });
     }
 
+    @Test
+    public void shouldReturnErrorWhenTypeIsVoid() {
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> serviceLoader.read(void.class, "name"));
+    }
+
+    @Test
+    public void shouldReadPrimitive() {
+        Integer value = 10;
+        int number = serviceLoader.read(int.class, value);
+        assertEquals(10, number);
+        assertEquals(10L, serviceLoader.read(long.class, value));
+        assertEquals(Boolean.TRUE, serviceLoader.read(boolean.class, "true"));
+    }
+
+    @Test
+    public void shouldReadTheSameTypeSeveralTimes() {
+        assertEquals(LocalDate.of(2023, 3, 11), serviceLoader.read(LocalDate.class, "2023-03-11"));
+        assertEquals(LocalDate.of(2023, 3, 12), serviceLoader.read(LocalDate.class, "2023-03-12"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> serviceLoader.read(Bean.class, "name"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> serviceLoader.read(Bean.class, "name"));
+    }
+
     @Test
     public void shouldReturnIfIsCompatible() {
         assertTrue(serviceLoader.test(Integer.class));
@@ -27,6 +27,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ValueWriterDecoratorTest {
@@ -53,4 +54,10 @@ public class ValueWriterDecoratorTest {
         Object result = valueWriter.write(optional);
         assertEquals(diana, result);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReturnErrorWhenTypeIsNotSupported() {
+        assertThrows(UnsupportedOperationException.class, () -> valueWriter.write(Boolean.TRUE));
+        assertThrows(UnsupportedOperationException.class, () -> valueWriter.write(Boolean.FALSE));
+    }
+}
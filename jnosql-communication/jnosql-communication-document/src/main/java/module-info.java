@@ -12,7 +12,6 @@
 module org.eclipse.jnosql.communication.document {
     requires org.eclipse.jnosql.communication.core;
     requires org.eclipse.jnosql.communication.query;
-    requires jakarta.json.bind;
     requires jakarta.json;
     requires jakarta.data.api;
     exports org.eclipse.jnosql.communication.document;
@@ -41,8 +41,15 @@ class DefaultDocumentQuery implements DocumentQuery {
 
     private final List<String> documents;
 
+    private final long fetchSize;
+
     DefaultDocumentQuery(long limit, long skip, String documentCollection,
                          List<String> documents, List<Sort> sorts, DocumentCondition condition) {
+        this(limit, skip, documentCollection, documents, sorts, condition, 0L);
+    }
+
+    DefaultDocumentQuery(long limit, long skip, String documentCollection,
+                         List<String> documents, List<Sort> sorts, DocumentCondition condition, long fetchSize) {
 
         this.limit = limit;
         this.skip = skip;
@@ -50,6 +57,7 @@ class DefaultDocumentQuery implements DocumentQuery {
         this.condition = ofNullable(condition).map(DocumentCondition::readOnly).orElse(null);
         this.sorts = sorts;
         this.documents = documents;
+        this.fetchSize = fetchSize;
     }
 
     @Override
@@ -72,6 +80,11 @@ class DefaultDocumentQuery implements DocumentQuery {
         return ofNullable(condition);
     }
 
+    @Override
+    public long fetchSize() {
+        return fetchSize;
+    }
+
     @Override
     public List<Sort> sorts() {
         return unmodifiableList(sorts);
@@ -96,12 +109,13 @@ class DefaultDocumentQuery implements DocumentQuery {
                 Objects.equals(documentCollection, that.name()) &&
                 Objects.equals(condition, that.condition().orElse(null)) &&
                 Objects.equals(sorts, that.sorts()) &&
-                Objects.equals(documents, that.documents());
+                Objects.equals(documents, that.documents()) &&
+                fetchSize == that.fetchSize();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(limit, skip, documentCollection, condition, sorts, documents);
+        return Objects.hash(limit, skip, documentCollection, condition, sorts, documents, fetchSize);
     }
 
     @Override
@@ -112,15 +126,16 @@ class DefaultDocumentQuery implements DocumentQuery {
                 ", condition=" + condition +
                 ", sorts=" + sorts +
                 ", documents=" + documents +
+                ", fetchSize=" + fetchSize +
                 '}';
     }
 
     static DocumentQuery countBy(DocumentQuery query) {
         return new DefaultDocumentQuery(0, 0, query.name(), query.documents(),
-                Collections.emptyList(), query.condition().orElse(null));
+                Collections.emptyList(), query.condition().orElse(null), query.fetchSize());
     }
     static DocumentQuery existsBy(DocumentQuery query) {
         return new DefaultDocumentQuery(1, 0, query.name(), query.documents(),
-                Collections.emptyList(), query.condition().orElse(null));
+                Collections.emptyList(), query.condition().orElse(null), query.fetchSize());
     }
 }
@@ -42,6 +42,8 @@ class DefaultDocumentQueryBuilder implements DocumentQuery.DocumentQueryBuilder
 
     private long limit;
 
+    private long fetchSize;
+
 
     @Override
     public DocumentQuery.DocumentQueryBuilder select(String document) {
@@ -105,13 +107,22 @@ class DefaultDocumentQueryBuilder implements DocumentQuery.DocumentQueryBuilder
         return this;
     }
 
+    @Override
+    public DocumentQuery.DocumentQueryBuilder fetchSize(long fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("The fetch size should not be negative, fetch size: " + fetchSize);
+        }
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
     @Override
     public DocumentQuery build() {
         if (Objects.isNull(documentCollection)) {
             throw new IllegalArgumentException("The document collection is mandatory to build");
         }
         return new DefaultDocumentQuery(limit, skip, documentCollection,
-                documents, sorts, condition);
+                documents, sorts, condition, fetchSize);
     }
 
     @Override
@@ -137,6 +148,7 @@ class DefaultDocumentQueryBuilder implements DocumentQuery.DocumentQueryBuilder
         DefaultDocumentQueryBuilder that = (DefaultDocumentQueryBuilder) o;
         return skip == that.skip
                 && limit == that.limit
+                && fetchSize == that.fetchSize
                 && Objects.equals(documents, that.documents)
                 && Objects.equals(sorts, that.sorts)
                 && Objects.equals(documentCollection, that.documentCollection)
@@ -145,7 +157,7 @@ class DefaultDocumentQueryBuilder implements DocumentQuery.DocumentQueryBuilder
 
     @Override
     public int hashCode() {
-        return Objects.hash(documents, sorts, documentCollection, condition, skip, limit);
+        return Objects.hash(documents, sorts, documentCollection, condition, skip, limit, fetchSize);
     }
 
     @Override
@@ -157,6 +169,7 @@ class DefaultDocumentQueryBuilder implements DocumentQuery.DocumentQueryBuilder
                 ", condition=" + condition +
                 ", skip=" + skip +
                 ", limit=" + limit +
+                ", fetchSize=" + fetchSize +
                 '}';
     }
 }
@@ -50,6 +50,8 @@ class DefaultFluentDocumentQueryBuilder extends BaseQueryBuilder implements Docu
 
     private long limit;
 
+    private long fetchSize;
+
     private final List<Sort> sorts = new ArrayList<>();
 
     private final List<String> documents;
@@ -189,7 +191,16 @@ class DefaultFluentDocumentQueryBuilder extends BaseQueryBuilder implements Docu
 
     @Override
     public DocumentQuery build() {
-        return new DefaultDocumentQuery(limit, skip, documentCollection, documents, sorts, condition);
+        return new DefaultDocumentQuery(limit, skip, documentCollection, documents, sorts, condition, fetchSize);
+    }
+
+    @Override
+    public DocumentQueryBuild fetchSize(long fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("The fetch size should not be negative, fetch size: " + fetchSize);
+        }
+        this.fetchSize = fetchSize;
+        return this;
     }
 
     @Override
@@ -22,12 +22,10 @@ import org.eclipse.jnosql.communication.Condition;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.Value;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.StreamSupport;
 
-import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -45,16 +43,25 @@ public final class DocumentCondition {
 
     private final boolean readOnly;
 
+    private final ConditionList<DocumentCondition> conditions;
+
     private DocumentCondition(Document document, Condition condition) {
         this.document = document;
         this.condition = condition;
         this.readOnly = false;
+        this.conditions = null;
     }
 
     private DocumentCondition(Document document, Condition condition, boolean readOnly) {
+        this(document, condition, readOnly, null);
+    }
+
+    private DocumentCondition(Document document, Condition condition, boolean readOnly,
+                            ConditionList<DocumentCondition> conditions) {
         this.document = document;
         this.condition = condition;
         this.readOnly = readOnly;
+        this.conditions = conditions;
     }
 
     /**
@@ -86,11 +93,7 @@ public final class DocumentCondition {
     public DocumentCondition and(DocumentCondition condition) {
         validateReadOnly();
         requireNonNull(condition, "Conditions is required");
-        if (Condition.AND.equals(this.condition)) {
-            Document column = getConditions(condition, Condition.AND);
-            return new DocumentCondition(column, Condition.AND);
-        }
-        return DocumentCondition.and(this, condition);
+        return join(Condition.AND, this, condition);
     }
 
     /**
@@ -119,11 +122,7 @@ public final class DocumentCondition {
     public DocumentCondition or(DocumentCondition condition) {
         validateReadOnly();
         requireNonNull(condition, "Condition is required");
-        if (Condition.OR.equals(this.condition)) {
-            Document newDocument = getConditions(condition, Condition.OR);
-            return new DocumentCondition(newDocument, Condition.OR);
-        }
-        return DocumentCondition.or(this, condition);
+        return join(Condition.OR, this, condition);
     }
 
     private void validateReadOnly() {
@@ -133,11 +132,30 @@ public final class DocumentCondition {
     }
 
 
-    private Document getConditions(DocumentCondition columnCondition, Condition condition) {
-        List<DocumentCondition> conditions = new ArrayList<>(document.get(new TypeReference<List<DocumentCondition>>() {
-        }));
-        conditions.add(columnCondition);
-        return Document.of(condition.getNameField(), conditions);
+    private ConditionList<DocumentCondition> conditions() {
+        if (conditions == null) {
+            return ConditionList.of(document.get(new TypeReference<List<DocumentCondition>>() {
+            }));
+        }
+        return conditions;
+    }
+
+    /**
+     * Joins the conditions as a flat list, the conditions that already have the same AND or OR are spliced,
+     * instead of nested, and their list is appended in place when it is not shared yet.
+     */
+    private static DocumentCondition join(Condition condition, DocumentCondition... conditions) {
+        ConditionList<DocumentCondition> joined = null;
+        for (DocumentCondition element : conditions) {
+            requireNonNull(element, "condition is required");
+            List<DocumentCondition> elements = condition.equals(element.condition)
+                    ? element.conditions() : List.of(element);
+            joined = joined == null ? ConditionList.of(elements) : joined.appendAll(elements);
+        }
+        if (joined == null) {
+            joined = ConditionList.empty();
+        }
+        return new DocumentCondition(Document.of(condition.getNameField(), joined), condition, false, joined);
     }
 
     @Override
@@ -166,7 +184,7 @@ public final class DocumentCondition {
 
     public static DocumentCondition readOnly(DocumentCondition condition) {
         requireNonNull(condition, "condition is required");
-        return new DocumentCondition(condition.document(), condition.condition(), true);
+        return new DocumentCondition(condition.document(), condition.condition(), true, condition.conditions);
     }
 
     public static DocumentCondition of(Document document, Condition condition) {
@@ -186,6 +204,7 @@ public final class DocumentCondition {
      * }
      * </pre>
      * The {@link DocumentCondition#document()} will have "_AND" as key and the list of condition as value.
+     * The conditions that already are AND are flattened into the list instead of nested.
      *
      * @param conditions the conditions to be aggregated
      * @return the new {@link DocumentCondition} instance
@@ -193,8 +212,7 @@ public final class DocumentCondition {
      */
     public static DocumentCondition and(DocumentCondition... conditions) {
         requireNonNull(conditions, "condition is required");
-        Document document = Document.of(Condition.AND.getNameField(), asList(conditions));
-        return DocumentCondition.of(document, Condition.AND);
+        return join(Condition.AND, conditions);
     }
 
     /**
@@ -210,6 +228,7 @@ public final class DocumentCondition {
      * }
      * </pre>
      * The {@link DocumentCondition#document()} will have "_OR" as key and the list of condition as value.
+     * The conditions that already are OR are flattened into the list instead of nested.
      *
      * @param conditions the conditions to be aggregated
      * @return the new {@link DocumentCondition} instance
@@ -217,8 +236,7 @@ public final class DocumentCondition {
      */
     public static DocumentCondition or(DocumentCondition... conditions) {
         requireNonNull(conditions, "condition is required");
-        Document document = Document.of(Condition.OR.getNameField(), asList(conditions));
-        return DocumentCondition.of(document, Condition.OR);
+        return join(Condition.OR, conditions);
     }
 
     /**
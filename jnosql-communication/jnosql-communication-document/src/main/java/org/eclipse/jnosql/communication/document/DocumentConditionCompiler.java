@@ -0,0 +1,341 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.document;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.ValueComparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles a {@link DocumentCondition} into a {@link Predicate} of {@link DocumentEntity}, thus, the drivers that
+ * cannot run a condition at the database, and the caches, filter the entities without reading the condition
+ * at each entity. The fields are resolved once, including the paths of the sub-documents, e.g.: "address.city";
+ * the LIKE conditions become a prefix, suffix or contains check when they can; the IN values are kept sorted
+ * and the conditions of an AND or an OR are tested in the order of their estimated selectivity.
+ * The numbers are compared by value, as {@link ValueComparator} does.
+ */
+public enum DocumentConditionCompiler {
+
+    INSTANCE;
+
+    private static final int LINEAR_IN = 8;
+
+    /**
+     * Compiles the condition
+     *
+     * @param condition the condition
+     * @return the predicate
+     * @throws NullPointerException          when the condition is null
+     * @throws UnsupportedOperationException when the condition is not supported
+     */
+    public Predicate<DocumentEntity> compile(DocumentCondition condition) {
+        Objects.requireNonNull(condition, "condition is required");
+        return node(condition).predicate;
+    }
+
+    private Node node(DocumentCondition condition) {
+        Document document = condition.document();
+        switch (condition.condition()) {
+            case AND:
+                return and(nodes(document));
+            case OR:
+                return or(nodes(document));
+            case NOT:
+                Node node = node(document.get(DocumentCondition.class));
+                return new Node(node.predicate.negate(), 1D - node.selectivity);
+            default:
+                return field(condition.condition(), document.name(), unwrap(document.get()));
+        }
+    }
+
+    private List<Node> nodes(Document document) {
+        List<DocumentCondition> conditions = document.get(new TypeReference<List<DocumentCondition>>() {
+        });
+        List<Node> nodes = new ArrayList<>(conditions.size());
+        conditions.forEach(c -> nodes.add(node(c)));
+        return nodes;
+    }
+
+    private static Node and(List<Node> nodes) {
+        nodes.sort(Comparator.comparingDouble(n -> n.selectivity));
+        Predicate<DocumentEntity>[] predicates = predicates(nodes);
+        double selectivity = 1D;
+        for (Node node : nodes) {
+            selectivity *= node.selectivity;
+        }
+        return new Node(entity -> {
+            for (Predicate<DocumentEntity> predicate : predicates) {
+                if (!predicate.test(entity)) {
+                    return false;
+                }
+            }
+            return true;
+        }, selectivity);
+    }
+
+    private static Node or(List<Node> nodes) {
+        nodes.sort(Comparator.comparingDouble((Node n) -> n.selectivity).reversed());
+        Predicate<DocumentEntity>[] predicates = predicates(nodes);
+        double none = 1D;
+        for (Node node : nodes) {
+            none *= 1D - node.selectivity;
+        }
+        return new Node(entity -> {
+            for (Predicate<DocumentEntity> predicate : predicates) {
+                if (predicate.test(entity)) {
+                    return true;
+                }
+            }
+            return false;
+        }, 1D - none);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate<DocumentEntity>[] predicates(List<Node> nodes) {
+        return nodes.stream().map(n -> n.predicate).toArray(Predicate[]::new);
+    }
+
+    private static Node field(Condition condition, String name, Object value) {
+        Matcher matcher = matcher(condition, value);
+        Function<DocumentEntity, Object> accessor = accessor(name);
+        return new Node(entity -> {
+            Object actual = accessor.apply(entity);
+            return actual != null && matcher.predicate.test(actual);
+        }, matcher.selectivity);
+    }
+
+    private static Matcher matcher(Condition condition, Object value) {
+        ValueComparator comparator = ValueComparator.INSTANCE;
+        switch (condition) {
+            case EQUALS:
+                if (value == null) {
+                    return Matcher.NONE;
+                }
+                Object key = ValueComparator.key(value);
+                return new Matcher(actual -> key.equals(ValueComparator.key(actual)), 0.05D);
+            case IN:
+                return in(values(value));
+            case GREATER_THAN:
+                return new Matcher(actual -> comparator.isComparable(actual, value)
+                        && comparator.compare(actual, value) > 0, 0.3D);
+            case GREATER_EQUALS_THAN:
+                return new Matcher(actual -> comparator.isComparable(actual, value)
+                        && comparator.compare(actual, value) >= 0, 0.3D);
+            case LESSER_THAN:
+                return new Matcher(actual -> comparator.isComparable(actual, value)
+                        && comparator.compare(actual, value) < 0, 0.3D);
+            case LESSER_EQUALS_THAN:
+                return new Matcher(actual -> comparator.isComparable(actual, value)
+                        && comparator.compare(actual, value) <= 0, 0.3D);
+            case BETWEEN:
+                List<Object> values = values(value);
+                if (values.size() != 2) {
+                    return Matcher.NONE;
+                }
+                Object first = values.get(0);
+                Object second = values.get(1);
+                return new Matcher(actual -> comparator.isComparable(actual, first)
+                        && comparator.isComparable(actual, second)
+                        && comparator.compare(actual, first) >= 0 && comparator.compare(actual, second) <= 0, 0.2D);
+            case LIKE:
+                return like(String.valueOf(value));
+            default:
+                throw new UnsupportedOperationException("The condition is not supported: " + condition);
+        }
+    }
+
+    private static Matcher in(List<Object> values) {
+        Set<Object> unique = new LinkedHashSet<>();
+        values.stream().filter(Objects::nonNull).map(ValueComparator::key).forEach(unique::add);
+        Object[] keys = unique.toArray();
+        double selectivity = Math.min(1D, 0.05D * keys.length);
+        if (keys.length == 0) {
+            return Matcher.NONE;
+        } else if (keys.length <= LINEAR_IN) {
+            return new Matcher(actual -> {
+                Object key = ValueComparator.key(actual);
+                for (Object element : keys) {
+                    if (element.equals(key)) {
+                        return true;
+                    }
+                }
+                return false;
+            }, selectivity);
+        }
+        Arrays.sort(keys, ValueComparator.INSTANCE);
+        return new Matcher(actual -> {
+            Object key = ValueComparator.key(actual);
+            int index = Arrays.binarySearch(keys, key, ValueComparator.INSTANCE);
+            if (index < 0) {
+                return false;
+            }
+            for (int left = index; left >= 0 && ValueComparator.INSTANCE.compare(keys[left], key) == 0; left--) {
+                if (keys[left].equals(key)) {
+                    return true;
+                }
+            }
+            for (int right = index + 1; right < keys.length
+                    && ValueComparator.INSTANCE.compare(keys[right], key) == 0; right++) {
+                if (keys[right].equals(key)) {
+                    return true;
+                }
+            }
+            return false;
+        }, selectivity);
+    }
+
+    private static Matcher like(String like) {
+        int wildcards = 0;
+        for (int index = 0; index < like.length(); index++) {
+            char character = like.charAt(index);
+            if (character == '_') {
+                return regex(like);
+            } else if (character == '%') {
+                wildcards++;
+            }
+        }
+        boolean prefix = like.startsWith("%");
+        boolean suffix = like.endsWith("%") && like.length() > 1;
+        int edges = (prefix ? 1 : 0) + (suffix ? 1 : 0);
+        if (wildcards != edges) {
+            return regex(like);
+        }
+        String text = like.substring(prefix ? 1 : 0, like.length() - (suffix ? 1 : 0));
+        if (prefix && suffix) {
+            return new Matcher(actual -> actual instanceof CharSequence && actual.toString().contains(text), 0.25D);
+        } else if (prefix) {
+            return new Matcher(actual -> actual instanceof CharSequence && actual.toString().endsWith(text), 0.2D);
+        } else if (suffix) {
+            return new Matcher(actual -> actual instanceof CharSequence && actual.toString().startsWith(text), 0.15D);
+        }
+        return new Matcher(actual -> actual instanceof CharSequence && actual.toString().equals(text), 0.05D);
+    }
+
+    private static Matcher regex(String like) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (char character : like.toCharArray()) {
+            if (character == '%' || character == '_') {
+                if (literal.length() > 0) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(character == '%' ? ".*" : ".");
+            } else {
+                literal.append(character);
+            }
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        Pattern pattern = Pattern.compile(regex.toString(), Pattern.DOTALL);
+        return new Matcher(actual -> actual instanceof CharSequence
+                && pattern.matcher((CharSequence) actual).matches(), 0.25D);
+    }
+
+    private static Function<DocumentEntity, Object> accessor(String name) {
+        if (name.indexOf('.') < 0) {
+            return entity -> entity.find(name).map(Document::get).orElse(null);
+        }
+        String[] path = name.split("\\.");
+        return entity -> {
+            Optional<Document> document = entity.find(name);
+            if (document.isPresent()) {
+                return document.get().get();
+            }
+            Object value = entity.find(path[0]).map(Document::get).orElse(null);
+            for (int index = 1; index < path.length && value != null; index++) {
+                value = nested(value, path[index]);
+            }
+            return value;
+        };
+    }
+
+    private static Object nested(Object value, String name) {
+        if (value instanceof Document) {
+            Document document = (Document) value;
+            return document.name().equals(name) ? document.get() : null;
+        } else if (value instanceof Map) {
+            return ((Map<?, ?>) value).get(name);
+        } else if (value instanceof Iterable) {
+            for (Object element : (Iterable<?>) value) {
+                Object result = nested(element, name);
+                if (result != null) {
+                    return result;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Object unwrap(Object value) {
+        if (value instanceof Value) {
+            return unwrap(((Value) value).get());
+        }
+        return value;
+    }
+
+    private static List<Object> values(Object value) {
+        List<Object> values = new ArrayList<>();
+        if (value instanceof Iterable) {
+            ((Iterable<?>) value).forEach(v -> values.add(unwrap(v)));
+        } else if (value != null) {
+            values.add(value);
+        }
+        return values;
+    }
+
+    private static final class Node {
+
+        private final Predicate<DocumentEntity> predicate;
+
+        private final double selectivity;
+
+        private Node(Predicate<DocumentEntity> predicate, double selectivity) {
+            this.predicate = predicate;
+            this.selectivity = selectivity;
+        }
+    }
+
+    private static final class Matcher {
+
+        private static final Matcher NONE = new Matcher(actual -> false, 0D);
+
+        private final Predicate<Object> predicate;
+
+        private final double selectivity;
+
+        private Matcher(Predicate<Object> predicate, double selectivity) {
+            this.predicate = predicate;
+            this.selectivity = selectivity;
+        }
+    }
+}
@@ -22,52 +22,61 @@ import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 /**
  * An object that represents a precompiled Query statement.
+ * The query is parsed once, each execution creates its own params from the parsed query, thus, the same
+ * statement might run several times with different values. The values given by
+ * {@link DocumentPreparedStatement#bind(String, Object)} belong to this instance; to share the statement between
+ * threads use either {@link DocumentPreparedStatement#result(Map)} or
+ * {@link DocumentPreparedStatement#executeBatch(Iterable)}, which receive the values at each execution.
  */
 public final class DocumentPreparedStatement {
 
-    private final DocumentEntity entity;
+    private final Function<Params, DocumentEntity> entity;
 
-    private final DocumentQuery documentQuery;
+    private final Function<Params, DocumentQuery> documentQuery;
 
-    private final DocumentDeleteQuery documentDeleteQuery;
+    private final Function<Params, DocumentDeleteQuery> documentDeleteQuery;
 
     private final PreparedStatementType type;
 
-    private final Params params;
+    private final List<String> paramsNames;
 
-    private final String query;
+    private final Map<String, Object> values = new HashMap<>();
 
-    private final List<String> paramsLeft;
+    private final String query;
 
     private final Duration duration;
 
     private final DocumentManager manager;
 
-    private DocumentPreparedStatement(DocumentEntity entity,
-                                      DocumentQuery documentQuery,
-                                      DocumentDeleteQuery documentDeleteQuery,
+    private DocumentPreparedStatement(Function<Params, DocumentEntity> entity,
+                                      Function<Params, DocumentQuery> documentQuery,
+                                      Function<Params, DocumentDeleteQuery> documentDeleteQuery,
                                       PreparedStatementType type,
                                       Params params,
                                       String query,
-                                      List<String> paramsLeft,
                                       Duration duration,
                                       DocumentManager manager) {
         this.entity = entity;
         this.documentQuery = documentQuery;
         this.documentDeleteQuery = documentDeleteQuery;
         this.type = type;
-        this.params = params;
+        this.paramsNames = List.copyOf(new LinkedHashSet<>(params.getParametersNames()));
         this.query = query;
-        this.paramsLeft = paramsLeft;
         this.manager = manager;
         this.duration = duration;
     }
@@ -83,9 +92,7 @@ public final class DocumentPreparedStatement {
     public DocumentPreparedStatement bind(String name, Object value) {
         Objects.requireNonNull(name, "name is required");
         Objects.requireNonNull(value, "value is required");
-
-        paramsLeft.remove(name);
-        params.bind(name, value);
+        values.put(name, value);
         return this;
     }
 
@@ -95,22 +102,33 @@ public final class DocumentPreparedStatement {
      * @return The result stream, if delete it will return an empty list
      */
     public Stream<DocumentEntity> result() {
-        if (!paramsLeft.isEmpty()) {
-            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
-        }
+        return result(values);
+    }
+
+    /**
+     * Executes a query with the given values and return the result as {@link Stream}.
+     * It does not use the values of {@link DocumentPreparedStatement#bind(String, Object)}.
+     *
+     * @param params the values of the parameters by name
+     * @return The result stream, if delete it will return an empty list
+     * @throws NullPointerException when params is null
+     * @throws QueryException       when there is a parameter without value
+     */
+    public Stream<DocumentEntity> result(Map<String, Object> params) {
+        Objects.requireNonNull(params, "params is required");
         switch (type) {
             case SELECT:
-                return manager.select(documentQuery);
+                return manager.select(bind(documentQuery, params));
             case DELETE:
-                manager.delete(documentDeleteQuery);
+                manager.delete(bind(documentDeleteQuery, params));
                 return Stream.empty();
             case UPDATE:
-                return Stream.of(manager.update(entity));
+                return Stream.of(manager.update(bind(entity, params)));
             case INSERT:
                 if (Objects.isNull(duration)) {
-                    return Stream.of(manager.insert(entity));
+                    return Stream.of(manager.insert(bind(entity, params)));
                 } else {
-                    return Stream.of(manager.insert(entity, duration));
+                    return Stream.of(manager.insert(bind(entity, params), duration));
                 }
             default:
                 throw new UnsupportedOperationException("there is not support to operation type: " + type);
@@ -118,6 +136,35 @@ public final class DocumentPreparedStatement {
         }
     }
 
+    /**
+     * Executes the query once to each group of values. The insert and update queries send all the entities
+     * in a single call to the bulk operations of {@link DocumentManager}.
+     *
+     * @param params the values of the parameters by name to each execution
+     * @return the result of all executions, if delete it will return an empty list
+     * @throws NullPointerException when params is null
+     * @throws QueryException       when there is a parameter without value
+     */
+    public Stream<DocumentEntity> executeBatch(Iterable<Map<String, Object>> params) {
+        Objects.requireNonNull(params, "params is required");
+        switch (type) {
+            case UPDATE:
+                return stream(manager.update(entities(params)));
+            case INSERT:
+                if (Objects.isNull(duration)) {
+                    return stream(manager.insert(entities(params)));
+                } else {
+                    return stream(manager.insert(entities(params), duration));
+                }
+            default:
+                List<DocumentEntity> result = new ArrayList<>();
+                for (Map<String, Object> execution : params) {
+                    result(execution).forEach(result::add);
+                }
+                return result.stream();
+        }
+    }
+
     /**
      * Returns the result as a single element otherwise it will return an {@link Optional#empty()}
      *
@@ -136,6 +183,36 @@ public final class DocumentPreparedStatement {
         throw new NonUniqueResultException("The select returns more than one entity, select: " + query);
     }
 
+    private List<DocumentEntity> entities(Iterable<Map<String, Object>> params) {
+        List<DocumentEntity> entities = new ArrayList<>();
+        for (Map<String, Object> execution : params) {
+            entities.add(bind(entity, Objects.requireNonNull(execution, "params is required")));
+        }
+        return entities;
+    }
+
+    private <T> T bind(Function<Params, T> statement, Map<String, Object> values) {
+        Params params = Params.newParams();
+        T result = statement.apply(params);
+        List<String> paramsLeft = new ArrayList<>();
+        for (String name : paramsNames) {
+            Object value = values.get(name);
+            if (value == null) {
+                paramsLeft.add(name);
+            } else {
+                params.bind(name, value);
+            }
+        }
+        if (!paramsLeft.isEmpty()) {
+            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
+        }
+        return result;
+    }
+
+    private static Stream<DocumentEntity> stream(Iterable<DocumentEntity> entities) {
+        return StreamSupport.stream(entities.spliterator(), false);
+    }
+
     enum PreparedStatementType {
         SELECT, DELETE, UPDATE, INSERT
     }
@@ -147,45 +224,48 @@ public final class DocumentPreparedStatement {
     }
 
     static DocumentPreparedStatement select(
-            DocumentQuery documentQuery,
-            Params params,
+            Function<Params, DocumentQuery> documentQuery,
             String query,
             DocumentManager manager) {
+        Params params = Params.newParams();
+        documentQuery.apply(params);
         return new DocumentPreparedStatement(null, documentQuery,
                 null, PreparedStatementType.SELECT, params, query,
-                params.getParametersNames(), null, manager);
+                null, manager);
 
     }
 
-    static DocumentPreparedStatement delete(DocumentDeleteQuery documentDeleteQuery,
-                                            Params params,
+    static DocumentPreparedStatement delete(Function<Params, DocumentDeleteQuery> documentDeleteQuery,
                                             String query,
                                             DocumentManager manager) {
-
+        Params params = Params.newParams();
+        documentDeleteQuery.apply(params);
         return new DocumentPreparedStatement(null, null,
                 documentDeleteQuery, PreparedStatementType.DELETE, params, query,
-                params.getParametersNames(), null, manager);
+                null, manager);
 
     }
 
-    static DocumentPreparedStatement insert(DocumentEntity entity,
-                                            Params params,
+    static DocumentPreparedStatement insert(Function<Params, DocumentEntity> entity,
                                             String query,
                                             Duration duration,
                                             DocumentManager manager) {
+        Params params = Params.newParams();
+        entity.apply(params);
         return new DocumentPreparedStatement(entity, null,
                 null, PreparedStatementType.INSERT, params, query,
-                params.getParametersNames(), duration, manager);
+                duration, manager);
 
     }
 
-    static DocumentPreparedStatement update(DocumentEntity entity,
-                                            Params params,
+    static DocumentPreparedStatement update(Function<Params, DocumentEntity> entity,
                                             String query,
                                             DocumentManager manager) {
+        Params params = Params.newParams();
+        entity.apply(params);
         return new DocumentPreparedStatement(entity, null,
                 null, PreparedStatementType.UPDATE, params, query,
-                params.getParametersNames(), null, manager);
+                null, manager);
 
     }
 }
@@ -84,6 +84,16 @@ public interface DocumentQuery {
      */
     List<String> documents();
 
+    /**
+     * A hint to the database of how many entities to bring at each round trip while the result is consumed.
+     * The default value is zero, and it means the driver default. The implementation might ignore this option.
+     *
+     * @return the fetch size
+     */
+    default long fetchSize() {
+        return 0L;
+    }
+
     /**
      * It starts the first step of {@link DocumentQuery} creation using a fluent-API way.
      * This first step will inform the fields to return to the query, such as a "select field, fieldB from database"
@@ -474,6 +484,16 @@ public interface DocumentQuery {
          */
         DocumentQuery build();
 
+        /**
+         * Defines a hint to the database of how many entities to bring at each round trip.
+         * The default value is zero, it means the driver default, and it will replace the current property.
+         *
+         * @param fetchSize the fetch size
+         * @return a query with the fetch size defined
+         * @throws IllegalArgumentException if fetch size is negative
+         */
+        DocumentQueryBuild fetchSize(long fetchSize);
+
         /**
          * Executes {@link DocumentManager#select(DocumentQuery)}
          *
@@ -580,6 +600,16 @@ public interface DocumentQuery {
          */
         DocumentQueryBuilder limit(long limit);
 
+        /**
+         * Defines a hint to the database of how many entities to bring at each round trip.
+         * The default value is zero, it means the driver default, and it will replace the current property.
+         *
+         * @param fetchSize the fetch size
+         * @return the {@link DocumentQueryBuilder}
+         * @throws IllegalArgumentException if fetch size is negative
+         */
+        DocumentQueryBuilder fetchSize(long fetchSize);
+
         /**
          * It will validate and then create a {@link DocumentQuery} instance.
          *
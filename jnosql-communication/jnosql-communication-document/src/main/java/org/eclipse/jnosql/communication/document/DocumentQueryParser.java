@@ -48,7 +48,7 @@ public final class DocumentQueryParser {
     public Stream<DocumentEntity> query(String query, DocumentManager collectionManager,
                                         DocumentObserverParser observer) {
         validation(query, collectionManager, observer);
-        String command = query.substring(0, 6);
+        String command = command(query);
         switch (command) {
             case "select":
                 return select.query(query, collectionManager, observer);
@@ -79,7 +79,7 @@ public final class DocumentQueryParser {
                                              DocumentObserverParser observer) {
 
         validation(query, collectionManager, observer);
-        String command = query.substring(0, 6);
+        String command = command(query);
 
         switch (command) {
             case "select":
@@ -100,8 +100,15 @@ public final class DocumentQueryParser {
         Objects.requireNonNull(query, "query is required");
         Objects.requireNonNull(collectionManager, "collectionManager is required");
         Objects.requireNonNull(observer, "observer is required");
-        if (query.length() < 6) {
+        if (query.strip().length() < 6) {
             throw new QueryException(String.format("The query %s is invalid", query));
         }
     }
+
+    /**
+     * The command of the query, the leading white spaces are ignored as the query grammar does
+     */
+    private static String command(String query) {
+        return query.stripLeading().substring(0, 6);
+    }
 }
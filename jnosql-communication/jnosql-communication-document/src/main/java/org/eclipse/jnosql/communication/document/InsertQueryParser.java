@@ -20,7 +20,7 @@ package org.eclipse.jnosql.communication.document;
 import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.communication.query.InsertQuery;
-import org.eclipse.jnosql.communication.query.InsertQueryConverter;
+import org.eclipse.jnosql.communication.query.QueryConverters;
 import org.eclipse.jnosql.communication.query.JSONQueryValue;
 import org.eclipse.jnosql.communication.query.QueryCondition;
 
@@ -33,9 +33,7 @@ final class InsertQueryParser extends ConditionQueryParser {
 
 
     Stream<DocumentEntity> query(String query, DocumentManager collectionManager, DocumentObserverParser observer) {
-
-        InsertQueryConverter converter = new InsertQueryConverter();
-        InsertQuery insertQuery = converter.apply(query);
+        InsertQuery insertQuery = QueryConverters.INSTANCE.insert(query);
 
         String collection = insertQuery.entity();
         Params params = Params.newParams();
@@ -55,17 +53,13 @@ final class InsertQueryParser extends ConditionQueryParser {
 
 
     DocumentPreparedStatement prepare(String query, DocumentManager collectionManager, DocumentObserverParser observer) {
-
-        InsertQueryConverter converter = new InsertQueryConverter();
-        InsertQuery insertQuery = converter.apply(query);
+        InsertQuery insertQuery = QueryConverters.INSTANCE.insert(query);
 
         String collection = observer.fireEntity(insertQuery.entity());
-        Params params = Params.newParams();
-
         Optional<Duration> ttl = insertQuery.ttl();
-        DocumentEntity entity = getEntity(insertQuery, collection, params, observer);
 
-        return DocumentPreparedStatement.insert(entity, params, query, ttl.orElse(null), collectionManager);
+        return DocumentPreparedStatement.insert(params -> getEntity(insertQuery, collection, params, observer),
+                query, ttl.orElse(null), collectionManager);
 
     }
 
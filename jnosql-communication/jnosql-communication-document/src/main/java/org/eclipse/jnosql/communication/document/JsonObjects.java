@@ -16,24 +16,77 @@
  */
 package org.eclipse.jnosql.communication.document;
 
-
-
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
 import jakarta.json.JsonObject;
-import jakarta.json.bind.Jsonb;
-import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Converts the {@link JsonObject} to {@link Document} in a single pass: the null values are ignored,
+ * an object with a single field becomes a {@link Document}, the other objects become a {@link List}
+ * of {@link Document}, and the integral numbers are narrowed to either {@link Integer}, {@link Long}
+ * or {@link BigInteger}.
+ */
 final class JsonObjects {
 
-    private static final Jsonb JSON = JsonbBuilder.create();
-
     private JsonObjects() {
     }
 
     static List<Document> getDocuments(JsonObject jsonObject) {
-        Map<String, Object> map = JSON.fromJson(jsonObject.toString(), Map.class);
-        return Documents.of(map);
+        List<Document> documents = new ArrayList<>(jsonObject.size());
+        for (Map.Entry<String, JsonValue> entry : jsonObject.entrySet()) {
+            JsonValue value = entry.getValue();
+            if (value.getValueType() != JsonValue.ValueType.NULL) {
+                documents.add(Document.of(entry.getKey(), getValue(value)));
+            }
+        }
+        return documents;
+    }
+
+    private static Object getValue(JsonValue value) {
+        switch (value.getValueType()) {
+            case OBJECT:
+                List<Document> documents = getDocuments(value.asJsonObject());
+                if (documents.size() == 1) {
+                    return documents.get(0);
+                }
+                return documents;
+            case ARRAY:
+                JsonArray array = value.asJsonArray();
+                List<Object> values = new ArrayList<>(array.size());
+                for (JsonValue element : array) {
+                    values.add(getValue(element));
+                }
+                return values;
+            case STRING:
+                return ((JsonString) value).getString();
+            case NUMBER:
+                return getNumber((JsonNumber) value);
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            default:
+                return null;
+        }
+    }
+
+    private static Object getNumber(JsonNumber number) {
+        if (!number.isIntegral()) {
+            return number.bigDecimalValue();
+        }
+        BigInteger value = number.bigIntegerValue();
+        if (value.bitLength() < Integer.SIZE) {
+            return value.intValue();
+        } else if (value.bitLength() < Long.SIZE) {
+            return value.longValue();
+        }
+        return value;
     }
 
 }
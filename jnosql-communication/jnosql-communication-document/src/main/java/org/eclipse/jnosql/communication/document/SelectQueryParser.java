@@ -22,7 +22,7 @@ import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
 import jakarta.data.repository.Sort;
 import org.eclipse.jnosql.communication.query.SelectQuery;
-import org.eclipse.jnosql.communication.query.SelectQueryConverter;
+import org.eclipse.jnosql.communication.query.QueryConverters;
 
 import java.util.List;
 import java.util.Objects;
@@ -42,13 +42,9 @@ public final class SelectQueryParser implements BiFunction<SelectQuery, Document
 
     DocumentPreparedStatement prepare(String query, DocumentManager collectionManager, DocumentObserverParser observer) {
 
-        Params params = Params.newParams();
-
-        SelectQueryConverter converter = new SelectQueryConverter();
-        SelectQuery selectQuery = converter.apply(query);
-
-        DocumentQuery documentQuery = getDocumentQuery(params, selectQuery, observer);
-        return DocumentPreparedStatement.select(documentQuery, params, query, collectionManager);
+        SelectQuery selectQuery = QueryConverters.INSTANCE.select(query);
+        return DocumentPreparedStatement.select(params -> getDocumentQuery(params, selectQuery, observer),
+                query, collectionManager);
     }
 
 
@@ -62,9 +58,7 @@ public final class SelectQueryParser implements BiFunction<SelectQuery, Document
     }
 
     private DocumentQuery getDocumentQuery(String query, DocumentObserverParser observer) {
-
-        SelectQueryConverter converter = new SelectQueryConverter();
-        SelectQuery selectQuery = converter.apply(query);
+        SelectQuery selectQuery = QueryConverters.INSTANCE.select(query);
         String collection = observer.fireEntity(selectQuery.entity());
         long limit = selectQuery.limit();
         long skip = selectQuery.skip();
@@ -81,7 +75,8 @@ public final class SelectQueryParser implements BiFunction<SelectQuery, Document
         if (params.isNotEmpty()) {
             throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
         }
-        return new DefaultDocumentQuery(limit, skip, collection, documents, sorts, condition);
+        return new DefaultDocumentQuery(limit, skip, collection, documents, sorts, condition,
+                selectQuery.fetchSize());
     }
 
     private DocumentQuery getDocumentQuery(Params params, SelectQuery selectQuery, DocumentObserverParser observer) {
@@ -97,7 +92,8 @@ public final class SelectQueryParser implements BiFunction<SelectQuery, Document
         DocumentCondition condition = selectQuery.where()
                 .map(c -> Conditions.getCondition(c, params, observer, collection)).orElse(null);
 
-        return new DefaultDocumentQuery(limit, skip, collection, documents, sorts, condition);
+        return new DefaultDocumentQuery(limit, skip, collection, documents, sorts, condition,
+                selectQuery.fetchSize());
     }
 
     private Sort toSort(Sort sort, DocumentObserverParser observer, String entity) {
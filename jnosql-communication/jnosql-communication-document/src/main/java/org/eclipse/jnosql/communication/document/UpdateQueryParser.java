@@ -21,7 +21,7 @@ import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.communication.query.JSONQueryValue;
 import org.eclipse.jnosql.communication.query.QueryCondition;
 import org.eclipse.jnosql.communication.query.UpdateQuery;
-import org.eclipse.jnosql.communication.query.UpdateQueryConverter;
+import org.eclipse.jnosql.communication.query.QueryConverters;
 
 import java.util.List;
 import java.util.Optional;
@@ -31,9 +31,7 @@ final class UpdateQueryParser extends ConditionQueryParser {
 
 
     Stream<DocumentEntity> query(String query, DocumentManager collectionManager, DocumentObserverParser observer) {
-
-        UpdateQueryConverter converter= new UpdateQueryConverter();
-        UpdateQuery updateQuery = converter.apply(query);
+        UpdateQuery updateQuery = QueryConverters.INSTANCE.update(query);
 
         Params params = Params.newParams();
 
@@ -48,13 +46,9 @@ final class UpdateQueryParser extends ConditionQueryParser {
 
     DocumentPreparedStatement prepare(String query, DocumentManager collectionManager, DocumentObserverParser observer) {
 
-        Params params = Params.newParams();
-
-        UpdateQueryConverter converter= new UpdateQueryConverter();
-        UpdateQuery updateQuery = converter.apply(query);
-
-        DocumentEntity entity = getEntity(params, updateQuery, observer);
-        return DocumentPreparedStatement.update(entity, params, query, collectionManager);
+        UpdateQuery updateQuery = QueryConverters.INSTANCE.update(query);
+        return DocumentPreparedStatement.update(params -> getEntity(params, updateQuery, observer),
+                query, collectionManager);
     }
 
     private DocumentEntity getEntity(Params params, UpdateQuery updateQuery, DocumentObserverParser observer) {
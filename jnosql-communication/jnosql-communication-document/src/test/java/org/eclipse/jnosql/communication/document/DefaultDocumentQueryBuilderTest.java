@@ -158,6 +158,16 @@ class DefaultDocumentQueryBuilderTest {
         assertSame(builder, builder.limit(1));
     }
 
+    @Test
+    void shouldReturnErrorWhenFetchSizeIsCalledWithArgumentLessThanZero() {
+        assertThrows(IllegalArgumentException.class, () -> builder.fetchSize(-1));
+    }
+
+    @Test
+    void shouldAcceptToCallFetchSizeWithArgumentGreaterThanZero() {
+        assertSame(builder, builder.fetchSize(1));
+    }
+
     @Test
     void shouldReturnErrorWhenBuildIsCalledWithoutDocumentCollectionIsNotProvidedPreviously() {
         assertThrows(IllegalArgumentException.class, () -> builder.build());
@@ -114,6 +114,20 @@ public class DefaultFluentDocumentQueryBuilderTest {
         assertThrows(IllegalArgumentException.class, () -> select().from(documentCollection).limit(-1));
     }
 
+    @Test
+    public void shouldSelectFetchSize() {
+        String documentCollection = "documentCollection";
+        DocumentQuery query = select().from(documentCollection).limit(10).fetchSize(100).build();
+        assertEquals(10L, query.limit());
+        assertEquals(100L, query.fetchSize());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenFetchSizeIsNegative() {
+        String documentCollection = "documentCollection";
+        assertThrows(IllegalArgumentException.class, () -> select().from(documentCollection).fetchSize(-1));
+    }
+
     @Test
     public void shouldSelectSkip() {
         String documentCollection = "documentCollection";
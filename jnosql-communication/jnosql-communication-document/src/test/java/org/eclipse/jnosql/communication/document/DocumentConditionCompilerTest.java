@@ -0,0 +1,137 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.document;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DocumentConditionCompilerTest {
+
+    private final DocumentEntity entity = person();
+
+    @Test
+    public void shouldReturnErrorWhenConditionIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> DocumentConditionCompiler.INSTANCE.compile(null));
+    }
+
+    @Test
+    public void shouldCompareByValue() {
+        assertThat(test(DocumentCondition.eq("age", 36L))).isTrue();
+        assertThat(test(DocumentCondition.eq("age", new BigDecimal("36.0")))).isTrue();
+        assertThat(test(DocumentCondition.eq("age", "36"))).isFalse();
+        assertThat(test(DocumentCondition.gt("age", 35.5))).isTrue();
+        assertThat(test(DocumentCondition.gt("age", "35"))).isFalse();
+        assertThat(test(DocumentCondition.gte("age", 36))).isTrue();
+        assertThat(test(DocumentCondition.lt("age", 36))).isFalse();
+        assertThat(test(DocumentCondition.lte("name", "B"))).isTrue();
+        assertThat(test(DocumentCondition.between("age", List.of(30, 40.5)))).isTrue();
+        assertThat(test(DocumentCondition.between("age", List.of(40, 30)))).isFalse();
+    }
+
+    @Test
+    public void shouldTestIn() {
+        assertThat(test(DocumentCondition.in("age", List.of(1, 36L)))).isTrue();
+        assertThat(test(DocumentCondition.in("age", List.of()))).isFalse();
+        List<Object> values = IntStream.range(0, 100).mapToObj(i -> i % 2 == 0 ? i : "text-" + i)
+                .collect(Collectors.toList());
+        assertThat(test(DocumentCondition.in("age", values))).isTrue();
+        assertThat(test(DocumentCondition.in("name", values))).isFalse();
+        values.add("Ada Lovelace");
+        assertThat(test(DocumentCondition.in("name", values))).isTrue();
+    }
+
+    @Test
+    public void shouldTestLike() {
+        assertThat(test(DocumentCondition.like("name", "Ada%"))).isTrue();
+        assertThat(test(DocumentCondition.like("name", "%lace"))).isTrue();
+        assertThat(test(DocumentCondition.like("name", "%Love%"))).isTrue();
+        assertThat(test(DocumentCondition.like("name", "%"))).isTrue();
+        assertThat(test(DocumentCondition.like("name", "Ada Lovelace"))).isTrue();
+        assertThat(test(DocumentCondition.like("name", "A%L%e"))).isTrue();
+        assertThat(test(DocumentCondition.like("name", "_da Lovelac_"))).isTrue();
+        assertThat(test(DocumentCondition.like("name", "Ada"))).isFalse();
+        assertThat(test(DocumentCondition.like("name", "%love%"))).isFalse();
+        assertThat(test(DocumentCondition.like("name", "Ada.*"))).isFalse();
+        assertThat(test(DocumentCondition.like("age", "3%"))).isFalse();
+    }
+
+    @Test
+    public void shouldReadSubDocuments() {
+        assertThat(test(DocumentCondition.eq("address.city", "London"))).isTrue();
+        assertThat(test(DocumentCondition.like("address.street", "%Road"))).isTrue();
+        assertThat(test(DocumentCondition.eq("address.country", "UK"))).isFalse();
+        assertThat(test(DocumentCondition.eq("phones.mobile", "123"))).isTrue();
+    }
+
+    @Test
+    public void shouldTestLogicalConditions() {
+        assertThat(test(DocumentCondition.eq("country", "UK"))).isFalse();
+        assertThat(test(DocumentCondition.eq("country", "UK").negate())).isTrue();
+        assertThat(test(DocumentCondition.not(DocumentCondition.eq("name", "Ada Lovelace")))).isFalse();
+        assertThat(test(DocumentCondition.or(DocumentCondition.eq("country", "UK"),
+                DocumentCondition.eq("address.city", "London")))).isTrue();
+        assertThat(test(DocumentCondition.and(DocumentCondition.gt("age", 30),
+                DocumentCondition.like("name", "Ada%"), DocumentCondition.in("address.city", List.of("Paris")))))
+                .isFalse();
+    }
+
+    @Test
+    public void shouldTestTheMostSelectiveConditionFirst() {
+        AtomicInteger reads = new AtomicInteger();
+        DocumentEntity counted = new DocumentEntity("Person") {
+            @Override
+            public Optional<Document> find(String documentName) {
+                reads.incrementAndGet();
+                return entity.find(documentName);
+            }
+        };
+        Predicate<DocumentEntity> predicate = DocumentConditionCompiler.INSTANCE.compile(
+                DocumentCondition.gt("age", 10).and(DocumentCondition.eq("name", "Grace")));
+        assertThat(predicate.test(counted)).isFalse();
+        assertThat(reads.get()).isEqualTo(1);
+
+        reads.set(0);
+        predicate = DocumentConditionCompiler.INSTANCE.compile(
+                DocumentCondition.eq("name", "Grace").or(DocumentCondition.gt("age", 10)));
+        assertThat(predicate.test(counted)).isTrue();
+        assertThat(reads.get()).isEqualTo(1);
+    }
+
+    private boolean test(DocumentCondition condition) {
+        return DocumentConditionCompiler.INSTANCE.compile(condition).test(entity);
+    }
+
+    private static DocumentEntity person() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.add("name", "Ada Lovelace");
+        entity.add("age", 36);
+        entity.add("address", List.of(Document.of("city", "London"), Document.of("street", "Abbey Road")));
+        entity.add("phones", Map.of("mobile", "123"));
+        return entity;
+    }
+}
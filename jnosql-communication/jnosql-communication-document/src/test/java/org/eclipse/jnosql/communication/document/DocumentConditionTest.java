@@ -243,4 +243,74 @@ public class DocumentConditionTest {
         });
         assertThat(integers).contains(12, 13);
     }
-}
\ No newline at end of file
+
+
+    @Test
+    public void shouldFlattenNestedAnd() {
+        DocumentCondition eq = DocumentCondition.eq(Document.of("name", "otavio"));
+        DocumentCondition gt = DocumentCondition.gt(Document.of("age", 10));
+        DocumentCondition lte = DocumentCondition.lte(Document.of("salary", 10_000.00));
+        DocumentCondition like = DocumentCondition.like(Document.of("city", "Lis%"));
+
+        DocumentCondition and = DocumentCondition.and(DocumentCondition.and(eq, gt), lte).and(like);
+        assertEquals(Condition.AND, and.condition());
+        assertThat(and.document().get(new TypeReference<List<DocumentCondition>>() {
+        })).containsExactly(eq, gt, lte, like);
+    }
+
+    @Test
+    public void shouldFlattenNestedOr() {
+        DocumentCondition eq = DocumentCondition.eq(Document.of("name", "otavio"));
+        DocumentCondition gt = DocumentCondition.gt(Document.of("age", 10));
+        DocumentCondition lte = DocumentCondition.lte(Document.of("salary", 10_000.00));
+
+        DocumentCondition or = eq.or(DocumentCondition.or(gt, lte));
+        assertEquals(Condition.OR, or.condition());
+        assertThat(or.document().get(new TypeReference<List<DocumentCondition>>() {
+        })).containsExactly(eq, gt, lte);
+    }
+
+    @Test
+    public void shouldNotFlattenOtherCondition() {
+        DocumentCondition eq = DocumentCondition.eq(Document.of("name", "otavio"));
+        DocumentCondition gt = DocumentCondition.gt(Document.of("age", 10));
+        DocumentCondition lte = DocumentCondition.lte(Document.of("salary", 10_000.00));
+
+        DocumentCondition or = eq.or(gt);
+        DocumentCondition and = or.and(lte);
+        assertEquals(Condition.AND, and.condition());
+        assertThat(and.document().get(new TypeReference<List<DocumentCondition>>() {
+        })).containsExactly(or, lte);
+    }
+
+    @Test
+    public void shouldKeepConditionWhenAppend() {
+        DocumentCondition eq = DocumentCondition.eq(Document.of("name", "otavio"));
+        DocumentCondition gt = DocumentCondition.gt(Document.of("age", 10));
+        DocumentCondition lte = DocumentCondition.lte(Document.of("salary", 10_000.00));
+        DocumentCondition like = DocumentCondition.like(Document.of("city", "Lis%"));
+
+        DocumentCondition and = eq.and(gt);
+        DocumentCondition first = and.and(lte);
+        DocumentCondition second = and.and(like);
+        assertThat(and.document().get(new TypeReference<List<DocumentCondition>>() {
+        })).containsExactly(eq, gt);
+        assertThat(first.document().get(new TypeReference<List<DocumentCondition>>() {
+        })).containsExactly(eq, gt, lte);
+        assertThat(second.document().get(new TypeReference<List<DocumentCondition>>() {
+        })).containsExactly(eq, gt, like);
+        assertEquals(DocumentCondition.and(eq, gt, lte), first);
+    }
+
+    @Test
+    public void shouldAppendToConditionFromList() {
+        DocumentCondition eq = DocumentCondition.eq(Document.of("name", "otavio"));
+        DocumentCondition gt = DocumentCondition.gt(Document.of("age", 10));
+        DocumentCondition lte = DocumentCondition.lte(Document.of("salary", 10_000.00));
+
+        DocumentCondition and = DocumentCondition.of(Document.of(Condition.AND.getNameField(), List.of(eq, gt)),
+                Condition.AND);
+        assertThat(and.and(lte).document().get(new TypeReference<List<DocumentCondition>>() {
+        })).containsExactly(eq, gt, lte);
+    }
+}
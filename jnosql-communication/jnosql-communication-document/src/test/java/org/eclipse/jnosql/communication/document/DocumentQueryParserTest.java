@@ -55,7 +55,7 @@ class DocumentQueryParserTest {
     }
 
     @ParameterizedTest(name = "Should parser the query {0}")
-    @ValueSource(strings = {"select * from God"})
+    @ValueSource(strings = {"select * from God", " \n select * from God"})
     public void shouldReturnParserQuery(String query) {
         ArgumentCaptor<DefaultDocumentQuery> captor = ArgumentCaptor.forClass(DefaultDocumentQuery.class);
         parser.query(query, manager, DocumentObserverParser.EMPTY);
@@ -24,9 +24,9 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
-import java.math.BigDecimal;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -219,7 +219,7 @@ class InsertQueryParserTest {
         });
         assertEquals("Person", entity.name());
         assertEquals(Document.of("name", "Ada Lovelace"), entity.find("name").get());
-        assertEquals(Document.of("age", BigDecimal.valueOf(12)), entity.find("age").get());
+        assertEquals(Document.of("age", 12), entity.find("age").get());
         assertThat(siblings).contains("Ana", "Maria");
         Assertions.assertThat(address).contains(
                 Document.of("country", "United Kingdom"),
@@ -256,4 +256,34 @@ class InsertQueryParserTest {
         assertEquals(Document.of("name", "Diana"), entity.find("name").get());
 
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"insert God (name = @name)"})
+    public void shouldExecuteBatch(String query) {
+        ArgumentCaptor<Iterable<DocumentEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
+        DocumentPreparedStatement prepare = parser.prepare(query, manager, observer);
+        prepare.executeBatch(List.of(Map.of("name", "Diana"), Map.of("name", "Artemis")));
+        Mockito.verify(manager).insert(captor.capture());
+        assertThat(captor.getValue()).map(e -> e.find("name").orElseThrow().get())
+                .containsExactly("Diana", "Artemis");
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"insert God (name = @name) 1 day"})
+    public void shouldExecuteBatchWithDuration(String query) {
+        ArgumentCaptor<Iterable<DocumentEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
+        DocumentPreparedStatement prepare = parser.prepare(query, manager, observer);
+        prepare.executeBatch(List.of(Map.of("name", "Diana")));
+        Mockito.verify(manager).insert(captor.capture(), Mockito.eq(Duration.ofDays(1L)));
+        assertThat(captor.getValue()).hasSize(1);
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"insert God (name = @name)"})
+    public void shouldReturnErrorWhenBatchMissesParameter(String query) {
+        DocumentPreparedStatement prepare = parser.prepare(query, manager, observer);
+        assertThrows(QueryException.class, () -> prepare.executeBatch(List.of(Map.of("name", "Diana"),
+                Map.of("age", 10))));
+        Mockito.verifyNoInteractions(manager);
+    }
+}
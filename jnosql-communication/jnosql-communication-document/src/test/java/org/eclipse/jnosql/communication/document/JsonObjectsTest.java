@@ -0,0 +1,71 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.document;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonObjectsTest {
+
+    @Test
+    public void shouldNarrowNumbers() {
+        List<Document> documents = JsonObjects.getDocuments(json("{\"age\": 12, \"population\": 8000000000,"
+                + " \"atoms\": 100000000000000000000, \"salary\": 10.5}"));
+        assertThat(documents).containsExactly(Document.of("age", 12), Document.of("population", 8_000_000_000L),
+                Document.of("atoms", new BigInteger("100000000000000000000")),
+                Document.of("salary", new BigDecimal("10.5")));
+    }
+
+    @Test
+    public void shouldConvertValues() {
+        List<Document> documents = JsonObjects.getDocuments(json("{\"name\": \"Ada\", \"active\": true,"
+                + " \"retired\": false, \"nickname\": null}"));
+        assertThat(documents).containsExactly(Document.of("name", "Ada"), Document.of("active", true),
+                Document.of("retired", false));
+    }
+
+    @Test
+    public void shouldConvertObjects() {
+        List<Document> documents = JsonObjects.getDocuments(json("{\"address\": {\"city\": \"London\"},"
+                + " \"job\": {\"name\": \"Programmer\", \"salary\": 12}}"));
+        assertThat(documents).containsExactly(Document.of("address", Document.of("city", "London")),
+                Document.of("job", List.of(Document.of("name", "Programmer"), Document.of("salary", 12))));
+    }
+
+    @Test
+    public void shouldConvertNestedArrays() {
+        List<Document> documents = JsonObjects.getDocuments(json("{\"matrix\": [[1, 2], [\"a\", null, {\"b\": \"c\"}]]}"));
+        assertThat(documents).containsExactly(Document.of("matrix",
+                List.of(List.of(1, 2), Arrays.asList("a", null, Document.of("b", "c")))));
+    }
+
+    private static JsonObject json(String json) {
+        try (JsonReader reader = Json.createReader(new StringReader(json))) {
+            return reader.readObject();
+        }
+    }
+}
@@ -30,6 +30,8 @@ import org.mockito.Mockito;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.jnosql.communication.document.DocumentCondition.eq;
@@ -80,6 +82,19 @@ public class SelectQueryParserTest {
         assertFalse(documentQuery.condition().isPresent());
     }
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select * from God limit 10 fetch 100"})
+    public void shouldReturnParserQueryWithFetchSize(String query) {
+        ArgumentCaptor<DefaultDocumentQuery> captor = ArgumentCaptor.forClass(DefaultDocumentQuery.class);
+        parser.query(query, documentCollection, observer);
+        Mockito.verify(documentCollection).select(captor.capture());
+        DefaultDocumentQuery documentQuery = captor.getValue();
+
+        assertEquals(10L, documentQuery.limit());
+        assertEquals(100L, documentQuery.fetchSize());
+        assertEquals("God", documentQuery.name());
+    }
+
     @ParameterizedTest(name = "Should parser the query {0}")
     @ValueSource(strings = {"select * from God order by name asc"})
     public void shouldReturnParserQuery4(String query) {
@@ -503,6 +518,33 @@ public class SelectQueryParserTest {
         assertEquals(12, document.get());
     }
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select  * from God where age = @age"})
+    public void shouldExecutePrepareStatementSeveralTimes(String query) {
+        ArgumentCaptor<DefaultDocumentQuery> captor = ArgumentCaptor.forClass(DefaultDocumentQuery.class);
+
+        DocumentPreparedStatement prepare = parser.prepare(query, documentCollection, observer);
+        prepare.bind("age", 12);
+        prepare.result();
+        prepare.result(Map.of("age", 20));
+        prepare.bind("age", 30);
+        prepare.result();
+        Mockito.verify(documentCollection, Mockito.times(3)).select(captor.capture());
+        assertThat(captor.getAllValues()).map(q -> q.condition().orElseThrow().document().get())
+                .containsExactly(12, 20, 30);
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select  * from God where age = @age"})
+    public void shouldExecuteBatchSelect(String query) {
+        DocumentPreparedStatement prepare = parser.prepare(query, documentCollection, observer);
+        Mockito.when(documentCollection.select(Mockito.any(DocumentQuery.class)))
+                .thenAnswer(i -> Stream.of(DocumentEntity.of("God")));
+
+        assertThat(prepare.executeBatch(List.of(Map.of("age", 12), Map.of("age", 20)))).hasSize(2);
+        Mockito.verify(documentCollection, Mockito.times(2)).select(Mockito.any(DocumentQuery.class));
+    }
+
     private void checkBaseQuery(DefaultDocumentQuery documentQuery, long limit, long skip) {
         assertTrue(documentQuery.documents().isEmpty());
         assertTrue(documentQuery.sorts().isEmpty());
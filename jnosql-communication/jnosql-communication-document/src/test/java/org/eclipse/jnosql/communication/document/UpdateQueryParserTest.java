@@ -24,7 +24,6 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -106,7 +105,7 @@ class UpdateQueryParserTest {
         });
         assertEquals("Person", entity.name());
         assertEquals(Document.of("name", "Ada Lovelace"), entity.find("name").get());
-        assertEquals(Document.of("age", BigDecimal.valueOf(12)), entity.find("age").get());
+        assertEquals(Document.of("age", 12), entity.find("age").get());
         assertThat(siblings).contains("Ana", "Maria");
         Assertions.assertThat(address).contains(
                 Document.of("country", "United Kingdom"),
@@ -14,6 +14,7 @@ module org.eclipse.jnosql.communication.key.value {
     requires org.eclipse.jnosql.communication.core;
     requires org.eclipse.jnosql.communication.query;
     requires jakarta.data.api;
+    exports org.eclipse.jnosql.communication.keyvalue;
     opens org.eclipse.jnosql.communication.keyvalue;
     uses org.eclipse.jnosql.communication.keyvalue.KeyValueConfiguration;
 
@@ -20,6 +20,7 @@ package org.eclipse.jnosql.communication.keyvalue;
 import org.eclipse.jnosql.communication.Value;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -104,6 +105,28 @@ public interface BucketManager extends AutoCloseable {
      */
     <K> Iterable<Value> get(Iterable<K> keys);
 
+    /**
+     * Finds the values from keys, where each value is bound to its key. The keys that are not found are not at
+     * the result. The key-value template finds several keys only through this method, so the driver should
+     * find all the keys with a single bulk call to the database.
+     *
+     * @param keys the keys to be used in this query
+     * @param <K>  the key type
+     * @return the values by key in the keys order
+     * @throws NullPointerException when either the keys or any key is null
+     */
+    <K> Map<K, Value> getAll(Iterable<K> keys);
+
+    /**
+     * Checks if this manager may be called from several threads at once. The key-value template finds the
+     * chunks of keys in parallel only when it is true. By default, it is false.
+     *
+     * @return true when the manager is thread-safe
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
     /**
      * Removes an entity from key
      *
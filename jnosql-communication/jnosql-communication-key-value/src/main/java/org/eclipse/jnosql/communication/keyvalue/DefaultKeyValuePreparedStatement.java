@@ -24,41 +24,45 @@ import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.communication.Value;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 final class DefaultKeyValuePreparedStatement implements KeyValuePreparedStatement {
-    private final List<Value> keys;
+
+    private final Function<Params, List<Value>> values;
+
     private final PreparedStatementType type;
 
     private final BucketManager manager;
 
-    private final List<String> paramsLeft;
+    private final List<String> paramsNames;
 
-    private final Params params;
+    private final Map<String, Object> bindings = new HashMap<>();
 
     private final Duration ttl;
 
     private final String query;
-    private final Value key;
-    private final Value value;
 
-    DefaultKeyValuePreparedStatement(Value key, Value value, List<Value> keys,
+    DefaultKeyValuePreparedStatement(Function<Params, List<Value>> values,
                                      PreparedStatementType type,
                                      BucketManager manager,
-                                     Params params,
                                      Duration ttl, String query) {
-        this.key = key;
-        this.value = value;
-        this.keys = keys;
+        Params params = Params.newParams();
+        values.apply(params);
+        this.values = values;
         this.type = type;
         this.manager = manager;
-        this.params = params;
-        this.paramsLeft = params.getParametersNames();
+        this.paramsNames = List.copyOf(new LinkedHashSet<>(params.getParametersNames()));
         this.ttl = ttl;
         this.query = query;
     }
@@ -67,18 +71,19 @@ final class DefaultKeyValuePreparedStatement implements KeyValuePreparedStatemen
     public KeyValuePreparedStatement bind(String name, Object value) {
         Objects.requireNonNull(name, "name is required");
         Objects.requireNonNull(value, "value is required");
-
-        paramsLeft.remove(name);
-        params.bind(name, value);
+        bindings.put(name, value);
         return this;
     }
 
     @Override
     public Stream<Value> result() {
-        if (!paramsLeft.isEmpty()) {
-            throw new QueryException("Check all the parameters before execute the query, params left: "
-                    + paramsLeft);
-        }
+        return result(bindings);
+    }
+
+    @Override
+    public Stream<Value> result(Map<String, Object> params) {
+        Objects.requireNonNull(params, "params is required");
+        List<Value> keys = bind(params);
         switch (type) {
             case GET:
                 return keys.stream().map(Value::get)
@@ -89,7 +94,7 @@ final class DefaultKeyValuePreparedStatement implements KeyValuePreparedStatemen
                 manager.delete(keys.stream().map(Value::get).collect(Collectors.toList()));
                 return Stream.empty();
             case PUT:
-                KeyValueEntity entity = KeyValueEntity.of(key.get(), value.get());
+                KeyValueEntity entity = KeyValueEntity.of(keys.get(0).get(), keys.get(1).get());
                 if (Objects.isNull(ttl)) {
                     manager.put(entity);
                 } else {
@@ -101,6 +106,37 @@ final class DefaultKeyValuePreparedStatement implements KeyValuePreparedStatemen
         }
     }
 
+    @Override
+    public Stream<Value> executeBatch(Iterable<Map<String, Object>> params) {
+        Objects.requireNonNull(params, "params is required");
+        List<List<Value>> executions = new ArrayList<>();
+        for (Map<String, Object> execution : params) {
+            executions.add(bind(Objects.requireNonNull(execution, "params is required")));
+        }
+        switch (type) {
+            case GET:
+                List<Object> keys = executions.stream().flatMap(List::stream).map(Value::get)
+                        .collect(Collectors.toList());
+                return StreamSupport.stream(manager.get(keys).spliterator(), false);
+            case DEL:
+                manager.delete(executions.stream().flatMap(List::stream).map(Value::get)
+                        .collect(Collectors.toList()));
+                return Stream.empty();
+            case PUT:
+                List<KeyValueEntity> entities = executions.stream()
+                        .map(v -> KeyValueEntity.of(v.get(0).get(), v.get(1).get()))
+                        .collect(Collectors.toList());
+                if (Objects.isNull(ttl)) {
+                    manager.put(entities);
+                } else {
+                    manager.put(entities, ttl);
+                }
+                return Stream.empty();
+            default:
+                throw new UnsupportedOperationException("there is not support to operation type: " + type);
+        }
+    }
+
     @Override
     public Optional<Value> singleResult() {
         Stream<Value> entities = result();
@@ -117,31 +153,49 @@ final class DefaultKeyValuePreparedStatement implements KeyValuePreparedStatemen
         throw new NonUniqueResultException("The select returns more than one entity, select: " + query);
     }
 
+    private List<Value> bind(Map<String, Object> execution) {
+        Params params = Params.newParams();
+        List<Value> result = values.apply(params);
+        List<String> paramsLeft = new ArrayList<>();
+        for (String name : paramsNames) {
+            Object value = execution.get(name);
+            if (value == null) {
+                paramsLeft.add(name);
+            } else {
+                params.bind(name, value);
+            }
+        }
+        if (!paramsLeft.isEmpty()) {
+            throw new QueryException("Check all the parameters before execute the query, params left: "
+                    + paramsLeft);
+        }
+        return result;
+    }
+
     enum PreparedStatementType {
         GET, PUT, DEL
     }
 
-    static KeyValuePreparedStatement get(List<Value> keys,
+    static KeyValuePreparedStatement get(Function<Params, List<Value>> keys,
                                          BucketManager manager,
-                                         Params params, String query) {
-        return new DefaultKeyValuePreparedStatement(null, null, keys, PreparedStatementType.GET,
-                manager, params, null, query);
+                                         String query) {
+        return new DefaultKeyValuePreparedStatement(keys, PreparedStatementType.GET,
+                manager, null, query);
     }
 
-    static KeyValuePreparedStatement put(Value key,
-                                         Value value,
+    static KeyValuePreparedStatement put(Function<Params, Value> key,
+                                         Function<Params, Value> value,
                                          BucketManager manager,
-                                         Params params,
                                          Duration ttl, String query) {
-        return new DefaultKeyValuePreparedStatement(key, value, null, PreparedStatementType.PUT,
-                manager, params, ttl, query);
+        return new DefaultKeyValuePreparedStatement(p -> List.of(key.apply(p), value.apply(p)),
+                PreparedStatementType.PUT, manager, ttl, query);
     }
 
-    static KeyValuePreparedStatement del(List<Value> keys,
+    static KeyValuePreparedStatement del(Function<Params, List<Value>> keys,
                                          BucketManager manager,
-                                         Params params, String query) {
-        return new DefaultKeyValuePreparedStatement(null, null, keys, PreparedStatementType.DEL,
-                manager, params, null, query);
+                                         String query) {
+        return new DefaultKeyValuePreparedStatement(keys, PreparedStatementType.DEL,
+                manager, null, query);
     }
 
 
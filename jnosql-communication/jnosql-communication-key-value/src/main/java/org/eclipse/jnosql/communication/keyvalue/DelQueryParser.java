@@ -49,8 +49,7 @@ final class DelQueryParser {
 
         DelQueryConverter converter = new DelQueryConverter();
         DelQuery delQuery = converter.apply(query);
-        Params params = Params.newParams();
-        List<Value> values = delQuery.keys().stream().map(k -> Values.getValue(k, params)).collect(toList());
-        return DefaultKeyValuePreparedStatement.del(values, manager, params, query);
+        return DefaultKeyValuePreparedStatement.del(params -> delQuery.keys().stream()
+                .map(k -> Values.getValue(k, params)).collect(toList()), manager, query);
     }
 }
@@ -50,8 +50,7 @@ final class GetQueryParser {
     public KeyValuePreparedStatement prepare(String query, BucketManager manager) {
         GetQueryConverter converter  = new GetQueryConverter();
         GetQuery getQuery = converter.apply(query);
-        Params params = Params.newParams();
-        List<Value> values = getQuery.keys().stream().map(k -> Values.getValue(k, params)).collect(toList());
-        return DefaultKeyValuePreparedStatement.get(values, manager, params, query);
+        return DefaultKeyValuePreparedStatement.get(params -> getQuery.keys().stream()
+                .map(k -> Values.getValue(k, params)).collect(toList()), manager, query);
     }
 }
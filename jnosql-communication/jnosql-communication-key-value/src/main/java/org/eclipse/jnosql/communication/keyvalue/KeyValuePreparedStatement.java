@@ -19,6 +19,7 @@ package org.eclipse.jnosql.communication.keyvalue;
 
 import org.eclipse.jnosql.communication.Value;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -41,6 +42,29 @@ public interface KeyValuePreparedStatement {
      */
     Stream<Value> result();
 
+    /**
+     * Executes a query with the given values and return the result as {@link Stream}.
+     * It does not use the values of {@link KeyValuePreparedStatement#bind(String, Object)}, thus, the same
+     * statement might be shared between threads.
+     *
+     * @param params the values of the parameters by name
+     * @return The result as Stream, if either delete or put it will return an empty stream
+     * @throws NullPointerException when params is null
+     * @throws org.eclipse.jnosql.communication.QueryException when there is a parameter without value
+     */
+    Stream<Value> result(Map<String, Object> params);
+
+    /**
+     * Executes the query once to each group of values, with a single call to the bulk operations of
+     * {@link BucketManager}.
+     *
+     * @param params the values of the parameters by name to each execution
+     * @return The result of all the executions, if either delete or put it will return an empty stream
+     * @throws NullPointerException when params is null
+     * @throws org.eclipse.jnosql.communication.QueryException when there is a parameter without value
+     */
+    Stream<Value> executeBatch(Iterable<Map<String, Object>> params);
+
     /**
      * Returns the result as a single element otherwise it will return an {@link Optional#empty()}
      *
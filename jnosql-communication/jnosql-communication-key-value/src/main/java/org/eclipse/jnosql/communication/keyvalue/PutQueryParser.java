@@ -54,11 +54,9 @@ final class PutQueryParser {
     public KeyValuePreparedStatement prepare(String query, BucketManager manager) {
         PutQueryConverter converter = new PutQueryConverter();
         PutQuery putQuery = converter.apply(query);
-        Params params = Params.newParams();
-        Value key = Values.getValue(putQuery.key(), params);
-        Value value = Values.getValue(putQuery.value(), params);
         Optional<Duration> ttl = putQuery.ttl();
 
-        return DefaultKeyValuePreparedStatement.put(key, value, manager, params, ttl.orElse(null), query);
+        return DefaultKeyValuePreparedStatement.put(params -> Values.getValue(putQuery.key(), params),
+                params -> Values.getValue(putQuery.value(), params), manager, ttl.orElse(null), query);
     }
 }
@@ -25,6 +25,7 @@ import org.mockito.Mockito;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -156,4 +157,20 @@ class GetQueryParserTest {
 
         assertThat(value).contains(10, 11);
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"get @id"})
+    public void shouldExecuteBatch(String query) {
+        ArgumentCaptor<Iterable<Object>> captor = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.when(manager.get(Mockito.any(Iterable.class))).thenReturn(List.of(Value.of("Diana")));
+        KeyValuePreparedStatement prepare = parser.prepare(query, manager);
+
+        List<Value> values = prepare.executeBatch(List.of(Map.of("id", 10), Map.of("id", 11)))
+                .collect(Collectors.toList());
+
+        verify(manager).get(captor.capture());
+        verify(manager, Mockito.never()).get(Mockito.any(Integer.class));
+        assertThat(captor.getValue()).containsExactly(10, 11);
+        assertThat(values).containsExactly(Value.of("Diana"));
+    }
+}
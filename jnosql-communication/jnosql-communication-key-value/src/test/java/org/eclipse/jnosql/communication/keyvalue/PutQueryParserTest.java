@@ -23,7 +23,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -94,4 +97,29 @@ class PutQueryParserTest {
         assertEquals("Diana", entity.key());
         assertEquals("Hunt", entity.value());
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"put {@key, @value}"})
+    public void shouldExecuteBatch(String query) {
+        KeyValuePreparedStatement prepare = parser.prepare(query, manager);
+        prepare.executeBatch(List.of(Map.of("key", "Diana", "value", "Hunt"),
+                Map.of("key", "Artemis", "value", "Moon")));
+        ArgumentCaptor<Iterable<KeyValueEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
+
+        Mockito.verify(manager).put(captor.capture());
+        assertThat(captor.getValue()).map(KeyValueEntity::key).containsExactly("Diana", "Artemis");
+        assertThat(captor.getValue()).map(KeyValueEntity::value).containsExactly("Hunt", "Moon");
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"put {\"Diana\", @value}"})
+    public void shouldExecuteSeveralTimes(String query) {
+        KeyValuePreparedStatement prepare = parser.prepare(query, manager);
+        prepare.result(Map.of("value", "Hunt"));
+        prepare.result(Map.of("value", "Moon"));
+        ArgumentCaptor<KeyValueEntity> captor = ArgumentCaptor.forClass(KeyValueEntity.class);
+
+        Mockito.verify(manager, Mockito.times(2)).put(captor.capture());
+        assertThat(captor.getAllValues()).map(KeyValueEntity::value).containsExactly("Hunt", "Moon");
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+module org.eclipse.jnosql.communication.memory {
+    requires org.eclipse.jnosql.communication.core;
+    requires org.eclipse.jnosql.communication.document;
+    requires org.eclipse.jnosql.communication.column;
+    requires org.eclipse.jnosql.communication.key.value;
+    requires jakarta.data.api;
+    exports org.eclipse.jnosql.communication.memory;
+    opens org.eclipse.jnosql.communication.memory;
+    provides org.eclipse.jnosql.communication.document.DocumentConfiguration
+            with org.eclipse.jnosql.communication.memory.MemoryDocumentConfiguration;
+    provides org.eclipse.jnosql.communication.column.ColumnConfiguration
+            with org.eclipse.jnosql.communication.memory.MemoryColumnConfiguration;
+    provides org.eclipse.jnosql.communication.keyvalue.KeyValueConfiguration
+            with org.eclipse.jnosql.communication.memory.MemoryKeyValueConfiguration;
+}
@@ -0,0 +1,170 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.column.ColumnCondition;
+import org.eclipse.jnosql.communication.document.DocumentCondition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The condition of a query, either a {@link DocumentCondition} or a {@link ColumnCondition}, read once as a tree
+ * that the in-memory engine uses to choose an index. The entities are tested by the compiled condition instead,
+ * see {@link org.eclipse.jnosql.communication.document.DocumentConditionCompiler} and
+ * {@link org.eclipse.jnosql.communication.column.ColumnConditionCompiler}.
+ */
+final class Criteria {
+
+    private final Condition condition;
+
+    private final String field;
+
+    private final Object value;
+
+    private final List<Object> values;
+
+    private final List<Criteria> children;
+
+    private Criteria(Condition condition, String field, Object value, List<Criteria> children) {
+        this.condition = condition;
+        this.field = field;
+        this.value = value;
+        this.children = children;
+        this.values = values(condition, value);
+    }
+
+    Condition condition() {
+        return condition;
+    }
+
+    String field() {
+        return field;
+    }
+
+    Object value() {
+        return value;
+    }
+
+    /**
+     * The values of the {@link Condition#IN} and {@link Condition#BETWEEN} conditions
+     *
+     * @return the values or an empty list
+     */
+    List<Object> values() {
+        return values;
+    }
+
+    List<Criteria> children() {
+        return children;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Criteria criteria = (Criteria) o;
+        return condition == criteria.condition
+                && Objects.equals(field, criteria.field)
+                && Objects.equals(value, criteria.value)
+                && Objects.equals(children, criteria.children);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(condition, field, value, children);
+    }
+
+    @Override
+    public String toString() {
+        return "Criteria{" +
+                "condition=" + condition +
+                ", field='" + field + '\'' +
+                ", value=" + value +
+                ", children=" + children +
+                '}';
+    }
+
+    static Criteria of(DocumentCondition condition) {
+        Objects.requireNonNull(condition, "condition is required");
+        switch (condition.condition()) {
+            case AND:
+            case OR:
+                List<DocumentCondition> conditions = condition.document()
+                        .get(new TypeReference<List<DocumentCondition>>() {
+                        });
+                List<Criteria> children = new ArrayList<>(conditions.size());
+                conditions.forEach(c -> children.add(of(c)));
+                return new Criteria(condition.condition(), null, null, Collections.unmodifiableList(children));
+            case NOT:
+                return new Criteria(Condition.NOT, null, null,
+                        List.of(of(condition.document().get(DocumentCondition.class))));
+            default:
+                return new Criteria(condition.condition(), condition.document().name(),
+                        unwrap(condition.document().get()), List.of());
+        }
+    }
+
+    static Criteria of(ColumnCondition condition) {
+        Objects.requireNonNull(condition, "condition is required");
+        switch (condition.condition()) {
+            case AND:
+            case OR:
+                List<ColumnCondition> conditions = condition.column()
+                        .get(new TypeReference<List<ColumnCondition>>() {
+                        });
+                List<Criteria> children = new ArrayList<>(conditions.size());
+                conditions.forEach(c -> children.add(of(c)));
+                return new Criteria(condition.condition(), null, null, Collections.unmodifiableList(children));
+            case NOT:
+                return new Criteria(Condition.NOT, null, null,
+                        List.of(of(condition.column().get(ColumnCondition.class))));
+            default:
+                return new Criteria(condition.condition(), condition.column().name(),
+                        unwrap(condition.column().get()), List.of());
+        }
+    }
+
+    private static Object unwrap(Object value) {
+        if (value instanceof Value) {
+            return unwrap(((Value) value).get());
+        }
+        return value;
+    }
+
+    private static List<Object> values(Condition condition, Object value) {
+        if (!Condition.IN.equals(condition) && !Condition.BETWEEN.equals(condition)) {
+            return List.of();
+        }
+        List<Object> values = new ArrayList<>();
+        if (value instanceof Iterable) {
+            ((Iterable<?>) value).forEach(v -> values.add(unwrap(v)));
+        } else if (value != null) {
+            values.add(value);
+        }
+        return Collections.unmodifiableList(values);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.Entry;
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Reads the value of a field of an entity, the fields of the sub-documents and the sub-columns are reached by
+ * their path, e.g.: "address.city".
+ */
+final class Fields {
+
+    private Fields() {
+    }
+
+    /**
+     * Reads the value of a field
+     *
+     * @param find the lookup of the fields at the entity, e.g.: {@code entity::find}
+     * @param name the field name or path
+     * @return the value or null when there is no field
+     */
+    static Object get(Function<String, Optional<? extends Entry>> find, String name) {
+        Optional<? extends Entry> entry = find.apply(name);
+        if (entry.isPresent()) {
+            return value(entry.get());
+        }
+        for (int dot = name.indexOf('.'); dot > 0; dot = name.indexOf('.', dot + 1)) {
+            Optional<? extends Entry> parent = find.apply(name.substring(0, dot));
+            if (parent.isPresent()) {
+                return nested(value(parent.get()), name.substring(dot + 1));
+            }
+        }
+        return null;
+    }
+
+    private static Object nested(Object value, String path) {
+        if (value instanceof Entry) {
+            Entry entry = (Entry) value;
+            if (entry.name().equals(path)) {
+                return value(entry);
+            } else if (path.startsWith(entry.name() + '.')) {
+                return nested(value(entry), path.substring(entry.name().length() + 1));
+            }
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            if (map.containsKey(path)) {
+                return map.get(path);
+            }
+            int dot = path.indexOf('.');
+            return dot > 0 ? nested(map.get(path.substring(0, dot)), path.substring(dot + 1)) : null;
+        } else if (value instanceof Iterable) {
+            for (Object element : (Iterable<?>) value) {
+                Object result = nested(element, path);
+                if (result != null) {
+                    return result;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Object value(Entry entry) {
+        Value value = entry.value();
+        return value == null ? null : value.get();
+    }
+}
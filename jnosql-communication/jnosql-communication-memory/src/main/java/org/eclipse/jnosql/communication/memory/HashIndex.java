@@ -0,0 +1,91 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.ValueComparator;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An {@link Index} that answers the {@link org.eclipse.jnosql.communication.Condition#EQUALS} and
+ * {@link org.eclipse.jnosql.communication.Condition#IN} conditions.
+ */
+final class HashIndex implements Index {
+
+    private final String field;
+
+    private final ConcurrentMap<Object, Set<Object>> keys = new ConcurrentHashMap<>();
+
+    HashIndex(String field) {
+        this.field = Objects.requireNonNull(field, "field is required");
+    }
+
+    @Override
+    public String field() {
+        return field;
+    }
+
+    @Override
+    public void add(Object value, Object key) {
+        keys.compute(ValueComparator.key(value), (k, set) -> {
+            Set<Object> entities = set == null ? ConcurrentHashMap.newKeySet() : set;
+            entities.add(key);
+            return entities;
+        });
+    }
+
+    @Override
+    public void remove(Object value, Object key) {
+        keys.computeIfPresent(ValueComparator.key(value), (k, set) -> {
+            set.remove(key);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    @Override
+    public Set<Object> find(Criteria criteria) {
+        switch (criteria.condition()) {
+            case EQUALS:
+                return copy(criteria.value());
+            case IN:
+                Set<Object> entities = new HashSet<>();
+                criteria.values().forEach(v -> entities.addAll(copy(v)));
+                return entities;
+            default:
+                return null;
+        }
+    }
+
+    private Set<Object> copy(Object value) {
+        if (value == null) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(keys.getOrDefault(ValueComparator.key(value), Set.of()));
+    }
+
+    @Override
+    public String toString() {
+        return "HashIndex{" +
+                "field='" + field + '\'' +
+                ", values=" + keys.size() +
+                '}';
+    }
+}
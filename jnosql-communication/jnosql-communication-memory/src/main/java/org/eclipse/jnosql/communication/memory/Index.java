@@ -0,0 +1,56 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import java.util.Set;
+
+/**
+ * A secondary index of a field at the in-memory engine, it maps the values of the field to the keys of the entities.
+ */
+interface Index {
+
+    /**
+     * The field of the index
+     *
+     * @return the field name
+     */
+    String field();
+
+    /**
+     * Adds the key of an entity to the index
+     *
+     * @param value the value of the field at the entity
+     * @param key   the key of the entity
+     */
+    void add(Object value, Object key);
+
+    /**
+     * Removes the key of an entity from the index
+     *
+     * @param value the value of the field at the entity
+     * @param key   the key of the entity
+     */
+    void remove(Object value, Object key);
+
+    /**
+     * Finds the keys of the entities that might match the criteria of the field of this index.
+     *
+     * @param criteria the criteria of the field
+     * @return the keys or null when the index cannot answer the criteria
+     */
+    Set<Object> find(Criteria criteria);
+}
@@ -0,0 +1,100 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Settings;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The indexes declared at the {@link MemoryConfigurations#HASH_INDEX} and {@link MemoryConfigurations#RANGE_INDEX}
+ * settings, grouped by the name of the document collection or the column family.
+ */
+final class Indexes {
+
+    private static final Indexes EMPTY = new Indexes(Map.of(), Map.of());
+
+    private final Map<String, Set<String>> hash;
+
+    private final Map<String, Set<String>> range;
+
+    private Indexes(Map<String, Set<String>> hash, Map<String, Set<String>> range) {
+        this.hash = hash;
+        this.range = range;
+    }
+
+    /**
+     * Creates new and empty indexes of a document collection or a column family
+     *
+     * @param name the document collection or the column family
+     * @return the indexes
+     */
+    List<Index> create(String name) {
+        List<Index> indexes = new ArrayList<>();
+        hash.getOrDefault(name, Set.of()).forEach(field -> indexes.add(new HashIndex(field)));
+        range.getOrDefault(name, Set.of()).forEach(field -> indexes.add(new RangeIndex(field)));
+        return Collections.unmodifiableList(indexes);
+    }
+
+    @Override
+    public String toString() {
+        return "Indexes{" +
+                "hash=" + hash +
+                ", range=" + range +
+                '}';
+    }
+
+    static Indexes empty() {
+        return EMPTY;
+    }
+
+    static Indexes of(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        return new Indexes(fields(settings.prefix(MemoryConfigurations.HASH_INDEX)),
+                fields(settings.prefix(MemoryConfigurations.RANGE_INDEX)));
+    }
+
+    private static Map<String, Set<String>> fields(List<Object> values) {
+        Map<String, Set<String>> fields = new LinkedHashMap<>();
+        for (Object value : values) {
+            Iterable<?> declarations = value instanceof Iterable ? (Iterable<?>) value
+                    : List.of(value.toString().split(","));
+            for (Object declaration : declarations) {
+                String index = declaration.toString().trim();
+                if (index.isEmpty()) {
+                    continue;
+                }
+                int dot = index.indexOf('.');
+                if (dot <= 0 || dot == index.length() - 1) {
+                    throw new CommunicationException("The index must have the name and the field, e.g.: Person.age,"
+                            + " the index: " + index);
+                }
+                fields.computeIfAbsent(index.substring(0, dot), k -> new LinkedHashSet<>())
+                        .add(index.substring(dot + 1));
+            }
+        }
+        return fields;
+    }
+}
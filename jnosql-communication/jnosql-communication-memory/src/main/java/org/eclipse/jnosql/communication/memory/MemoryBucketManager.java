@@ -0,0 +1,170 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.keyvalue.BucketManager;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * The in-memory {@link BucketManager}, the values are kept at a concurrent map and the expired ones are
+ * removed lazily, when they are read.
+ */
+final class MemoryBucketManager implements BucketManager {
+
+    private final String name;
+
+    private final LongSupplier clock;
+
+    private final ConcurrentMap<Object, Item> items = new ConcurrentHashMap<>();
+
+    MemoryBucketManager(String name, LongSupplier clock) {
+        this.name = name;
+        this.clock = clock;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        Objects.requireNonNull(key, "key is required");
+        Objects.requireNonNull(value, "value is required");
+        items.put(key, new Item(value, MemoryTable.NEVER));
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        put(entity.key(), entity.value());
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        Objects.requireNonNull(entity.key(), "key is required");
+        Objects.requireNonNull(entity.value(), "value is required");
+        items.put(entity.key(), new Item(entity.value(), MemoryTable.expiresAt(clock.getAsLong(), ttl)));
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        entities.forEach(this::put);
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        entities.forEach(entity -> put(entity, ttl));
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        Objects.requireNonNull(key, "key is required");
+        Item item = items.get(key);
+        if (item == null) {
+            return Optional.empty();
+        }
+        if (item.expiresAt <= clock.getAsLong()) {
+            items.remove(key, item);
+            return Optional.empty();
+        }
+        return Optional.of(Value.of(item.value));
+    }
+
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        List<Value> values = new ArrayList<>();
+        keys.forEach(key -> get(key).ifPresent(values::add));
+        return values;
+    }
+
+    @Override
+    public <K> Map<K, Value> getAll(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        Map<K, Value> values = new LinkedHashMap<>();
+        for (K key : keys) {
+            get(key).ifPresent(value -> values.put(key, value));
+        }
+        return values;
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    @Override
+    public <K> void delete(K key) {
+        Objects.requireNonNull(key, "key is required");
+        items.remove(key);
+    }
+
+    @Override
+    public <K> void delete(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        keys.forEach(this::delete);
+    }
+
+    /**
+     * The data belongs to the {@link MemoryBucketManagerFactory}, thus, it is kept after the close.
+     */
+    @Override
+    public void close() {
+    }
+
+    void clear() {
+        items.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryBucketManager{" +
+                "name='" + name + '\'' +
+                ", size=" + items.size() +
+                '}';
+    }
+
+    private static final class Item {
+
+        private final Object value;
+
+        private final long expiresAt;
+
+        private Item(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
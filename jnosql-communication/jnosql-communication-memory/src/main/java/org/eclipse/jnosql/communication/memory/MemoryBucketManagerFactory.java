@@ -0,0 +1,109 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongSupplier;
+
+/**
+ * The in-memory {@link BucketManagerFactory}, it keeps one {@link MemoryBucketManager} and one of each
+ * collection by bucket, thus, they share the data until the factory is closed.
+ */
+final class MemoryBucketManagerFactory implements BucketManagerFactory {
+
+    private final LongSupplier clock;
+
+    private final ConcurrentMap<String, MemoryBucketManager> managers = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, List<?>> lists = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Set<?>> sets = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Queue<?>> queues = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Map<?, ?>> maps = new ConcurrentHashMap<>();
+
+    MemoryBucketManagerFactory(LongSupplier clock) {
+        this.clock = Objects.requireNonNull(clock, "clock is required");
+    }
+
+    @Override
+    public MemoryBucketManager apply(String bucket) {
+        Objects.requireNonNull(bucket, "bucket is required");
+        return managers.computeIfAbsent(bucket, b -> new MemoryBucketManager(b, clock));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> List<T> getList(String bucketName, Class<T> type) {
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        Objects.requireNonNull(type, "type is required");
+        return (List<T>) lists.computeIfAbsent(bucketName, b -> new CopyOnWriteArrayList<>());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Set<T> getSet(String bucketName, Class<T> type) {
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        Objects.requireNonNull(type, "type is required");
+        return (Set<T>) sets.computeIfAbsent(bucketName, b -> ConcurrentHashMap.newKeySet());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Queue<T> getQueue(String bucketName, Class<T> type) {
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        Objects.requireNonNull(type, "type is required");
+        return (Queue<T>) queues.computeIfAbsent(bucketName, b -> new ConcurrentLinkedQueue<>());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <K, V> Map<K, V> getMap(String bucketName, Class<K> keyValue, Class<V> valueValue) {
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        Objects.requireNonNull(keyValue, "keyValue is required");
+        Objects.requireNonNull(valueValue, "valueValue is required");
+        return (Map<K, V>) maps.computeIfAbsent(bucketName, b -> new ConcurrentHashMap<>());
+    }
+
+    @Override
+    public void close() {
+        managers.values().forEach(MemoryBucketManager::clear);
+        managers.clear();
+        lists.clear();
+        sets.clear();
+        queues.clear();
+        maps.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryBucketManagerFactory{" +
+                "buckets=" + managers.keySet() +
+                '}';
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.AggregateCapability;
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.ValueComparator;
+import org.eclipse.jnosql.communication.column.Column;
+import org.eclipse.jnosql.communication.column.ColumnCondition;
+import org.eclipse.jnosql.communication.column.ColumnConditionCompiler;
+import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
+import org.eclipse.jnosql.communication.column.ColumnEntity;
+import org.eclipse.jnosql.communication.column.ColumnManager;
+import org.eclipse.jnosql.communication.column.ColumnQuery;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * The in-memory {@link ColumnManager}, the column families are {@link MemoryTable} instances,
+ * an update replaces the entity with the same key or inserts it, and the deletion with columns removes
+ * only those columns from the entities. The entities are copied on write and on read.
+ */
+final class MemoryColumnManager implements ColumnManager {
+
+    private static final ColumnConditionCompiler COMPILER = ColumnConditionCompiler.INSTANCE;
+
+    private static final Set<AggregateCapability> CAPABILITIES =
+            Set.of(AggregateCapability.COUNT, AggregateCapability.EXISTS);
+
+    private final String name;
+
+    private final String id;
+
+    private final Indexes indexes;
+
+    private final LongSupplier clock;
+
+    private final ConcurrentMap<String, MemoryTable<ColumnEntity>> families = new ConcurrentHashMap<>();
+
+    MemoryColumnManager(String name, String id, Indexes indexes, LongSupplier clock) {
+        this.name = name;
+        this.id = id;
+        this.indexes = indexes;
+        this.clock = clock;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        family(entity.name()).insert(key(entity), entity.copy(), null);
+        return entity;
+    }
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        family(entity.name()).insert(key(entity), entity.copy(), ttl);
+        return entity;
+    }
+
+    @Override
+    public Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<ColumnEntity> inserted = new ArrayList<>();
+        entities.forEach(entity -> inserted.add(insert(entity)));
+        return inserted;
+    }
+
+    @Override
+    public Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        List<ColumnEntity> inserted = new ArrayList<>();
+        entities.forEach(entity -> inserted.add(insert(entity, ttl)));
+        return inserted;
+    }
+
+    @Override
+    public ColumnEntity update(ColumnEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        family(entity.name()).update(key(entity), entity.copy());
+        return entity;
+    }
+
+    @Override
+    public Iterable<ColumnEntity> update(Iterable<ColumnEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<ColumnEntity> updated = new ArrayList<>();
+        entities.forEach(entity -> updated.add(update(entity)));
+        return updated;
+    }
+
+    @Override
+    public void delete(ColumnDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        MemoryTable<ColumnEntity> family = families.get(query.name());
+        if (family == null) {
+            return;
+        }
+        Criteria criteria = query.condition().map(Criteria::of).orElse(null);
+        Predicate<ColumnEntity> predicate = query.condition().map(COMPILER::compile).orElse(null);
+        List<String> columns = query.columns();
+        if (columns.isEmpty()) {
+            family.delete(criteria, predicate);
+        } else {
+            family.update(criteria, predicate, entity -> {
+                ColumnEntity copy = entity.copy();
+                columns.forEach(copy::remove);
+                return copy;
+            });
+        }
+    }
+
+    @Override
+    public Stream<ColumnEntity> select(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        MemoryTable<ColumnEntity> family = families.get(query.name());
+        if (family == null) {
+            return Stream.empty();
+        }
+        List<String> columns = query.columns();
+        return select(family, query.condition().orElse(null), query.sorts(), query.skip(), query.limit())
+                .map(entity -> columns.isEmpty() ? entity.copy() : project(entity, columns));
+    }
+
+    @Override
+    public long count(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        MemoryTable<ColumnEntity> family = families.get(query.name());
+        if (family == null) {
+            return 0L;
+        }
+        return select(family, query.condition().orElse(null), List.of(), 0, 0).count();
+    }
+
+    @Override
+    public boolean exists(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        MemoryTable<ColumnEntity> family = families.get(query.name());
+        if (family == null) {
+            return false;
+        }
+        return select(family, query.condition().orElse(null), List.of(), 0, 0).findAny().isPresent();
+    }
+
+    @Override
+    public Set<AggregateCapability> aggregateCapabilities() {
+        return CAPABILITIES;
+    }
+
+    @Override
+    public long count(String columnFamily) {
+        Objects.requireNonNull(columnFamily, "columnFamily is required");
+        MemoryTable<ColumnEntity> family = families.get(columnFamily);
+        return family == null ? 0L : family.size();
+    }
+
+    /**
+     * The data belongs to the {@link MemoryColumnManagerFactory}, thus, it is kept after the close.
+     */
+    @Override
+    public void close() {
+    }
+
+    void clear() {
+        families.values().forEach(MemoryTable::clear);
+        families.clear();
+    }
+
+    private MemoryTable<ColumnEntity> family(String name) {
+        return families.computeIfAbsent(name, n -> new MemoryTable<>(indexes.create(n),
+                (entity, field) -> Fields.get(entity::find, field), clock));
+    }
+
+    private static Stream<ColumnEntity> select(MemoryTable<ColumnEntity> family, ColumnCondition condition,
+                                     List<Sort> sorts, long skip, long limit) {
+        if (condition == null) {
+            return family.select(null, null, sorts, skip, limit);
+        }
+        return family.select(Criteria.of(condition), COMPILER.compile(condition), sorts, skip, limit);
+    }
+
+    private Object key(ColumnEntity entity) {
+        return entity.find(id).map(Column::get).map(ValueComparator::key)
+                .orElseThrow(() -> new CommunicationException("The entity " + entity.name()
+                        + " does not have the id field " + id + ", it is required to be stored"));
+    }
+
+    private static ColumnEntity project(ColumnEntity entity, List<String> columns) {
+        ColumnEntity projection = ColumnEntity.of(entity.name());
+        columns.forEach(column -> entity.find(column).ifPresent(projection::add));
+        return projection;
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryColumnManager{" +
+                "name='" + name + '\'' +
+                ", id='" + id + '\'' +
+                ", families=" + families.keySet() +
+                '}';
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.column.ColumnManagerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * The in-memory {@link ColumnManagerFactory}, it keeps one {@link MemoryColumnManager} by database,
+ * thus, the managers of the same database share the data until the factory is closed.
+ */
+final class MemoryColumnManagerFactory implements ColumnManagerFactory {
+
+    private final String id;
+
+    private final Indexes indexes;
+
+    private final LongSupplier clock;
+
+    private final ConcurrentMap<String, MemoryColumnManager> managers = new ConcurrentHashMap<>();
+
+    MemoryColumnManagerFactory(String id, Indexes indexes, LongSupplier clock) {
+        this.id = Objects.requireNonNull(id, "id is required");
+        this.indexes = Objects.requireNonNull(indexes, "indexes is required");
+        this.clock = Objects.requireNonNull(clock, "clock is required");
+    }
+
+    @Override
+    public MemoryColumnManager apply(String database) {
+        Objects.requireNonNull(database, "database is required");
+        return managers.computeIfAbsent(database, d -> new MemoryColumnManager(d, id, indexes, clock));
+    }
+
+    @Override
+    public void close() {
+        managers.values().forEach(MemoryColumnManager::clear);
+        managers.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryColumnManagerFactory{" +
+                "id='" + id + '\'' +
+                ", indexes=" + indexes +
+                ", databases=" + managers.keySet() +
+                '}';
+    }
+}
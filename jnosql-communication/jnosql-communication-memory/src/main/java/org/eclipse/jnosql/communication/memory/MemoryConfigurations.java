@@ -0,0 +1,61 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.Settings;
+
+import java.util.function.Supplier;
+
+/**
+ * The settings of the in-memory engine.
+ */
+public enum MemoryConfigurations implements Supplier<String> {
+
+    /**
+     * The field with the key of the documents and the column families, by default, "_id". The managers refuse the
+     * entities without it with a {@link org.eclipse.jnosql.communication.CommunicationException}.
+     */
+    ID("jnosql.memory.id"),
+    /**
+     * The hash indexes, they answer the equals and in conditions. The value is a list, or a comma-separated text,
+     * of the indexed fields prefixed by the name of the document collection or the column family,
+     * e.g.: "Person.name, Person.address.city".
+     */
+    HASH_INDEX("jnosql.memory.index.hash"),
+    /**
+     * The range indexes, besides the equality, they answer the greater than, lesser than and between conditions.
+     * The value has the same format of the {@link MemoryConfigurations#HASH_INDEX}, e.g.: "Person.age".
+     */
+    RANGE_INDEX("jnosql.memory.index.range");
+
+    private static final String DEFAULT_ID = "_id";
+
+    private final String configuration;
+
+    MemoryConfigurations(String configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    public String get() {
+        return configuration;
+    }
+
+    static String id(Settings settings) {
+        return settings.get(ID).map(Object::toString).orElse(DEFAULT_ID);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.document.DocumentConfiguration;
+import org.eclipse.jnosql.communication.document.DocumentManagerFactory;
+
+import java.util.Objects;
+
+/**
+ * The {@link DocumentConfiguration} of the in-memory engine, a reference implementation to tests and benchmarks
+ * that does not need a database.
+ *
+ * @see MemoryConfigurations
+ */
+public final class MemoryDocumentConfiguration implements DocumentConfiguration {
+
+    @Override
+    public DocumentManagerFactory apply(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        return new MemoryDocumentManagerFactory(MemoryConfigurations.id(settings), Indexes.of(settings),
+                System::currentTimeMillis);
+    }
+}
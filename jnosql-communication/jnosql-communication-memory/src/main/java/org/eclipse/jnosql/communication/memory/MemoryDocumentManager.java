@@ -0,0 +1,233 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.AggregateCapability;
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.ValueComparator;
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentCondition;
+import org.eclipse.jnosql.communication.document.DocumentConditionCompiler;
+import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.communication.document.DocumentManager;
+import org.eclipse.jnosql.communication.document.DocumentQuery;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * The in-memory {@link DocumentManager}, the document collections are {@link MemoryTable} instances,
+ * an update replaces the entity with the same key or inserts it, and the deletion with documents removes
+ * only those documents from the entities. The entities are copied on write and on read.
+ */
+final class MemoryDocumentManager implements DocumentManager {
+
+    private static final DocumentConditionCompiler COMPILER = DocumentConditionCompiler.INSTANCE;
+
+    private static final Set<AggregateCapability> CAPABILITIES =
+            Set.of(AggregateCapability.COUNT, AggregateCapability.EXISTS);
+
+    private final String name;
+
+    private final String id;
+
+    private final Indexes indexes;
+
+    private final LongSupplier clock;
+
+    private final ConcurrentMap<String, MemoryTable<DocumentEntity>> collections = new ConcurrentHashMap<>();
+
+    MemoryDocumentManager(String name, String id, Indexes indexes, LongSupplier clock) {
+        this.name = name;
+        this.id = id;
+        this.indexes = indexes;
+        this.clock = clock;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        collection(entity.name()).insert(key(entity), entity.copy(), null);
+        return entity;
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        collection(entity.name()).insert(key(entity), entity.copy(), ttl);
+        return entity;
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<DocumentEntity> inserted = new ArrayList<>();
+        entities.forEach(entity -> inserted.add(insert(entity)));
+        return inserted;
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        List<DocumentEntity> inserted = new ArrayList<>();
+        entities.forEach(entity -> inserted.add(insert(entity, ttl)));
+        return inserted;
+    }
+
+    @Override
+    public DocumentEntity update(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        collection(entity.name()).update(key(entity), entity.copy());
+        return entity;
+    }
+
+    @Override
+    public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<DocumentEntity> updated = new ArrayList<>();
+        entities.forEach(entity -> updated.add(update(entity)));
+        return updated;
+    }
+
+    @Override
+    public void delete(DocumentDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        MemoryTable<DocumentEntity> collection = collections.get(query.name());
+        if (collection == null) {
+            return;
+        }
+        Criteria criteria = query.condition().map(Criteria::of).orElse(null);
+        Predicate<DocumentEntity> predicate = query.condition().map(COMPILER::compile).orElse(null);
+        List<String> documents = query.documents();
+        if (documents.isEmpty()) {
+            collection.delete(criteria, predicate);
+        } else {
+            collection.update(criteria, predicate, entity -> {
+                DocumentEntity copy = entity.copy();
+                documents.forEach(copy::remove);
+                return copy;
+            });
+        }
+    }
+
+    @Override
+    public Stream<DocumentEntity> select(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        MemoryTable<DocumentEntity> collection = collections.get(query.name());
+        if (collection == null) {
+            return Stream.empty();
+        }
+        List<String> documents = query.documents();
+        return select(collection, query.condition().orElse(null), query.sorts(), query.skip(), query.limit())
+                .map(entity -> documents.isEmpty() ? entity.copy() : project(entity, documents));
+    }
+
+    @Override
+    public long count(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        MemoryTable<DocumentEntity> collection = collections.get(query.name());
+        if (collection == null) {
+            return 0L;
+        }
+        return select(collection, query.condition().orElse(null), List.of(), 0, 0).count();
+    }
+
+    @Override
+    public boolean exists(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        MemoryTable<DocumentEntity> collection = collections.get(query.name());
+        if (collection == null) {
+            return false;
+        }
+        return select(collection, query.condition().orElse(null), List.of(), 0, 0).findAny().isPresent();
+    }
+
+    @Override
+    public Set<AggregateCapability> aggregateCapabilities() {
+        return CAPABILITIES;
+    }
+
+    @Override
+    public long count(String documentCollection) {
+        Objects.requireNonNull(documentCollection, "documentCollection is required");
+        MemoryTable<DocumentEntity> collection = collections.get(documentCollection);
+        return collection == null ? 0L : collection.size();
+    }
+
+    /**
+     * The data belongs to the {@link MemoryDocumentManagerFactory}, thus, it is kept after the close.
+     */
+    @Override
+    public void close() {
+    }
+
+    void clear() {
+        collections.values().forEach(MemoryTable::clear);
+        collections.clear();
+    }
+
+    private MemoryTable<DocumentEntity> collection(String name) {
+        return collections.computeIfAbsent(name, n -> new MemoryTable<>(indexes.create(n),
+                (entity, field) -> Fields.get(entity::find, field), clock));
+    }
+
+    private static Stream<DocumentEntity> select(MemoryTable<DocumentEntity> collection, DocumentCondition condition,
+                                     List<Sort> sorts, long skip, long limit) {
+        if (condition == null) {
+            return collection.select(null, null, sorts, skip, limit);
+        }
+        return collection.select(Criteria.of(condition), COMPILER.compile(condition), sorts, skip, limit);
+    }
+
+    private Object key(DocumentEntity entity) {
+        return entity.find(id).map(Document::get).map(ValueComparator::key)
+                .orElseThrow(() -> new CommunicationException("The entity " + entity.name()
+                        + " does not have the id field " + id + ", it is required to be stored"));
+    }
+
+    private static DocumentEntity project(DocumentEntity entity, List<String> documents) {
+        DocumentEntity projection = DocumentEntity.of(entity.name());
+        documents.forEach(document -> entity.find(document).ifPresent(projection::add));
+        return projection;
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryDocumentManager{" +
+                "name='" + name + '\'' +
+                ", id='" + id + '\'' +
+                ", collections=" + collections.keySet() +
+                '}';
+    }
+}
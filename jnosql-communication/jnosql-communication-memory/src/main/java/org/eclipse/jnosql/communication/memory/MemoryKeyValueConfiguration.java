@@ -0,0 +1,36 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueConfiguration;
+
+import java.util.Objects;
+
+/**
+ * The {@link KeyValueConfiguration} of the in-memory engine, a reference implementation to tests and benchmarks
+ * that does not need a database.
+ */
+public final class MemoryKeyValueConfiguration implements KeyValueConfiguration {
+
+    @Override
+    public BucketManagerFactory apply(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        return new MemoryBucketManagerFactory(System::currentTimeMillis);
+    }
+}
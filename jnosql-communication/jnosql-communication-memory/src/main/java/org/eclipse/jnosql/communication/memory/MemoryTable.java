@@ -0,0 +1,313 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.ValueComparator;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * The entities of a document collection or a column family at the in-memory engine. The entities are kept by key
+ * at a concurrent map, and each write updates the secondary indexes at the same atomic operation of the key.
+ * A query uses the most selective index that answers the criteria to find the candidates, then, the compiled
+ * condition tests them. The expired entities are removed lazily, when they are found.
+ *
+ * @param <E> the entity type
+ */
+final class MemoryTable<E> {
+
+    static final long NEVER = Long.MAX_VALUE;
+
+    private final ConcurrentMap<Object, Row<E>> rows = new ConcurrentHashMap<>();
+
+    private final List<Index> indexes;
+
+    private final BiFunction<E, String, Object> fields;
+
+    private final LongSupplier clock;
+
+    MemoryTable(List<Index> indexes, BiFunction<E, String, Object> fields, LongSupplier clock) {
+        this.indexes = Objects.requireNonNull(indexes, "indexes is required");
+        this.fields = Objects.requireNonNull(fields, "fields is required");
+        this.clock = Objects.requireNonNull(clock, "clock is required");
+    }
+
+    /**
+     * Inserts or replaces the entity
+     *
+     * @param key    the key
+     * @param entity the entity
+     * @param ttl    the time to live or null when the entity does not expire
+     */
+    void insert(Object key, E entity, Duration ttl) {
+        long expiresAt = expiresAt(clock.getAsLong(), ttl);
+        rows.compute(key, (k, row) -> {
+            if (row != null) {
+                unindex(k, row.entity);
+            }
+            index(k, entity);
+            return new Row<>(entity, expiresAt);
+        });
+    }
+
+    /**
+     * Inserts or replaces the entity, when it replaces a live entity, its expiration is kept.
+     *
+     * @param key    the key
+     * @param entity the entity
+     */
+    void update(Object key, E entity) {
+        long now = clock.getAsLong();
+        rows.compute(key, (k, row) -> {
+            long expiresAt = NEVER;
+            if (row != null) {
+                unindex(k, row.entity);
+                expiresAt = row.isExpired(now) ? NEVER : row.expiresAt;
+            }
+            index(k, entity);
+            return new Row<>(entity, expiresAt);
+        });
+    }
+
+    /**
+     * Replaces the entities that match the criteria, keeping their expiration
+     *
+     * @param criteria  the criteria or null to all entities
+     * @param predicate the compiled criteria or null to all entities
+     * @param update    the function that returns the new entity
+     */
+    void update(Criteria criteria, Predicate<E> predicate, UnaryOperator<E> update) {
+        matches(criteria, predicate).forEach(match -> rows.computeIfPresent(match.getKey(), (k, row) -> {
+            unindex(k, row.entity);
+            E entity = update.apply(row.entity);
+            index(k, entity);
+            return new Row<>(entity, row.expiresAt);
+        }));
+    }
+
+    /**
+     * Removes the entities that match the criteria
+     *
+     * @param criteria  the criteria or null to all entities
+     * @param predicate the compiled criteria or null to all entities
+     */
+    void delete(Criteria criteria, Predicate<E> predicate) {
+        matches(criteria, predicate).forEach(match -> remove(match.getKey(), match.getValue()));
+    }
+
+    /**
+     * Finds the entities that match the criteria
+     *
+     * @param criteria  the criteria or null to all entities
+     * @param predicate the compiled criteria or null to all entities
+     * @param sorts     the sorts
+     * @param skip      the number of entities to skip, zero to none
+     * @param limit     the maximum number of entities, zero to unlimited
+     * @return the entities
+     */
+    Stream<E> select(Criteria criteria, Predicate<E> predicate, List<Sort> sorts, long skip, long limit) {
+        Stream<E> entities = matches(criteria, predicate).map(match -> match.getValue().entity);
+        if (!sorts.isEmpty()) {
+            entities = entities.sorted(comparator(sorts));
+        }
+        if (skip > 0) {
+            entities = entities.skip(skip);
+        }
+        if (limit > 0) {
+            entities = entities.limit(limit);
+        }
+        return entities;
+    }
+
+    /**
+     * Returns the number of live entities
+     *
+     * @return the size
+     */
+    long size() {
+        long now = clock.getAsLong();
+        rows.forEach((key, row) -> {
+            if (row.isExpired(now)) {
+                remove(key, row);
+            }
+        });
+        return rows.size();
+    }
+
+    void clear() {
+        rows.clear();
+    }
+
+    private Stream<Map.Entry<Object, Row<E>>> matches(Criteria criteria, Predicate<E> predicate) {
+        Set<Object> candidates = criteria == null ? null : candidates(criteria);
+        Stream<Map.Entry<Object, Row<E>>> entries;
+        if (candidates == null) {
+            entries = rows.entrySet().stream();
+        } else {
+            entries = candidates.stream().map(key -> {
+                Row<E> row = rows.get(key);
+                return row == null ? null : Map.entry(key, row);
+            }).filter(Objects::nonNull);
+        }
+        long now = clock.getAsLong();
+        return entries.filter(entry -> {
+            Row<E> row = entry.getValue();
+            if (row.isExpired(now)) {
+                remove(entry.getKey(), row);
+                return false;
+            }
+            return predicate == null || predicate.test(row.entity);
+        });
+    }
+
+    /**
+     * The keys from the indexes that might match the criteria, the AND uses the smallest set of its conditions
+     * and the OR the union when all its conditions have an index.
+     */
+    private Set<Object> candidates(Criteria criteria) {
+        switch (criteria.condition()) {
+            case AND:
+                Set<Object> smallest = null;
+                for (Criteria child : criteria.children()) {
+                    Set<Object> keys = candidates(child);
+                    if (keys != null && (smallest == null || keys.size() < smallest.size())) {
+                        smallest = keys;
+                    }
+                }
+                return smallest;
+            case OR:
+                Set<Object> union = null;
+                for (Criteria child : criteria.children()) {
+                    Set<Object> keys = candidates(child);
+                    if (keys == null) {
+                        return null;
+                    }
+                    if (union == null) {
+                        union = keys;
+                    } else {
+                        union.addAll(keys);
+                    }
+                }
+                return union;
+            case NOT:
+                return null;
+            default:
+                for (Index index : indexes) {
+                    if (index.field().equals(criteria.field())) {
+                        Set<Object> keys = index.find(criteria);
+                        if (keys != null) {
+                            return keys;
+                        }
+                    }
+                }
+                return null;
+        }
+    }
+
+    private void remove(Object key, Row<E> expected) {
+        rows.computeIfPresent(key, (k, row) -> {
+            if (row != expected) {
+                return row;
+            }
+            unindex(k, row.entity);
+            return null;
+        });
+    }
+
+    private void index(Object key, E entity) {
+        for (Index index : indexes) {
+            Object value = fields.apply(entity, index.field());
+            if (value != null) {
+                index.add(value, key);
+            }
+        }
+    }
+
+    private void unindex(Object key, E entity) {
+        for (Index index : indexes) {
+            Object value = fields.apply(entity, index.field());
+            if (value != null) {
+                index.remove(value, key);
+            }
+        }
+    }
+
+    private Comparator<E> comparator(List<Sort> sorts) {
+        Comparator<E> comparator = null;
+        for (Sort sort : sorts) {
+            Comparator<Object> values = ValueComparator.INSTANCE;
+            if (sort.ignoreCase()) {
+                values = Comparator.comparing(value -> value instanceof CharSequence
+                        ? value.toString().toLowerCase() : value, ValueComparator.INSTANCE);
+            }
+            if (sort.isDescending()) {
+                values = values.reversed();
+            }
+            Comparator<E> next = Comparator.comparing(entity -> fields.apply(entity, sort.property()),
+                    Comparator.nullsLast(values));
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
+    /**
+     * Returns when an entity expires
+     *
+     * @param now the current time in milliseconds
+     * @param ttl the time to live or null
+     * @return the time in milliseconds or {@link MemoryTable#NEVER}
+     */
+    static long expiresAt(long now, Duration ttl) {
+        if (ttl == null) {
+            return NEVER;
+        }
+        try {
+            return Math.addExact(now, ttl.toMillis());
+        } catch (ArithmeticException exception) {
+            return NEVER;
+        }
+    }
+
+    private static final class Row<E> {
+
+        private final E entity;
+
+        private final long expiresAt;
+
+        private Row(E entity, long expiresAt) {
+            this.entity = entity;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.ValueComparator;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * An {@link Index} that keeps the values sorted by {@link ValueComparator}, thus, besides the equality, it answers
+ * the {@link org.eclipse.jnosql.communication.Condition#GREATER_THAN},
+ * {@link org.eclipse.jnosql.communication.Condition#GREATER_EQUALS_THAN},
+ * {@link org.eclipse.jnosql.communication.Condition#LESSER_THAN},
+ * {@link org.eclipse.jnosql.communication.Condition#LESSER_EQUALS_THAN} and
+ * {@link org.eclipse.jnosql.communication.Condition#BETWEEN} conditions.
+ */
+final class RangeIndex implements Index {
+
+    private final String field;
+
+    private final ConcurrentNavigableMap<Object, Set<Object>> keys =
+            new ConcurrentSkipListMap<>(ValueComparator.INSTANCE);
+
+    RangeIndex(String field) {
+        this.field = Objects.requireNonNull(field, "field is required");
+    }
+
+    @Override
+    public String field() {
+        return field;
+    }
+
+    @Override
+    public void add(Object value, Object key) {
+        keys.compute(value, (k, set) -> {
+            Set<Object> entities = set == null ? ConcurrentHashMap.newKeySet() : set;
+            entities.add(key);
+            return entities;
+        });
+    }
+
+    @Override
+    public void remove(Object value, Object key) {
+        keys.computeIfPresent(value, (k, set) -> {
+            set.remove(key);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    @Override
+    public Set<Object> find(Criteria criteria) {
+        Object value = criteria.value();
+        switch (criteria.condition()) {
+            case EQUALS:
+                return value == null ? new HashSet<>() : new HashSet<>(keys.getOrDefault(value, Set.of()));
+            case IN:
+                Set<Object> entities = new HashSet<>();
+                criteria.values().stream().filter(Objects::nonNull)
+                        .forEach(v -> entities.addAll(keys.getOrDefault(v, Set.of())));
+                return entities;
+            case GREATER_THAN:
+                return value == null ? null : union(keys.tailMap(value, false).values());
+            case GREATER_EQUALS_THAN:
+                return value == null ? null : union(keys.tailMap(value, true).values());
+            case LESSER_THAN:
+                return value == null ? null : union(keys.headMap(value, false).values());
+            case LESSER_EQUALS_THAN:
+                return value == null ? null : union(keys.headMap(value, true).values());
+            case BETWEEN:
+                List<Object> values = criteria.values();
+                if (values.size() != 2 || values.contains(null)) {
+                    return null;
+                }
+                if (ValueComparator.INSTANCE.compare(values.get(0), values.get(1)) > 0) {
+                    return new HashSet<>();
+                }
+                return union(keys.subMap(values.get(0), true, values.get(1), true).values());
+            default:
+                return null;
+        }
+    }
+
+    private static Set<Object> union(Collection<Set<Object>> sets) {
+        Set<Object> entities = new HashSet<>();
+        sets.forEach(entities::addAll);
+        return entities;
+    }
+
+    @Override
+    public String toString() {
+        return "RangeIndex{" +
+                "field='" + field + '\'' +
+                ", values=" + keys.size() +
+                '}';
+    }
+}
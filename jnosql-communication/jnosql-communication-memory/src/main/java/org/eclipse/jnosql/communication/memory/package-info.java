@@ -0,0 +1,24 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+
+/**
+ * The in-memory engine of the document, column and key-value APIs. It keeps the entities at concurrent structures,
+ * evaluates the conditions, the sorts, the skip and the limit of the queries, supports the secondary hash and range
+ * indexes declared at {@link org.eclipse.jnosql.communication.memory.MemoryConfigurations} and the time to live of
+ * the entities. It is a reference implementation to tests and benchmarks that does not need a database.
+ */
+package org.eclipse.jnosql.communication.memory;
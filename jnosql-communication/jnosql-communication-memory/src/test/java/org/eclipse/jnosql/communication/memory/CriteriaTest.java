@@ -0,0 +1,56 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.column.ColumnCondition;
+import org.eclipse.jnosql.communication.document.DocumentCondition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CriteriaTest {
+
+    @Test
+    public void shouldReturnErrorWhenConditionIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> Criteria.of((DocumentCondition) null));
+        Assertions.assertThrows(NullPointerException.class, () -> Criteria.of((ColumnCondition) null));
+    }
+
+    @Test
+    public void shouldReadDocumentCondition() {
+        Criteria criteria = Criteria.of(DocumentCondition.eq("name", "Ada")
+                .and(DocumentCondition.gt("age", 10)).and(DocumentCondition.lt("age", 50)));
+        assertThat(criteria.condition()).isEqualTo(Condition.AND);
+        assertThat(criteria.children()).hasSize(3);
+        assertThat(criteria).isEqualTo(Criteria.of(ColumnCondition.eq("name", "Ada")
+                .and(ColumnCondition.gt("age", 10)).and(ColumnCondition.lt("age", 50))));
+    }
+
+    @Test
+    public void shouldReadValues() {
+        assertThat(Criteria.of(DocumentCondition.in("age", List.of(10, 20))).values()).containsExactly(10, 20);
+        assertThat(Criteria.of(DocumentCondition.between("age", List.of(10, 20))).values()).containsExactly(10, 20);
+        assertThat(Criteria.of(DocumentCondition.eq("age", 10)).values()).isEmpty();
+        Criteria not = Criteria.of(DocumentCondition.eq("age", 10).negate());
+        assertThat(not.condition()).isEqualTo(Condition.NOT);
+        assertThat(not.children()).containsExactly(Criteria.of(ColumnCondition.eq("age", 10)));
+    }
+}
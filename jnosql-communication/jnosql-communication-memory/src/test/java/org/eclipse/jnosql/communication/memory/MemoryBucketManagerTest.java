@@ -0,0 +1,111 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.keyvalue.BucketManager;
+import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueConfiguration;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class MemoryBucketManagerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private MemoryBucketManagerFactory factory;
+
+    private BucketManager manager;
+
+    @BeforeEach
+    public void setUp() {
+        factory = new MemoryBucketManagerFactory(clock::get);
+        manager = factory.apply("bucket");
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParamsAreNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> manager.put(null, "value"));
+        Assertions.assertThrows(NullPointerException.class, () -> manager.put("key", null));
+        Assertions.assertThrows(NullPointerException.class, () -> manager.put(KeyValueEntity.of("key", "value"),
+                null));
+        Assertions.assertThrows(NullPointerException.class, () -> manager.get((Object) null));
+    }
+
+    @Test
+    public void shouldLoadFromServiceLoader() {
+        KeyValueConfiguration configuration = KeyValueConfiguration.getConfiguration();
+        assertThat(configuration).isInstanceOf(MemoryKeyValueConfiguration.class);
+        try (BucketManagerFactory bucketFactory = configuration.apply(Settings.settings())) {
+            bucketFactory.apply("bucket").put("key", "value");
+            assertThat(bucketFactory.apply("bucket").get("key")).contains(Value.of("value"));
+        }
+    }
+
+    @Test
+    public void shouldPutGetAndDelete() {
+        manager.put("otavio", "Otavio");
+        manager.put(List.of(KeyValueEntity.of("ada", "Ada"), KeyValueEntity.of("alan", "Alan")));
+        assertThat(manager.get("otavio").map(Value::get)).contains("Otavio");
+        assertThat(manager.get(List.of("ada", "alan", "grace"))).containsExactly(Value.of("Ada"), Value.of("Alan"));
+        assertThat(manager.getAll(List.of("alan", "grace", "ada"))).containsExactly(
+                entry("alan", Value.of("Alan")), entry("ada", Value.of("Ada")));
+
+        manager.delete(List.of("ada", "otavio"));
+        assertThat(manager.get("ada")).isEmpty();
+        assertThat(factory.apply("bucket").get("alan")).isPresent();
+    }
+
+    @Test
+    public void shouldExpire() {
+        manager.put(KeyValueEntity.of("ada", "Ada"), Duration.ofSeconds(1));
+        manager.put(List.of(KeyValueEntity.of("alan", "Alan")), Duration.ofSeconds(2));
+        assertThat(manager.get("ada")).isPresent();
+        clock.addAndGet(1000L);
+        assertThat(manager.get("ada")).isEmpty();
+        assertThat(manager.get("alan")).isPresent();
+        clock.addAndGet(1000L);
+        assertThat(manager.get("alan")).isEmpty();
+    }
+
+    @Test
+    public void shouldShareTheCollections() {
+        factory.getList("list", String.class).add("Ada");
+        factory.getSet("set", String.class).add("Ada");
+        factory.getQueue("queue", String.class).add("Ada");
+        factory.getMap("map", String.class, Integer.class).put("Ada", 36);
+
+        assertThat(factory.getList("list", String.class)).containsExactly("Ada");
+        assertThat(factory.getSet("set", String.class)).containsExactly("Ada");
+        assertThat(factory.getQueue("queue", String.class)).containsExactly("Ada");
+        assertThat(factory.getMap("map", String.class, Integer.class)).containsEntry("Ada", 36);
+
+        factory.close();
+        assertThat(factory.getList("list", String.class)).isEmpty();
+        assertThat(factory.apply("bucket").get("ada")).isEmpty();
+    }
+}
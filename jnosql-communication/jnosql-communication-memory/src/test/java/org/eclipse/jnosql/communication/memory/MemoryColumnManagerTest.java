@@ -0,0 +1,129 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.column.Column;
+import org.eclipse.jnosql.communication.column.ColumnConfiguration;
+import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
+import org.eclipse.jnosql.communication.column.ColumnEntity;
+import org.eclipse.jnosql.communication.column.ColumnManager;
+import org.eclipse.jnosql.communication.column.ColumnManagerFactory;
+import org.eclipse.jnosql.communication.column.ColumnQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemoryColumnManagerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private ColumnManager manager;
+
+    @BeforeEach
+    public void setUp() {
+        Settings settings = Settings.of(Map.of(MemoryConfigurations.ID.get(), "id",
+                MemoryConfigurations.RANGE_INDEX.get(), List.of("Person.age")));
+        manager = new MemoryColumnManagerFactory("id", Indexes.of(settings), clock::get).apply("database");
+        manager.insert(List.of(person(1L, "Ada", 36), person(2L, "Alan", 41), person(3L, "Grace", 85)));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParamsAreNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> manager.insert((ColumnEntity) null));
+        Assertions.assertThrows(NullPointerException.class, () -> manager.update((ColumnEntity) null));
+        Assertions.assertThrows(NullPointerException.class, () -> manager.select(null));
+        Assertions.assertThrows(NullPointerException.class, () -> manager.delete(null));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTheIdIsMissing() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.add(Column.of("name", "Bob"));
+        Assertions.assertThrows(CommunicationException.class, () -> manager.insert(entity));
+        Assertions.assertThrows(CommunicationException.class, () -> manager.update(entity));
+        assertThat(manager.count("Person")).isEqualTo(3L);
+    }
+
+    @Test
+    public void shouldLoadFromServiceLoader() {
+        ColumnConfiguration configuration = ColumnConfiguration.getConfiguration();
+        assertThat(configuration).isInstanceOf(MemoryColumnConfiguration.class);
+        Settings settings = Settings.of(Map.of(MemoryConfigurations.ID.get(), "id"));
+        try (ColumnManagerFactory factory = configuration.apply(settings)) {
+            factory.apply("database").insert(person(1L, "Ada", 36));
+            assertThat(factory.apply("database").count("Person")).isEqualTo(1L);
+        }
+    }
+
+    @Test
+    public void shouldSelect() {
+        assertThat(names(ColumnQuery.select().from("Person").where("age").gte(41).orderBy("name").desc().build()))
+                .containsExactly("Grace", "Alan");
+        assertThat(names(ColumnQuery.select().from("Person").where("name").like("%a").build()))
+                .containsExactly("Ada");
+        assertThat(names(ColumnQuery.select().from("Person").orderBy("age").asc().skip(1).limit(1).build()))
+                .containsExactly("Alan");
+        assertThat(manager.select(ColumnQuery.select("age").from("Person").where("id").eq(3).build())
+                .map(ColumnEntity::columns)).containsExactly(List.of(Column.of("age", 85)));
+    }
+
+    @Test
+    public void shouldUpdateAndDelete() {
+        manager.update(person(2L, "Alan Turing", 41));
+        assertThat(names(ColumnQuery.select().from("Person").where("age").eq(41).build()))
+                .containsExactly("Alan Turing");
+
+        manager.delete(ColumnDeleteQuery.delete("age").from("Person").where("id").eq(2L).build());
+        assertThat(names(ColumnQuery.select().from("Person").where("age").eq(41).build())).isEmpty();
+
+        manager.delete(ColumnDeleteQuery.delete().from("Person").where("age").lt(40).build());
+        assertThat(manager.count("Person")).isEqualTo(2L);
+    }
+
+    @Test
+    public void shouldExpire() {
+        manager.insert(person(4L, "Linus", 53), Duration.ofMinutes(1));
+        assertThat(manager.count("Person")).isEqualTo(4L);
+        clock.addAndGet(Duration.ofMinutes(1).toMillis());
+        assertThat(names(ColumnQuery.select().from("Person").where("age").gt(50).orderBy("age").asc().build()))
+                .containsExactly("Grace");
+        assertThat(manager.count("Person")).isEqualTo(3L);
+    }
+
+    private List<String> names(ColumnQuery query) {
+        return manager.select(query).map(e -> e.find("name", String.class).orElseThrow())
+                .collect(Collectors.toList());
+    }
+
+    private static ColumnEntity person(long id, String name, int age) {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.add("id", id);
+        entity.add("name", name);
+        entity.add("age", age);
+        return entity;
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentCondition;
+import org.eclipse.jnosql.communication.document.DocumentConfiguration;
+import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.communication.document.DocumentManager;
+import org.eclipse.jnosql.communication.document.DocumentManagerFactory;
+import org.eclipse.jnosql.communication.document.DocumentQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemoryDocumentManagerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private DocumentManager manager;
+
+    @BeforeEach
+    public void setUp() {
+        Settings settings = Settings.of(Map.of(MemoryConfigurations.HASH_INDEX.get(), "Person.name",
+                MemoryConfigurations.RANGE_INDEX.get(), "Person.age, Person.address.city"));
+        manager = new MemoryDocumentManagerFactory("_id", Indexes.of(settings), clock::get).apply("database");
+        manager.insert(List.of(person(1L, "Ada", 36, "London"), person(2L, "Alan", 41, "Manchester"),
+                person(3L, "Grace", 85, "New York"), person(4L, "Linus", 53, "Portland")));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParamsAreNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> manager.insert((DocumentEntity) null));
+        Assertions.assertThrows(NullPointerException.class, () -> manager.insert(person(5L, "Bob", 1, "Rome"),
+                null));
+        Assertions.assertThrows(NullPointerException.class, () -> manager.select(null));
+        Assertions.assertThrows(NullPointerException.class, () -> manager.delete(null));
+        Assertions.assertThrows(NullPointerException.class, () -> manager.count((String) null));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTheIdIsMissing() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.add(Document.of("name", "Bob"));
+        Assertions.assertThrows(CommunicationException.class, () -> manager.insert(entity));
+        Assertions.assertThrows(CommunicationException.class, () -> manager.update(entity));
+        assertThat(manager.count("Person")).isEqualTo(4L);
+    }
+
+    @Test
+    public void shouldLoadFromServiceLoader() {
+        DocumentConfiguration configuration = DocumentConfiguration.getConfiguration();
+        assertThat(configuration).isInstanceOf(MemoryDocumentConfiguration.class);
+        try (DocumentManagerFactory factory = configuration.apply(Settings.settings())) {
+            DocumentManager first = factory.apply("database");
+            first.insert(person(1L, "Ada", 36, "London"));
+            assertThat(factory.apply("database").count("Person")).isEqualTo(1L);
+            assertThat(factory.apply("other").count("Person")).isZero();
+        }
+    }
+
+    @Test
+    public void shouldSelectByCondition() {
+        assertThat(names(DocumentQuery.select().from("Person").where("name").eq("Ada").build()))
+                .containsExactly("Ada");
+        assertThat(names(DocumentQuery.select().from("Person").where("age").gt(40).orderBy("age").asc().build()))
+                .containsExactly("Alan", "Linus", "Grace");
+        assertThat(names(DocumentQuery.select().from("Person").where("age").between(36L, 53.0)
+                .orderBy("name").desc().build())).containsExactly("Linus", "Alan", "Ada");
+        assertThat(names(DocumentQuery.select().from("Person").where("name").in(List.of("Ada", "Grace"))
+                .orderBy("name").asc().build())).containsExactly("Ada", "Grace");
+        assertThat(names(DocumentQuery.select().from("Person").where("name").like("A%").and("age").not().lt(40)
+                .build())).containsExactly("Alan");
+        assertThat(names(DocumentQuery.select().from("Person").where("name").eq("Ada").or("age").gte(85)
+                .orderBy("name").asc().build())).containsExactly("Ada", "Grace");
+    }
+
+    @Test
+    public void shouldSelectBySubDocument() {
+        assertThat(names(DocumentQuery.select().from("Person").where("address.city").eq("London").build()))
+                .containsExactly("Ada");
+        assertThat(names(DocumentQuery.select().from("Person").where("address.city").like("%o%")
+                .orderBy("address.city").asc().build())).containsExactly("Ada", "Grace", "Linus");
+    }
+
+    @Test
+    public void shouldSortSkipAndLimit() {
+        DocumentQuery query = DocumentQuery.select().from("Person").orderBy("age").desc().skip(1).limit(2).build();
+        assertThat(names(query)).containsExactly("Linus", "Alan");
+        assertThat(manager.count(query)).isEqualTo(4L);
+        assertThat(manager.exists(DocumentQuery.select().from("Person").where("age").gt(90).build())).isFalse();
+        assertThat(manager.aggregateCapabilities()).isNotEmpty();
+    }
+
+    @Test
+    public void shouldSelectDocuments() {
+        List<DocumentEntity> entities = manager.select(DocumentQuery.select("name").from("Person")
+                .where("_id").eq(1).build()).collect(Collectors.toList());
+        assertThat(entities).hasSize(1);
+        assertThat(entities.get(0).documents()).containsExactly(Document.of("name", "Ada"));
+    }
+
+    @Test
+    public void shouldCopyTheEntities() {
+        DocumentEntity entity = manager.singleResult(DocumentQuery.select().from("Person").where("_id").eq(1L)
+                .build()).orElseThrow();
+        entity.add("name", "Changed");
+        assertThat(names(DocumentQuery.select().from("Person").where("_id").eq(1L).build()))
+                .containsExactly("Ada");
+    }
+
+    @Test
+    public void shouldUpdate() {
+        manager.update(person(1, "Ada Lovelace", 37, "London"));
+        assertThat(names(DocumentQuery.select().from("Person").where("name").eq("Ada").build())).isEmpty();
+        assertThat(names(DocumentQuery.select().from("Person").where("age").gt(36).and("age").lt(40).build()))
+                .containsExactly("Ada Lovelace");
+        assertThat(manager.count("Person")).isEqualTo(4L);
+
+        manager.update(person(5L, "Margaret", 86, "Boston"));
+        assertThat(manager.count("Person")).isEqualTo(5L);
+    }
+
+    @Test
+    public void shouldDelete() {
+        manager.delete(DocumentDeleteQuery.delete().from("Person").where("age").gt(50).build());
+        assertThat(names(DocumentQuery.select().from("Person").orderBy("name").asc().build()))
+                .containsExactly("Ada", "Alan");
+        assertThat(names(DocumentQuery.select().from("Person").where("age").gt(50).build())).isEmpty();
+
+        manager.delete(DocumentDeleteQuery.delete().from("Person").build());
+        assertThat(manager.count("Person")).isZero();
+    }
+
+    @Test
+    public void shouldDeleteDocuments() {
+        manager.delete(DocumentDeleteQuery.delete("age").from("Person").where("name").eq("Ada").build());
+        DocumentEntity entity = manager.singleResult(DocumentQuery.select().from("Person").where("name").eq("Ada")
+                .build()).orElseThrow();
+        assertThat(entity.find("age")).isEmpty();
+        assertThat(names(DocumentQuery.select().from("Person").where("age").lt(40).build())).isEmpty();
+    }
+
+    @Test
+    public void shouldExpire() {
+        manager.insert(person(5L, "Margaret", 86, "Boston"), Duration.ofSeconds(10));
+        manager.insert(List.of(person(6L, "Barbara", 83, "Boston")), Duration.ofSeconds(20));
+        assertThat(manager.count("Person")).isEqualTo(6L);
+
+        clock.addAndGet(Duration.ofSeconds(10).toMillis());
+        manager.update(person(6L, "Barbara Liskov", 83, "Boston"));
+        assertThat(names(DocumentQuery.select().from("Person").where("address.city").eq("Boston").build()))
+                .containsExactly("Barbara Liskov");
+        assertThat(manager.count("Person")).isEqualTo(5L);
+
+        clock.addAndGet(Duration.ofSeconds(10).toMillis());
+        assertThat(manager.count("Person")).isEqualTo(4L);
+        assertThat(names(DocumentQuery.select().from("Person").where("age").gt(80).build()))
+                .containsExactly("Grace");
+    }
+
+    @Test
+    public void shouldReturnEmptyWhenThereIsNoCollection() {
+        assertThat(manager.select(DocumentQuery.select().from("Animal").build())).isEmpty();
+        assertThat(manager.count("Animal")).isZero();
+        manager.delete(DocumentDeleteQuery.delete().from("Animal").build());
+    }
+
+    @Test
+    public void shouldExecuteQuery() {
+        assertThat(manager.query("select * from Person where age > 50 order by age desc")
+                .map(e -> e.find("name", String.class).orElseThrow())).containsExactly("Grace", "Linus");
+    }
+
+    @Test
+    public void shouldMatchFullScanWithIndexes() {
+        DocumentManager scan = new MemoryDocumentManagerFactory("_id", Indexes.empty(), clock::get)
+                .apply("database");
+        manager.select(DocumentQuery.select().from("Person").build()).forEach(scan::insert);
+        List<DocumentCondition> conditions = List.of(DocumentCondition.eq("name", "Alan"),
+                DocumentCondition.gte("age", 41), DocumentCondition.lt("age", 53.5),
+                DocumentCondition.in("age", List.of(36, 85L)),
+                DocumentCondition.between("address.city", List.of("M", "P")),
+                DocumentCondition.or(DocumentCondition.eq("name", "Ada"), DocumentCondition.lte("age", 41)),
+                DocumentCondition.and(DocumentCondition.gt("age", 40), DocumentCondition.eq("name", "Grace")));
+        for (DocumentCondition condition : conditions) {
+            DocumentQuery query = DocumentQuery.builder().from("Person").where(condition).build();
+            assertThat(names(query)).as(condition.toString())
+                    .containsExactlyInAnyOrderElementsOf(scan.select(query)
+                            .map(e -> e.find("name", String.class).orElseThrow()).collect(Collectors.toList()));
+        }
+    }
+
+    private List<String> names(DocumentQuery query) {
+        return manager.select(query).map(e -> e.find("name", String.class).orElseThrow())
+                .collect(Collectors.toList());
+    }
+
+    private static DocumentEntity person(long id, String name, int age, String city) {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.add("_id", id);
+        entity.add("name", name);
+        entity.add("age", age);
+        entity.add("address", List.of(Document.of("city", city)));
+        return entity;
+    }
+}
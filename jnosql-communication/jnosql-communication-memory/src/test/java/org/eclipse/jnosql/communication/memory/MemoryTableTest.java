@@ -0,0 +1,119 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.document.DocumentCondition;
+import org.eclipse.jnosql.communication.document.DocumentConditionCompiler;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemoryTableTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final AtomicInteger tests = new AtomicInteger();
+
+    private final MemoryTable<DocumentEntity> table = new MemoryTable<>(
+            List.of(new HashIndex("name"), new RangeIndex("age")),
+            (entity, field) -> Fields.get(entity::find, field), clock::get);
+
+    @Test
+    public void shouldUseHashIndex() {
+        insert(100);
+        assertThat(select(DocumentCondition.eq("name", "name-42"))).containsExactly(42);
+        assertThat(tests.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldUseTheSmallestIndex() {
+        insert(100);
+        assertThat(select(DocumentCondition.and(DocumentCondition.gte("age", 10),
+                DocumentCondition.in("name", List.of("name-5", "name-50", "name-60"))))).containsExactly(50, 60);
+        assertThat(tests.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldUseRangeIndex() {
+        insert(100);
+        assertThat(select(DocumentCondition.between("age", List.of(10L, 12.0)))).containsExactly(10, 11, 12);
+        assertThat(tests.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldScanWithoutIndex() {
+        insert(10);
+        assertThat(select(DocumentCondition.eq("name", "name-2").negate())).hasSize(9);
+        assertThat(tests.get()).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldUpdateIndexes() {
+        insert(10);
+        table.insert(1, person("Ada", 36), null);
+        table.update(2, person("Ada", 37));
+        assertThat(select(DocumentCondition.eq("name", "name-1"))).isEmpty();
+        assertThat(select(DocumentCondition.eq("name", "Ada"))).containsExactly(36, 37);
+
+        DocumentCondition condition = DocumentCondition.gt("age", 36);
+        table.delete(Criteria.of(condition), DocumentConditionCompiler.INSTANCE.compile(condition));
+        assertThat(select(DocumentCondition.eq("name", "Ada"))).containsExactly(36);
+        assertThat(table.size()).isEqualTo(9L);
+    }
+
+    @Test
+    public void shouldRemoveExpiredFromIndexes() {
+        table.insert(1, person("Ada", 36), Duration.ofMillis(10));
+        table.insert(2, person("Ada", 37), Duration.ofMillis(20));
+        clock.set(10);
+        assertThat(select(DocumentCondition.eq("name", "Ada"))).containsExactly(37);
+        table.update(2, person("Ada", 38));
+        clock.set(20);
+        assertThat(select(DocumentCondition.eq("name", "Ada"))).isEmpty();
+        assertThat(table.size()).isZero();
+    }
+
+    private void insert(int size) {
+        IntStream.range(0, size).forEach(i -> table.insert(i, person("name-" + i, i), null));
+    }
+
+    private List<Object> select(DocumentCondition condition) {
+        tests.set(0);
+        Predicate<DocumentEntity> predicate = DocumentConditionCompiler.INSTANCE.compile(condition);
+        return table.select(Criteria.of(condition), entity -> {
+            tests.incrementAndGet();
+            return predicate.test(entity);
+        }, List.of(), 0, 0).map(e -> e.find("age", Integer.class).orElseThrow()).sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static DocumentEntity person(String name, int age) {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.add("name", name);
+        entity.add("age", age);
+        return entity;
+    }
+}
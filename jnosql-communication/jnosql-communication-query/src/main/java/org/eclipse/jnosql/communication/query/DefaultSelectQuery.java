@@ -37,13 +37,21 @@ final class DefaultSelectQuery implements SelectQuery {
 
     private final Where where;
 
+    private final long fetchSize;
+
     DefaultSelectQuery(String entity, List<String> fields, List<Sort> sorts, long skip, long limit, Where where) {
+        this(entity, fields, sorts, skip, limit, where, 0L);
+    }
+
+    DefaultSelectQuery(String entity, List<String> fields, List<Sort> sorts, long skip, long limit, Where where,
+                       long fetchSize) {
         this.entity = entity;
         this.fields = fields;
         this.sorts = sorts;
         this.skip = skip;
         this.limit = limit;
         this.where = where;
+        this.fetchSize = fetchSize;
     }
 
     @Override
@@ -76,6 +84,11 @@ final class DefaultSelectQuery implements SelectQuery {
         return sorts;
     }
 
+    @Override
+    public long fetchSize() {
+        return fetchSize;
+    }
+
 
     /**
      * Obtains an instance of {@link DefaultSelectQuery} from a text string.
@@ -101,6 +114,7 @@ final class DefaultSelectQuery implements SelectQuery {
         DefaultSelectQuery that = (DefaultSelectQuery) o;
         return skip == that.skip &&
                 limit == that.limit &&
+                fetchSize == that.fetchSize &&
                 Objects.equals(entity, that.entity) &&
                 Objects.equals(fields, that.fields) &&
                 Objects.equals(sorts, that.sorts) &&
@@ -109,6 +123,6 @@ final class DefaultSelectQuery implements SelectQuery {
 
     @Override
     public int hashCode() {
-        return Objects.hash(entity, fields, sorts, skip, limit, where);
+        return Objects.hash(entity, fields, sorts, skip, limit, where, fetchSize);
     }
 }
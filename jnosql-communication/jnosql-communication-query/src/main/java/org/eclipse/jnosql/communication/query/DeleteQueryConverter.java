@@ -19,7 +19,7 @@ import java.util.List;
 import java.util.function.Function;
 
 import static java.util.Collections.emptyList;
-import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toUnmodifiableList;
 
 /**
  * A provider of {@link DeleteQuery} from a {@link String}
@@ -33,7 +33,7 @@ public final class DeleteQueryConverter extends AbstractWhereSupplier implements
 
     @Override
     public void exitDeleteFields(QueryParser.DeleteFieldsContext ctx) {
-        this.fields = ctx.name().stream().map(QueryParser.NameContext::getText).collect(toList());
+        this.fields = ctx.name().stream().map(QueryParser.NameContext::getText).collect(toUnmodifiableList());
     }
 
 
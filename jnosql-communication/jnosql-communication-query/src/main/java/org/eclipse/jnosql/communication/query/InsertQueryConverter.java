@@ -20,7 +20,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
-import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toUnmodifiableList;
 
 
 /**
@@ -48,7 +48,7 @@ public final class InsertQueryConverter extends AbstractSupplier implements Func
 
     @Override
     public void exitChanges(QueryParser.ChangesContext ctx) {
-        this.conditions = ctx.change().stream().map(this::getCondition).collect(toList());
+        this.conditions = ctx.change().stream().map(this::getCondition).collect(toUnmodifiableList());
     }
 
     @Override
@@ -12,12 +12,16 @@
 package org.eclipse.jnosql.communication.query;
 
 
-import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonObject;
-import jakarta.json.JsonReader;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.query.grammar.QueryParser;
 
-import java.io.StringReader;
+import java.math.BigDecimal;
 import java.util.Objects;
 
 
@@ -26,6 +30,8 @@ import java.util.Objects;
  */
 public final class JSONQueryValue implements QueryValue<JsonObject> {
 
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
     private final JsonObject value;
 
     JSONQueryValue(JsonObject value) {
@@ -41,10 +47,94 @@ public final class JSONQueryValue implements QueryValue<JsonObject> {
         return ValueType.JSON;
     }
 
+    /**
+     * Creates the JSON straight from the parse tree, so the query is neither printed back to text
+     * nor read again by a JSON parser.
+     *
+     * @param context the json context
+     * @return the {@link JSONQueryValue} instance
+     * @throws QueryException when the json is not an object
+     */
     public static JSONQueryValue of(QueryParser.JsonContext context) {
-        try (JsonReader jsonReader = Json.createReader(new StringReader(context.getText()))) {
-            return new JSONQueryValue(jsonReader.readObject());
+        if (context.object_json() == null) {
+            throw new QueryException("The json should be an object: " + context.getText());
+        }
+        return new JSONQueryValue(object(context.object_json()));
+    }
+
+    private static JsonObject object(QueryParser.Object_jsonContext context) {
+        JsonObjectBuilder builder = PROVIDER.createObjectBuilder();
+        for (QueryParser.Pair_jsonContext pair : context.pair_json()) {
+            builder.add(string(pair.STRING()), value(pair.value_json()));
+        }
+        return builder.build();
+    }
+
+    private static JsonValue value(QueryParser.Value_jsonContext context) {
+        if (context.STRING() != null) {
+            return PROVIDER.createValue(string(context.STRING()));
+        } else if (context.number() != null) {
+            return PROVIDER.createValue(new BigDecimal(context.number().getText()));
+        } else if (context.object_json() != null) {
+            return object(context.object_json());
+        } else if (context.array_json() != null) {
+            JsonArrayBuilder builder = PROVIDER.createArrayBuilder();
+            for (QueryParser.Value_jsonContext element : context.array_json().value_json()) {
+                builder.add(value(element));
+            }
+            return builder.build();
+        }
+        switch (context.getText()) {
+            case "true":
+                return JsonValue.TRUE;
+            case "false":
+                return JsonValue.FALSE;
+            default:
+                return JsonValue.NULL;
+        }
+    }
+
+    private static String string(TerminalNode node) {
+        String text = node.getText();
+        int end = text.length() - 1;
+        int escape = text.indexOf('\\', 1);
+        if (escape < 0) {
+            return text.substring(1, end);
+        }
+        StringBuilder builder = new StringBuilder(end);
+        builder.append(text, 1, escape);
+        for (int index = escape; index < end; index++) {
+            char character = text.charAt(index);
+            if (character != '\\') {
+                builder.append(character);
+                continue;
+            }
+            char escaped = text.charAt(++index);
+            switch (escaped) {
+                case 'b':
+                    builder.append('\b');
+                    break;
+                case 'f':
+                    builder.append('\f');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'u':
+                    builder.append((char) Integer.parseInt(text.substring(index + 1, index + 5), 16));
+                    index += 4;
+                    break;
+                default:
+                    builder.append(escaped);
+            }
         }
+        return builder.toString();
     }
 
     @Override
@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A bounded and thread-safe cache of parsed queries keyed on the query text.
+ * When the cache reaches its maximum size, the oldest entries are evicted first.
+ * It keeps the hit, miss and eviction counters, so the parse cost can be monitored.
+ *
+ * @param <T> the parsed query type
+ */
+public final class QueryCache<T> {
+
+    private final Map<String, T> cache = new ConcurrentHashMap<>();
+
+    private final Queue<String> keys = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final int maxSize;
+
+    private final Function<String, T> parser;
+
+    private QueryCache(int maxSize, Function<String, T> parser) {
+        this.maxSize = maxSize;
+        this.parser = parser;
+    }
+
+    /**
+     * Returns the parsed query from the cache, when it is not there, it parses the query and keeps the result.
+     *
+     * @param query the query as text
+     * @return the parsed query
+     * @throws NullPointerException when the query is null
+     */
+    public T get(String query) {
+        Objects.requireNonNull(query, "query is required");
+        T value = cache.get(query);
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+        misses.increment();
+        T parsed = parser.apply(query);
+        T previous = cache.putIfAbsent(query, parsed);
+        if (previous != null) {
+            return previous;
+        }
+        keys.add(query);
+        evict();
+        return parsed;
+    }
+
+    /**
+     * @return the number of queries found at the cache
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of queries that were parsed because they were not at the cache
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of queries removed from the cache because it reached its maximum size
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the number of queries at the cache
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * @return the maximum number of queries at the cache
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Removes all the queries from the cache and resets the counters
+     */
+    public void clear() {
+        cache.clear();
+        keys.clear();
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    private void evict() {
+        while (cache.size() > maxSize) {
+            String eldest = keys.poll();
+            if (eldest == null) {
+                return;
+            }
+            if (cache.remove(eldest) != null) {
+                evictions.increment();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "QueryCache{" +
+                "size=" + cache.size() +
+                ", maxSize=" + maxSize +
+                ", hits=" + hits.sum() +
+                ", misses=" + misses.sum() +
+                ", evictions=" + evictions.sum() +
+                '}';
+    }
+
+    /**
+     * Creates a {@link QueryCache} instance
+     *
+     * @param maxSize the maximum number of queries kept at the cache
+     * @param parser  the function that converts the text into a query
+     * @param <T>     the parsed query type
+     * @return a new {@link QueryCache} instance
+     * @throws NullPointerException     when parser is null
+     * @throws IllegalArgumentException when maxSize is negative
+     */
+    public static <T> QueryCache<T> of(int maxSize, Function<String, T> parser) {
+        Objects.requireNonNull(parser, "parser is required");
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The maxSize cannot be negative: " + maxSize);
+        }
+        return new QueryCache<>(maxSize, parser);
+    }
+}
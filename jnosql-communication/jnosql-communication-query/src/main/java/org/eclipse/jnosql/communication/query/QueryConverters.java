@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+/**
+ * The shared entry point to convert text into the query instances, such as {@link SelectQuery}, {@link DeleteQuery},
+ * {@link InsertQuery} and {@link UpdateQuery}. The queries are immutable, thus, each one is parsed once and kept in a
+ * {@link QueryCache}. The maximum size of each cache is defined by the {@link QueryConverters#CACHE_SIZE} system
+ * property, the default value is {@link QueryConverters#DEFAULT_CACHE_SIZE}.
+ */
+public enum QueryConverters {
+
+    INSTANCE;
+
+    /**
+     * The system property that defines the maximum number of queries at each cache
+     */
+    public static final String CACHE_SIZE = "jnosql.query.cache.size";
+
+    /**
+     * The default maximum number of queries at each cache
+     */
+    public static final int DEFAULT_CACHE_SIZE = 1_000;
+
+    private final QueryCache<SelectQuery> select = QueryCache.of(cacheSize(),
+            q -> new SelectQueryConverter().apply(q));
+
+    private final QueryCache<DeleteQuery> delete = QueryCache.of(cacheSize(),
+            q -> new DeleteQueryConverter().apply(q));
+
+    private final QueryCache<InsertQuery> insert = QueryCache.of(cacheSize(),
+            q -> new InsertQueryConverter().apply(q));
+
+    private final QueryCache<UpdateQuery> update = QueryCache.of(cacheSize(),
+            q -> new UpdateQueryConverter().apply(q));
+
+    /**
+     * Converts the text into a {@link SelectQuery}
+     *
+     * @param query the query
+     * @return the {@link SelectQuery} instance
+     * @throws NullPointerException when the query is null
+     * @throws org.eclipse.jnosql.communication.QueryException when there is error in the syntax
+     */
+    public SelectQuery select(String query) {
+        return select.get(query);
+    }
+
+    /**
+     * Converts the text into a {@link DeleteQuery}
+     *
+     * @param query the query
+     * @return the {@link DeleteQuery} instance
+     * @throws NullPointerException when the query is null
+     * @throws org.eclipse.jnosql.communication.QueryException when there is error in the syntax
+     */
+    public DeleteQuery delete(String query) {
+        return delete.get(query);
+    }
+
+    /**
+     * Converts the text into a {@link InsertQuery}
+     *
+     * @param query the query
+     * @return the {@link InsertQuery} instance
+     * @throws NullPointerException when the query is null
+     * @throws org.eclipse.jnosql.communication.QueryException when there is error in the syntax
+     */
+    public InsertQuery insert(String query) {
+        return insert.get(query);
+    }
+
+    /**
+     * Converts the text into a {@link UpdateQuery}
+     *
+     * @param query the query
+     * @return the {@link UpdateQuery} instance
+     * @throws NullPointerException when the query is null
+     * @throws org.eclipse.jnosql.communication.QueryException when there is error in the syntax
+     */
+    public UpdateQuery update(String query) {
+        return update.get(query);
+    }
+
+    /**
+     * @return the cache of {@link SelectQuery}
+     */
+    public QueryCache<SelectQuery> selectCache() {
+        return select;
+    }
+
+    /**
+     * @return the cache of {@link DeleteQuery}
+     */
+    public QueryCache<DeleteQuery> deleteCache() {
+        return delete;
+    }
+
+    /**
+     * @return the cache of {@link InsertQuery}
+     */
+    public QueryCache<InsertQuery> insertCache() {
+        return insert;
+    }
+
+    /**
+     * @return the cache of {@link UpdateQuery}
+     */
+    public QueryCache<UpdateQuery> updateCache() {
+        return update;
+    }
+
+    private static int cacheSize() {
+        return Integer.getInteger(CACHE_SIZE, DEFAULT_CACHE_SIZE);
+    }
+}
@@ -64,4 +64,14 @@ public interface SelectQuery extends Query {
      * @return the order list
      */
     List<Sort> orderBy();
+
+    /**
+     * A hint to the database of how many entities to bring at each round trip while the result is read,
+     * it does not change the result of the query.
+     *
+     * @return the fetch size, otherwise zero to use the database default
+     */
+    default long fetchSize() {
+        return 0L;
+    }
 }
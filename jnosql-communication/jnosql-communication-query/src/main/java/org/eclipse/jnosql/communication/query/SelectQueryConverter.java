@@ -19,10 +19,9 @@ import org.eclipse.jnosql.query.grammar.QueryParser;
 
 import java.util.List;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
-import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toUnmodifiableList;
 
 /**
  * A provider to {@link DefaultSelectQuery}, this provider converts text into {@link DefaultSelectQuery}
@@ -39,10 +38,11 @@ public final class SelectQueryConverter extends AbstractWhereSupplier implements
 
     private long limit;
 
+    private long fetchSize;
 
     @Override
     public void exitFields(QueryParser.FieldsContext ctx) {
-        this.fields = ctx.name().stream().map(QueryParser.NameContext::getText).collect(toList());
+        this.fields = ctx.name().stream().map(QueryParser.NameContext::getText).collect(toUnmodifiableList());
     }
 
     @Override
@@ -55,6 +55,11 @@ public final class SelectQueryConverter extends AbstractWhereSupplier implements
         this.limit = Long.parseLong(ctx.INT().getText());
     }
 
+    @Override
+    public void exitFetch(QueryParser.FetchContext ctx) {
+        this.fetchSize = Long.parseLong(ctx.INT().getText());
+    }
+
     @Override
     public void exitEntity(QueryParser.EntityContext ctx) {
         this.entity = ctx.getText();
@@ -62,14 +67,14 @@ public final class SelectQueryConverter extends AbstractWhereSupplier implements
 
     @Override
     public void enterOrder(QueryParser.OrderContext ctx) {
-        this.sorts = ctx.orderName().stream().map(this::sort).collect(Collectors.toList());
+        this.sorts = ctx.orderName().stream().map(this::sort).collect(toUnmodifiableList());
     }
 
 
     @Override
     public DefaultSelectQuery apply(String query) {
         runQuery(query);
-        return new DefaultSelectQuery(entity, fields, sorts, skip, limit, where);
+        return new DefaultSelectQuery(entity, fields, sorts, skip, limit, where, fetchSize);
     }
 
     @Override
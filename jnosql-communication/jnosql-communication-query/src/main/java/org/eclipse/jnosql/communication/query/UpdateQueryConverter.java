@@ -19,7 +19,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
-import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toUnmodifiableList;
 
 /**
  * A provider to {@link UpdateQuery}, this provider converts text into {@link UpdateQuery}
@@ -44,7 +44,7 @@ public final class UpdateQueryConverter extends AbstractSupplier implements Func
 
     @Override
     public void exitChanges(QueryParser.ChangesContext ctx) {
-        this.conditions = ctx.change().stream().map(this::getCondition).collect(toList());
+        this.conditions = ctx.change().stream().map(this::getCondition).collect(toUnmodifiableList());
     }
 
     @Override
@@ -11,10 +11,14 @@
  */
 package org.eclipse.jnosql.communication.query;
 
+import jakarta.json.Json;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.StringReader;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -50,6 +54,19 @@ class JSONQueryValueTest {
         assertEquals(queryValue, new JSONQueryValue(json));
     }
 
+    @Test
+    public void shouldCreateFromParseTree() {
+        String json = "{\"name\": \"Ada \\\"Lovelace\\\"\\n\\u00e9\", \"age\": -12, \"salary\": 10.5, "
+                + "\"active\": true, \"retired\": false, \"nickname\": null, \"empty\": {}, \"tags\": [], "
+                + "\"matrix\": [[1, 2], [\"a\", {\"b\": \"c\"}]], \"address\": {\"city\": \"London\"}}";
+        InsertQuery query = QueryConverters.INSTANCE.insert("insert Person " + json);
+        JsonObject jsonObject = query.value().map(JSONQueryValue::get).orElseThrow();
+        try (JsonReader reader = Json.createReader(new StringReader(json))) {
+            assertEquals(reader.readObject(), jsonObject);
+        }
+        assertEquals("Ada \"Lovelace\"\n\u00e9", jsonObject.getString("name"));
+    }
+
     @Test
     public void shouldHashCode() {
         JSONQueryValue queryValue = new JSONQueryValue(json);
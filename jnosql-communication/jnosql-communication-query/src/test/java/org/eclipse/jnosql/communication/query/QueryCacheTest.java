@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import org.eclipse.jnosql.communication.QueryException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryCacheTest {
+
+    @Test
+    public void shouldReturnErrorWhenParamsAreInvalid() {
+        Assertions.assertThrows(NullPointerException.class, () -> QueryCache.of(10, null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> QueryCache.of(-1, q -> q));
+        Assertions.assertThrows(NullPointerException.class, () -> QueryCache.of(10, q -> q).get(null));
+    }
+
+    @Test
+    public void shouldParseOnce() {
+        AtomicInteger counter = new AtomicInteger();
+        QueryCache<SelectQuery> cache = QueryCache.of(10, q -> {
+            counter.incrementAndGet();
+            return new SelectQueryConverter().apply(q);
+        });
+        String query = "select * from God where age = 10";
+        SelectQuery first = cache.get(query);
+        SelectQuery second = cache.get(query);
+
+        assertThat(first).isSameAs(second);
+        assertThat(counter.get()).isEqualTo(1);
+        assertThat(cache.hits()).isEqualTo(1L);
+        assertThat(cache.misses()).isEqualTo(1L);
+        assertThat(cache.evictions()).isZero();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldEvictEldest() {
+        QueryCache<String> cache = QueryCache.of(2, String::toUpperCase);
+        cache.get("a");
+        cache.get("b");
+        cache.get("c");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.evictions()).isEqualTo(1L);
+        assertThat(cache.misses()).isEqualTo(3L);
+
+        cache.get("a");
+        assertThat(cache.misses()).isEqualTo(4L);
+        cache.get("c");
+        assertThat(cache.hits()).isEqualTo(1L);
+    }
+
+    @Test
+    public void shouldNotKeepInvalidQuery() {
+        QueryCache<SelectQuery> cache = QueryCache.of(10, q -> new SelectQueryConverter().apply(q));
+        Assertions.assertThrows(QueryException.class, () -> cache.get("select from God"));
+        assertThat(cache.size()).isZero();
+        assertThat(cache.misses()).isEqualTo(1L);
+    }
+
+    @Test
+    public void shouldClear() {
+        QueryCache<String> cache = QueryCache.of(10, String::toUpperCase);
+        cache.get("a");
+        cache.get("a");
+        cache.clear();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.hits()).isZero();
+        assertThat(cache.misses()).isZero();
+    }
+
+    @Test
+    public void shouldUseSharedConverters() {
+        String query = "delete from God where name = \"Diana\"";
+        DeleteQuery deleteQuery = QueryConverters.INSTANCE.delete(query);
+        assertThat(QueryConverters.INSTANCE.delete(query)).isSameAs(deleteQuery);
+        assertThat(deleteQuery).isEqualTo(new DeleteQueryConverter().apply(query));
+        assertThat(QueryConverters.INSTANCE.deleteCache().hits()).isPositive();
+    }
+}
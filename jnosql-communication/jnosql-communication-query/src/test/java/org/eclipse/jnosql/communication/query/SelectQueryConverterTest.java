@@ -141,6 +141,38 @@ class SelectQueryConverterTest {
         assertFalse(selectQuery.where().isPresent());
     }
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select * from God skip 10 limit 12 order by name fetch 100"})
+    public void shouldReturnParserQueryWithFetchSize(String query) {
+        DefaultSelectQuery selectQuery = selectQueryConverter.apply(query);
+        assertEquals("God", selectQuery.entity());
+        assertEquals(12, selectQuery.limit());
+        assertEquals(10, selectQuery.skip());
+        assertEquals(100, selectQuery.fetchSize());
+        assertThat(selectQuery.orderBy()).containsExactly(Sort.asc("name"));
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select * from God fetch 50"})
+    public void shouldReturnParserQueryWithOnlyFetchSize(String query) {
+        DefaultSelectQuery selectQuery = selectQueryConverter.apply(query);
+        assertEquals("God", selectQuery.entity());
+        assertEquals(0, selectQuery.limit());
+        assertEquals(50, selectQuery.fetchSize());
+        assertFalse(selectQuery.where().isPresent());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select fetch, name from fetch where fetch = 10 order by fetch fetch 20"})
+    public void shouldUseFetchAsName(String query) {
+        DefaultSelectQuery selectQuery = selectQueryConverter.apply(query);
+        assertEquals("fetch", selectQuery.entity());
+        assertThat(selectQuery.fields()).containsExactly("fetch", "name");
+        assertEquals("fetch", selectQuery.where().orElseThrow().condition().name());
+        assertThat(selectQuery.orderBy()).containsExactly(Sort.asc("fetch"));
+        assertEquals(20, selectQuery.fetchSize());
+    }
+
 
     @ParameterizedTest(name = "Should parser the query {0}")
     @ValueSource(strings = {"select  * from God where age = 10"})
@@ -669,6 +701,7 @@ class SelectQueryConverterTest {
         assertTrue(selectQuery.orderBy().isEmpty());
         assertEquals(0, selectQuery.limit());
         assertEquals(0, selectQuery.skip());
+        assertEquals(0, selectQuery.fetchSize());
         return selectQuery;
     }
 
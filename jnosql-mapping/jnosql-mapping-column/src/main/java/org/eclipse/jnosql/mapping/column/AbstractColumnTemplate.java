@@ -19,36 +19,49 @@ import jakarta.data.exceptions.NonUniqueResultException;
 import jakarta.nosql.PreparedStatement;
 import jakarta.nosql.QueryMapper;
 import jakarta.nosql.column.ColumnTemplate;
+import org.eclipse.jnosql.communication.AggregateCapability;
 import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
 import org.eclipse.jnosql.communication.column.ColumnEntity;
 import org.eclipse.jnosql.communication.column.ColumnManager;
 import org.eclipse.jnosql.communication.column.ColumnObserverParser;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
 import org.eclipse.jnosql.communication.column.ColumnQueryParser;
+import org.eclipse.jnosql.communication.query.QueryConverters;
+import org.eclipse.jnosql.communication.query.SelectQuery;
 import org.eclipse.jnosql.mapping.Converters;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+import org.eclipse.jnosql.mapping.reflection.ClassInformationNotFoundException;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
 import org.eclipse.jnosql.mapping.reflection.FieldMapping;
 import org.eclipse.jnosql.mapping.util.ConverterUtil;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
+import static org.eclipse.jnosql.mapping.config.MappingConfigurations.COLUMN_BATCH_SIZE;
 
 /**
  * The template method to {@link ColumnTemplate}
  */
 public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
 
+    /**
+     * The default number of entities sent at each database call when the template inserts or updates several entities
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1_000;
+
     private static final ColumnQueryParser PARSER = new ColumnQueryParser();
 
     protected abstract ColumnEntityConverter getConverter();
@@ -67,6 +80,10 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
 
     private final UnaryOperator<ColumnEntity> update = e -> getManager().update(e);
 
+    private final UnaryOperator<Iterable<ColumnEntity>> insertAll = e -> getManager().insert(e);
+
+    private final UnaryOperator<Iterable<ColumnEntity>> updateAll = e -> getManager().update(e);
+
     private ColumnObserverParser observer;
 
 
@@ -101,24 +118,48 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
     @Override
     public <T> Iterable<T> update(Iterable<T> entities) {
         requireNonNull(entities, "entity is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).collect(Collectors.toList());
+        return batch(entities, updateAll);
     }
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities) {
         requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).collect(Collectors.toList());
+        return batch(entities, insertAll);
     }
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) {
         requireNonNull(entities, "entities is required");
         requireNonNull(ttl, "ttl is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(e -> insert(e, ttl))
-                .collect(Collectors.toList());
+        return batch(entities, e -> getManager().insert(e, ttl));
+    }
+
+    /**
+     * Returns the number of entities sent at each database call when the template inserts or updates several
+     * entities. It is defined by the {@link org.eclipse.jnosql.mapping.config.MappingConfigurations#COLUMN_BATCH_SIZE}
+     * property, the default value is {@link AbstractColumnTemplate#DEFAULT_BATCH_SIZE}.
+     *
+     * @return the batch size
+     */
+    protected int getBatchSize() {
+        return MicroProfileSettings.INSTANCE.getOrDefault(COLUMN_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+    }
+
+    private <T> Iterable<T> batch(Iterable<T> entities, UnaryOperator<Iterable<ColumnEntity>> action) {
+        int size = Math.max(1, getBatchSize());
+        List<T> result = new ArrayList<>();
+        List<T> chunk = new ArrayList<>();
+        for (T entity : entities) {
+            chunk.add(entity);
+            if (chunk.size() == size) {
+                result.addAll(getFlow().batchFlow(chunk, action));
+                chunk = new ArrayList<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            result.addAll(getFlow().batchFlow(chunk, action));
+        }
+        return result;
     }
 
     @Override
@@ -136,12 +177,25 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
 
     @Override
     public long count(ColumnQuery query) {
-        return getManager().count(query);
+        requireNonNull(query, "query is required");
+        return getManager().count(aggregate(query, AggregateCapability.COUNT));
+    }
+
+    @Override
+    public <T> Stream<T> select(ColumnQuery query, Class<T> projection) {
+        requireNonNull(query, "query is required");
+        requireNonNull(projection, "projection is required");
+        ColumnQuery projected = query;
+        if (query.columns().isEmpty()) {
+            projected = project(query, getEntities().projection(projection).names());
+        }
+        return getManager().select(projected).map(e -> getConverter().toProjection(projection, e));
     }
 
     @Override
     public boolean exists(ColumnQuery query) {
-        return getManager().exists(query);
+        requireNonNull(query, "query is required");
+        return getManager().exists(aggregate(query, AggregateCapability.EXISTS));
     }
 
     @Override
@@ -196,7 +250,8 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
     @Override
     public <T> Stream<T> query(String query) {
         requireNonNull(query, "query is required");
-        return PARSER.query(query, getManager(), getObserver()).map(c -> (T) getConverter().toEntity(c));
+        List<String> projection = projection(query);
+        return PARSER.query(query, getManager(), getObserver()).map(c -> (T) getConverter().toEntity(c, projection));
     }
 
     @Override
@@ -233,10 +288,60 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
         return getManager().count(entityMetadata.name());
     }
 
+    /**
+     * When the manager does not run the aggregate natively, it selects the entities, thus, the query is projected
+     * to the id of the entity, so the database does not return the whole columns just to be counted.
+     */
+    private ColumnQuery aggregate(ColumnQuery query, AggregateCapability capability) {
+        if (!query.columns().isEmpty() || getManager().aggregateCapabilities().contains(capability)) {
+            return query;
+        }
+        Optional<FieldMapping> id = idField(query.name());
+        if (id.isEmpty()) {
+            return query;
+        }
+        return project(query, List.of(id.get().name()));
+    }
+
+    private static ColumnQuery project(ColumnQuery query, List<String> columns) {
+        ColumnQuery.ColumnQueryBuilder builder = ColumnQuery.builder(columns.toArray(String[]::new))
+                .from(query.name()).skip(query.skip()).limit(query.limit()).fetchSize(query.fetchSize());
+        query.condition().ifPresent(builder::where);
+        query.sorts().forEach(builder::sort);
+        return builder.build();
+    }
+
+    /**
+     * The column names that a select text query projects, so the entities are converted through the
+     * projection plan; it is empty to the other commands and when the query selects every column.
+     * The command is read after the leading white spaces, as the query parser does.
+     */
+    private List<String> projection(String query) {
+        if (!query.stripLeading().startsWith("select")) {
+            return Collections.emptyList();
+        }
+        SelectQuery select = QueryConverters.INSTANCE.select(query);
+        if (select.fields().isEmpty()) {
+            return Collections.emptyList();
+        }
+        ColumnObserverParser observer = getObserver();
+        String entity = observer.fireEntity(select.entity());
+        return select.fields().stream().map(f -> observer.fireField(entity, f)).collect(Collectors.toList());
+    }
+
+    private Optional<FieldMapping> idField(String name) {
+        try {
+            return getEntities().findByName(name).id();
+        } catch (ClassInformationNotFoundException exception) {
+            return Optional.empty();
+        }
+    }
+
     private <T> Stream<T> executeQuery(ColumnQuery query) {
         requireNonNull(query, "query is required");
         Stream<ColumnEntity> entities = getManager().select(query);
-        Function<ColumnEntity, T> function = e -> getConverter().toEntity(e);
+        List<String> projection = query.columns();
+        Function<ColumnEntity, T> function = e -> getConverter().toEntity(e, projection);
         return entities.map(function).peek(getEventManager()::firePostEntity);
     }
 
@@ -27,14 +27,15 @@ import org.eclipse.jnosql.mapping.reflection.FieldValue;
 import org.eclipse.jnosql.mapping.reflection.InheritanceMetadata;
 import org.eclipse.jnosql.mapping.reflection.MappingType;
 import org.eclipse.jnosql.mapping.reflection.ParameterMetaData;
+import org.eclipse.jnosql.mapping.reflection.ProjectionMetadata;
+import org.eclipse.jnosql.mapping.reflection.ProjectionPlan;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 import static org.eclipse.jnosql.mapping.reflection.MappingType.EMBEDDED;
@@ -115,7 +116,22 @@ public abstract class ColumnEntityConverter {
      * @throws NullPointerException when entity is null
      */
     public <T> T toEntity(ColumnEntity entity) {
+        return toEntity(entity, Collections.emptyList());
+    }
+
+    /**
+     * Similar to {@link ColumnEntityConverter#toEntity(ColumnEntity)}, but it feeds only the fields of the
+     * projection, the column names that the query selected, through the {@link ProjectionPlan} of the entity.
+     *
+     * @param entity     the {@link ColumnEntity} to be converted
+     * @param projection the column names of the query, an empty list means every column
+     * @param <T>        the entity type
+     * @return the instance from {@link ColumnEntity}
+     * @throws NullPointerException when either entity or projection are null
+     */
+    public <T> T toEntity(ColumnEntity entity, List<String> projection) {
         requireNonNull(entity, "entity is required");
+        requireNonNull(projection, "projection is required");
         EntityMetadata mapping = getEntities().findByName(entity.name());
         if (mapping.isInheritance()) {
             return mapInheritanceEntity(entity, mapping.type());
@@ -123,26 +139,57 @@ public abstract class ColumnEntityConverter {
         ConstructorMetadata constructor = mapping.constructor();
         if (constructor.isDefault()) {
             T instance = mapping.newInstance();
-            return convertEntity(entity.columns(), mapping, instance);
+            Map<String, FieldMapping> fields = projection.isEmpty() ? mapping.fieldsGroupByName()
+                    : mapping.projection(projection).fields();
+            return convertEntity(entity.columns(), fields, instance);
         } else {
             return convertEntityByConstructor(entity.columns(), mapping);
         }
     }
 
+    /**
+     * Converts a {@link ColumnEntity} to a projection type, such as a record or a DTO, without creating the
+     * entity; each field of the projection reads the column with the same name.
+     *
+     * @param type   the projection type
+     * @param entity the {@link ColumnEntity} to be converted
+     * @param <T>    the projection type
+     * @return the projection instance from {@link ColumnEntity}
+     * @throws NullPointerException when either type or entity are null
+     * @see ProjectionMetadata
+     */
+    public <T> T toProjection(Class<T> type, ColumnEntity entity) {
+        requireNonNull(type, "type is required");
+        requireNonNull(entity, "entity is required");
+        ProjectionMetadata projection = getEntities().projection(type);
+        Map<String, Column> columnsByName = groupByName(entity.columns());
+        return projection.newInstance(name -> {
+            Column column = columnsByName.get(name);
+            return column == null ? null : column.value();
+        });
+    }
+
     protected ColumnFieldValue to(FieldMapping field, Object entity) {
         Object value = field.read(entity);
         return DefaultColumnFieldValue.of(value, field);
     }
 
     protected <T> Consumer<String> feedObject(T entity, List<Column> columns, Map<String, FieldMapping> fieldsGroupByName) {
-        return (String k) -> {
-            Optional<Column> column = columns.stream().filter(c -> c.name().equals(k)).findFirst();
+        return feedObject(entity, columns, groupByName(columns), fieldsGroupByName);
+    }
+
+    private <T> Consumer<String> feedObject(T entity, List<Column> columns, Map<String, Column> columnsByName,
+                                            Map<String, FieldMapping> fieldsGroupByName) {
+        return k -> {
+            Column column = columnsByName.get(k);
             FieldMapping field = fieldsGroupByName.get(k);
             FieldConverter fieldConverter = FieldConverter.get(field);
             if (ENTITY.equals(field.type())) {
-                column.ifPresent(c -> fieldConverter.convert(entity, c, field, this));
+                if (column != null) {
+                    fieldConverter.convert(entity, column, field, this);
+                }
             } else {
-                fieldConverter.convert(entity, columns, column.orElse(null), field, this);
+                fieldConverter.convert(entity, columns, column, field, this);
             }
         };
     }
@@ -164,33 +211,43 @@ public abstract class ColumnEntityConverter {
 
     private <T> T convertEntityByConstructor(List<Column> columns, EntityMetadata mapping) {
         ConstructorBuilder builder = ConstructorBuilder.of(mapping.constructor());
+        Map<String, Column> columnsByName = groupByName(columns);
         for (ParameterMetaData parameter : builder.getParameters()) {
-            Optional<Column> column = columns.stream()
-                    .filter(c -> c.name().equals(parameter.getName()))
-                    .findFirst();
-            column.ifPresentOrElse(c -> {
+            Column column = columnsByName.get(parameter.getName());
+            if (column == null) {
+                builder.addEmptyParameter();
+            } else {
                 ParameterConverter converter = ParameterConverter.of(parameter);
-                converter.convert(this, c, parameter, builder);
-            }, builder::addEmptyParameter);
+                converter.convert(this, column, parameter, builder);
+            }
         }
         return builder.build();
     }
 
     private <T> T convertEntity(List<Column> columns, EntityMetadata mapping, T instance) {
-        final Map<String, FieldMapping> fieldsGroupByName = mapping.fieldsGroupByName();
-        final List<String> names = columns.stream().map(Column::name).sorted().collect(Collectors.toList());
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        final Predicate<String> isElementType = k -> {
-            MappingType type = fieldsGroupByName.get(k).type();
-            return EMBEDDED.equals(type) || ENTITY.equals(type);
-        };
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, columns, fieldsGroupByName));
+        return convertEntity(columns, mapping.fieldsGroupByName(), instance);
+    }
 
+    private <T> T convertEntity(List<Column> columns, Map<String, FieldMapping> fieldsGroupByName, T instance) {
+        final Map<String, Column> columnsByName = groupByName(columns);
+        final Consumer<String> feedObject = feedObject(instance, columns, columnsByName, fieldsGroupByName);
+        for (Map.Entry<String, FieldMapping> entry : fieldsGroupByName.entrySet()) {
+            MappingType type = entry.getValue().type();
+            if (columnsByName.containsKey(entry.getKey()) || EMBEDDED.equals(type) || ENTITY.equals(type)) {
+                feedObject.accept(entry.getKey());
+            }
+        }
         return instance;
     }
 
+    private static Map<String, Column> groupByName(List<Column> columns) {
+        Map<String, Column> columnsByName = new HashMap<>(Math.max(16, columns.size() * 2));
+        for (Column column : columns) {
+            columnsByName.putIfAbsent(column.name(), column);
+        }
+        return columnsByName;
+    }
+
     private <T> T mapInheritanceEntity(ColumnEntity entity, Class<?> type) {
         Map<String, InheritanceMetadata> group = getEntities()
                 .findByParentGroupByDiscriminatorValue(type);
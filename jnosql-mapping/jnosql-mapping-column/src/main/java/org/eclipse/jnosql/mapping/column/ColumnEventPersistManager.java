@@ -15,12 +15,17 @@
 package org.eclipse.jnosql.mapping.column;
 
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.EntitiesPrePersist;
 import org.eclipse.jnosql.mapping.EntityPostPersist;
 import org.eclipse.jnosql.mapping.EntityPrePersist;
 
+import java.util.List;
+
 /**
  * This interface represents the manager of events. When an entity be either saved or updated an event will be fired.
  * This order going to be:
@@ -39,6 +44,43 @@ public class ColumnEventPersistManager {
     @Inject
     private Event<EntityPostPersist> entityPostPersistEvent;
 
+    @Inject
+    private Event<EntitiesPrePersist> entitiesPrePersistEvent;
+
+    @Inject
+    private BeanManager beanManager;
+
+    private boolean prePersistObserved = true;
+
+    private boolean postPersistObserved = true;
+
+    private boolean prePersistBatchObserved = true;
+
+    /**
+     * Checks once whether there are observers to the persist events, when there is none,
+     * the events are neither created nor fired.
+     */
+    @PostConstruct
+    void init() {
+        Object probe = new Object();
+        this.prePersistObserved = !beanManager.resolveObserverMethods(EntityPrePersist.of(probe)).isEmpty();
+        this.postPersistObserved = !beanManager.resolveObserverMethods(EntityPostPersist.of(probe)).isEmpty();
+        this.prePersistBatchObserved = !beanManager.resolveObserverMethods(EntitiesPrePersist.of(List.of(probe)))
+                .isEmpty();
+    }
+
+    /**
+     * Fire an event once the method is called with several entities, before the event of each entity
+     *
+     * @param entities the entities
+     * @param <T>      the entity type
+     */
+    public <T> void firePreEntities(List<T> entities) {
+        if (prePersistBatchObserved) {
+            entitiesPrePersistEvent.fire(EntitiesPrePersist.of(entities));
+        }
+    }
+
     /**
      * Fire an event once the method is called
      *
@@ -46,7 +88,9 @@ public class ColumnEventPersistManager {
      * @param <T>    the entity type
      */
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        if (prePersistObserved) {
+            entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        }
     }
 
     /**
@@ -56,7 +100,9 @@ public class ColumnEventPersistManager {
      * @param <T>    the entity kind
      */
     public <T> void firePostEntity(T entity) {
-        entityPostPersistEvent.fire(EntityPostPersist.of(entity));
+        if (postPersistObserved) {
+            entityPostPersistEvent.fire(EntityPostPersist.of(entity));
+        }
     }
 
 }
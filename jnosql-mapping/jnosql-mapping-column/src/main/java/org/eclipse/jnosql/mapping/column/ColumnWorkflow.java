@@ -14,10 +14,14 @@
  */
 package org.eclipse.jnosql.mapping.column;
 
+import jakarta.data.exceptions.MappingException;
 import org.eclipse.jnosql.communication.column.ColumnEntity;
+import org.eclipse.jnosql.mapping.PersistScope;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
-import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 /**
@@ -46,37 +50,58 @@ public abstract class ColumnWorkflow {
      * ColumnTemplate#update(Object)
      */
     public <T> T flow(T entity, UnaryOperator<ColumnEntity> action) {
-
-        Function<T, T> flow = getFlow(entity, action);
-
-        return flow.apply(entity);
-
+        Objects.requireNonNull(entity, "entity is required");
+        PersistScope.open();
+        try {
+            getEventManager().firePreEntity(entity);
+            ColumnEntity column = getConverter().toColumn(entity);
+            ColumnEntity response = action.apply(column);
+            T result = getConverter().toEntity(entity, response);
+            getEventManager().firePostEntity(result);
+            return result;
+        } finally {
+            PersistScope.close();
+        }
     }
 
-    private <T> Function<T, T> getFlow(T entity, UnaryOperator<ColumnEntity> action) {
-        UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
-
-        UnaryOperator<T> firePreEntity = t -> {
-            getEventManager().firePreEntity(t);
-            return t;
-        };
-
-
-        Function<T, ColumnEntity> converterColumn = t -> getConverter().toColumn(t);
-
-
-        Function<ColumnEntity, T> converterEntity = t -> getConverter().toEntity(entity, t);
-
-        UnaryOperator<T> firePostEntity = t -> {
-            getEventManager().firePostEntity(t);
-            return t;
-        };
-
-        return validation
-                .andThen(firePreEntity)
-                .andThen(converterColumn)
-                .andThen(action)
-                .andThen(converterEntity)
-                .andThen(firePostEntity);
+    /**
+     * Executes the workflow to do an interaction on a database column family with several entities at once.
+     * It fires the {@link ColumnEventPersistManager#firePreEntities(List)} and the
+     * {@link ColumnEventPersistManager#firePreEntity(Object)} of the whole batch, converts all entities,
+     * executes a single alteration on database, then it maps the result back to the entities and fires the
+     * {@link ColumnEventPersistManager#firePostEntity(Object)}.
+     *
+     * @param entities the entities to be saved
+     * @param action   the alteration to be executed on database
+     * @param <T>      the entity type
+     * @return after the workflow the entities response
+     * @throws NullPointerException when there is a null entity
+     * @throws MappingException     when the database does not return one entity to each entity sent
+     */
+    public <T> List<T> batchFlow(List<T> entities, UnaryOperator<Iterable<ColumnEntity>> action) {
+        PersistScope.open();
+        try {
+            getEventManager().firePreEntities(entities);
+            List<ColumnEntity> communication = new ArrayList<>(entities.size());
+            for (T entity : entities) {
+                Objects.requireNonNull(entity, "entity is required");
+                getEventManager().firePreEntity(entity);
+                communication.add(getConverter().toColumn(entity));
+            }
+            Iterator<ColumnEntity> result = action.apply(communication).iterator();
+            List<T> response = new ArrayList<>(entities.size());
+            for (T entity : entities) {
+                if (!result.hasNext()) {
+                    throw new MappingException("The database returned fewer entities than the " + entities.size()
+                            + " sent at the batch");
+                }
+                T updated = getConverter().toEntity(entity, result.next());
+                getEventManager().firePostEntity(updated);
+                response.add(updated);
+            }
+            return response;
+        } finally {
+            PersistScope.close();
+        }
     }
 }
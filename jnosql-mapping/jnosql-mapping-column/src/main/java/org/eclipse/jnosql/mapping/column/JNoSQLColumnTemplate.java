@@ -47,6 +47,20 @@ public interface JNoSQLColumnTemplate extends ColumnTemplate {
      */
     <T> Stream<T> select(ColumnQuery query);
 
+    /**
+     * Finds the columns from query and maps them straight onto a projection type, such as a record or a DTO,
+     * without creating the entities. When the query does not select any column, it selects the columns of the
+     * projection fields.
+     *
+     * @param query      - query to figure out the columns
+     * @param projection the projection type
+     * @param <T>        the projection type
+     * @return the projections found by query
+     * @throws NullPointerException when either query or projection are null
+     * @see org.eclipse.jnosql.mapping.reflection.ProjectionMetadata
+     */
+    <T> Stream<T> select(ColumnQuery query, Class<T> projection);
+
     /**
      * Returns the number of items in the column family that match a specified query.
      * @param query the query
@@ -17,18 +17,18 @@ package org.eclipse.jnosql.mapping.column.query;
 import jakarta.data.repository.Page;
 import jakarta.data.repository.Pageable;
 import jakarta.data.repository.PageableRepository;
+import jakarta.enterprise.inject.spi.CDI;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
+import org.eclipse.jnosql.mapping.Converters;
 import org.eclipse.jnosql.mapping.NoSQLPage;
 import org.eclipse.jnosql.mapping.column.JNoSQLColumnTemplate;
 import org.eclipse.jnosql.mapping.column.MappingColumnQuery;
 import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
 import org.eclipse.jnosql.mapping.reflection.FieldMapping;
 
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -47,6 +47,16 @@ public abstract class AbstractColumnRepository<T, K> implements PageableReposito
 
     protected abstract EntityMetadata getEntityMetadata();
 
+    /**
+     * Returns the converters of the keyset values when the page is a cursor one. By default, it is the
+     * {@link Converters} bean of the CDI container.
+     *
+     * @return the {@link Converters} instance
+     */
+    protected Converters getConverters() {
+        return CDI.current().select(Converters.class).get();
+    }
+
 
     @Override
     public <S extends T> S save(S entity) {
@@ -120,8 +130,7 @@ public abstract class AbstractColumnRepository<T, K> implements PageableReposito
                 pageable.size(), NoSQLPage.skip(pageable)
                 , null ,metadata.name());
 
-        List<Object> entities = getTemplate().select(query).collect(Collectors.toUnmodifiableList());
-        return NoSQLPage.of(entities, pageable);
+        return ColumnPages.page(getTemplate(), metadata, getConverters(), query, pageable, false);
     }
 
     @Override
@@ -15,16 +15,14 @@
 package org.eclipse.jnosql.mapping.column.query;
 
 
+import jakarta.data.repository.KeysetAwareSlice;
 import jakarta.data.repository.Limit;
 import jakarta.data.repository.Page;
 import jakarta.data.repository.Pageable;
 import jakarta.data.repository.Sort;
-import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
-import org.eclipse.jnosql.communication.column.ColumnDeleteQueryParams;
 import org.eclipse.jnosql.communication.column.ColumnObserverParser;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
-import org.eclipse.jnosql.communication.column.ColumnQueryParams;
 import org.eclipse.jnosql.communication.column.DeleteQueryParser;
 import org.eclipse.jnosql.communication.column.SelectQueryParser;
 import org.eclipse.jnosql.communication.query.DeleteQuery;
@@ -43,13 +41,13 @@ import org.eclipse.jnosql.mapping.util.ParamsBinder;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
-import static java.util.stream.Collectors.toUnmodifiableList;
-
 public abstract class BaseColumnRepository<T> {
 
     private static final SelectQueryParser SELECT_PARSER = new SelectQueryParser();
@@ -67,14 +65,17 @@ public abstract class BaseColumnRepository<T> {
 
     private ParamsBinder paramsBinder;
 
+    private final Map<Method, ColumnQueryPlan<ColumnQuery>> selectQueries = new ConcurrentHashMap<>();
+
+    private final Map<Method, ColumnQueryPlan<ColumnDeleteQuery>> deleteQueries = new ConcurrentHashMap<>();
+
 
     protected ColumnQuery getQuery(Method method, Object[] args) {
-        SelectMethodProvider provider = SelectMethodProvider.INSTANCE;
-        SelectQuery selectQuery = provider.apply(method, getEntityMetadata().name());
-        ColumnQueryParams queryParams = SELECT_PARSER.apply(selectQuery, getParser());
-        ColumnQuery query = queryParams.query();
-        Params params = queryParams.params();
-        getParamsBinder().bind(params, getArgs(args), method);
+        ColumnQueryPlan<ColumnQuery> plan = selectQueries.computeIfAbsent(method, m -> {
+            SelectQuery selectQuery = SelectMethodProvider.INSTANCE.apply(m, getEntityMetadata().name());
+            return ColumnQueryPlan.of(SELECT_PARSER.apply(selectQuery, getParser()));
+        });
+        ColumnQuery query = plan.bind(getParamsBinder().values(plan.names(), getArgs(args), method));
         return updateQueryDynamically(getArgs(args), query);
     }
 
@@ -83,13 +84,11 @@ public abstract class BaseColumnRepository<T> {
     }
 
     protected ColumnDeleteQuery getDeleteQuery(Method method, Object[] args) {
-        DeleteMethodProvider deleteMethodFactory = DeleteMethodProvider.INSTANCE;
-        DeleteQuery deleteQuery = deleteMethodFactory.apply(method, getEntityMetadata().name());
-        ColumnDeleteQueryParams queryParams = DELETE_PARSER.apply(deleteQuery, getParser());
-        ColumnDeleteQuery query = queryParams.query();
-        Params params = queryParams.params();
-        getParamsBinder().bind(params, getArgs(args), method);
-        return query;
+        ColumnQueryPlan<ColumnDeleteQuery> plan = deleteQueries.computeIfAbsent(method, m -> {
+            DeleteQuery deleteQuery = DeleteMethodProvider.INSTANCE.apply(m, getEntityMetadata().name());
+            return ColumnQueryPlan.of(DELETE_PARSER.apply(deleteQuery, getParser()));
+        });
+        return plan.bind(getParamsBinder().values(plan.names(), getArgs(args), method));
     }
 
 
@@ -116,7 +115,7 @@ public abstract class BaseColumnRepository<T> {
                 .withPagination(DynamicReturn.findPageable(args))
                 .withStreamPagination(streamPagination(query))
                 .withSingleResultPagination(getSingleResult(query))
-                .withPage(getPage(query))
+                .withPage(getPage(query, KeysetAwareSlice.class.isAssignableFrom(method.getReturnType())))
                 .build();
         return dynamicReturn.execute();
     }
@@ -131,10 +130,11 @@ public abstract class BaseColumnRepository<T> {
 
 
     protected Function<Pageable, Page<T>> getPage(ColumnQuery query) {
-        return p -> {
-            Stream<T> entities = getTemplate().select(query);
-            return NoSQLPage.of(entities.collect(toUnmodifiableList()), p);
-        };
+        return getPage(query, false);
+    }
+
+    protected Function<Pageable, Page<T>> getPage(ColumnQuery query, boolean keyset) {
+        return p -> ColumnPages.page(getTemplate(), getEntityMetadata(), getConverters(), query, p, keyset);
     }
 
     protected Function<Pageable, Optional<T>> getSingleResult(ColumnQuery query) {
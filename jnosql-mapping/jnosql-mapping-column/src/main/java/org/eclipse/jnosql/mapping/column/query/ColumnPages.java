@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.column.query;
+
+import jakarta.data.repository.Page;
+import jakarta.data.repository.Pageable;
+import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.column.Column;
+import org.eclipse.jnosql.communication.column.ColumnCondition;
+import org.eclipse.jnosql.communication.column.ColumnQuery;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.KeysetPage;
+import org.eclipse.jnosql.mapping.NoSQLPage;
+import org.eclipse.jnosql.mapping.column.JNoSQLColumnTemplate;
+import org.eclipse.jnosql.mapping.column.MappingColumnQuery;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.FieldMapping;
+import org.eclipse.jnosql.mapping.util.ConverterUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toUnmodifiableList;
+
+/**
+ * Runs the query of a {@link Page}: at the offset mode it uses the skip of the query, at the cursor modes the
+ * skip is replaced by a condition on the keyset of the previous page. On both, the count query only runs
+ * when the page totals are asked for.
+ */
+final class ColumnPages {
+
+    private ColumnPages() {
+    }
+
+    static <T> Page<T> page(JNoSQLColumnTemplate template, EntityMetadata metadata, Converters converters,
+                            ColumnQuery query, Pageable pageable, boolean keyset) {
+
+        LongSupplier total = () -> template.count(new MappingColumnQuery(Collections.emptyList(), 0L, 0L,
+                query.condition().orElse(null), query.name()));
+
+        if (!keyset && Pageable.Mode.OFFSET.equals(pageable.mode())) {
+            List<T> entities = template.<T>select(query).collect(toUnmodifiableList());
+            return NoSQLPage.of(entities, pageable, total);
+        }
+
+        List<Sort> sorts = KeysetPage.sorts(metadata, query.sorts());
+        List<FieldMapping> keys = KeysetPage.keys(metadata, sorts);
+        if (Pageable.Mode.OFFSET.equals(pageable.mode())) {
+            ColumnQuery offset = new MappingColumnQuery(sorts, query.limit(), query.skip(),
+                    query.condition().orElse(null), query.name());
+            List<T> entities = template.<T>select(offset).collect(toUnmodifiableList());
+            return KeysetPage.of(entities, pageable, keys, total);
+        }
+
+        boolean previous = Pageable.Mode.CURSOR_PREVIOUS.equals(pageable.mode());
+        ColumnCondition keysetCondition = condition(keys, sorts, KeysetPage.cursor(pageable, sorts), previous,
+                converters);
+        ColumnCondition condition = query.condition()
+                .map(c -> ColumnCondition.and(c, keysetCondition))
+                .orElse(keysetCondition);
+        ColumnQuery cursor = new MappingColumnQuery(previous ? KeysetPage.reverse(sorts) : sorts,
+                pageable.size(), 0L, condition, query.name());
+
+        List<T> entities = template.<T>select(cursor).collect(toList());
+        if (previous) {
+            Collections.reverse(entities);
+        }
+        return KeysetPage.of(Collections.unmodifiableList(entities), pageable, keys, total);
+    }
+
+    /**
+     * (k1 > v1) OR (k1 = v1 AND k2 > v2) OR ..., where the greater than becomes lesser than at a descending sort
+     * and the other way around when the page is the previous one.
+     */
+    private static ColumnCondition condition(List<FieldMapping> keys, List<Sort> sorts, Pageable.Cursor cursor,
+                                             boolean previous, Converters converters) {
+        List<ColumnCondition> conditions = new ArrayList<>(keys.size());
+        for (int index = 0; index < keys.size(); index++) {
+            List<ColumnCondition> equals = new ArrayList<>(index + 1);
+            for (int before = 0; before < index; before++) {
+                equals.add(ColumnCondition.eq(column(keys.get(before), cursor.getKeysetElement(before),
+                        converters)));
+            }
+            Column column = column(keys.get(index), cursor.getKeysetElement(index), converters);
+            boolean forward = sorts.get(index).isAscending() != previous;
+            equals.add(forward ? ColumnCondition.gt(column) : ColumnCondition.lt(column));
+            conditions.add(equals.size() == 1 ? equals.get(0)
+                    : ColumnCondition.and(equals.toArray(ColumnCondition[]::new)));
+        }
+        return conditions.size() == 1 ? conditions.get(0)
+                : ColumnCondition.or(conditions.toArray(ColumnCondition[]::new));
+    }
+
+    private static Column column(FieldMapping field, Object value, Converters converters) {
+        return Column.of(field.name(), ConverterUtil.getValue(value, converters, field));
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.column.query;
+
+import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.Params;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.column.Column;
+import org.eclipse.jnosql.communication.column.ColumnCondition;
+import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
+import org.eclipse.jnosql.communication.column.ColumnDeleteQueryParams;
+import org.eclipse.jnosql.communication.column.ColumnQuery;
+import org.eclipse.jnosql.communication.column.ColumnQueryParams;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * The query of a repository method built once, with the native names already resolved. The params of the query
+ * are marked with their position, so each call binds its values by position into a new condition, and the
+ * cached query is never changed, thus, it can be shared by several threads.
+ *
+ * @param <Q> the query type
+ */
+final class ColumnQueryPlan<Q> {
+
+    private final Q query;
+
+    private final ColumnCondition condition;
+
+    private final List<String> names;
+
+    private final BiFunction<Q, ColumnCondition, Q> where;
+
+    private ColumnQueryPlan(Q query, ColumnCondition condition, Params params,
+                              BiFunction<Q, ColumnCondition, Q> where) {
+        this.query = query;
+        this.condition = condition;
+        this.names = params.getParametersNames();
+        this.where = where;
+        for (int index = 0; index < names.size(); index++) {
+            params.bind(names.get(index), new Slot(index, names.get(index)));
+        }
+    }
+
+    /**
+     * @return the params names in the order of their positions
+     */
+    List<String> names() {
+        return names;
+    }
+
+    /**
+     * Returns the query with the values bound to the params
+     *
+     * @param values the values by position, see {@link org.eclipse.jnosql.mapping.util.ParamsBinder#values}
+     * @return the query
+     */
+    Q bind(Object[] values) {
+        if (names.isEmpty() || condition == null) {
+            return query;
+        }
+        return where.apply(query, bind(condition, values));
+    }
+
+    static ColumnQueryPlan<ColumnQuery> of(ColumnQueryParams queryParams) {
+        ColumnQuery query = queryParams.query();
+        return new ColumnQueryPlan<>(query, query.condition().orElse(null), queryParams.params(),
+                (q, c) -> ColumnQuery.builder(q.columns().toArray(String[]::new))
+                        .from(q.name())
+                        .sort(q.sorts().toArray(Sort[]::new))
+                        .skip(q.skip())
+                        .limit(q.limit())
+                        .fetchSize(q.fetchSize())
+                        .where(c)
+                        .build());
+    }
+
+    static ColumnQueryPlan<ColumnDeleteQuery> of(ColumnDeleteQueryParams queryParams) {
+        ColumnDeleteQuery query = queryParams.query();
+        return new ColumnQueryPlan<>(query, query.condition().orElse(null), queryParams.params(),
+                (q, c) -> ColumnDeleteQuery.builder(q.columns().toArray(String[]::new))
+                        .from(q.name())
+                        .where(c)
+                        .build());
+    }
+
+    private static ColumnCondition bind(ColumnCondition condition, Object[] values) {
+        Column column = condition.column();
+        switch (condition.condition()) {
+            case AND:
+                return ColumnCondition.and(bind(column, values));
+            case OR:
+                return ColumnCondition.or(bind(column, values));
+            case NOT:
+                return bind(column.get(ColumnCondition.class), values).negate();
+            default:
+                Value value = bind(column.value(), values);
+                return ColumnCondition.of(Column.of(column.name(), value), condition.condition());
+        }
+    }
+
+    private static ColumnCondition[] bind(Column column, Object[] values) {
+        List<ColumnCondition> conditions = column.get(new TypeReference<List<ColumnCondition>>() {
+        });
+        return conditions.stream().map(c -> bind(c, values)).toArray(ColumnCondition[]::new);
+    }
+
+    private static Value bind(Value value, Object[] values) {
+        Object current = value.get();
+        if (current instanceof Slot) {
+            return Value.of(((Slot) current).value(values));
+        }
+        if (current instanceof Iterable) {
+            List<Object> elements = new ArrayList<>();
+            for (Object element : (Iterable<?>) current) {
+                elements.add(element instanceof Value ? bind((Value) element, values) : element);
+            }
+            return Value.of(elements);
+        }
+        return value;
+    }
+
+    /**
+     * The mark of a param at the cached query
+     */
+    private static final class Slot {
+
+        private final int index;
+
+        private final String name;
+
+        private Slot(int index, String name) {
+            this.index = index;
+            this.name = name;
+        }
+
+        private Object value(Object[] values) {
+            Object value = values[index];
+            if (value == null) {
+                throw new QueryException(String.format("The value of parameter %s cannot be null", name));
+            }
+            return value;
+        }
+    }
+}
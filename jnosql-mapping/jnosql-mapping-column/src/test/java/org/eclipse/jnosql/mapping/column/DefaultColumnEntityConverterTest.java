@@ -32,6 +32,7 @@ import org.eclipse.jnosql.mapping.column.entities.Job;
 import org.eclipse.jnosql.mapping.column.entities.Money;
 import org.eclipse.jnosql.mapping.column.entities.Movie;
 import org.eclipse.jnosql.mapping.column.entities.Person;
+import org.eclipse.jnosql.mapping.column.entities.PersonSummary;
 import org.eclipse.jnosql.mapping.column.entities.Vendor;
 import org.eclipse.jnosql.mapping.column.entities.Worker;
 import org.eclipse.jnosql.mapping.column.entities.ZipCode;
@@ -150,6 +151,43 @@ public class DefaultColumnEntityConverterTest {
         assertEquals(Collections.singletonMap("JavaZone", 10), actor.getMovieRating());
     }
 
+    @Test
+    public void shouldIgnoreUnknownColumns() {
+        ColumnEntity entity = ColumnEntity.of("Actor");
+        entity.add(Column.of("unknown", "value"));
+        Stream.of(columns).forEach(entity::add);
+
+        Actor actor = converter.toEntity(Actor.class, entity);
+        assertNotNull(actor);
+        assertEquals("Otavio", actor.getName());
+        assertEquals(10, actor.getAge());
+        assertEquals(12L, actor.getId());
+    }
+
+    @Test
+    public void shouldConvertProjectedFields() {
+        ColumnEntity entity = ColumnEntity.of("Actor");
+        Stream.of(columns).forEach(entity::add);
+
+        Actor actor = converter.toEntity(entity, List.of("name", "age"));
+        assertEquals("Otavio", actor.getName());
+        assertEquals(10, actor.getAge());
+        assertNull(actor.getPhones());
+        assertThrows(NullPointerException.class, () -> converter.toEntity(entity, (List<String>) null));
+    }
+
+    @Test
+    public void shouldConvertToProjection() {
+        ColumnEntity entity = ColumnEntity.of("Actor");
+        Stream.of(columns).forEach(entity::add);
+
+        PersonSummary summary = converter.toProjection(PersonSummary.class, entity);
+        assertEquals("Otavio", summary.getName());
+        assertEquals(10, summary.getAge());
+        assertThrows(NullPointerException.class, () -> converter.toProjection(null, entity));
+        assertThrows(NullPointerException.class, () -> converter.toProjection(PersonSummary.class, null));
+    }
+
     @Test
     public void shouldConvertColumnEntityToExistEntity() {
         ColumnEntity entity = ColumnEntity.of("Actor");
@@ -14,7 +14,9 @@
  */
 package org.eclipse.jnosql.mapping.column;
 
+import jakarta.data.exceptions.MappingException;
 import jakarta.data.exceptions.NonUniqueResultException;
+import org.eclipse.jnosql.communication.AggregateCapability;
 import org.eclipse.jnosql.communication.column.Column;
 import org.eclipse.jnosql.communication.column.ColumnCondition;
 import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
@@ -31,6 +33,7 @@ import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
 import org.eclipse.jnosql.mapping.column.entities.Job;
 import org.eclipse.jnosql.mapping.column.entities.Movie;
 import org.eclipse.jnosql.mapping.column.entities.Person;
+import org.eclipse.jnosql.mapping.column.entities.PersonSummary;
 
 import org.jboss.weld.junit5.auto.AddExtensions;
 import org.jboss.weld.junit5.auto.AddPackages;
@@ -45,12 +48,15 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.eclipse.jnosql.communication.column.ColumnDeleteQuery.delete;
 import static org.eclipse.jnosql.communication.column.ColumnQuery.select;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -58,6 +64,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @EnableAutoWeld
 @AddPackages(value = {Convert.class, ColumnWorkflow.class})
@@ -212,11 +219,12 @@ public class DefaultColumnTemplateTest {
         Duration duration = Duration.ofHours(2);
 
         Mockito.when(managerMock
-                .insert(any(ColumnEntity.class), Mockito.eq(duration)))
-                .thenReturn(columnEntity);
+                .insert(any(Iterable.class), Mockito.eq(duration)))
+                .thenReturn(List.of(columnEntity, columnEntity));
 
         template.insert(Arrays.asList(person, person), duration);
-        verify(managerMock, times(2)).insert(any(ColumnEntity.class), any(Duration.class));
+        verify(managerMock).insert(any(Iterable.class), any(Duration.class));
+        verify(managerMock, Mockito.never()).insert(any(ColumnEntity.class), any(Duration.class));
     }
 
     @Test
@@ -225,11 +233,50 @@ public class DefaultColumnTemplateTest {
         columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .insert(any(ColumnEntity.class)))
-                .thenReturn(columnEntity);
+                .insert(any(Iterable.class)))
+                .thenReturn(List.of(columnEntity, columnEntity));
+
+        Iterable<Person> result = template.insert(Arrays.asList(person, person));
+        verify(managerMock).insert(any(Iterable.class));
+        verify(managerMock, Mockito.never()).insert(any(ColumnEntity.class));
+        verify(columnEventPersistManager, times(2)).firePreEntity(any(Person.class));
+        verify(columnEventPersistManager, times(2)).firePostEntity(any(Person.class));
+        assertThat(result).hasSize(2);
+    }
+
+    @Test
+    public void shouldInsertEntitiesInChunks() {
+        ColumnEntity columnEntity = ColumnEntity.of("Person");
+        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Instance<ColumnManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(managerMock);
+        DefaultColumnTemplate template = new DefaultColumnTemplate(converter, instance,
+                new DefaultColumnWorkflow(columnEventPersistManager, converter),
+                columnEventPersistManager, entities, converters) {
+            @Override
+            protected int getBatchSize() {
+                return 2;
+            }
+        };
+
+        Mockito.when(managerMock
+                .insert(any(Iterable.class)))
+                .thenReturn(List.of(columnEntity, columnEntity), List.of(columnEntity));
 
-        template.insert(Arrays.asList(person, person));
-        verify(managerMock, times(2)).insert(any(ColumnEntity.class));
+        Iterable<Person> result = template.insert(Arrays.asList(person, person, person));
+        verify(managerMock, times(2)).insert(any(Iterable.class));
+        verify(columnEventPersistManager, times(3)).firePostEntity(any(Person.class));
+        assertThat(result).hasSize(3);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenBatchResultIsSmaller() {
+        Mockito.when(managerMock
+                .insert(any(Iterable.class)))
+                .thenReturn(List.of());
+
+        Assertions.assertThrows(MappingException.class, () -> template.insert(Arrays.asList(person, person)));
+        verify(columnEventPersistManager, Mockito.never()).firePostEntity(any(Person.class));
     }
 
     @Test
@@ -238,11 +285,12 @@ public class DefaultColumnTemplateTest {
         columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .update(any(ColumnEntity.class)))
-                .thenReturn(columnEntity);
+                .update(any(Iterable.class)))
+                .thenReturn(List.of(columnEntity, columnEntity));
 
         template.update(Arrays.asList(person, person));
-        verify(managerMock, times(2)).update(any(ColumnEntity.class));
+        verify(managerMock).update(any(Iterable.class));
+        verify(managerMock, Mockito.never()).update(any(ColumnEntity.class));
     }
 
     @Test
@@ -263,6 +311,7 @@ public class DefaultColumnTemplateTest {
     @Test
     public void shouldCountBy() {
         ColumnQuery query = select().from("person").build();
+        when(managerMock.aggregateCapabilities()).thenReturn(EnumSet.allOf(AggregateCapability.class));
         template.count(query);
         verify(managerMock).count(query);
     }
@@ -270,10 +319,41 @@ public class DefaultColumnTemplateTest {
     @Test
     public void shouldExist() {
         ColumnQuery query = select().from("person").build();
+        when(managerMock.aggregateCapabilities()).thenReturn(EnumSet.allOf(AggregateCapability.class));
         template.exists(query);
         verify(managerMock).exists(query);
     }
 
+    @Test
+    public void shouldProjectIdToCountWhenThereIsNoNativeCount() {
+        ColumnQuery query = select().from("Person").where("age").gt(10).skip(2).limit(10).build();
+        template.count(query);
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(managerMock).count(captor.capture());
+        ColumnQuery projection = captor.getValue();
+        assertThat(projection.columns()).containsExactly("_id");
+        assertThat(projection.name()).isEqualTo("Person");
+        assertThat(projection.condition()).isEqualTo(query.condition());
+        assertThat(projection.skip()).isEqualTo(2L);
+        assertThat(projection.limit()).isEqualTo(10L);
+    }
+
+    @Test
+    public void shouldProjectIdToExistsWhenThereIsNoNativeExists() {
+        ColumnQuery query = select().from("Person").where("age").gt(10).build();
+        template.exists(query);
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(managerMock).exists(captor.capture());
+        assertThat(captor.getValue().columns()).containsExactly("_id");
+    }
+
+    @Test
+    public void shouldKeepProjectionToCount() {
+        ColumnQuery query = select("name").from("Person").build();
+        template.count(query);
+        verify(managerMock).count(query);
+    }
+
     @Test
     public void shouldReturnSingleResult() {
         ColumnEntity columnEntity = ColumnEntity.of("Person");
@@ -378,6 +458,45 @@ public class DefaultColumnTemplateTest {
         assertEquals("movie", query.name());
     }
 
+    @Test
+    public void shouldConvertProjectedQuery() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+        entity.add("phones", List.of("123"));
+        when(managerMock.select(any(ColumnQuery.class))).thenReturn(Stream.of(entity));
+
+        List<Person> people = template.<Person>query("  select name, age from Person").collect(Collectors.toList());
+        ArgumentCaptor<ColumnQuery> queryCaptor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(managerMock).select(queryCaptor.capture());
+        assertThat(queryCaptor.getValue().columns()).containsExactly("name", "age");
+        assertThat(people).hasSize(1);
+        assertEquals("Ada", people.get(0).getName());
+        assertEquals(10, people.get(0).getAge());
+        assertThat(people.get(0).getPhones()).isNull();
+    }
+
+    @Test
+    public void shouldSelectProjection() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+        when(managerMock.select(any(ColumnQuery.class))).thenReturn(Stream.of(entity));
+
+        ColumnQuery query = select().from("Person").where("age").gt(5).limit(10).build();
+        List<PersonSummary> summaries = template.select(query, PersonSummary.class).collect(Collectors.toList());
+        ArgumentCaptor<ColumnQuery> queryCaptor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(managerMock).select(queryCaptor.capture());
+        ColumnQuery projected = queryCaptor.getValue();
+        assertThat(projected.columns()).containsExactly("name", "age");
+        assertEquals(query.condition(), projected.condition());
+        assertEquals(10L, projected.limit());
+        assertThat(summaries).hasSize(1);
+        assertEquals("Ada", summaries.get(0).getName());
+        assertEquals(10, summaries.get(0).getAge());
+        Assertions.assertThrows(NullPointerException.class, () -> template.select(query, null));
+    }
+
     @Test
     public void shouldPreparedStatement() {
         PreparedStatement preparedStatement = template.prepare("select * from Person where name = @name");
@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.mapping.column.query;
 
+import jakarta.data.repository.KeysetAwarePage;
 import jakarta.data.repository.Limit;
 import jakarta.data.repository.Page;
 import jakarta.data.repository.Pageable;
@@ -29,6 +30,7 @@ import org.eclipse.jnosql.communication.column.ColumnCondition;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
 import org.eclipse.jnosql.mapping.Convert;
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.DynamicQueryException;
 import org.eclipse.jnosql.mapping.NoSQLPage;
 import org.eclipse.jnosql.mapping.column.ColumnWorkflow;
 import org.eclipse.jnosql.mapping.column.JNoSQLColumnTemplate;
@@ -75,6 +77,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -619,6 +622,115 @@ public class ColumnRepositoryProxyPageableTest {
     }
 
 
+    @Test
+    public void shouldCountTotalsOnlyWhenAsked() {
+        when(template.count(any(ColumnQuery.class))).thenReturn(13L);
+        Pageable pagination = getPageable().sortBy(Sort.asc("name"));
+        Page<Person> page = personRepository.findByNameOrderByAge("name", pagination);
+
+        verify(template, never()).count(any(ColumnQuery.class));
+        assertEquals(13L, page.totalElements());
+        assertEquals(3L, page.totalPages());
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).count(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertEquals("Person", query.name());
+        assertEquals(0L, query.skip());
+        assertEquals(0L, query.limit());
+        assertThat(query.sorts()).isEmpty();
+        assertEquals(Column.of("name", "name"), query.condition().get().column());
+    }
+
+    @Test
+    public void shouldFindAfterKeyset() {
+        Person ada = Person.builder().withId(1L).withName("Ada").withAge(20).build();
+        Person poliana = Person.builder().withId(2L).withName("Poliana").withAge(20).build();
+        when(template.select(any(ColumnQuery.class))).thenReturn(Stream.of(poliana, ada));
+        Pageable pagination = Pageable.ofSize(2).sortBy(Sort.asc("name")).afterKeyset(20, "Otavio");
+        Page<Person> page = personRepository.findByNameOrderByAge("name", pagination);
+
+        assertThat(page).isInstanceOf(KeysetAwarePage.class);
+        assertThat(page.content()).containsExactly(poliana, ada);
+        Pageable next = page.nextPageable();
+        assertEquals(Pageable.Mode.CURSOR_NEXT, next.mode());
+        assertEquals(20, next.cursor().getKeysetElement(0));
+        assertEquals("Ada", next.cursor().getKeysetElement(1));
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertEquals(0L, query.skip());
+        assertEquals(2L, query.limit());
+        assertThat(query.sorts()).containsExactly(Sort.asc("age"), Sort.asc("name"));
+
+        ColumnCondition condition = query.condition().get();
+        assertEquals(AND, condition.condition());
+        List<ColumnCondition> conditions = condition.column().get(new TypeReference<>() {
+        });
+        assertEquals(Column.of("name", "name"), conditions.get(0).column());
+        ColumnCondition keyset = conditions.get(1);
+        assertEquals(Condition.OR, keyset.condition());
+        List<ColumnCondition> keysets = keyset.column().get(new TypeReference<>() {
+        });
+        assertEquals(ColumnCondition.gt(Column.of("age", 20)), keysets.get(0));
+        assertEquals(ColumnCondition.and(ColumnCondition.eq(Column.of("age", 20)),
+                ColumnCondition.gt(Column.of("name", "Otavio"))), keysets.get(1));
+    }
+
+    @Test
+    public void shouldFindBeforeKeyset() {
+        Person ada = Person.builder().withId(1L).withName("Ada").withAge(20).build();
+        Person poliana = Person.builder().withId(2L).withName("Poliana").withAge(20).build();
+        when(template.select(any(ColumnQuery.class))).thenReturn(Stream.of(poliana, ada));
+        Pageable pagination = Pageable.ofPage(3).size(2).sortBy(Sort.desc("name")).beforeKeyset(20, "Otavio");
+        Page<Person> page = personRepository.findByNameOrderByAge("name", pagination);
+
+        assertThat(page.content()).containsExactly(ada, poliana);
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertThat(query.sorts()).containsExactly(Sort.desc("age"), Sort.asc("name"));
+    }
+
+    @Test
+    public void shouldReturnKeysetAwarePageAtOffset() {
+        Person ada = Person.builder().withId(1L).withName("Ada").withAge(20).build();
+        when(template.select(any(ColumnQuery.class))).thenReturn(Stream.of(ada));
+        KeysetAwarePage<Person> page = personRepository.findByNameOrderByName("name", getPageable());
+
+        assertThat(page.content()).containsExactly(ada);
+        assertNull(page.nextPageable());
+        assertEquals(Pageable.Mode.CURSOR_PREVIOUS, page.previousPageable().mode());
+        assertEquals("Ada", page.getKeysetCursor(0).getKeysetElement(0));
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture());
+        assertEquals(NoSQLPage.skip(getPageable()), captor.getValue().skip());
+    }
+
+    @Test
+    public void shouldFindAllAfterKeysetById() {
+        when(template.select(any(ColumnQuery.class))).thenReturn(Stream.empty());
+        Page<Person> page = personRepository.findAll(Pageable.ofSize(2).afterKeyset(10L));
+
+        assertFalse(page.hasContent());
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertEquals(0L, query.skip());
+        assertThat(query.sorts()).containsExactly(Sort.asc("_id"));
+        assertEquals(ColumnCondition.gt(Column.of("_id", 10L)), query.condition().get());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenKeysetDoesNotMatchSort() {
+        Pageable pagination = Pageable.ofSize(2).afterKeyset(20, "Otavio", 10L);
+        Assertions.assertThrows(DynamicQueryException.class, () ->
+                personRepository.findByNameOrderByName("name", pagination));
+    }
+
     private Pageable getPageable() {
         return Pageable.ofPage(2).size(6);
     }
@@ -635,6 +747,8 @@ public class ColumnRepositoryProxyPageableTest {
 
         Page<Person> findByNameOrderByAge(String name, Pageable Pageable);
 
+        KeysetAwarePage<Person> findByNameOrderByName(String name, Pageable pageable);
+
         Slice<Person> findByAge(String age, Pageable pagination);
 
         List<Person> findByNameAndAge(String name, Integer age, Pageable pagination);
@@ -197,6 +197,37 @@ public class ColumnRepositoryProxyTest {
 
     }
 
+    @Test
+    public void shouldBindNewValuesWhenCallTheSameMethodAgain() {
+        when(template.singleResult(any(ColumnQuery.class))).thenReturn(Optional
+                .of(Person.builder().build()));
+
+        personRepository.findByName("Ada");
+        personRepository.findByName("Poliana");
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template, times(2)).singleResult(captor.capture());
+        List<ColumnQuery> queries = captor.getAllValues();
+        assertEquals(Column.of("name", "Ada"), queries.get(0).condition().get().column());
+        assertEquals(Column.of("name", "Poliana"), queries.get(1).condition().get().column());
+    }
+
+    @Test
+    public void shouldBindNewValuesAtEachConditionWhenCallTheSameMethodAgain() {
+        when(template.select(Mockito.any(ColumnQuery.class))).thenAnswer(invocation -> Stream.empty());
+
+        personRepository.findByNameAndAge("Ada", 20);
+        personRepository.findByNameAndAge("Poliana", 30);
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template, Mockito.times(2)).select(captor.capture());
+        List<ColumnQuery> queries = captor.getAllValues();
+        assertEquals(ColumnCondition.and(ColumnCondition.eq(Column.of("name", "Ada")),
+                ColumnCondition.eq(Column.of("age", 20))), queries.get(0).condition().get());
+        assertEquals(ColumnCondition.and(ColumnCondition.eq(Column.of("name", "Poliana")),
+                ColumnCondition.eq(Column.of("age", 30))), queries.get(1).condition().get());
+    }
+
     @Test
     public void shouldFindByNameANDAge() {
         Person ada = Person.builder()
@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.mapping;
 
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.context.spi.CreationalContext;
 import jakarta.enterprise.inject.spi.Bean;
@@ -22,17 +23,27 @@ import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.inject.Inject;
 
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.logging.Logger;
 
 /**
  * The {@link Convert} collection, this instance will generate/create an instance.
+ * Each converter is created once per class and kept in a cache: the converters with a normal scope are kept as
+ * the CDI client proxy, the dependent ones live as long as this instance.
  */
 @ApplicationScoped
 public class Converters {
 
     private static final Logger LOGGER = Logger.getLogger(Converters.class.getName());
 
+    private final Map<Class<?>, Object> converters = new ConcurrentHashMap<>();
+
+    private final Queue<CreationalContext<?>> contexts = new ConcurrentLinkedQueue<>();
+
     @Inject
     private BeanManager beanManager;
 
@@ -50,7 +61,7 @@ public class Converters {
      */
     public <X, Y> AttributeConverter<X, Y> get(Class<? extends AttributeConverter<X, Y>> converterClass) {
         Objects.requireNonNull(converterClass, "The converterClass is required");
-        return getInstance(converterClass);
+        return (AttributeConverter<X, Y>) converters.computeIfAbsent(converterClass, this::getInstance);
     }
 
     private <T> T getInstance(Class<T> entity) {
@@ -58,6 +69,9 @@ public class Converters {
         if (iterator.hasNext()) {
             Bean<T> bean = (Bean<T>) iterator.next();
             CreationalContext<T> ctx = beanManager.createCreationalContext(bean);
+            if (!beanManager.isNormalScope(bean.getScope())) {
+                contexts.add(ctx);
+            }
             return (T) beanManager.getReference(bean, entity, ctx);
         } else {
             LOGGER.info("The entity type: " + entity + " not found on CDI context, creating by constructor");
@@ -66,10 +80,20 @@ public class Converters {
 
     }
 
+    @PreDestroy
+    void destroy() {
+        converters.clear();
+        CreationalContext<?> context;
+        while ((context = contexts.poll()) != null) {
+            context.release();
+        }
+    }
+
     @Override
     public String toString() {
         return "DefaultConverters{" +
                 "beanManager=" + beanManager +
+                ", converters=" + converters.keySet() +
                 '}';
     }
 }
@@ -0,0 +1,313 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import jakarta.data.repository.Direction;
+import jakarta.data.repository.KeysetAwarePage;
+import jakarta.data.repository.Pageable;
+import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.FieldMapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link KeysetAwarePage} implementation, the cursor of each entity is read from the fields of the sort, so the
+ * next and the previous pages are queried from the last and the first entity instead of a skip.
+ * When the pageable has no sort, the entity is sorted by its id.
+ *
+ * @param <T> the entity type
+ */
+public final class KeysetPage<T> implements KeysetAwarePage<T> {
+
+    private final List<T> entities;
+
+    private final Pageable pageable;
+
+    private final List<FieldMapping> keys;
+
+    private final PageTotal total;
+
+    private KeysetPage(List<T> entities, Pageable pageable, List<FieldMapping> keys, PageTotal total) {
+        this.entities = entities;
+        this.pageable = pageable;
+        this.keys = keys;
+        this.total = total;
+    }
+
+    @Override
+    public Pageable.Cursor getKeysetCursor(int index) {
+        T entity = entities.get(index);
+        Object[] values = new Object[keys.size()];
+        for (int key = 0; key < values.length; key++) {
+            values[key] = keys.get(key).read(entity);
+        }
+        return new EntityCursor(values);
+    }
+
+    /**
+     * Returns the pageable after the last entity. When the page has fewer entities than its size, it is the last one,
+     * thus, it returns null, unless the page was read backwards, where a short page means there is no previous one.
+     *
+     * @return the next pageable or null when there is no next page
+     */
+    @Override
+    public Pageable nextPageable() {
+        if (entities.isEmpty()) {
+            return null;
+        }
+        if (entities.size() < pageable.size() && !Pageable.Mode.CURSOR_PREVIOUS.equals(pageable.mode())) {
+            return null;
+        }
+        return pageable.page(pageable.page() + 1).afterKeysetCursor(getKeysetCursor(entities.size() - 1));
+    }
+
+    /**
+     * Returns the pageable before the first entity. A first page read at the offset mode has nothing before it,
+     * thus, it returns null.
+     *
+     * @return the previous pageable or null when there is no previous page
+     */
+    @Override
+    public Pageable previousPageable() {
+        if (entities.isEmpty()) {
+            return null;
+        }
+        if (Pageable.Mode.OFFSET.equals(pageable.mode()) && pageable.page() == 1L) {
+            return null;
+        }
+        return pageable.page(Math.max(1L, pageable.page() - 1)).beforeKeysetCursor(getKeysetCursor(0));
+    }
+
+    @Override
+    public long totalElements() {
+        return total.elements();
+    }
+
+    @Override
+    public long totalPages() {
+        return total.pages(pageable.size());
+    }
+
+    @Override
+    public List<T> content() {
+        return Collections.unmodifiableList(entities);
+    }
+
+    @Override
+    public boolean hasContent() {
+        return !entities.isEmpty();
+    }
+
+    @Override
+    public int numberOfElements() {
+        return entities.size();
+    }
+
+    @Override
+    public Pageable pageable() {
+        return pageable;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return entities.iterator();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        KeysetPage<?> that = (KeysetPage<?>) o;
+        return Objects.equals(entities, that.entities) && Objects.equals(pageable, that.pageable);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entities, pageable);
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetPage{" +
+                "entities=" + entities +
+                ", pageable=" + pageable +
+                '}';
+    }
+
+    /**
+     * Creates a {@link KeysetAwarePage} from the entities of a page
+     *
+     * @param entities the entities at the sort order
+     * @param pageable the pageable
+     * @param keys     the fields of the sort, see {@link KeysetPage#keys(EntityMetadata, List)}
+     * @param total    the count of all the elements that match the query, regardless of the pagination
+     * @param <T>      the entity type
+     * @return a {@link KeysetAwarePage} instance
+     * @throws NullPointerException when there is a null parameter
+     */
+    public static <T> KeysetAwarePage<T> of(List<T> entities, Pageable pageable, List<FieldMapping> keys,
+                                            LongSupplier total) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(pageable, "pageable is required");
+        Objects.requireNonNull(keys, "keys is required");
+        Objects.requireNonNull(total, "total is required");
+        return new KeysetPage<>(entities, pageable, keys, new PageTotal(total));
+    }
+
+    /**
+     * Returns the sorts of the keyset, the sorts of the query or the id when the query has no sort
+     *
+     * @param metadata the entity metadata
+     * @param sorts    the sorts of the query
+     * @return the sorts of the keyset
+     * @throws NullPointerException when there is a null parameter
+     * @throws IdNotFoundException  when the query has no sort and the entity has no id
+     */
+    public static List<Sort> sorts(EntityMetadata metadata, List<Sort> sorts) {
+        Objects.requireNonNull(metadata, "metadata is required");
+        Objects.requireNonNull(sorts, "sorts is required");
+        if (!sorts.isEmpty()) {
+            return sorts;
+        }
+        FieldMapping id = metadata.id().orElseThrow(() -> IdNotFoundException.newInstance(metadata.type()));
+        return List.of(Sort.asc(id.name()));
+    }
+
+    /**
+     * Returns the fields of the sorts, where the sort property is either the Java field or the column name
+     *
+     * @param metadata the entity metadata
+     * @param sorts    the sorts of the keyset
+     * @return the fields at the sort order
+     * @throws NullPointerException   when there is a null parameter
+     * @throws DynamicQueryException when a sort property is not a field of the entity
+     */
+    public static List<FieldMapping> keys(EntityMetadata metadata, List<Sort> sorts) {
+        Objects.requireNonNull(metadata, "metadata is required");
+        Objects.requireNonNull(sorts, "sorts is required");
+        List<FieldMapping> keys = new ArrayList<>(sorts.size());
+        for (Sort sort : sorts) {
+            String property = sort.property();
+            FieldMapping field = metadata.fieldMapping(property)
+                    .or(() -> Optional.ofNullable(metadata.fieldsGroupByName().get(property)))
+                    .orElseThrow(() -> new DynamicQueryException("The sort " + property
+                            + " is not a field of the entity " + metadata.type().getName()
+                            + ", so it cannot be used as keyset"));
+            keys.add(field);
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the sorts at the opposite direction, the query of a previous page reads the entities backwards
+     *
+     * @param sorts the sorts
+     * @return the reversed sorts
+     * @throws NullPointerException when sorts is null
+     */
+    public static List<Sort> reverse(List<Sort> sorts) {
+        Objects.requireNonNull(sorts, "sorts is required");
+        List<Sort> reversed = new ArrayList<>(sorts.size());
+        for (Sort sort : sorts) {
+            Direction direction = sort.isAscending() ? Direction.DESC : Direction.ASC;
+            reversed.add(Sort.of(sort.property(), direction, sort.ignoreCase()));
+        }
+        return reversed;
+    }
+
+    /**
+     * Checks the cursor of a pageable against the keyset sorts
+     *
+     * @param pageable the pageable at either {@link Pageable.Mode#CURSOR_NEXT} or
+     *                 {@link Pageable.Mode#CURSOR_PREVIOUS}
+     * @param sorts    the sorts of the keyset
+     * @return the cursor
+     * @throws NullPointerException  when there is a null parameter
+     * @throws DynamicQueryException when the cursor size does not match the sorts
+     */
+    public static Pageable.Cursor cursor(Pageable pageable, List<Sort> sorts) {
+        Objects.requireNonNull(pageable, "pageable is required");
+        Objects.requireNonNull(sorts, "sorts is required");
+        Pageable.Cursor cursor = Objects.requireNonNull(pageable.cursor(), "cursor is required");
+        if (cursor.size() != sorts.size()) {
+            throw new DynamicQueryException("The keyset cursor has " + cursor.size()
+                    + " values, but the query is sorted by " + sorts);
+        }
+        return cursor;
+    }
+
+    private static final class EntityCursor implements Pageable.Cursor {
+
+        private final Object[] values;
+
+        private EntityCursor(Object[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Object getKeysetElement(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Pageable.Cursor)) {
+                return false;
+            }
+            Pageable.Cursor that = (Pageable.Cursor) o;
+            if (that.size() != values.length) {
+                return false;
+            }
+            for (int index = 0; index < values.length; index++) {
+                if (!Objects.equals(values[index], that.getKeysetElement(index))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(values);
+        }
+
+        @Override
+        public String toString() {
+            return "EntityCursor{" +
+                    "values=" + Arrays.toString(values) +
+                    '}';
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.LongSupplier;
 
 /**
  * A JNoSQL implementation of {@link  Page}
@@ -33,19 +34,29 @@ public class NoSQLPage<T> implements Page<T> {
 
     private final Pageable pageable;
 
-    private NoSQLPage(List<T> entities, Pageable pageable) {
+    private final PageTotal total;
+
+    private NoSQLPage(List<T> entities, Pageable pageable, PageTotal total) {
         this.entities = entities;
         this.pageable = pageable;
+        this.total = total;
     }
 
     @Override
     public long totalElements() {
-        throw new UnsupportedOperationException("JNoSQL has no support for this feature yet");
+        return total().elements();
     }
 
     @Override
     public long totalPages() {
-        throw new UnsupportedOperationException("JNoSQL has no support for this feature yet");
+        return total().pages(pageable.size());
+    }
+
+    private PageTotal total() {
+        if (total == null) {
+            throw new UnsupportedOperationException("There is no count query to this page, so the totals are unknown");
+        }
+        return total;
     }
 
     @Override
@@ -113,7 +124,25 @@ public class NoSQLPage<T> implements Page<T> {
     public static <T> Page<T> of(List<T> entities, Pageable pageable) {
         Objects.requireNonNull(entities, "entities is required");
         Objects.requireNonNull(pageable, "pageable is required");
-        return new NoSQLPage<>(entities, pageable);
+        return new NoSQLPage<>(entities, pageable, null);
+    }
+
+    /**
+     * Creates a {@link  Page} implementation from entities and a pageable, where {@link Page#totalElements()} and
+     * {@link Page#totalPages()} run the count only when they are called, at most once per page.
+     *
+     * @param entities the entities
+     * @param pageable the pageable
+     * @param total    the count of all the elements that match the query, regardless of the pagination
+     * @param <T>      the entity type
+     * @return a {@link Page} instance
+     * @throws NullPointerException when there is a null parameter
+     */
+    public static <T> Page<T> of(List<T> entities, Pageable pageable, LongSupplier total) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(pageable, "pageable is required");
+        Objects.requireNonNull(total, "total is required");
+        return new NoSQLPage<>(entities, pageable, new PageTotal(total));
     }
 
     /**
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * The total of elements of a {@link jakarta.data.repository.Page}, it runs the count query only when the total is
+ * asked for, and once.
+ */
+final class PageTotal {
+
+    private final LongSupplier count;
+
+    private volatile Long total;
+
+    PageTotal(LongSupplier count) {
+        this.count = Objects.requireNonNull(count, "count is required");
+    }
+
+    long elements() {
+        Long value = total;
+        if (value == null) {
+            value = count.getAsLong();
+            total = value;
+        }
+        return value;
+    }
+
+    long pages(int size) {
+        long elements = elements();
+        return elements / size + (elements % size == 0 ? 0 : 1);
+    }
+
+    @Override
+    public String toString() {
+        return "PageTotal{" +
+                "total=" + total +
+                '}';
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Marks, at the current thread, that a template workflow is writing entities. The templates fire the
+ * {@link EntityPostPersist} both after a write and to each entity read from the database, so its observers check
+ * {@link PersistScope#isOpen()} to tell them apart. The workflows open the scope before the {@link EntityPrePersist}
+ * and close it at a finally block, thus, a failed write does not leave the thread marked, and the attributes kept at
+ * the scope are discarded with it.
+ */
+public final class PersistScope {
+
+    private static final ThreadLocal<PersistScope> CURRENT = new ThreadLocal<>();
+
+    private final Map<Object, Object> attributes = new HashMap<>();
+
+    private int depth;
+
+    private PersistScope() {
+    }
+
+    /**
+     * Opens the scope at the current thread, or nests it when it is already open.
+     */
+    public static void open() {
+        PersistScope scope = CURRENT.get();
+        if (scope == null) {
+            scope = new PersistScope();
+            CURRENT.set(scope);
+        }
+        scope.depth++;
+    }
+
+    /**
+     * Closes the scope at the current thread; the outermost close removes it along with its attributes.
+     */
+    public static void close() {
+        PersistScope scope = CURRENT.get();
+        if (scope != null && --scope.depth <= 0) {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Checks if a workflow is writing entities at the current thread
+     *
+     * @return true when the scope is open
+     */
+    public static boolean isOpen() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Returns the attribute of the open scope, creating it at the first call. When the scope is not open,
+     * it returns a new attribute that is not kept.
+     *
+     * @param key      the attribute key
+     * @param supplier the attribute creator
+     * @param <T>      the attribute type
+     * @return the attribute
+     * @throws NullPointerException when there is a null parameter
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T attribute(Object key, Supplier<T> supplier) {
+        Objects.requireNonNull(key, "key is required");
+        Objects.requireNonNull(supplier, "supplier is required");
+        PersistScope scope = CURRENT.get();
+        if (scope == null) {
+            return supplier.get();
+        }
+        return (T) scope.attributes.computeIfAbsent(key, k -> supplier.get());
+    }
+}
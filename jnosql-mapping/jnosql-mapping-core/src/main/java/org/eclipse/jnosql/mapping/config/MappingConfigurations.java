@@ -29,6 +29,22 @@ public enum MappingConfigurations implements Supplier<String> {
      *Define the key-value database name.
      */
     KEY_VALUE_DATABASE("jnosql.keyvalue.database"),
+    /**
+     * Define the number of keys sent at each database call when the KeyValueTemplate finds several keys.
+     * By default it is 1000.
+     */
+    KEY_VALUE_BATCH_SIZE("jnosql.keyvalue.batch.size"),
+    /**
+     * Activate the parallel find of the chunks of keys when the KeyValueTemplate finds several keys. The chunks
+     * run at the executor the template provides and only when the BucketManager is thread-safe, it is useful to the
+     * drivers that cannot pipeline the keys. By default it is false.
+     */
+    KEY_VALUE_BATCH_PARALLEL("jnosql.keyvalue.batch.parallel"),
+    /**
+     * Define how the KeyValueTemplate writes the entities at the bucket: object hands the entity to the driver,
+     * and binary writes it with the compact binary codec driven by the entity metadata. By default it is object.
+     */
+    KEY_VALUE_CODEC("jnosql.keyvalue.codec"),
     /**
      * Define the DocumentConfiguration that creates a DocumentManager instance.
      * It is necessary when there is more than one implementation; otherwise,  it will find automatically.
@@ -38,6 +54,11 @@ public enum MappingConfigurations implements Supplier<String> {
      *Define the document database name.
      */
     DOCUMENT_DATABASE("jnosql.document.database"),
+    /**
+     * Define the number of entities sent at each database call when the DocumentTemplate inserts or updates
+     * several entities. By default it is 1000.
+     */
+    DOCUMENT_BATCH_SIZE("jnosql.document.batch.size"),
     /**
      * Define the ColumnConfiguration that creates a ColumnManager instance.
      * It is necessary when there is more than one implementation; otherwise,  it will find automatically.
@@ -47,15 +68,51 @@ public enum MappingConfigurations implements Supplier<String> {
      *Define the column database name.
      */
     COLUMN_DATABASE("jnosql.column.database"),
+    /**
+     * Define the number of entities sent at each database call when the ColumnTemplate inserts or updates
+     * several entities. By default it is 1000.
+     */
+    COLUMN_BATCH_SIZE("jnosql.column.batch.size"),
     /**
      * Define the GraphConfiguration that creates a GraphConfiguration instance.
      * It is necessary when there is more than one implementation; otherwise,  it will find automatically.
      */
     GRAPH_PROVIDER("jnosql.graph.provider"),
+    /**
+     * Define the number of entities written at each graph transaction when the GraphTemplate inserts or updates
+     * several entities. By default it is 1000.
+     */
+    GRAPH_BATCH_SIZE("jnosql.graph.batch.size"),
+    /**
+     * Define the maximum number of Gremlin queries, split around their params, kept in the cache of the graph
+     * prepared statements. It is read once, at the first Gremlin query. By default it is 1000.
+     */
+    GRAPH_QUERY_CACHE_SIZE("jnosql.graph.query.cache.size"),
     /**
      * Activate the automatic transaction at Graph database. By default it is true.
      */
-    GRAPH_TRANSACTION_AUTOMATIC("jnosql.graph.transaction.automatic");
+    GRAPH_TRANSACTION_AUTOMATIC("jnosql.graph.transaction.automatic"),
+    /**
+     * Define when the jnosql-mapping-validation module validates the entities: all, writes, pre-persist
+     * or sampled. By default it is all.
+     */
+    VALIDATION_POLICY("jnosql.validation.policy"),
+    /**
+     * Define that the sampled validation policy validates one of each N entities read from the database.
+     * By default it is 100.
+     */
+    VALIDATION_SAMPLING("jnosql.validation.sampling"),
+    /**
+     * Activate the index of entities, embeddables and repositories written by the jnosql-mapping-processor;
+     * when it is false, the whole classpath is scanned. By default it is true.
+     */
+    ENTITY_INDEX_ENABLED("jnosql.entity.index.enabled"),
+    /**
+     * Define that, when there is an index, the classes come only from it and the classpath roots without an index
+     * are not scanned. By default it is true; set it to false when some jars with entities or repositories are
+     * compiled without the jnosql-mapping-processor.
+     */
+    ENTITY_INDEX_ONLY("jnosql.entity.index.only");
 
 
     private final String value;
@@ -22,22 +22,31 @@ import jakarta.data.repository.PageableRepository;
 import jakarta.data.repository.Repository;
 import jakarta.nosql.Entity;
 import org.eclipse.jnosql.mapping.Embeddable;
+import org.eclipse.jnosql.mapping.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
 
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.unmodifiableSet;
 import static java.util.stream.Collectors.toUnmodifiableSet;
+import static org.eclipse.jnosql.mapping.config.MappingConfigurations.ENTITY_INDEX_ENABLED;
+import static org.eclipse.jnosql.mapping.config.MappingConfigurations.ENTITY_INDEX_ONLY;
 
 /**
  * Scanner classes that will load entities with both Entity and Embeddable
  * annotations and repositories: interfaces that extend DataRepository
  * and has the Repository annotation.
+ * When the jnosql-mapping-processor wrote an index at compile time, the classes are loaded only from it, and the
+ * classpath is not scanned; the classes of a jar compiled without the processor are then not found, unless the
+ * {@link MappingConfigurations#ENTITY_INDEX_ONLY} property is false, where the classpath roots without an index are
+ * scanned as well. When there is no index, the whole classpath is scanned.
  */
 public enum ClassScanner {
 
@@ -54,8 +63,23 @@ public enum ClassScanner {
         repositores = new HashSet<>();
 
         Logger logger = Logger.getLogger(ClassScanner.class.getName());
+        Optional<EntityIndex> index = isEnabled(ENTITY_INDEX_ENABLED, true) ? EntityIndex.load(classLoader())
+                : Optional.empty();
+        ClassGraph classGraph = new ClassGraph().enableClassInfo().enableAnnotationInfo().ignoreClassVisibility();
+        if (index.isPresent()) {
+            logger.fine("Loading entities, embeddable and repositories from the index.");
+            this.entities.addAll(index.get().entities());
+            this.embeddables.addAll(index.get().embeddables());
+            this.repositores.addAll(index.get().repositories());
+            if (isEnabled(ENTITY_INDEX_ONLY, true)) {
+                logger.fine(String.format("Loaded from the index only the entities %d, embeddables %d and "
+                        + "repositories: %d", entities.size(), embeddables.size(), repositores.size()));
+                return;
+            }
+            classGraph.filterClasspathElementsByURL(url -> !index.get().isIndexed(url));
+        }
         logger.fine("Starting scan class to find entities, embeddable and repositories.");
-        try (ScanResult result = new ClassGraph().enableAllInfo().scan()) {
+        try (ScanResult result = classGraph.scan()) {
             this.entities.addAll(result.getClassesWithAnnotation(Entity.class).loadClasses());
             embeddables.addAll(result.getClassesWithAnnotation(Embeddable.class).loadClasses());
             this.repositores.addAll(result.getClassesWithAnnotation(Repository.class)
@@ -66,6 +90,16 @@ public enum ClassScanner {
 
     }
 
+    private static boolean isEnabled(MappingConfigurations configuration, boolean defaultValue) {
+        return MicroProfileSettings.INSTANCE.get(configuration, String.class)
+                .map(Boolean::valueOf)
+                .orElse(defaultValue);
+    }
+
+    private static ClassLoader classLoader() {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return loader == null ? ClassScanner.class.getClassLoader() : loader;
+    }
 
     /**
      * Returns the classes that that has the {@link Entity} annotation
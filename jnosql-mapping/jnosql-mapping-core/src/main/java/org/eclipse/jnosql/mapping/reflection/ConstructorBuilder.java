@@ -15,15 +15,7 @@
 package org.eclipse.jnosql.mapping.reflection;
 
 
-import jakarta.data.exceptions.MappingException;
-import jakarta.enterprise.event.Event;
-import jakarta.enterprise.inject.Instance;
-import jakarta.enterprise.inject.spi.CDI;
-import jakarta.enterprise.util.TypeLiteral;
-
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -32,12 +24,15 @@ import java.util.Objects;
  */
 public final class ConstructorBuilder {
 
-    private final List<Object> values = new ArrayList<>();
+    private final Object[] values;
 
     private final ConstructorMetadata metadata;
 
+    private int index;
+
     private ConstructorBuilder(ConstructorMetadata metadata) {
         this.metadata = metadata;
+        this.values = new Object[metadata.getParameters().size()];
     }
 
 
@@ -46,26 +41,23 @@ public final class ConstructorBuilder {
     }
 
     public void add(Object value) {
-        this.values.add(value);
+        this.values[index++] = value;
     }
 
     public void addEmptyParameter() {
-        this.values.add(null);
+        this.values[index++] = null;
     }
 
+    /**
+     * Creates the entity from the constructor with the values added. It fires the {@link ConstructorEvent}
+     * when there is an observer to it.
+     *
+     * @param <T> the entity type
+     * @return the entity instance
+     * @throws jakarta.data.exceptions.MappingException when there is an error to create the instance
+     */
     public <T> T build() {
-        Constructor<?> constructor = metadata.getConstructor();
-
-        try {
-            Instance<Event<ConstructorEvent>> instance = CDI.current().select(new TypeLiteral<>() {
-            });
-            Event<ConstructorEvent> event = instance.get();
-            event.fire(ConstructorEvent.of(constructor, values.toArray()));
-            return (T) constructor.newInstance(values.toArray());
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            throw new MappingException("There is an issue to create a new instance of this class" +
-                    " using this constructor: " + constructor, e);
-        }
+        return (T) metadata.instantiator().newInstance(values);
     }
 
     @Override
@@ -77,18 +69,18 @@ public final class ConstructorBuilder {
             return false;
         }
         ConstructorBuilder that = (ConstructorBuilder) o;
-        return Objects.equals(values, that.values) && Objects.equals(metadata, that.metadata);
+        return Arrays.equals(values, that.values) && Objects.equals(metadata, that.metadata);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(values, metadata);
+        return 31 * Arrays.hashCode(values) + Objects.hashCode(metadata);
     }
 
     @Override
     public String toString() {
         return "ConstructorBuilder{" +
-                "values=" + values +
+                "values=" + Arrays.toString(values) +
                 ", metadata=" + metadata +
                 '}';
     }
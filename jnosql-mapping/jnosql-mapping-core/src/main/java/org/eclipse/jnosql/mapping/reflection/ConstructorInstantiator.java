@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.CDI;
+import jakarta.enterprise.util.TypeLiteral;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Creates the instances from a constructor with parameters. The constructor is called by a {@link MethodHandle},
+ * when it is accessible, otherwise, by reflection. Whether there is an observer to the {@link ConstructorEvent} is
+ * checked once, at the first instance, thus, the event is not created when nobody observes it.
+ */
+final class ConstructorInstantiator {
+
+    private static final Logger LOGGER = Logger.getLogger(ConstructorInstantiator.class.getName());
+
+    private static final Object[] EMPTY_PARAMS = new Object[0];
+
+    private final Constructor<?> constructor;
+
+    private final MethodHandle handle;
+
+    private volatile boolean resolved;
+
+    private Event<ConstructorEvent> event;
+
+    ConstructorInstantiator(Constructor<?> constructor) {
+        this.constructor = constructor;
+        this.handle = handle(constructor);
+    }
+
+    Object newInstance(Object[] params) {
+        Event<ConstructorEvent> constructorEvent = event();
+        if (constructorEvent != null) {
+            constructorEvent.fire(ConstructorEvent.of(constructor, params));
+        }
+        if (handle == null) {
+            try {
+                return constructor.newInstance(params);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException exception) {
+                throw error(exception);
+            }
+        }
+        try {
+            return (Object) handle.invokeExact(params);
+        } catch (Throwable exception) {
+            throw error(exception);
+        }
+    }
+
+    private Event<ConstructorEvent> event() {
+        if (!resolved) {
+            synchronized (this) {
+                if (!resolved) {
+                    CDI<Object> cdi = CDI.current();
+                    boolean observed = !cdi.getBeanManager()
+                            .resolveObserverMethods(ConstructorEvent.of(constructor, EMPTY_PARAMS)).isEmpty();
+                    if (observed) {
+                        this.event = cdi.select(new TypeLiteral<Event<ConstructorEvent>>() {
+                        }).get();
+                    }
+                    this.resolved = true;
+                }
+            }
+        }
+        return event;
+    }
+
+    private MappingException error(Throwable exception) {
+        return new MappingException("There is an issue to create a new instance of this class" +
+                " using this constructor: " + constructor, exception);
+    }
+
+    private static MethodHandle handle(Constructor<?> constructor) {
+        int parameters = constructor.getParameterCount();
+        try {
+            return MethodHandles.lookup().unreflectConstructor(constructor)
+                    .asType(MethodType.genericMethodType(parameters))
+                    .asSpreader(Object[].class, parameters);
+        } catch (IllegalAccessException exception) {
+            LOGGER.log(Level.FINEST, "It cannot create a constructor handle, using reflection to: " + constructor,
+                    exception);
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ConstructorInstantiator{" +
+                "constructor=" + constructor +
+                ", handle=" + handle +
+                ", resolved=" + resolved +
+                '}';
+    }
+}
@@ -26,9 +26,12 @@ public final class ConstructorMetadata {
     private final Constructor<?> constructor;
     private final List<ParameterMetaData> parameters;
 
+    private final ConstructorInstantiator instantiator;
+
     ConstructorMetadata(Constructor<?> constructor, List<ParameterMetaData> parameters) {
         this.constructor = constructor;
         this.parameters = parameters;
+        this.instantiator = new ConstructorInstantiator(constructor);
     }
 
     public List<ParameterMetaData> getParameters() {
@@ -43,6 +46,10 @@ public final class ConstructorMetadata {
         return parameters.isEmpty();
     }
 
+    ConstructorInstantiator instantiator() {
+        return instantiator;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
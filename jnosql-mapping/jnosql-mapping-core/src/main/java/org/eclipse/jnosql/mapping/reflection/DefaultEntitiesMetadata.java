@@ -16,19 +16,23 @@ package org.eclipse.jnosql.mapping.reflection;
 
 
 import jakarta.annotation.PostConstruct;
+import jakarta.data.exceptions.MappingException;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import java.util.Collections;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * The default implementation of {@link EntityMetadata}.
- * It's storage the class information in a {@link ConcurrentHashMap}
+ * It's storage the class information in a {@link ConcurrentHashMap}.
+ * The entities are also indexed by their name, ignoring the case, and the inheritance by the parent class and
+ * discriminator value, so those lookups do not go through all the entities. The metadata of the projection types
+ * is created once per type.
  */
 @ApplicationScoped
 class DefaultEntitiesMetadata implements EntitiesMetadata {
@@ -41,6 +45,11 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
 
     private Map<String, EntityMetadata> findByClassName;
 
+    private Map<String, EntityMetadata> findByName;
+
+    private Map<Class<?>, Map<String, InheritanceMetadata>> findByParent;
+
+    private Map<Class<?>, ProjectionMetadata> projections;
 
     @Inject
     private ClassConverter classConverter;
@@ -54,6 +63,9 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
         classes = new ConcurrentHashMap<>();
         findBySimpleName = new ConcurrentHashMap<>();
         findByClassName = new ConcurrentHashMap<>();
+        findByName = new ConcurrentHashMap<>();
+        findByParent = new ConcurrentHashMap<>();
+        projections = new ConcurrentHashMap<>();
 
         classes.putAll(extension.getClasses());
         mappings.putAll(extension.getMappings());
@@ -61,13 +73,16 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
             Class<?> type = r.type();
             findBySimpleName.put(type.getSimpleName(), r);
             findByClassName.put(type.getName(), r);
+            indexName(r);
         });
+        classes.values().forEach(this::indexInheritance);
     }
 
     void load(Class<?> classEntity) {
         EntityMetadata entityMetadata = classConverter.create(classEntity);
         if (entityMetadata.hasEntityName()) {
             mappings.put(classEntity.getName(), entityMetadata);
+            indexName(entityMetadata);
         }
         findBySimpleName.put(classEntity.getSimpleName(), entityMetadata);
         findByClassName.put(classEntity.getName(), entityMetadata);
@@ -78,7 +93,8 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
         EntityMetadata entityMetadata = classes.get(classEntity);
         if (entityMetadata == null) {
             entityMetadata = classConverter.create(classEntity);
-            classes.put(classEntity, entityMetadata);
+            indexInheritance(entityMetadata);
+            classes.putIfAbsent(classEntity, entityMetadata);
             return this.get(classEntity);
         }
         return entityMetadata;
@@ -87,18 +103,20 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
     @Override
     public Map<String, InheritanceMetadata> findByParentGroupByDiscriminatorValue(Class<?> parent) {
         Objects.requireNonNull(parent, "parent is required");
-        return this.classes.values().stream()
-                .flatMap(c -> c.inheritance().stream())
-                .filter(p -> p.isParent(parent))
-                .collect(Collectors.toMap(InheritanceMetadata::getDiscriminatorValue, Function.identity()));
+        Map<String, InheritanceMetadata> group = findByParent.get(parent);
+        if (group == null) {
+            return Collections.emptyMap();
+        }
+        return Collections.unmodifiableMap(group);
     }
 
     @Override
     public EntityMetadata findByName(String name) {
-        return mappings.keySet().stream()
-                .map(k -> mappings.get(k))
-                .filter(r -> r.name().equalsIgnoreCase(name)).findFirst()
-                .orElseThrow(() -> new ClassInformationNotFoundException("There is not entity found with the name: " + name));
+        EntityMetadata entityMetadata = name == null ? null : findByName.get(key(name));
+        if (entityMetadata == null) {
+            throw new ClassInformationNotFoundException("There is not entity found with the name: " + name);
+        }
+        return entityMetadata;
     }
 
     @Override
@@ -113,6 +131,39 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
         return Optional.ofNullable(findByClassName.get(name));
     }
 
+    @Override
+    public ProjectionMetadata projection(Class<?> type) {
+        Objects.requireNonNull(type, "type is required");
+        return projections.computeIfAbsent(type, ProjectionMetadata::of);
+    }
+
+    /**
+     * The names that differ only by the case keep the first entity indexed, a new metadata of the same entity
+     * replaces it.
+     */
+    private void indexName(EntityMetadata entityMetadata) {
+        findByName.merge(key(entityMetadata.name()), entityMetadata,
+                (current, value) -> current.type().equals(value.type()) ? value : current);
+    }
+
+    private void indexInheritance(EntityMetadata entityMetadata) {
+        entityMetadata.inheritance().ifPresent(inheritance -> {
+            InheritanceMetadata current = findByParent
+                    .computeIfAbsent(inheritance.getParent(), k -> new ConcurrentHashMap<>())
+                    .putIfAbsent(inheritance.getDiscriminatorValue(), inheritance);
+            if (current != null && !current.getEntity().equals(inheritance.getEntity())) {
+                throw new MappingException("The entities " + current.getEntity().getName() + " and "
+                        + inheritance.getEntity().getName() + " have the same discriminator value "
+                        + inheritance.getDiscriminatorValue() + " to the parent "
+                        + inheritance.getParent().getName());
+            }
+        });
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
     @Override
     public String toString() {
         return "DefaultEntitiesMetadata{" + "mappings-size=" + mappings.size() +
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.Optional.ofNullable;
@@ -48,6 +49,8 @@ class DefaultEntityMetadata implements EntityMetadata {
 
     private final ConstructorMetadata constructor;
 
+    private final Map<List<String>, ProjectionPlan> projections = new ConcurrentHashMap<>();
+
     DefaultEntityMetadata(String name, List<String> fieldsName, Class<?> type,
                           List<FieldMapping> fields,
                           Map<String, NativeMapping> javaFieldGroupedByColumn,
@@ -139,6 +142,19 @@ class DefaultEntityMetadata implements EntityMetadata {
         return Optional.ofNullable(id);
     }
 
+    @Override
+    public ProjectionPlan projection(List<String> names) {
+        requireNonNull(names, "names is required");
+        ProjectionPlan plan = projections.get(names);
+        if (plan == null) {
+            plan = ProjectionPlan.of(this, names);
+            if (projections.size() < ProjectionPlan.MAX_SIZE) {
+                projections.putIfAbsent(plan.names(), plan);
+            }
+        }
+        return plan;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -71,4 +71,16 @@ public interface EntitiesMetadata {
      */
     Optional<EntityMetadata> findByClassName(String name);
 
+    /**
+     * Returns the {@link ProjectionMetadata} of a projection type, a record or a DTO that is not an entity
+     *
+     * @param type the projection type
+     * @return the {@link ProjectionMetadata}
+     * @throws NullPointerException                      when type is null
+     * @throws jakarta.data.exceptions.MappingException when the type cannot be created from the columns
+     */
+    default ProjectionMetadata projection(Class<?> type) {
+        return ProjectionMetadata.of(type);
+    }
+
 }
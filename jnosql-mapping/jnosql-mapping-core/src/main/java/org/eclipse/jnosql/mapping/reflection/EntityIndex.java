@@ -0,0 +1,202 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.repository.DataRepository;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The index of entities, embeddables and repositories written at compile time by the
+ * jnosql-mapping-processor module. When there is an index at the classpath, {@link ClassScanner} loads the classes
+ * from it and scans only the classpath roots, either jars or directories, that do not have an index.
+ */
+final class EntityIndex {
+
+    static final String LOCATION = "META-INF/jnosql/";
+
+    private static final Logger LOGGER = Logger.getLogger(EntityIndex.class.getName());
+
+    private final Set<Class<?>> entities;
+
+    private final Set<Class<?>> embeddables;
+
+    private final Set<Class<?>> repositories;
+
+    private final Set<String> roots;
+
+    private EntityIndex(Set<Class<?>> entities, Set<Class<?>> embeddables, Set<Class<?>> repositories,
+                        Set<String> roots) {
+        this.entities = entities;
+        this.embeddables = embeddables;
+        this.repositories = repositories;
+        this.roots = roots;
+    }
+
+    Set<Class<?>> entities() {
+        return entities;
+    }
+
+    Set<Class<?>> embeddables() {
+        return embeddables;
+    }
+
+    Set<Class<?>> repositories() {
+        return repositories;
+    }
+
+    /**
+     * Checks if the classpath root has an index, thus, its classes are already at this index
+     *
+     * @param root the URL of the classpath root, either a jar or a directory
+     * @return true when the root has an index
+     */
+    boolean isIndexed(URL root) {
+        return root(root.toExternalForm()).map(roots::contains).orElse(false);
+    }
+
+    /**
+     * Loads the index from the default location
+     *
+     * @param loader the class loader
+     * @return the index or {@link Optional#empty()} when there is no index
+     */
+    static Optional<EntityIndex> load(ClassLoader loader) {
+        return load(loader, LOCATION);
+    }
+
+    static Optional<EntityIndex> load(ClassLoader loader, String location) {
+        Objects.requireNonNull(loader, "loader is required");
+        Objects.requireNonNull(location, "location is required");
+        Set<String> roots = new HashSet<>();
+        Set<String> entities = names(loader, location + "entities", roots);
+        Set<String> embeddables = names(loader, location + "embeddables", roots);
+        Set<String> repositories = names(loader, location + "repositories", roots);
+        if (entities.isEmpty() && embeddables.isEmpty() && repositories.isEmpty()) {
+            return Optional.empty();
+        }
+        Set<Class<?>> repositoryClasses = new HashSet<>();
+        for (Class<?> repository : classes(loader, repositories)) {
+            if (repository.isInterface() && DataRepository.class.isAssignableFrom(repository)) {
+                repositoryClasses.add(repository);
+            }
+        }
+        return Optional.of(new EntityIndex(classes(loader, entities), classes(loader, embeddables),
+                repositoryClasses, roots));
+    }
+
+    private static Set<String> names(ClassLoader loader, String resource, Set<String> roots) {
+        Set<String> names = new HashSet<>();
+        try {
+            Enumeration<URL> urls = loader.getResources(resource);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                String location = url.toExternalForm();
+                if (location.endsWith(resource)) {
+                    root(location.substring(0, location.length() - resource.length())).ifPresent(roots::add);
+                }
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(),
+                        StandardCharsets.UTF_8))) {
+                    reader.lines().map(String::trim)
+                            .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                            .forEach(names::add);
+                }
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("There is an error to read the index: " + resource, exception);
+        }
+        return names;
+    }
+
+    private static Set<Class<?>> classes(ClassLoader loader, Set<String> names) {
+        Set<Class<?>> classes = new HashSet<>();
+        for (String name : names) {
+            try {
+                classes.add(Class.forName(name, false, loader));
+            } catch (ClassNotFoundException | LinkageError exception) {
+                LOGGER.log(Level.WARNING, "The class " + name + " at the index was not found, it will be ignored",
+                        exception);
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Returns the key of a classpath root from its location, e.g. file:/app/classes/, jar:file:/app/lib.jar!/ or,
+     * at a fat jar, jar:file:/app.jar!/BOOT-INF/classes!/. The key keeps the whole nested path, thus, each nested
+     * jar or directory is a root by itself, and it does not depend on the trailing separators.
+     *
+     * @param location the location
+     * @return the key or {@link Optional#empty()} when the root is not at the file system
+     */
+    static Optional<String> root(String location) {
+        String file = location.startsWith("jar:") ? location.substring("jar:".length()) : location;
+        if (!file.startsWith("file:")) {
+            return Optional.empty();
+        }
+        String[] segments = file.split("!/");
+        StringBuilder root = new StringBuilder();
+        try {
+            String outer = segments[0].endsWith("!") ? segments[0].substring(0, segments[0].length() - 1)
+                    : segments[0];
+            root.append(Paths.get(URI.create(outer)).toAbsolutePath().normalize());
+        } catch (IllegalArgumentException exception) {
+            return Optional.empty();
+        }
+        for (int index = 1; index < segments.length; index++) {
+            String nested = trim(segments[index]);
+            if (!nested.isEmpty()) {
+                root.append("!/").append(nested);
+            }
+        }
+        return Optional.of(root.toString());
+    }
+
+    private static String trim(String segment) {
+        int start = 0;
+        int end = segment.length();
+        while (start < end && segment.charAt(start) == '/') {
+            start++;
+        }
+        while (end > start && (segment.charAt(end - 1) == '/' || segment.charAt(end - 1) == '!')) {
+            end--;
+        }
+        return segment.substring(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return "EntityIndex{" +
+                "entities=" + entities +
+                ", embeddables=" + embeddables +
+                ", repositories=" + repositories +
+                ", roots=" + roots +
+                '}';
+    }
+}
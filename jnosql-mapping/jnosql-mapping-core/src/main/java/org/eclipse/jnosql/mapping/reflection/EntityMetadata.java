@@ -120,4 +120,15 @@ public interface EntityMetadata {
      * @return the field with ID annotation
      */
     Optional<FieldMapping> id();
+
+    /**
+     * Returns the {@link ProjectionPlan} of the entity to the column names that a query selects
+     *
+     * @param names the column names of the projection, an empty list means every column
+     * @return the {@link ProjectionPlan}
+     * @throws NullPointerException when names is null
+     */
+    default ProjectionPlan projection(List<String> names) {
+        return ProjectionPlan.of(this, names);
+    }
 }
@@ -0,0 +1,185 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.nosql.Column;
+import org.eclipse.jnosql.communication.TypeSupplier;
+import org.eclipse.jnosql.communication.Value;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * The metadata of a projection type, a lightweight class, such as a record or a DTO, that receives the columns of a
+ * query straight from the database without creating the entity. Each field of the type reads the column with the
+ * {@link Column} name, or the field name when there is no annotation.
+ * The type is created either with the constructor whose parameters are the fields, in the declaration order, as
+ * the canonical constructor of a record, or with the no-argument constructor and then the fields are written.
+ *
+ * @see EntitiesMetadata#projection(Class)
+ */
+public final class ProjectionMetadata {
+
+    private static final Map<Class<?>, Class<?>> WRAPPERS = Map.of(boolean.class, Boolean.class,
+            byte.class, Byte.class, char.class, Character.class, short.class, Short.class, int.class, Integer.class,
+            long.class, Long.class, float.class, Float.class, double.class, Double.class);
+
+    private static final Map<Class<?>, Object> DEFAULTS = Map.of(boolean.class, false,
+            byte.class, (byte) 0, char.class, (char) 0, short.class, (short) 0, int.class, 0,
+            long.class, 0L, float.class, 0F, double.class, 0D);
+
+    private final Class<?> type;
+
+    private final List<String> names;
+
+    private final Field[] fields;
+
+    private final Constructor<?> constructor;
+
+    private ProjectionMetadata(Class<?> type, List<String> names, Field[] fields, Constructor<?> constructor) {
+        this.type = type;
+        this.names = names;
+        this.fields = fields;
+        this.constructor = constructor;
+    }
+
+    /**
+     * Returns the projection type
+     *
+     * @return the type
+     */
+    public Class<?> type() {
+        return type;
+    }
+
+    /**
+     * Returns the column names that the projection reads, in the declaration order of its fields
+     *
+     * @return the column names
+     */
+    public List<String> names() {
+        return names;
+    }
+
+    /**
+     * Creates a new instance of the projection type
+     *
+     * @param values the value of each column name, it returns null when there is no column
+     * @param <T>    the projection type
+     * @return a new instance
+     * @throws NullPointerException when values is null
+     * @throws MappingException     when the type cannot be created
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T newInstance(Function<String, Value> values) {
+        Objects.requireNonNull(values, "values is required");
+        try {
+            if (constructor.getParameterCount() > 0) {
+                Object[] arguments = new Object[fields.length];
+                for (int index = 0; index < fields.length; index++) {
+                    arguments[index] = read(fields[index], values.apply(names.get(index)));
+                }
+                return (T) constructor.newInstance(arguments);
+            }
+            Object instance = constructor.newInstance();
+            for (int index = 0; index < fields.length; index++) {
+                Value value = values.apply(names.get(index));
+                if (value != null) {
+                    fields[index].set(instance, read(fields[index], value));
+                }
+            }
+            return (T) instance;
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException exception) {
+            throw new MappingException("There is an error to create the projection " + type.getName(), exception);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectionMetadata{" +
+                "type=" + type +
+                ", names=" + names +
+                '}';
+    }
+
+    /**
+     * Creates the metadata of a projection type
+     *
+     * @param type the projection type
+     * @return the {@link ProjectionMetadata}
+     * @throws NullPointerException when type is null
+     * @throws MappingException     when the type has neither a constructor with all its fields nor a no-argument
+     *                              constructor
+     */
+    static ProjectionMetadata of(Class<?> type) {
+        Objects.requireNonNull(type, "type is required");
+        if (type.isInterface() || type.isPrimitive() || type.isArray() || Modifier.isAbstract(type.getModifiers())) {
+            throw new MappingException("The projection should be a concrete class: " + type.getName());
+        }
+        List<Field> fields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+                fields.add(field);
+            }
+        }
+        Class<?>[] types = fields.stream().map(Field::getType).toArray(Class<?>[]::new);
+        Constructor<?> constructor = Arrays.stream(type.getDeclaredConstructors())
+                .filter(c -> Arrays.equals(c.getParameterTypes(), types))
+                .findFirst()
+                .orElseGet(() -> Arrays.stream(type.getDeclaredConstructors())
+                        .filter(c -> c.getParameterCount() == 0)
+                        .findFirst()
+                        .orElseThrow(() -> new MappingException("The projection " + type.getName()
+                                + " should have either a constructor with all its fields, in the declaration order,"
+                                + " or a no-argument constructor")));
+        constructor.setAccessible(true);
+        if (constructor.getParameterCount() == 0) {
+            fields.forEach(f -> f.setAccessible(true));
+        }
+        List<String> names = new ArrayList<>(fields.size());
+        for (Field field : fields) {
+            Column column = field.getAnnotation(Column.class);
+            names.add(column == null || column.value().isBlank() ? field.getName() : column.value());
+        }
+        return new ProjectionMetadata(type, Collections.unmodifiableList(names), fields.toArray(Field[]::new),
+                constructor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object read(Field field, Value value) {
+        Class<?> fieldType = field.getType();
+        if (value == null || value.get() == null) {
+            return DEFAULTS.get(fieldType);
+        }
+        Type genericType = field.getGenericType();
+        if (genericType instanceof ParameterizedType) {
+            return value.get((TypeSupplier<Object>) () -> genericType);
+        }
+        return value.get(WRAPPERS.getOrDefault(fieldType, fieldType));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.eclipse.jnosql.mapping.reflection.MappingType.EMBEDDED;
+
+/**
+ * The fields of an entity that a conversion feeds when the query selects only some of its columns, thus, a
+ * conversion walks just the fields of the projection instead of every field of the entity at each row.
+ * The embedded fields are always in the plan because their columns are at the same level of the entity's columns.
+ * When the projection is empty, the plan has every field.
+ *
+ * @see EntityMetadata#projection(List)
+ */
+public final class ProjectionPlan {
+
+    /**
+     * The maximum number of projections that an entity keeps
+     */
+    static final int MAX_SIZE = 1_000;
+
+    private final List<String> names;
+
+    private final Map<String, FieldMapping> fields;
+
+    private ProjectionPlan(List<String> names, Map<String, FieldMapping> fields) {
+        this.names = names;
+        this.fields = fields;
+    }
+
+    /**
+     * Returns the names of the projection, the column names, it is empty when the query selects every column
+     *
+     * @return the names of the projection
+     */
+    public List<String> names() {
+        return names;
+    }
+
+    /**
+     * Returns the fields to feed grouped by {@link FieldMapping#name()}
+     *
+     * @return the fields of the projection
+     */
+    public Map<String, FieldMapping> fields() {
+        return fields;
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectionPlan{" +
+                "names=" + names +
+                ", fields=" + fields.keySet() +
+                '}';
+    }
+
+    static ProjectionPlan of(EntityMetadata metadata, List<String> names) {
+        Objects.requireNonNull(metadata, "metadata is required");
+        Objects.requireNonNull(names, "names is required");
+        if (names.isEmpty()) {
+            return new ProjectionPlan(Collections.emptyList(), metadata.fieldsGroupByName());
+        }
+        Map<String, FieldMapping> fields = new LinkedHashMap<>();
+        for (Map.Entry<String, FieldMapping> entry : metadata.fieldsGroupByName().entrySet()) {
+            if (EMBEDDED.equals(entry.getValue().type()) || isProjected(entry.getKey(), names)) {
+                fields.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return new ProjectionPlan(List.copyOf(names), Collections.unmodifiableMap(fields));
+    }
+
+    private static boolean isProjected(String field, List<String> names) {
+        for (String name : names) {
+            if (name.equals(field) || name.startsWith(field + '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
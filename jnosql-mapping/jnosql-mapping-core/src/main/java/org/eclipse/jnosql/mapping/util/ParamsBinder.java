@@ -23,8 +23,10 @@ import org.eclipse.jnosql.mapping.reflection.FieldMapping;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A Binder class, that will apply values in the {@link Params} instance to a dynamic query.
@@ -35,6 +37,8 @@ public class ParamsBinder {
 
     private final Converters converters;
 
+    private final Map<String, Optional<FieldMapping>> fields = new ConcurrentHashMap<>();
+
     /**
      * Creates a ParamsBinder instance
      *
@@ -58,24 +62,47 @@ public class ParamsBinder {
     public void bind(Params params, Object[] args, Method method) {
 
         Objects.requireNonNull(params, "params is required");
+        List<String> names = params.getParametersNames();
+        Object[] values = values(names, args, method);
+        for (int index = 0; index < names.size(); index++) {
+            params.bind(names.get(index), values[index]);
+        }
+    }
+
+    /**
+     * Converts the args to the values of the params, where each value takes the position of its param name,
+     * so a query built once can be bound by position at each call.
+     *
+     * @param names  the params names, see {@link Params#getParametersNames()}
+     * @param args   the args
+     * @param method the method
+     * @return the values of the params
+     * @throws NullPointerException  when there is null parameter
+     * @throws DynamicQueryException when there are more params than args
+     */
+    public Object[] values(List<String> names, Object[] args, Method method) {
+
+        Objects.requireNonNull(names, "names is required");
         Objects.requireNonNull(args, "args is required");
         Objects.requireNonNull(method, "method is required");
 
-        List<String> names = params.getParametersNames();
         if (names.size() > args.length) {
             throw new DynamicQueryException("The number of parameters in a query is bigger than the number of " +
                     "parameters in the method: " + method);
         }
+        Object[] values = new Object[names.size()];
         for (int index = 0; index < names.size(); index++) {
-            String name = names.get(index);
-            int lastIndex = name.lastIndexOf('_') == -1 ? name.length() : name.lastIndexOf('_');
-            String fieldName = name.substring(0, lastIndex);
-            Optional<FieldMapping> field = this.mapping.fields().stream()
-                    .filter(f -> f.name().equals(fieldName)).findFirst();
-
-            Object value = getValue(args, index, field.orElse(null));
-            params.bind(name, value);
+            Optional<FieldMapping> field = fields.computeIfAbsent(names.get(index), this::findField);
+            values[index] = getValue(args, index, field.orElse(null));
         }
+        return values;
+    }
+
+    private Optional<FieldMapping> findField(String name) {
+        int lastIndex = name.lastIndexOf('_') == -1 ? name.length() : name.lastIndexOf('_');
+        String fieldName = name.substring(0, lastIndex);
+        return this.mapping.fields().stream()
+                .filter(f -> f.name().equals(fieldName)).findFirst();
     }
 
     private Object getValue(Object[] args, int index, FieldMapping field) {
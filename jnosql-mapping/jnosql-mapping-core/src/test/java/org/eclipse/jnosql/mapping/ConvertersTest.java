@@ -50,4 +50,11 @@ class ConvertersTest {
         Assertions.assertEquals("Text", text);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldCreateConverterOnce() {
+        AttributeConverter<String, String> converter = converters.get(MyConverter.class);
+        Assertions.assertSame(converter, converters.get(MyConverter.class));
+        Assertions.assertSame(converters.get(VetedConverter.class), converters.get(VetedConverter.class));
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import jakarta.data.repository.KeysetAwarePage;
+import jakarta.data.repository.Pageable;
+import jakarta.data.repository.Sort;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.reflection.FieldMapping;
+import org.eclipse.jnosql.mapping.test.entities.Person;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableAutoWeld
+@AddPackages(value = Convert.class)
+@AddExtensions(EntityMetadataExtension.class)
+class KeysetPageTest {
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    private EntityMetadata metadata;
+
+    @BeforeEach
+    public void setUp() {
+        this.metadata = entities.get(Person.class);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenNull() {
+        List<FieldMapping> keys = KeysetPage.keys(metadata, List.of(Sort.asc("name")));
+        Assertions.assertThrows(NullPointerException.class, () ->
+                KeysetPage.of(null, Pageable.ofSize(2), keys, () -> 0L));
+        Assertions.assertThrows(NullPointerException.class, () ->
+                KeysetPage.of(Collections.emptyList(), null, keys, () -> 0L));
+        Assertions.assertThrows(NullPointerException.class, () ->
+                KeysetPage.of(Collections.emptyList(), Pageable.ofSize(2), null, () -> 0L));
+        Assertions.assertThrows(NullPointerException.class, () ->
+                KeysetPage.of(Collections.emptyList(), Pageable.ofSize(2), keys, null));
+    }
+
+    @Test
+    public void shouldReturnCursorFromSortFields() {
+        List<Sort> sorts = List.of(Sort.desc("age"), Sort.asc("name"));
+        Pageable pageable = Pageable.ofPage(2).size(2).sortBy(sorts);
+        KeysetAwarePage<Person> page = KeysetPage.of(List.of(
+                Person.builder().withId(1L).withName("Ada").withAge(30).build(),
+                Person.builder().withId(2L).withName("Otavio").withAge(20).build()),
+                pageable, KeysetPage.keys(metadata, sorts), () -> 10L);
+
+        Pageable.Cursor cursor = page.getKeysetCursor(1);
+        assertThat(cursor.size()).isEqualTo(2);
+        assertThat(cursor.getKeysetElement(0)).isEqualTo(20);
+        assertThat(cursor.getKeysetElement(1)).isEqualTo("Otavio");
+
+        Pageable next = page.nextPageable();
+        assertThat(next.mode()).isEqualTo(Pageable.Mode.CURSOR_NEXT);
+        assertThat(next.cursor()).isEqualTo(cursor);
+        assertThat(next.page()).isEqualTo(3L);
+        assertThat(next.sorts()).isEqualTo(sorts);
+
+        Pageable previous = page.previousPageable();
+        assertThat(previous.mode()).isEqualTo(Pageable.Mode.CURSOR_PREVIOUS);
+        assertThat(previous.cursor()).isEqualTo(page.getKeysetCursor(0));
+
+        assertThat(page.totalElements()).isEqualTo(10L);
+        assertThat(page.totalPages()).isEqualTo(5L);
+    }
+
+    @Test
+    public void shouldReturnNullPageableWhenIsEmpty() {
+        KeysetAwarePage<Person> page = KeysetPage.of(Collections.emptyList(), Pageable.ofSize(2),
+                KeysetPage.keys(metadata, List.of(Sort.asc("name"))), () -> 0L);
+        Assertions.assertFalse(page.hasContent());
+        Assertions.assertNull(page.nextPageable());
+        Assertions.assertNull(page.previousPageable());
+    }
+
+    @Test
+    public void shouldReturnNullNextPageableWhenIsTheLastPage() {
+        List<Sort> sorts = List.of(Sort.asc("name"));
+        List<Person> people = List.of(Person.builder().withId(1L).withName("Ada").withAge(30).build());
+        List<FieldMapping> keys = KeysetPage.keys(metadata, sorts);
+
+        KeysetAwarePage<Person> page = KeysetPage.of(people, Pageable.ofSize(2).sortBy(sorts), keys, () -> 1L);
+        Assertions.assertNull(page.nextPageable());
+
+        Pageable before = Pageable.ofSize(2).sortBy(sorts).beforeKeysetCursor(page.getKeysetCursor(0));
+        KeysetAwarePage<Person> previous = KeysetPage.of(people, before, keys, () -> 1L);
+        Assertions.assertNotNull(previous.nextPageable());
+    }
+
+    @Test
+    public void shouldReturnNullPreviousPageableWhenIsTheFirstOffsetPage() {
+        List<Sort> sorts = List.of(Sort.asc("name"));
+        List<Person> people = List.of(Person.builder().withId(1L).withName("Ada").withAge(30).build());
+        List<FieldMapping> keys = KeysetPage.keys(metadata, sorts);
+
+        KeysetAwarePage<Person> first = KeysetPage.of(people, Pageable.ofSize(2).sortBy(sorts), keys, () -> 1L);
+        Assertions.assertNull(first.previousPageable());
+
+        Pageable after = Pageable.ofSize(2).sortBy(sorts).afterKeysetCursor(first.getKeysetCursor(0));
+        KeysetAwarePage<Person> cursor = KeysetPage.of(people, after, keys, () -> 1L);
+        Assertions.assertNotNull(cursor.previousPageable());
+    }
+
+    @Test
+    public void shouldSortByIdWhenThereIsNoSort() {
+        assertThat(KeysetPage.sorts(metadata, Collections.emptyList())).containsExactly(Sort.asc("_id"));
+        assertThat(KeysetPage.sorts(metadata, List.of(Sort.asc("name")))).containsExactly(Sort.asc("name"));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSortIsNotField() {
+        Assertions.assertThrows(DynamicQueryException.class, () ->
+                KeysetPage.keys(metadata, List.of(Sort.asc("unknown"))));
+    }
+
+    @Test
+    public void shouldReverseSorts() {
+        assertThat(KeysetPage.reverse(List.of(Sort.asc("name"), Sort.desc("age"))))
+                .containsExactly(Sort.desc("name"), Sort.asc("age"));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenCursorDoesNotMatchSorts() {
+        Pageable pageable = Pageable.ofSize(2).afterKeyset("Ada", 10);
+        Assertions.assertThrows(DynamicQueryException.class, () ->
+                KeysetPage.cursor(pageable, List.of(Sort.asc("name"))));
+        assertThat(KeysetPage.cursor(pageable, List.of(Sort.asc("name"), Sort.asc("age"))).size())
+                .isEqualTo(2);
+    }
+}
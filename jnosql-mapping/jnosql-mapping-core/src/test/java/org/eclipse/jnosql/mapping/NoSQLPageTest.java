@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 class NoSQLPageTest {
 
@@ -45,6 +46,27 @@ class NoSQLPageTest {
         Assertions.assertThrows(UnsupportedOperationException.class, page::totalElements);
     }
 
+    @Test
+    public void shouldCountTotalsOnce() {
+        AtomicInteger counter = new AtomicInteger();
+        Page<Person> page = NoSQLPage.of(Collections.singletonList(Person.builder().withName("Otavio").build()),
+                Pageable.ofSize(10), () -> {
+                    counter.incrementAndGet();
+                    return 21L;
+                });
+
+        Assertions.assertEquals(0, counter.get());
+        Assertions.assertEquals(21L, page.totalElements());
+        Assertions.assertEquals(3L, page.totalPages());
+        Assertions.assertEquals(1, counter.get());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTotalIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () ->
+                NoSQLPage.of(Collections.emptyList(), Pageable.ofPage(2), null));
+    }
+
     @Test
     public void shouldReturnHasContent() {
 
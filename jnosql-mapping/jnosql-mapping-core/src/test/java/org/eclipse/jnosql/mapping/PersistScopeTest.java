@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersistScopeTest {
+
+    @Test
+    public void shouldReturnErrorWhenAttributeParamsAreNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> PersistScope.attribute(null, ArrayList::new));
+        Assertions.assertThrows(NullPointerException.class, () -> PersistScope.attribute("key", null));
+    }
+
+    @Test
+    public void shouldOpenNestedScope() {
+        assertFalse(PersistScope.isOpen());
+        PersistScope.open();
+        PersistScope.open();
+        PersistScope.close();
+        assertTrue(PersistScope.isOpen());
+        PersistScope.close();
+        assertFalse(PersistScope.isOpen());
+        PersistScope.close();
+        assertFalse(PersistScope.isOpen());
+    }
+
+    @Test
+    public void shouldKeepAttributesWhileOpen() {
+        List<Object> outside = PersistScope.attribute("key", ArrayList::new);
+        assertNotSame(outside, PersistScope.attribute("key", ArrayList::new));
+
+        PersistScope.open();
+        List<Object> attribute;
+        try {
+            attribute = PersistScope.attribute("key", ArrayList::new);
+            assertSame(attribute, PersistScope.attribute("key", ArrayList::new));
+        } finally {
+            PersistScope.close();
+        }
+
+        PersistScope.open();
+        try {
+            assertNotSame(attribute, PersistScope.attribute("key", ArrayList::new));
+        } finally {
+            PersistScope.close();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.Convert;
+import org.eclipse.jnosql.mapping.VetedConverter;
+import org.eclipse.jnosql.mapping.test.entities.Money;
+import org.eclipse.jnosql.mapping.test.entities.constructor.Computer;
+import org.jboss.weld.junit5.auto.AddBeanClasses;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableAutoWeld
+@AddPackages(value = Convert.class)
+@AddPackages(value = VetedConverter.class)
+@AddExtensions(EntityMetadataExtension.class)
+@AddBeanClasses(ConstructorBuilderTest.ConstructorObserver.class)
+class ConstructorBuilderTest {
+
+    @Inject
+    private Reflections reflections;
+
+    @Inject
+    private ConstructorObserver observer;
+
+    private ConstructorMetadata metadata;
+
+    @BeforeEach
+    public void setUp() {
+        this.metadata = new ConstructorMetadataBuilder(reflections).build(Computer.class);
+        this.observer.clear();
+    }
+
+    @Test
+    public void shouldCreateInstance() {
+        Money price = new Money("USD", BigDecimal.TEN);
+        ConstructorBuilder builder = ConstructorBuilder.of(metadata);
+        builder.add(10L);
+        builder.add("Dell");
+        builder.add(2020);
+        builder.addEmptyParameter();
+        builder.add(price);
+
+        Computer computer = builder.build();
+
+        assertThat(computer.getId()).isEqualTo(10L);
+        assertThat(computer.getName()).isEqualTo("Dell");
+        assertThat(computer.getAge()).isEqualTo(2020);
+        assertThat(computer.getModel()).isNull();
+        assertThat(computer.getPrice()).isEqualTo(price);
+    }
+
+    @Test
+    public void shouldFireEventAtEachInstance() {
+        for (int index = 0; index < 2; index++) {
+            ConstructorBuilder builder = ConstructorBuilder.of(metadata);
+            builder.add((long) index);
+            builder.add("Dell");
+            builder.add(2020);
+            builder.add("Vostro");
+            builder.addEmptyParameter();
+            builder.build();
+        }
+
+        assertThat(observer.events()).hasSize(2)
+                .allMatch(event -> metadata.getConstructor().equals(event.getConstructor()));
+        assertThat(observer.events().get(1).getParams()).containsExactly(1L, "Dell", 2020, "Vostro", null);
+    }
+
+    @ApplicationScoped
+    static class ConstructorObserver {
+
+        private final List<ConstructorEvent> events = new ArrayList<>();
+
+        void observe(@Observes ConstructorEvent event) {
+            events.add(event);
+        }
+
+        List<ConstructorEvent> events() {
+            return events;
+        }
+
+        void clear() {
+            events.clear();
+        }
+    }
+}
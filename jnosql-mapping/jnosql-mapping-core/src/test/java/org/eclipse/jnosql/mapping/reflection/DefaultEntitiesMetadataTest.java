@@ -14,7 +14,10 @@
  */
 package org.eclipse.jnosql.mapping.reflection;
 
+import jakarta.data.exceptions.MappingException;
 import org.eclipse.jnosql.mapping.Convert;
+import org.eclipse.jnosql.mapping.DiscriminatorValue;
+import org.eclipse.jnosql.mapping.Inheritance;
 import org.eclipse.jnosql.mapping.VetedConverter;
 import org.eclipse.jnosql.mapping.test.entities.Person;
 import org.eclipse.jnosql.mapping.test.entities.Vendor;
@@ -130,4 +133,47 @@ class DefaultEntitiesMetadataTest {
         Assertions.assertNotNull(group.get("Large"));
         Assertions.assertNotNull(group.get("Project"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldFindByNameIgnoringCase() {
+        this.mappings.load(Vendor.class);
+
+        Assertions.assertEquals(Vendor.class, this.mappings.findByName("VENDORS").type());
+        Assertions.assertEquals(Vendor.class, this.mappings.findByName("Vendors").type());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenNameIsNotFound() {
+        Assertions.assertThrows(ClassInformationNotFoundException.class,
+                () -> this.mappings.findByName("not_found"));
+        Assertions.assertThrows(ClassInformationNotFoundException.class,
+                () -> this.mappings.findByName(null));
+    }
+
+    @Test
+    public void shouldReturnEmptyGroupWhenThereIsNoInheritance() {
+        Map<String, InheritanceMetadata> group = this.mappings
+                .findByParentGroupByDiscriminatorValue(Person.class);
+        Assertions.assertTrue(group.isEmpty());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenDiscriminatorValueIsDuplicated() {
+        this.mappings.get(Circle.class);
+        Assertions.assertThrows(MappingException.class, () -> this.mappings.get(Ellipse.class));
+        Assertions.assertEquals(Circle.class, this.mappings.findByParentGroupByDiscriminatorValue(Shape.class)
+                .get("Round").getEntity());
+    }
+
+    @Inheritance
+    static class Shape {
+    }
+
+    @DiscriminatorValue("Round")
+    static class Circle extends Shape {
+    }
+
+    @DiscriminatorValue("Round")
+    static class Ellipse extends Shape {
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.eclipse.jnosql.mapping.test.entities.Job;
+import org.eclipse.jnosql.mapping.test.entities.Movie;
+import org.eclipse.jnosql.mapping.test.entities.Person;
+import org.eclipse.jnosql.mapping.test.entities.PersonRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityIndexTest {
+
+    private final ClassLoader loader = EntityIndexTest.class.getClassLoader();
+
+    @Test
+    public void shouldReturnErrorWhenParamsAreNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> EntityIndex.load(null, "index/"));
+        Assertions.assertThrows(NullPointerException.class, () -> EntityIndex.load(loader, null));
+    }
+
+    @Test
+    public void shouldLoadIndex() {
+        Optional<EntityIndex> index = EntityIndex.load(loader, "index/");
+        assertThat(index).isPresent();
+        assertThat(index.get().entities()).containsExactlyInAnyOrder(Person.class, Movie.class);
+        assertThat(index.get().embeddables()).containsExactly(Job.class);
+        assertThat(index.get().repositories()).containsExactly(PersonRepository.class);
+    }
+
+    @Test
+    public void shouldCheckIndexedRoots() throws IOException {
+        Optional<EntityIndex> index = EntityIndex.load(loader, "index/");
+        assertThat(index).isPresent();
+        URL indexed = new URL(loader.getResource("index/entities").toExternalForm().replace("index/entities", ""));
+        URL notIndexed = EntityIndex.class.getProtectionDomain().getCodeSource().getLocation();
+        assertThat(index.get().isIndexed(indexed)).isTrue();
+        assertThat(index.get().isIndexed(notIndexed)).isFalse();
+        assertThat(index.get().isIndexed(new URL("jar:" + notIndexed + "!/"))).isFalse();
+        assertThat(index.get().isIndexed(new URL("http://localhost/lib.jar"))).isFalse();
+    }
+
+    @Test
+    public void shouldReturnEmptyWhenThereIsNoIndex() {
+        assertThat(EntityIndex.load(loader, "not-found/")).isEmpty();
+        assertThat(EntityIndex.load(loader)).isEmpty();
+    }
+
+    @Test
+    public void shouldLoadIndexFromDefaultLocation() {
+        assertThat(EntityIndex.load(new IndexClassLoader(loader))).isPresent();
+    }
+
+    @Test
+    public void shouldKeyNestedRootsByTheirWholePath() {
+        Optional<String> classes = EntityIndex.root("jar:file:/app.jar!/BOOT-INF/classes!/");
+        assertThat(classes).isPresent();
+        assertThat(EntityIndex.root("jar:file:/app.jar!/BOOT-INF/classes")).isEqualTo(classes);
+        assertThat(EntityIndex.root("jar:file:/app.jar!/BOOT-INF/classes/")).isEqualTo(classes);
+        assertThat(EntityIndex.root("jar:file:/app.jar!/BOOT-INF/lib/lib.jar!/")).isNotEqualTo(classes);
+        assertThat(EntityIndex.root("file:/app.jar")).isNotEqualTo(classes)
+                .isEqualTo(EntityIndex.root("jar:file:/app.jar!/"));
+        assertThat(EntityIndex.root("http://localhost/lib.jar")).isEmpty();
+    }
+
+    private static class IndexClassLoader extends ClassLoader {
+
+        IndexClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        public Enumeration<URL> getResources(String name) throws IOException {
+            return super.getResources(name.replace(EntityIndex.LOCATION, "index/"));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.mapping.Convert;
+import org.eclipse.jnosql.mapping.VetedConverter;
+import org.eclipse.jnosql.mapping.test.entities.PersonSummary;
+import org.eclipse.jnosql.mapping.test.entities.PersonView;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableAutoWeld
+@AddPackages(value = Convert.class)
+@AddPackages(value = VetedConverter.class)
+@AddExtensions(EntityMetadataExtension.class)
+class ProjectionMetadataTest {
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Test
+    public void shouldReturnErrorWhenTypeIsInvalid() {
+        Assertions.assertThrows(NullPointerException.class, () -> entities.projection(null));
+        Assertions.assertThrows(MappingException.class, () -> entities.projection(Runnable.class));
+    }
+
+    @Test
+    public void shouldReadColumnNames() {
+        ProjectionMetadata metadata = entities.projection(PersonSummary.class);
+        assertThat(metadata.type()).isEqualTo(PersonSummary.class);
+        assertThat(metadata.names()).containsExactly("name", "age", "phones");
+        assertThat(entities.projection(PersonSummary.class)).isSameAs(metadata);
+    }
+
+    @Test
+    public void shouldCreateFromNoArgumentConstructor() {
+        ProjectionMetadata metadata = entities.projection(PersonSummary.class);
+        Map<String, Value> values = Map.of("name", Value.of("Ada"), "age", Value.of("10"),
+                "phones", Value.of(List.of("123", 234)));
+        PersonSummary summary = metadata.newInstance(values::get);
+        assertThat(summary.getFullName()).isEqualTo("Ada");
+        assertThat(summary.getAge()).isEqualTo(10);
+        assertThat(summary.getPhones()).containsExactly("123", "234");
+    }
+
+    @Test
+    public void shouldCreateFromConstructor() {
+        ProjectionMetadata metadata = entities.projection(PersonView.class);
+        assertThat(metadata.names()).containsExactly("name", "age");
+        PersonView view = metadata.newInstance(Map.of("name", Value.of("Ada"))::get);
+        assertThat(view.name()).isEqualTo("Ada");
+        assertThat(view.age()).isZero();
+    }
+
+    @Test
+    public void shouldReturnErrorWhenThereIsNoConstructor() {
+        Assertions.assertThrows(MappingException.class, () -> entities.projection(Message.class));
+    }
+
+    static class Message {
+
+        private final String text;
+
+        Message(int code) {
+            this.text = Integer.toString(code);
+        }
+    }
+}
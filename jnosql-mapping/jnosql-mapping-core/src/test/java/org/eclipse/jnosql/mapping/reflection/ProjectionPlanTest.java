@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.Convert;
+import org.eclipse.jnosql.mapping.VetedConverter;
+import org.eclipse.jnosql.mapping.test.entities.Person;
+import org.eclipse.jnosql.mapping.test.entities.Worker;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableAutoWeld
+@AddPackages(value = Convert.class)
+@AddPackages(value = VetedConverter.class)
+@AddExtensions(EntityMetadataExtension.class)
+class ProjectionPlanTest {
+
+    @Inject
+    private ClassConverter classConverter;
+
+    @Test
+    public void shouldReturnErrorWhenNamesIsNull() {
+        EntityMetadata metadata = classConverter.create(Person.class);
+        Assertions.assertThrows(NullPointerException.class, () -> metadata.projection(null));
+    }
+
+    @Test
+    public void shouldReturnEveryFieldWhenThereIsNoProjection() {
+        EntityMetadata metadata = classConverter.create(Person.class);
+        ProjectionPlan plan = metadata.projection(Collections.emptyList());
+        assertThat(plan.names()).isEmpty();
+        assertThat(plan.fields()).isEqualTo(metadata.fieldsGroupByName());
+    }
+
+    @Test
+    public void shouldReturnProjectedFields() {
+        EntityMetadata metadata = classConverter.create(Person.class);
+        ProjectionPlan plan = metadata.projection(List.of("name", "age"));
+        assertThat(plan.names()).containsExactly("name", "age");
+        assertThat(plan.fields()).containsOnlyKeys("name", "age");
+    }
+
+    @Test
+    public void shouldKeepEmbeddedFields() {
+        EntityMetadata metadata = classConverter.create(Worker.class);
+        ProjectionPlan plan = metadata.projection(List.of("name"));
+        assertThat(plan.fields()).containsOnlyKeys("name", "job");
+    }
+
+    @Test
+    public void shouldCachePlan() {
+        EntityMetadata metadata = classConverter.create(Person.class);
+        ProjectionPlan plan = metadata.projection(List.of("name"));
+        assertThat(metadata.projection(List.of("name"))).isSameAs(plan);
+        assertThat(metadata.projection(List.of("age"))).isNotSameAs(plan);
+    }
+}
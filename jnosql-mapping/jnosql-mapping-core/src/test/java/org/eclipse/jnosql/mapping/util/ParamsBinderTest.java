@@ -156,6 +156,14 @@ class ParamsBinderTest {
         Assertions.assertEquals(Arrays.asList(1, 2), param);
     }
 
+    @Test
+    public void shouldConvertValuesByPosition() {
+        Method method = PersonRepository.class.getDeclaredMethods()[0];
+        Object[] values = binder.values(List.of("name_1", "age_2"), new Object[]{"otavio", 1L}, method);
+
+        Assertions.assertArrayEquals(new Object[]{"otavio", 1}, values);
+    }
+
 
     interface PersonRepository extends CrudRepository<Person, Long> {
 
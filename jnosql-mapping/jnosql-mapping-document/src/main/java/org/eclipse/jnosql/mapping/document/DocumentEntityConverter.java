@@ -27,14 +27,15 @@ import org.eclipse.jnosql.mapping.reflection.FieldValue;
 import org.eclipse.jnosql.mapping.reflection.InheritanceMetadata;
 import org.eclipse.jnosql.mapping.reflection.MappingType;
 import org.eclipse.jnosql.mapping.reflection.ParameterMetaData;
+import org.eclipse.jnosql.mapping.reflection.ProjectionMetadata;
+import org.eclipse.jnosql.mapping.reflection.ProjectionPlan;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 import static org.eclipse.jnosql.mapping.reflection.MappingType.EMBEDDED;
@@ -115,7 +116,22 @@ public abstract class DocumentEntityConverter {
      * @throws NullPointerException when entity is null
      */
     public <T> T toEntity(DocumentEntity entity) {
+        return toEntity(entity, Collections.emptyList());
+    }
+
+    /**
+     * Similar to {@link DocumentEntityConverter#toEntity(DocumentEntity)}, but it feeds only the fields of the
+     * projection, the document names that the query selected, through the {@link ProjectionPlan} of the entity.
+     *
+     * @param entity     the {@link DocumentEntity} to be converted
+     * @param projection the document names of the query, an empty list means every document
+     * @param <T>        the entity type
+     * @return the instance from {@link DocumentEntity}
+     * @throws NullPointerException when either entity or projection are null
+     */
+    public <T> T toEntity(DocumentEntity entity, List<String> projection) {
         requireNonNull(entity, "entity is required");
+        requireNonNull(projection, "projection is required");
         EntityMetadata mapping = getEntities().findByName(entity.name());
         if (mapping.isInheritance()) {
             return mapInheritanceEntity(entity, mapping.type());
@@ -123,11 +139,35 @@ public abstract class DocumentEntityConverter {
         ConstructorMetadata constructor = mapping.constructor();
         if (constructor.isDefault()) {
             T instance = mapping.newInstance();
-            return convertEntity(entity.documents(), mapping, instance);
+            Map<String, FieldMapping> fields = projection.isEmpty() ? mapping.fieldsGroupByName()
+                    : mapping.projection(projection).fields();
+            return convertEntity(entity.documents(), fields, instance);
         } else {
             return convertEntityByConstructor(entity.documents(), mapping);
         }
     }
+
+    /**
+     * Converts a {@link DocumentEntity} to a projection type, such as a record or a DTO, without creating the
+     * entity; each field of the projection reads the document with the same name.
+     *
+     * @param type   the projection type
+     * @param entity the {@link DocumentEntity} to be converted
+     * @param <T>    the projection type
+     * @return the projection instance from {@link DocumentEntity}
+     * @throws NullPointerException when either type or entity are null
+     * @see ProjectionMetadata
+     */
+    public <T> T toProjection(Class<T> type, DocumentEntity entity) {
+        requireNonNull(type, "type is required");
+        requireNonNull(entity, "entity is required");
+        ProjectionMetadata projection = getEntities().projection(type);
+        Map<String, Document> documentsByName = groupByName(entity.documents());
+        return projection.newInstance(name -> {
+            Document document = documentsByName.get(name);
+            return document == null ? null : document.value();
+        });
+    }
     
     protected <T> T toEntity(Class<T> type, List<Document> documents) {
         EntityMetadata mapping = getEntities().get(type);
@@ -148,29 +188,36 @@ public abstract class DocumentEntityConverter {
   
 
     protected <T> Consumer<String> feedObject(T entity, List<Document> documents, Map<String, FieldMapping> fieldsGroupByName) {
+        return feedObject(entity, documents, groupByName(documents), fieldsGroupByName);
+    }
+
+    private <T> Consumer<String> feedObject(T entity, List<Document> documents, Map<String, Document> documentsByName,
+                                            Map<String, FieldMapping> fieldsGroupByName) {
         return k -> {
-            Optional<Document> document = documents.stream().filter(c -> c.name().equals(k)).findFirst();
+            Document document = documentsByName.get(k);
             FieldMapping field = fieldsGroupByName.get(k);
             FieldConverter fieldConverter = FieldConverter.get(field);
             if (ENTITY.equals(field.type())) {
-                document.ifPresent(d -> fieldConverter.convert(entity,
-                        null, d, field, this));
+                if (document != null) {
+                    fieldConverter.convert(entity, null, document, field, this);
+                }
             } else {
-                fieldConverter.convert(entity, documents, document.orElse(null), field, this);
+                fieldConverter.convert(entity, documents, document, field, this);
             }
         };
     }
 
     private <T> T convertEntityByConstructor(List<Document> documents, EntityMetadata mapping) {
         ConstructorBuilder builder = ConstructorBuilder.of(mapping.constructor());
+        Map<String, Document> documentsByName = groupByName(documents);
         for (ParameterMetaData parameter : builder.getParameters()) {
-            Optional<Document> document = documents.stream()
-                    .filter(c -> c.name().equals(parameter.getName()))
-                    .findFirst();
-            document.ifPresentOrElse(c -> {
+            Document document = documentsByName.get(parameter.getName());
+            if (document == null) {
+                builder.addEmptyParameter();
+            } else {
                 ParameterConverter converter = ParameterConverter.of(parameter);
-                converter.convert(this, c, parameter, builder);
-            }, builder::addEmptyParameter);
+                converter.convert(this, document, parameter, builder);
+            }
         }
         return builder.build();
     }
@@ -209,21 +256,29 @@ public abstract class DocumentEntityConverter {
     }
 
     private <T> T convertEntity(List<Document> documents, EntityMetadata mapping, T instance) {
-        final Map<String, FieldMapping> fieldsGroupByName = mapping.fieldsGroupByName();
-        final List<String> names = documents.stream().map(Document::name).sorted().collect(Collectors.toList());
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        final Predicate<String> isElementType = k -> {
-            MappingType type = fieldsGroupByName.get(k).type();
-            return EMBEDDED.equals(type) || ENTITY.equals(type);
-        };
-
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, documents, fieldsGroupByName));
+        return convertEntity(documents, mapping.fieldsGroupByName(), instance);
+    }
 
+    private <T> T convertEntity(List<Document> documents, Map<String, FieldMapping> fieldsGroupByName, T instance) {
+        final Map<String, Document> documentsByName = groupByName(documents);
+        final Consumer<String> feedObject = feedObject(instance, documents, documentsByName, fieldsGroupByName);
+        for (Map.Entry<String, FieldMapping> entry : fieldsGroupByName.entrySet()) {
+            MappingType type = entry.getValue().type();
+            if (documentsByName.containsKey(entry.getKey()) || EMBEDDED.equals(type) || ENTITY.equals(type)) {
+                feedObject.accept(entry.getKey());
+            }
+        }
         return instance;
     }
 
+    private static Map<String, Document> groupByName(List<Document> documents) {
+        Map<String, Document> documentsByName = new HashMap<>(Math.max(16, documents.size() * 2));
+        for (Document document : documents) {
+            documentsByName.putIfAbsent(document.name(), document);
+        }
+        return documentsByName;
+    }
+
     private <T> T inheritanceToEntity(List<Document> documents, EntityMetadata mapping) {
         Map<String, InheritanceMetadata> group = getEntities()
                 .findByParentGroupByDiscriminatorValue(mapping.type());
@@ -47,6 +47,20 @@ public interface JNoSQLDocumentTemplate extends DocumentTemplate {
      */
     <T> Stream<T> select(DocumentQuery query);
 
+    /**
+     * Finds the documents from query and maps them straight onto a projection type, such as a record or a DTO,
+     * without creating the entities. When the query does not select any document, it selects the documents of the
+     * projection fields.
+     *
+     * @param query      - query to figure out the documents
+     * @param projection the projection type
+     * @param <T>        the projection type
+     * @return the projections found by query
+     * @throws NullPointerException when either query or projection are null
+     * @see org.eclipse.jnosql.mapping.reflection.ProjectionMetadata
+     */
+    <T> Stream<T> select(DocumentQuery query, Class<T> projection);
+
     /**
      * Returns the number of items in the collection that match a specified query.
      *
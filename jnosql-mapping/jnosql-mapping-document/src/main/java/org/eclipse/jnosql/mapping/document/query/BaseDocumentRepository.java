@@ -14,17 +14,15 @@
  */
 package org.eclipse.jnosql.mapping.document.query;
 
+import jakarta.data.repository.KeysetAwareSlice;
 import jakarta.data.repository.Limit;
 import jakarta.data.repository.Page;
 import jakarta.data.repository.Pageable;
 import jakarta.data.repository.Sort;
-import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.document.DeleteQueryParser;
 import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
-import org.eclipse.jnosql.communication.document.DocumentDeleteQueryParams;
 import org.eclipse.jnosql.communication.document.DocumentObserverParser;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
-import org.eclipse.jnosql.communication.document.DocumentQueryParams;
 import org.eclipse.jnosql.communication.document.SelectQueryParser;
 import org.eclipse.jnosql.communication.query.DeleteQuery;
 import org.eclipse.jnosql.communication.query.SelectQuery;
@@ -42,13 +40,13 @@ import org.eclipse.jnosql.mapping.util.ParamsBinder;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
-import static java.util.stream.Collectors.toUnmodifiableList;
-
 public abstract class BaseDocumentRepository<T> {
 
     private static final SelectQueryParser SELECT_PARSER = new SelectQueryParser();
@@ -67,26 +65,27 @@ public abstract class BaseDocumentRepository<T> {
 
     private ParamsBinder paramsBinder;
 
+    private final Map<Method, DocumentQueryPlan<DocumentQuery>> selectQueries = new ConcurrentHashMap<>();
+
+    private final Map<Method, DocumentQueryPlan<DocumentDeleteQuery>> deleteQueries = new ConcurrentHashMap<>();
+
 
     protected DocumentQuery getQuery(Method method, Object[] args) {
-        SelectMethodProvider provider = SelectMethodProvider.INSTANCE;
-        SelectQuery selectQuery = provider.apply(method, getEntityMetadata().name());
-        DocumentQueryParams queryParams = SELECT_PARSER.apply(selectQuery, getParser());
-        DocumentQuery query = queryParams.query();
-        Params params = queryParams.params();
-        getParamsBinder().bind(params, getArgs(args), method);
+        DocumentQueryPlan<DocumentQuery> plan = selectQueries.computeIfAbsent(method, m -> {
+            SelectQuery selectQuery = SelectMethodProvider.INSTANCE.apply(m, getEntityMetadata().name());
+            return DocumentQueryPlan.of(SELECT_PARSER.apply(selectQuery, getParser()));
+        });
+        DocumentQuery query = plan.bind(getParamsBinder().values(plan.names(), getArgs(args), method));
         return updateQueryDynamically(getArgs(args), query);
     }
 
 
     protected DocumentDeleteQuery getDeleteQuery(Method method, Object[] args) {
-        DeleteMethodProvider deleteMethodFactory = DeleteMethodProvider.INSTANCE;
-        DeleteQuery deleteQuery = deleteMethodFactory.apply(method, getEntityMetadata().name());
-        DocumentDeleteQueryParams queryParams = DELETE_PARSER.apply(deleteQuery, getParser());
-        DocumentDeleteQuery query = queryParams.query();
-        Params params = queryParams.params();
-        getParamsBinder().bind(params, getArgs(args), method);
-        return query;
+        DocumentQueryPlan<DocumentDeleteQuery> plan = deleteQueries.computeIfAbsent(method, m -> {
+            DeleteQuery deleteQuery = DeleteMethodProvider.INSTANCE.apply(m, getEntityMetadata().name());
+            return DocumentQueryPlan.of(DELETE_PARSER.apply(deleteQuery, getParser()));
+        });
+        return plan.bind(getParamsBinder().values(plan.names(), getArgs(args), method));
     }
 
     private static Object[] getArgs(Object[] args) {
@@ -168,16 +167,17 @@ public abstract class BaseDocumentRepository<T> {
                 .withPagination(DynamicReturn.findPageable(args))
                 .withStreamPagination(streamPagination(query))
                 .withSingleResultPagination(getSingleResult(query))
-                .withPage(getPage(query))
+                .withPage(getPage(query, KeysetAwareSlice.class.isAssignableFrom(method.getReturnType())))
                 .build();
         return dynamicReturn.execute();
     }
 
     protected Function<Pageable, Page<T>> getPage(DocumentQuery query) {
-        return p -> {
-            Stream<T> entities = getTemplate().select(query);
-            return NoSQLPage.of(entities.collect(toUnmodifiableList()), p);
-        };
+        return getPage(query, false);
+    }
+
+    protected Function<Pageable, Page<T>> getPage(DocumentQuery query, boolean keyset) {
+        return p -> DocumentPages.page(getTemplate(), getEntityMetadata(), getConverters(), query, p, keyset);
     }
 
     protected Function<Pageable, Optional<T>> getSingleResult(DocumentQuery query) {
@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.document.query;
+
+import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.Params;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentCondition;
+import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
+import org.eclipse.jnosql.communication.document.DocumentDeleteQueryParams;
+import org.eclipse.jnosql.communication.document.DocumentQuery;
+import org.eclipse.jnosql.communication.document.DocumentQueryParams;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * The query of a repository method built once, with the native names already resolved. The params of the query
+ * are marked with their position, so each call binds its values by position into a new condition, and the
+ * cached query is never changed, thus, it can be shared by several threads.
+ *
+ * @param <Q> the query type
+ */
+final class DocumentQueryPlan<Q> {
+
+    private final Q query;
+
+    private final DocumentCondition condition;
+
+    private final List<String> names;
+
+    private final BiFunction<Q, DocumentCondition, Q> where;
+
+    private DocumentQueryPlan(Q query, DocumentCondition condition, Params params,
+                              BiFunction<Q, DocumentCondition, Q> where) {
+        this.query = query;
+        this.condition = condition;
+        this.names = params.getParametersNames();
+        this.where = where;
+        for (int index = 0; index < names.size(); index++) {
+            params.bind(names.get(index), new Slot(index, names.get(index)));
+        }
+    }
+
+    /**
+     * @return the params names in the order of their positions
+     */
+    List<String> names() {
+        return names;
+    }
+
+    /**
+     * Returns the query with the values bound to the params
+     *
+     * @param values the values by position, see {@link org.eclipse.jnosql.mapping.util.ParamsBinder#values}
+     * @return the query
+     */
+    Q bind(Object[] values) {
+        if (names.isEmpty() || condition == null) {
+            return query;
+        }
+        return where.apply(query, bind(condition, values));
+    }
+
+    static DocumentQueryPlan<DocumentQuery> of(DocumentQueryParams queryParams) {
+        DocumentQuery query = queryParams.query();
+        return new DocumentQueryPlan<>(query, query.condition().orElse(null), queryParams.params(),
+                (q, c) -> DocumentQuery.builder(q.documents().toArray(String[]::new))
+                        .from(q.name())
+                        .sort(q.sorts().toArray(Sort[]::new))
+                        .skip(q.skip())
+                        .limit(q.limit())
+                        .fetchSize(q.fetchSize())
+                        .where(c)
+                        .build());
+    }
+
+    static DocumentQueryPlan<DocumentDeleteQuery> of(DocumentDeleteQueryParams queryParams) {
+        DocumentDeleteQuery query = queryParams.query();
+        return new DocumentQueryPlan<>(query, query.condition().orElse(null), queryParams.params(),
+                (q, c) -> DocumentDeleteQuery.builder(q.documents().toArray(String[]::new))
+                        .from(q.name())
+                        .where(c)
+                        .build());
+    }
+
+    private static DocumentCondition bind(DocumentCondition condition, Object[] values) {
+        Document document = condition.document();
+        switch (condition.condition()) {
+            case AND:
+                return DocumentCondition.and(bind(document, values));
+            case OR:
+                return DocumentCondition.or(bind(document, values));
+            case NOT:
+                return bind(document.get(DocumentCondition.class), values).negate();
+            default:
+                Value value = bind(document.value(), values);
+                return DocumentCondition.of(Document.of(document.name(), value), condition.condition());
+        }
+    }
+
+    private static DocumentCondition[] bind(Document document, Object[] values) {
+        List<DocumentCondition> conditions = document.get(new TypeReference<List<DocumentCondition>>() {
+        });
+        return conditions.stream().map(c -> bind(c, values)).toArray(DocumentCondition[]::new);
+    }
+
+    private static Value bind(Value value, Object[] values) {
+        Object current = value.get();
+        if (current instanceof Slot) {
+            return Value.of(((Slot) current).value(values));
+        }
+        if (current instanceof Iterable) {
+            List<Object> elements = new ArrayList<>();
+            for (Object element : (Iterable<?>) current) {
+                elements.add(element instanceof Value ? bind((Value) element, values) : element);
+            }
+            return Value.of(elements);
+        }
+        return value;
+    }
+
+    /**
+     * The mark of a param at the cached query
+     */
+    private static final class Slot {
+
+        private final int index;
+
+        private final String name;
+
+        private Slot(int index, String name) {
+            this.index = index;
+            this.name = name;
+        }
+
+        private Object value(Object[] values) {
+            Object value = values[index];
+            if (value == null) {
+                throw new QueryException(String.format("The value of parameter %s cannot be null", name));
+            }
+            return value;
+        }
+    }
+}
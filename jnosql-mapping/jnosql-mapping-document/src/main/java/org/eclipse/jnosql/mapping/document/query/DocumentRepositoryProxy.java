@@ -46,8 +46,8 @@ class DocumentRepositoryProxy<T> extends AbstractDocumentRepositoryProxy<T> {
         Class<T> typeClass = (Class) ((ParameterizedType) repositoryType.getGenericInterfaces()[0])
                 .getActualTypeArguments()[0];
         this.entityMetadata = entities.get(typeClass);
-        this.repository = new DocumentRepository(template, entityMetadata);
         this.converters = converters;
+        this.repository = new DocumentRepository(template, entityMetadata, converters);
     }
 
 
@@ -78,9 +78,12 @@ class DocumentRepositoryProxy<T> extends AbstractDocumentRepositoryProxy<T> {
 
         private final EntityMetadata entityMetadata;
 
-        DocumentRepository(JNoSQLDocumentTemplate template, EntityMetadata entityMetadata) {
+        private final Converters converters;
+
+        DocumentRepository(JNoSQLDocumentTemplate template, EntityMetadata entityMetadata, Converters converters) {
             this.template = template;
             this.entityMetadata = entityMetadata;
+            this.converters = converters;
         }
 
         @Override
@@ -93,6 +96,10 @@ class DocumentRepositoryProxy<T> extends AbstractDocumentRepositoryProxy<T> {
             return entityMetadata;
         }
 
+        @Override
+        protected Converters getConverters() {
+            return converters;
+        }
 
     }
 }
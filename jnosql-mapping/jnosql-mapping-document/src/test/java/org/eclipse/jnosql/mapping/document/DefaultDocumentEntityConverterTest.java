@@ -32,6 +32,7 @@ import org.eclipse.jnosql.mapping.document.entities.Job;
 import org.eclipse.jnosql.mapping.document.entities.Money;
 import org.eclipse.jnosql.mapping.document.entities.Movie;
 import org.eclipse.jnosql.mapping.document.entities.Person;
+import org.eclipse.jnosql.mapping.document.entities.PersonSummary;
 import org.eclipse.jnosql.mapping.document.entities.Vendor;
 import org.eclipse.jnosql.mapping.document.entities.Worker;
 import org.eclipse.jnosql.mapping.document.entities.ZipCode;
@@ -136,6 +137,43 @@ public class DefaultDocumentEntityConverterTest {
     }
 
 
+    @Test
+    public void shouldIgnoreUnknownDocuments() {
+        DocumentEntity entity = DocumentEntity.of("Actor");
+        entity.add(Document.of("unknown", "value"));
+        Stream.of(documents).forEach(entity::add);
+
+        Actor actor = converter.toEntity(Actor.class, entity);
+        assertNotNull(actor);
+        assertEquals("Otavio", actor.getName());
+        assertEquals(10, actor.getAge());
+        assertEquals(12L, actor.getId());
+    }
+
+    @Test
+    public void shouldConvertProjectedFields() {
+        DocumentEntity entity = DocumentEntity.of("Actor");
+        Stream.of(documents).forEach(entity::add);
+
+        Actor actor = converter.toEntity(entity, List.of("name", "age"));
+        assertEquals("Otavio", actor.getName());
+        assertEquals(10, actor.getAge());
+        assertNull(actor.getPhones());
+        assertThrows(NullPointerException.class, () -> converter.toEntity(entity, (List<String>) null));
+    }
+
+    @Test
+    public void shouldConvertToProjection() {
+        DocumentEntity entity = DocumentEntity.of("Actor");
+        Stream.of(documents).forEach(entity::add);
+
+        PersonSummary summary = converter.toProjection(PersonSummary.class, entity);
+        assertEquals("Otavio", summary.getName());
+        assertEquals(10, summary.getAge());
+        assertThrows(NullPointerException.class, () -> converter.toProjection(null, entity));
+        assertThrows(NullPointerException.class, () -> converter.toProjection(PersonSummary.class, null));
+    }
+
     @Test
     public void shouldConvertColumnEntityToExistEntity() {
         DocumentEntity entity = DocumentEntity.of("Actor");
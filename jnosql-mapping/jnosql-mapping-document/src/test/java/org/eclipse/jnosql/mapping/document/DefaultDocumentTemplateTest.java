@@ -14,7 +14,9 @@
  */
 package org.eclipse.jnosql.mapping.document;
 
+import jakarta.data.exceptions.MappingException;
 import jakarta.data.exceptions.NonUniqueResultException;
+import org.eclipse.jnosql.communication.AggregateCapability;
 import jakarta.nosql.PreparedStatement;
 import org.eclipse.jnosql.communication.document.Document;
 
@@ -32,6 +34,7 @@ import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
 import org.eclipse.jnosql.mapping.document.entities.Job;
 import org.eclipse.jnosql.mapping.document.entities.Movie;
 import org.eclipse.jnosql.mapping.document.entities.Person;
+import org.eclipse.jnosql.mapping.document.entities.PersonSummary;
 
 import org.jboss.weld.junit5.auto.AddExtensions;
 import org.jboss.weld.junit5.auto.AddPackages;
@@ -46,12 +49,15 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.eclipse.jnosql.communication.document.DocumentDeleteQuery.delete;
 import static org.eclipse.jnosql.communication.document.DocumentQuery.select;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -219,11 +225,12 @@ public class DefaultDocumentTemplateTest {
         Duration duration = Duration.ofHours(2);
 
         Mockito.when(managerMock
-                .insert(any(DocumentEntity.class), Mockito.eq(duration)))
-                .thenReturn(documentEntity);
+                .insert(any(Iterable.class), Mockito.eq(duration)))
+                .thenReturn(List.of(documentEntity, documentEntity));
 
         template.insert(Arrays.asList(person, person), duration);
-        verify(managerMock, times(2)).insert(any(DocumentEntity.class), any(Duration.class));
+        verify(managerMock).insert(any(Iterable.class), any(Duration.class));
+        verify(managerMock, Mockito.never()).insert(any(DocumentEntity.class), any(Duration.class));
     }
 
     @Test
@@ -232,11 +239,50 @@ public class DefaultDocumentTemplateTest {
         documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .insert(any(DocumentEntity.class)))
-                .thenReturn(documentEntity);
+                .insert(any(Iterable.class)))
+                .thenReturn(List.of(documentEntity, documentEntity));
+
+        Iterable<Person> result = template.insert(Arrays.asList(person, person));
+        verify(managerMock).insert(any(Iterable.class));
+        verify(managerMock, Mockito.never()).insert(any(DocumentEntity.class));
+        verify(documentEventPersistManager, times(2)).firePreEntity(any(Person.class));
+        verify(documentEventPersistManager, times(2)).firePostEntity(any(Person.class));
+        assertThat(result).hasSize(2);
+    }
+
+    @Test
+    public void shouldInsertEntitiesInChunks() {
+        DocumentEntity documentEntity = DocumentEntity.of("Person");
+        documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        Instance<DocumentManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(managerMock);
+        DefaultDocumentTemplate template = new DefaultDocumentTemplate(converter, instance,
+                new DefaultDocumentWorkflow(documentEventPersistManager, converter),
+                documentEventPersistManager, entities, converters) {
+            @Override
+            protected int getBatchSize() {
+                return 2;
+            }
+        };
+
+        Mockito.when(managerMock
+                .insert(any(Iterable.class)))
+                .thenReturn(List.of(documentEntity, documentEntity), List.of(documentEntity));
 
-        template.insert(Arrays.asList(person, person));
-        verify(managerMock, times(2)).insert(any(DocumentEntity.class));
+        Iterable<Person> result = template.insert(Arrays.asList(person, person, person));
+        verify(managerMock, times(2)).insert(any(Iterable.class));
+        verify(documentEventPersistManager, times(3)).firePostEntity(any(Person.class));
+        assertThat(result).hasSize(3);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenBatchResultIsSmaller() {
+        Mockito.when(managerMock
+                .insert(any(Iterable.class)))
+                .thenReturn(List.of());
+
+        Assertions.assertThrows(MappingException.class, () -> template.insert(Arrays.asList(person, person)));
+        verify(documentEventPersistManager, Mockito.never()).firePostEntity(any(Person.class));
     }
 
     @Test
@@ -245,14 +291,14 @@ public class DefaultDocumentTemplateTest {
         documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .update(any(DocumentEntity.class)))
-                .thenReturn(documentEntity);
+                .update(any(Iterable.class)))
+                .thenReturn(List.of(documentEntity, documentEntity));
 
         template.update(Arrays.asList(person, person));
-        verify(managerMock, times(2)).update(any(DocumentEntity.class));
+        verify(managerMock).update(any(Iterable.class));
+        verify(managerMock, Mockito.never()).update(any(DocumentEntity.class));
     }
 
-
     @Test
     public void shouldDelete() {
 
@@ -271,6 +317,7 @@ public class DefaultDocumentTemplateTest {
     @Test
     public void shouldCountBy() {
         DocumentQuery query = select().from("Person").where("age").gt(10).build();
+        when(managerMock.aggregateCapabilities()).thenReturn(EnumSet.allOf(AggregateCapability.class));
         template.count(query);
         verify(managerMock).count(query);
     }
@@ -279,6 +326,37 @@ public class DefaultDocumentTemplateTest {
     public void shouldGroupBy() {
         DocumentQuery query = select().from("Person").where("age").gt(10)
                 .limit(1).build();
+        when(managerMock.aggregateCapabilities()).thenReturn(EnumSet.allOf(AggregateCapability.class));
+        template.count(query);
+        verify(managerMock).count(query);
+    }
+
+    @Test
+    public void shouldProjectIdToCountWhenThereIsNoNativeCount() {
+        DocumentQuery query = select().from("Person").where("age").gt(10).skip(2).limit(10).build();
+        template.count(query);
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock).count(captor.capture());
+        DocumentQuery projection = captor.getValue();
+        assertThat(projection.documents()).containsExactly("_id");
+        assertThat(projection.name()).isEqualTo("Person");
+        assertThat(projection.condition()).isEqualTo(query.condition());
+        assertThat(projection.skip()).isEqualTo(2L);
+        assertThat(projection.limit()).isEqualTo(10L);
+    }
+
+    @Test
+    public void shouldProjectIdToExistsWhenThereIsNoNativeExists() {
+        DocumentQuery query = select().from("Person").where("age").gt(10).build();
+        template.exists(query);
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock).exists(captor.capture());
+        assertThat(captor.getValue().documents()).containsExactly("_id");
+    }
+
+    @Test
+    public void shouldKeepProjectionToCount() {
+        DocumentQuery query = select("name").from("Person").build();
         template.count(query);
         verify(managerMock).count(query);
     }
@@ -385,6 +463,45 @@ public class DefaultDocumentTemplateTest {
         assertEquals("movie", query.name());
     }
 
+    @Test
+    public void shouldConvertProjectedQuery() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+        entity.add("phones", List.of("123"));
+        when(managerMock.select(any(DocumentQuery.class))).thenReturn(Stream.of(entity));
+
+        List<Person> people = template.<Person>query("  select name, age from Person").collect(Collectors.toList());
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock).select(queryCaptor.capture());
+        assertThat(queryCaptor.getValue().documents()).containsExactly("name", "age");
+        assertThat(people).hasSize(1);
+        assertEquals("Ada", people.get(0).getName());
+        assertEquals(10, people.get(0).getAge());
+        assertThat(people.get(0).getPhones()).isNull();
+    }
+
+    @Test
+    public void shouldSelectProjection() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+        when(managerMock.select(any(DocumentQuery.class))).thenReturn(Stream.of(entity));
+
+        DocumentQuery query = select().from("Person").where("age").gt(5).limit(10).build();
+        List<PersonSummary> summaries = template.select(query, PersonSummary.class).collect(Collectors.toList());
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock).select(queryCaptor.capture());
+        DocumentQuery projected = queryCaptor.getValue();
+        assertThat(projected.documents()).containsExactly("name", "age");
+        assertEquals(query.condition(), projected.condition());
+        assertEquals(10L, projected.limit());
+        assertThat(summaries).hasSize(1);
+        assertEquals("Ada", summaries.get(0).getName());
+        assertEquals(10, summaries.get(0).getAge());
+        Assertions.assertThrows(NullPointerException.class, () -> template.select(query, null));
+    }
+
     @Test
     public void shouldPreparedStatement() {
         PreparedStatement preparedStatement = template.prepare("select * from Person where name = @name");
@@ -24,9 +24,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class DocumentEventPersistManagerTest {
@@ -41,6 +49,9 @@ public class DocumentEventPersistManagerTest {
     @Mock
     private Event<EntityPostPersist> entityPostPersistEvent;
 
+    @Mock
+    private BeanManager beanManager;
+
 
 
 
@@ -71,6 +82,26 @@ public class DocumentEventPersistManagerTest {
 
 
 
+    @Test
+    public void shouldNotFireEventsWhenThereIsNoObserver() {
+        subject.init();
+        Jedi jedi = new Jedi();
+        subject.firePreEntity(jedi);
+        subject.firePostEntity(jedi);
+        verifyNoInteractions(entityPrePersistEvent, entityPostPersistEvent);
+    }
+
+    @Test
+    public void shouldFireEventsWhenThereIsObserver() {
+        doReturn(Set.of(mock(ObserverMethod.class))).when(beanManager).resolveObserverMethods(any());
+        subject.init();
+        Jedi jedi = new Jedi();
+        subject.firePreEntity(jedi);
+        subject.firePostEntity(jedi);
+        verify(entityPrePersistEvent).fire(any(EntityPrePersist.class));
+        verify(entityPostPersistEvent).fire(any(EntityPostPersist.class));
+    }
+
     static class Jedi {
         private String name;
     }
@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.mapping.document.query;
 
+import jakarta.data.repository.KeysetAwarePage;
 import jakarta.data.repository.Limit;
 import jakarta.data.repository.Page;
 import jakarta.data.repository.Pageable;
@@ -29,6 +30,7 @@ import org.eclipse.jnosql.communication.document.DocumentCondition;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
 import org.eclipse.jnosql.mapping.Convert;
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.DynamicQueryException;
 import org.eclipse.jnosql.mapping.NoSQLPage;
 import org.eclipse.jnosql.mapping.document.DocumentWorkflow;
 import org.eclipse.jnosql.mapping.document.JNoSQLDocumentTemplate;
@@ -73,6 +75,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -621,6 +624,115 @@ class DocumentRepositoryProxyPageableTest {
         assertEquals(Document.of("name", "name"), condition.document());
     }
 
+    @Test
+    public void shouldCountTotalsOnlyWhenAsked() {
+        when(template.count(any(DocumentQuery.class))).thenReturn(13L);
+        Pageable pagination = getPageable().sortBy(Sort.asc("name"));
+        Page<Person> page = personRepository.findByNameOrderByAge("name", pagination);
+
+        verify(template, never()).count(any(DocumentQuery.class));
+        assertEquals(13L, page.totalElements());
+        assertEquals(3L, page.totalPages());
+
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).count(captor.capture());
+        DocumentQuery query = captor.getValue();
+        assertEquals("Person", query.name());
+        assertEquals(0L, query.skip());
+        assertEquals(0L, query.limit());
+        assertThat(query.sorts()).isEmpty();
+        assertEquals(Document.of("name", "name"), query.condition().get().document());
+    }
+
+    @Test
+    public void shouldFindAfterKeyset() {
+        Person ada = Person.builder().withId(1L).withName("Ada").withAge(20).build();
+        Person poliana = Person.builder().withId(2L).withName("Poliana").withAge(20).build();
+        when(template.select(any(DocumentQuery.class))).thenReturn(Stream.of(poliana, ada));
+        Pageable pagination = Pageable.ofSize(2).sortBy(Sort.asc("name")).afterKeyset(20, "Otavio");
+        Page<Person> page = personRepository.findByNameOrderByAge("name", pagination);
+
+        assertThat(page).isInstanceOf(KeysetAwarePage.class);
+        assertThat(page.content()).containsExactly(poliana, ada);
+        Pageable next = page.nextPageable();
+        assertEquals(Pageable.Mode.CURSOR_NEXT, next.mode());
+        assertEquals(20, next.cursor().getKeysetElement(0));
+        assertEquals("Ada", next.cursor().getKeysetElement(1));
+
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).select(captor.capture());
+        DocumentQuery query = captor.getValue();
+        assertEquals(0L, query.skip());
+        assertEquals(2L, query.limit());
+        assertThat(query.sorts()).containsExactly(Sort.asc("age"), Sort.asc("name"));
+
+        DocumentCondition condition = query.condition().get();
+        assertEquals(AND, condition.condition());
+        List<DocumentCondition> conditions = condition.document().get(new TypeReference<>() {
+        });
+        assertEquals(Document.of("name", "name"), conditions.get(0).document());
+        DocumentCondition keyset = conditions.get(1);
+        assertEquals(Condition.OR, keyset.condition());
+        List<DocumentCondition> keysets = keyset.document().get(new TypeReference<>() {
+        });
+        assertEquals(DocumentCondition.gt(Document.of("age", 20)), keysets.get(0));
+        assertEquals(DocumentCondition.and(DocumentCondition.eq(Document.of("age", 20)),
+                DocumentCondition.gt(Document.of("name", "Otavio"))), keysets.get(1));
+    }
+
+    @Test
+    public void shouldFindBeforeKeyset() {
+        Person ada = Person.builder().withId(1L).withName("Ada").withAge(20).build();
+        Person poliana = Person.builder().withId(2L).withName("Poliana").withAge(20).build();
+        when(template.select(any(DocumentQuery.class))).thenReturn(Stream.of(poliana, ada));
+        Pageable pagination = Pageable.ofPage(3).size(2).sortBy(Sort.desc("name")).beforeKeyset(20, "Otavio");
+        Page<Person> page = personRepository.findByNameOrderByAge("name", pagination);
+
+        assertThat(page.content()).containsExactly(ada, poliana);
+
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).select(captor.capture());
+        DocumentQuery query = captor.getValue();
+        assertThat(query.sorts()).containsExactly(Sort.desc("age"), Sort.asc("name"));
+    }
+
+    @Test
+    public void shouldReturnKeysetAwarePageAtOffset() {
+        Person ada = Person.builder().withId(1L).withName("Ada").withAge(20).build();
+        when(template.select(any(DocumentQuery.class))).thenReturn(Stream.of(ada));
+        KeysetAwarePage<Person> page = personRepository.findByNameOrderByName("name", getPageable());
+
+        assertThat(page.content()).containsExactly(ada);
+        assertNull(page.nextPageable());
+        assertEquals(Pageable.Mode.CURSOR_PREVIOUS, page.previousPageable().mode());
+        assertEquals("Ada", page.getKeysetCursor(0).getKeysetElement(0));
+
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).select(captor.capture());
+        assertEquals(NoSQLPage.skip(getPageable()), captor.getValue().skip());
+    }
+
+    @Test
+    public void shouldFindAllAfterKeysetById() {
+        when(template.select(any(DocumentQuery.class))).thenReturn(Stream.empty());
+        Page<Person> page = personRepository.findAll(Pageable.ofSize(2).afterKeyset(10L));
+
+        assertFalse(page.hasContent());
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).select(captor.capture());
+        DocumentQuery query = captor.getValue();
+        assertEquals(0L, query.skip());
+        assertThat(query.sorts()).containsExactly(Sort.asc("_id"));
+        assertEquals(DocumentCondition.gt(Document.of("_id", 10L)), query.condition().get());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenKeysetDoesNotMatchSort() {
+        Pageable pagination = Pageable.ofSize(2).afterKeyset(20, "Otavio", 10L);
+        Assertions.assertThrows(DynamicQueryException.class, () ->
+                personRepository.findByNameOrderByName("name", pagination));
+    }
+
     private Pageable getPageable() {
         return Pageable.ofPage(2).size(6);
     }
@@ -638,6 +750,8 @@ class DocumentRepositoryProxyPageableTest {
 
         Page<Person> findByNameOrderByAge(String name, Pageable Pageable);
 
+        KeysetAwarePage<Person> findByNameOrderByName(String name, Pageable pageable);
+
         Slice<Person> findByAge(String age, Pageable Pageable);
 
         List<Person> findByNameAndAge(String name, Integer age, Pageable Pageable);
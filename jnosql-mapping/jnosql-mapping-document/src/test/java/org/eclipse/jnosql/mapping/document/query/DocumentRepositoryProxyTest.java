@@ -200,6 +200,37 @@ public class DocumentRepositoryProxyTest {
 
     }
 
+    @Test
+    public void shouldBindNewValuesWhenCallTheSameMethodAgain() {
+        when(template.singleResult(Mockito.any(DocumentQuery.class))).thenReturn(Optional
+                .of(Person.builder().build()));
+
+        personRepository.findByName("Ada");
+        personRepository.findByName("Poliana");
+
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template, Mockito.times(2)).singleResult(captor.capture());
+        List<DocumentQuery> queries = captor.getAllValues();
+        assertEquals(Document.of("name", "Ada"), queries.get(0).condition().get().document());
+        assertEquals(Document.of("name", "Poliana"), queries.get(1).condition().get().document());
+    }
+
+    @Test
+    public void shouldBindNewValuesAtEachConditionWhenCallTheSameMethodAgain() {
+        when(template.select(Mockito.any(DocumentQuery.class))).thenAnswer(invocation -> Stream.empty());
+
+        personRepository.findByNameAndAge("Ada", 20);
+        personRepository.findByNameAndAge("Poliana", 30);
+
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template, Mockito.times(2)).select(captor.capture());
+        List<DocumentQuery> queries = captor.getAllValues();
+        assertEquals(DocumentCondition.and(DocumentCondition.eq(Document.of("name", "Ada")),
+                DocumentCondition.eq(Document.of("age", 20))), queries.get(0).condition().get());
+        assertEquals(DocumentCondition.and(DocumentCondition.eq(Document.of("name", "Poliana")),
+                DocumentCondition.eq(Document.of("age", 30))), queries.get(1).condition().get());
+    }
+
     @Test
     public void shouldFindByNameANDAge() {
         Person ada = Person.builder()
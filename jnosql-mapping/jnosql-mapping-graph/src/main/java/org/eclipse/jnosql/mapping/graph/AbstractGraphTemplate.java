@@ -28,6 +28,7 @@ import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Transaction;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
 import org.eclipse.jnosql.mapping.reflection.FieldMapping;
@@ -37,10 +38,14 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -52,8 +57,16 @@ import java.util.stream.StreamSupport;
 import static java.util.Objects.isNull;
 import static java.util.Objects.requireNonNull;
 import static org.apache.tinkerpop.gremlin.structure.T.id;
+import static org.eclipse.jnosql.mapping.config.MappingConfigurations.GRAPH_BATCH_SIZE;
 
 public abstract class AbstractGraphTemplate implements GraphTemplate {
+
+    /**
+     * The default number of entities written at each graph transaction when the template inserts or updates several
+     * entities
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1_000;
+
     private static final Function<GraphTraversal<?, ?>, GraphTraversal<Vertex, Vertex>> INITIAL_VERTEX =
             g -> (GraphTraversal<Vertex, Vertex>) g;
 
@@ -167,15 +180,79 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities) {
         requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).collect(Collectors.toList());
+        return batch(entities, false);
     }
 
     @Override
     public <T> Iterable<T> update(Iterable<T> entities) {
         requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).collect(Collectors.toList());
+        return batch(entities, true);
+    }
+
+    /**
+     * Returns the number of entities written at each graph transaction when the template inserts or updates several
+     * entities. It is defined by the {@link org.eclipse.jnosql.mapping.config.MappingConfigurations#GRAPH_BATCH_SIZE}
+     * property, the default value is {@link AbstractGraphTemplate#DEFAULT_BATCH_SIZE}.
+     *
+     * @return the batch size
+     */
+    protected int getBatchSize() {
+        return MicroProfileSettings.INSTANCE.getOrDefault(GRAPH_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+    }
+
+    private <T> Iterable<T> batch(Iterable<T> entities, boolean update) {
+        int size = Math.max(1, getBatchSize());
+        List<T> result = new ArrayList<>();
+        List<T> chunk = new ArrayList<>();
+        for (T entity : entities) {
+            requireNonNull(entity, "entity is required");
+            chunk.add(entity);
+            if (chunk.size() == size) {
+                result.addAll(batchFlow(chunk, update));
+                chunk = new ArrayList<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            result.addAll(batchFlow(chunk, update));
+        }
+        return result;
+    }
+
+    /**
+     * Resolves the existing vertices of the whole chunk with a single traversal, keyed by the String form of the id,
+     * since the graph might return the id in another type, then writes the chunk and commits it once.
+     * When several new entities of the chunk share an id, the first one creates the vertex and the others find it.
+     */
+    private <T> List<T> batchFlow(List<T> entities, boolean update) {
+        List<Object> ids = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            checkId(entity);
+            Optional<Object> id = getConverter().vertexId(entity);
+            if (update && id.isEmpty()) {
+                throw new IllegalStateException("to update a graph id cannot be null");
+            }
+            id.ifPresent(ids::add);
+        }
+        Map<String, Vertex> vertices = new HashMap<>();
+        if (!ids.isEmpty()) {
+            traversal().V(ids.toArray()).forEachRemaining(v -> vertices.put(String.valueOf(v.id()), v));
+        }
+        if (update && vertices.size() < ids.stream().map(String::valueOf).distinct().count()) {
+            throw new EmptyResultException("Entity does not find in the update");
+        }
+        Set<String> created = new HashSet<>();
+        Function<Object, Optional<Vertex>> finder = id -> {
+            String key = String.valueOf(id);
+            Vertex vertex = vertices.get(key);
+            if (vertex == null && !created.add(key)) {
+                vertex = traversal().V(id).tryNext().orElse(null);
+                if (vertex != null) {
+                    vertices.put(key, vertex);
+                }
+            }
+            return Optional.ofNullable(vertex);
+        };
+        return getFlow().batchFlow(entities, finder, () -> GraphTransactionUtil.transaction(getGraph()));
     }
 
     @Override
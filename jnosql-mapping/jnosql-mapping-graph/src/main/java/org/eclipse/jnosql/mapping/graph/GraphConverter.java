@@ -68,7 +68,23 @@ public abstract class GraphConverter {
      */
     public <T> Vertex toVertex(T entity) {
         requireNonNull(entity, "entity is required");
+        return toVertex(entity, id -> {
+            Iterator<Vertex> vertices = getGraph().vertices(id);
+            return vertices.hasNext() ? Optional.of(vertices.next()) : Optional.empty();
+        });
+    }
 
+    /**
+     * Similar to {@link GraphConverter#toVertex(Object)}, but the existing vertex of the entity id is found with the
+     * finder, so the vertices of several entities can be resolved at once instead of a graph lookup per entity.
+     * When the finder does not return a vertex, a new one is created.
+     *
+     * @param entity the entity
+     * @param finder the finder of the existing vertex by the id value
+     * @param <T>    the entity type
+     * @return the ThinkerPop Vertex with the entity values
+     */
+    <T> Vertex toVertex(T entity, Function<Object, Optional<Vertex>> finder) {
         EntityMetadata mapping = getEntities().get(entity.getClass());
         String label = mapping.name();
 
@@ -77,12 +93,9 @@ public abstract class GraphConverter {
                 .filter(FieldGraph::isNotEmpty).collect(toList());
 
         Optional<FieldGraph> id = fields.stream().filter(FieldGraph::isId).findFirst();
-        final Function<Property, Vertex> findVertexOrCreateWithId = p -> {
-            Iterator<Vertex> vertices = getGraph().vertices(p.value());
-            return vertices.hasNext() ? vertices.next() :
-                    getGraph().addVertex(org.apache.tinkerpop.gremlin.structure.T.label, label,
-                            org.apache.tinkerpop.gremlin.structure.T.id, p.value());
-        };
+        final Function<Property, Vertex> findVertexOrCreateWithId = p -> finder.apply(p.value())
+                .orElseGet(() -> getGraph().addVertex(org.apache.tinkerpop.gremlin.structure.T.label, label,
+                        org.apache.tinkerpop.gremlin.structure.T.id, p.value()));
 
         Vertex vertex = id.map(i -> i.toElement(getConverters()))
                 .map(findVertexOrCreateWithId)
@@ -319,6 +332,20 @@ public abstract class GraphConverter {
         field.write(instance, toEntity(field.nativeField().getType(), elements));
     }
 
+    /**
+     * Returns the value of the entity id as it is written at the vertex, thus, after the attribute converter
+     *
+     * @param entity the entity
+     * @param <T>    the entity type
+     * @return the id value or {@link Optional#empty()} when the id is null
+     */
+    <T> Optional<Object> vertexId(T entity) {
+        EntityMetadata mapping = getEntities().get(entity.getClass());
+        return mapping.id().map(f -> to(f, entity))
+                .filter(FieldGraph::isNotEmpty)
+                .map(f -> f.toElement(getConverters()).value());
+    }
+
     protected FieldGraph to(FieldMapping field, Object entityInstance) {
         Object value = field.read(entityInstance);
         return FieldGraph.of(value, field);
@@ -15,10 +15,14 @@
 package org.eclipse.jnosql.mapping.graph;
 
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.eclipse.jnosql.mapping.PersistScope;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
@@ -55,34 +59,54 @@ class GraphWorkflow {
      * @return after the workflow the the entity response
      */
     public <T> T flow(T entity, UnaryOperator<Vertex> action) {
-        Function<T, T> flow = getFlow(entity, action);
-        return flow.apply(entity);
+        Objects.requireNonNull(entity, "entity is required");
+        PersistScope.open();
+        try {
+            graphEventPersistManager.firePreEntity(entity);
+            Vertex vertex = converter.toVertex(entity);
+            Vertex response = action.apply(vertex);
+            T result = converter.toEntity(entity, response);
+            graphEventPersistManager.firePostEntity(result);
+            return result;
+        } finally {
+            PersistScope.close();
+        }
     }
 
-    private <T> Function<T, T> getFlow(T entity, UnaryOperator<Vertex> action) {
-        UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
-
-        UnaryOperator<T> firePreEntity = t -> {
-            graphEventPersistManager.firePreEntity(t);
-            return t;
-        };
-
-
-        Function<T, Vertex> converterGraph = t -> converter.toVertex(t);
-
-        Function<Vertex, T> converterEntity = t -> converter.toEntity(entity, t);
-
-        UnaryOperator<T> firePostEntity = t -> {
-            graphEventPersistManager.firePostEntity(t);
-            return t;
-        };
-
-
-        return validation
-                .andThen(firePreEntity)
-                .andThen(converterGraph)
-                .andThen(action)
-                .andThen(converterEntity)
-                .andThen(firePostEntity);
+    /**
+     * Executes the workflow to do an interaction on a graph database with several entities at once.
+     * It fires the {@link GraphEventPersistManager#firePreEntities(List)} and the
+     * {@link GraphEventPersistManager#firePreEntity(Object)} of the whole batch, converts all entities
+     * with the existing vertices found by the finder, executes a single action, such as the transaction commit,
+     * then it maps the vertices back to the entities and fires the
+     * {@link GraphEventPersistManager#firePostEntity(Object)}.
+     *
+     * @param entities the entities to be saved
+     * @param finder   the finder of the existing vertices by the id value
+     * @param action   the action to be executed after the vertices of the batch are written
+     * @param <T>      the entity type
+     * @return after the workflow the entities response
+     */
+    public <T> List<T> batchFlow(List<T> entities, Function<Object, Optional<Vertex>> finder, Runnable action) {
+        PersistScope.open();
+        try {
+            graphEventPersistManager.firePreEntities(entities);
+            List<Vertex> vertices = new ArrayList<>(entities.size());
+            for (T entity : entities) {
+                Objects.requireNonNull(entity, "entity is required");
+                graphEventPersistManager.firePreEntity(entity);
+                vertices.add(converter.toVertex(entity, finder));
+            }
+            action.run();
+            List<T> response = new ArrayList<>(entities.size());
+            for (int index = 0; index < entities.size(); index++) {
+                T result = converter.toEntity(entities.get(index), vertices.get(index));
+                graphEventPersistManager.firePostEntity(result);
+                response.add(result);
+            }
+            return response;
+        } finally {
+            PersistScope.close();
+        }
     }
 }
@@ -14,13 +14,15 @@
  */
 package org.eclipse.jnosql.mapping.graph;
 
-import java.util.ArrayList;
-import java.util.List;
+import org.eclipse.jnosql.communication.query.QueryCache;
+import org.eclipse.jnosql.communication.query.QueryConverters;
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiFunction;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+
+import static org.eclipse.jnosql.mapping.config.MappingConfigurations.GRAPH_QUERY_CACHE_SIZE;
 
 /**
  * This singleton has the goal to interpolate params inside the Gremlin query.
@@ -31,40 +33,29 @@ import java.util.regex.Pattern;
  * <a href="https://github.com/apache/tinkerpop/blob/e1396223ea9e1d6240c1f051036cbb5507f47f8d/gremlin-language/src/main/antlr4/Gremlin.g4">Gremlin.g4</a>
  * <p>
  * Thus, given a current query with params it should convert to Gremlin compatible syntax.
+ * Each query is split around its params once, as a {@link GremlinTemplate}, and kept in a {@link QueryCache} whose
+ * maximum size is defined by the
+ * {@link org.eclipse.jnosql.mapping.config.MappingConfigurations#GRAPH_QUERY_CACHE_SIZE} property.
+ * The string values are escaped, so a value cannot change the structure of the query.
  */
 enum GremlinParamParser implements BiFunction<String, Map<String, Object>, String> {
     INSTANCE;
 
-    private final Pattern pattern = Pattern.compile("@\\w+");
+    private final QueryCache<GremlinTemplate> templates = QueryCache.of(
+            MicroProfileSettings.INSTANCE.getOrDefault(GRAPH_QUERY_CACHE_SIZE, QueryConverters.DEFAULT_CACHE_SIZE),
+            GremlinTemplate::of);
 
     @Override
     public String apply(String query, Map<String, Object> params) {
         Objects.requireNonNull(query, "query is required");
-        Objects.requireNonNull(query, "params is required");
-        Matcher matcher = pattern.matcher(query);
-        List<String> leftParams = new ArrayList<>(params.keySet());
-        StringBuilder gremlin = new StringBuilder();
-        while (matcher.find()) {
-            String param = matcher.group().substring(1);
-            leftParams.remove(param);
-            Object value = params.get(param);
-            if (value == null) {
-                throw new GremlinQueryException("The param is " + param + " is required on the query " + query);
-            }
-            matcher.appendReplacement(gremlin, toString(value));
-        }
-        matcher.appendTail(gremlin);
-        if (leftParams.isEmpty()) {
-            return gremlin.toString();
-        }
-
-        throw new GremlinQueryException("There are params missing on the parser: " + leftParams + " on the query" + query);
+        Objects.requireNonNull(params, "params is required");
+        return templates.get(query).render(params);
     }
 
-    private String toString(Object value) {
-        if (value instanceof Number) {
-            return value.toString();
-        }
-        return '\'' + value.toString() + '\'';
+    /**
+     * @return the cache of the Gremlin queries split around their params
+     */
+    QueryCache<GremlinTemplate> templates() {
+        return templates;
     }
 }
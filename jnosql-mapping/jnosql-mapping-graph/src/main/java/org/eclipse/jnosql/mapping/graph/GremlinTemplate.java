@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A Gremlin query split, once, around its params. Thus, given the query:
+ * "g.V().hasLabel(@label).has('name', @name)" it keeps the text parts "g.V().hasLabel(", ").has('name', ", ")"
+ * and the params "label" and "name". The params inside a string literal, such as 'ada@jnosql', are not replaced.
+ * The template is immutable, so the same instance is shared by every execution of the same query.
+ */
+final class GremlinTemplate {
+
+    private static final char PARAM = '@';
+
+    private final String query;
+
+    private final List<String> parts;
+
+    private final List<String> params;
+
+    private final Set<String> names;
+
+    private GremlinTemplate(String query, List<String> parts, List<String> params) {
+        this.query = query;
+        this.parts = parts;
+        this.params = params;
+        this.names = Collections.unmodifiableSet(new LinkedHashSet<>(params));
+    }
+
+    /**
+     * @return the names of the params at the query
+     */
+    Set<String> names() {
+        return names;
+    }
+
+    /**
+     * Writes the query with the params as Gremlin literals.
+     *
+     * @param values the params values
+     * @return the Gremlin query
+     * @throws GremlinQueryException when a param is missing or there are params that are not at the query
+     */
+    String render(Map<String, Object> values) {
+        if (params.isEmpty() && values.isEmpty()) {
+            return query;
+        }
+        List<String> leftParams = new ArrayList<>(values.keySet());
+        leftParams.removeAll(names);
+        if (!leftParams.isEmpty()) {
+            throw new GremlinQueryException("There are params missing on the parser: " + leftParams
+                    + " on the query" + query);
+        }
+        StringBuilder gremlin = new StringBuilder(query.length() + params.size() * 8);
+        for (int index = 0; index < params.size(); index++) {
+            String param = params.get(index);
+            Object value = values.get(param);
+            if (value == null) {
+                throw new GremlinQueryException("The param is " + param + " is required on the query " + query);
+            }
+            gremlin.append(parts.get(index));
+            appendLiteral(gremlin, value);
+        }
+        gremlin.append(parts.get(params.size()));
+        return gremlin.toString();
+    }
+
+    private static void appendLiteral(StringBuilder gremlin, Object value) {
+        if (value instanceof Number) {
+            gremlin.append(value);
+            return;
+        }
+        gremlin.append('\'');
+        String text = value.toString();
+        for (int index = 0; index < text.length(); index++) {
+            char character = text.charAt(index);
+            switch (character) {
+                case '\'':
+                    gremlin.append("\\'");
+                    break;
+                case '\\':
+                    gremlin.append("\\\\");
+                    break;
+                case '\n':
+                    gremlin.append("\\n");
+                    break;
+                case '\r':
+                    gremlin.append("\\r");
+                    break;
+                case '\t':
+                    gremlin.append("\\t");
+                    break;
+                default:
+                    gremlin.append(character);
+            }
+        }
+        gremlin.append('\'');
+    }
+
+    /**
+     * Splits the query around its params
+     *
+     * @param query the Gremlin query
+     * @return the template
+     */
+    static GremlinTemplate of(String query) {
+        List<String> parts = new ArrayList<>();
+        List<String> params = new ArrayList<>();
+        StringBuilder part = new StringBuilder();
+        char quote = 0;
+        int index = 0;
+        while (index < query.length()) {
+            char character = query.charAt(index);
+            if (quote != 0) {
+                part.append(character);
+                if (character == '\\' && index + 1 < query.length()) {
+                    part.append(query.charAt(++index));
+                } else if (character == quote) {
+                    quote = 0;
+                }
+                index++;
+            } else if (character == '\'' || character == '"') {
+                quote = character;
+                part.append(character);
+                index++;
+            } else if (character == PARAM && index + 1 < query.length()
+                    && isParamCharacter(query.charAt(index + 1))) {
+                int end = index + 1;
+                while (end < query.length() && isParamCharacter(query.charAt(end))) {
+                    end++;
+                }
+                parts.add(part.toString());
+                part.setLength(0);
+                params.add(query.substring(index + 1, end));
+                index = end;
+            } else {
+                part.append(character);
+                index++;
+            }
+        }
+        parts.add(part.toString());
+        return new GremlinTemplate(query, Collections.unmodifiableList(parts), Collections.unmodifiableList(params));
+    }
+
+    private static boolean isParamCharacter(char character) {
+        return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z')
+                || (character >= '0' && character <= '9') || character == '_';
+    }
+
+    @Override
+    public String toString() {
+        return "GremlinTemplate{" +
+                "query='" + query + '\'' +
+                ", params=" + params +
+                '}';
+    }
+}
@@ -185,6 +185,52 @@ public abstract class AbstractGraphTemplateTest {
         assertTrue(allUpdated);
     }
 
+    @Test
+    public void shouldMergeEntitiesOnInsert() {
+        Person otavio = Person.builder().withAge().withName("Otavio").build();
+        Person poliana = Person.builder().withAge().withName("Poliana").build();
+        List<Person> people = StreamSupport.stream(getGraphTemplate().insert(Arrays.asList(otavio, poliana))
+                .spliterator(), false).collect(toList());
+        long count = getGraphTemplate().count("Person");
+
+        List<Person> merged = people.stream()
+                .map(p -> Person.builder().withAge().withId(p.getId()).withName(p.getName() + " merged").build())
+                .collect(toList());
+        getGraphTemplate().insert(merged);
+
+        assertEquals(count, getGraphTemplate().count("Person"));
+        Optional<Person> person = getGraphTemplate().find(people.get(0).getId());
+        assertEquals("Otavio merged", person.map(Person::getName).orElseThrow());
+        people.forEach(p -> getGraphTemplate().delete(p.getId()));
+    }
+
+    @Test
+    public void shouldInsertEntitiesWithTheSameIdOnce() {
+        long count = getGraphTemplate().count("Person");
+        Person otavio = Person.builder().withAge().withId(1_000L).withName("Otavio").build();
+        Person poliana = Person.builder().withAge().withId(1_000L).withName("Poliana").build();
+        getGraphTemplate().insert(Arrays.asList(otavio, poliana));
+
+        assertEquals(count + 1, getGraphTemplate().count("Person"));
+        Optional<Person> person = getGraphTemplate().find(1_000L);
+        assertEquals("Poliana", person.map(Person::getName).orElseThrow());
+        getGraphTemplate().delete(1_000L);
+    }
+
+    @Test
+    public void shouldGetErrorWhenIdIsNullWhenUpdateEntities() {
+        Person person = Person.builder().withAge().withName("Otavio").build();
+        assertThrows(IllegalStateException.class, () -> getGraphTemplate().update(List.of(person)));
+    }
+
+    @Test
+    public void shouldGetErrorWhenEntitiesAreNotSavedYet() {
+        Person person = getGraphTemplate().insert(Person.builder().withAge().withName("Otavio").build());
+        Person unknown = Person.builder().withAge().withId(-10L).withName("Poliana").build();
+        assertThrows(EmptyResultException.class, () -> getGraphTemplate().update(List.of(person, unknown)));
+        getGraphTemplate().delete(person.getId());
+    }
+
 
     @Test
     public void shouldMergeOnUpdate() {
@@ -454,6 +500,16 @@ public abstract class AbstractGraphTemplateTest {
         assertThat(people.stream().map(Person::getName).collect(toList())).contains("Otavio");
     }
 
+    @Test
+    public void shouldExecutePrepareStatementWithQuote() {
+        getGraphTemplate().insert(Person.builder().withAge().withName("O'Neil").build());
+        getGraphTemplate().insert(Person.builder().withAge().withName("Otavio").build());
+        PreparedStatement prepare = getGraphTemplate().prepare("g.V().hasLabel('Person').has('name', @name)");
+        prepare.bind("name", "O'Neil");
+        List<Person> people = prepare.<Person>result().collect(Collectors.toList());
+        assertThat(people.stream().map(Person::getName).collect(toList())).containsExactly("O'Neil");
+    }
+
     @Test
     public void shouldExecutePrepareStatementSingleton() {
         getGraphTemplate().insert(Person.builder().withAge().withName("Otavio").build());
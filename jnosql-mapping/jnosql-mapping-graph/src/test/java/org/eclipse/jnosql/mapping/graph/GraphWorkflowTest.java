@@ -22,10 +22,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.UnaryOperator;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -69,4 +74,18 @@ public class GraphWorkflowTest {
         verify(converter).toVertex(any());
     }
 
+    @Test
+    public void shouldFollowBatchWorkflow() {
+        AtomicInteger commits = new AtomicInteger();
+        List<Person> people = List.of(Person.builder().withId(1L).withAge().withName("Ada").build(),
+                Person.builder().withId(2L).withAge().withName("Poliana").build());
+        List<Person> result = subject.batchFlow(people, id -> Optional.empty(), commits::incrementAndGet);
+
+        assertEquals(2, result.size());
+        assertEquals(1, commits.get());
+        verify(graphEventPersistManager, times(2)).firePreEntity(any());
+        verify(graphEventPersistManager, times(2)).firePostEntity(any());
+        verify(converter, times(2)).toVertex(any(), any());
+    }
+
 }
\ No newline at end of file
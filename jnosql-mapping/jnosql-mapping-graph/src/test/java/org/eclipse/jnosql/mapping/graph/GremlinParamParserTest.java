@@ -134,4 +134,41 @@ class GremlinParamParserTest {
         Assertions.assertThrows(GremlinQueryException.class, () ->
                 parser.apply(query, params));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldEscapeString() {
+        String query = "g.V().hasLabel(@label)";
+        String expected = "g.V().hasLabel('Otavio\\'),g.V().drop(),(\\\\')";
+        Map<String, Object> params = Map.of("label", "Otavio'),g.V().drop(),(\\");
+
+        String gremlin = parser.apply(query, params);
+        Assertions.assertEquals(expected, gremlin);
+    }
+
+    @Test
+    public void shouldNotReplaceParamInsideString() {
+        String query = "g.V().has('email', 'ada@jnosql.org').has('name', @name)";
+        String expected = "g.V().has('email', 'ada@jnosql.org').has('name', 'Ada')";
+        Map<String, Object> params = Map.of("name", "Ada");
+
+        String gremlin = parser.apply(query, params);
+        Assertions.assertEquals(expected, gremlin);
+    }
+
+    @Test
+    public void shouldReturnQueryWithoutParams() {
+        String query = "g.V().hasLabel('Person')";
+        Assertions.assertEquals(query, parser.apply(query, Collections.emptyMap()));
+    }
+
+    @Test
+    public void shouldSplitQueryOnce() {
+        String query = "g.V().hasLabel(@label).has('cache', @cache)";
+        long misses = parser.templates().misses();
+        Assertions.assertEquals("g.V().hasLabel('Person').has('cache', 1)",
+                parser.apply(query, Map.of("label", "Person", "cache", 1)));
+        Assertions.assertEquals("g.V().hasLabel('Book').has('cache', 2)",
+                parser.apply(query, Map.of("label", "Book", "cache", 2)));
+        Assertions.assertEquals(misses + 1, parser.templates().misses());
+    }
+}
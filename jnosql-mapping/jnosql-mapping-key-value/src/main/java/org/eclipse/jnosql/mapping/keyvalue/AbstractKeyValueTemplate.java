@@ -23,17 +23,24 @@ import jakarta.nosql.keyvalue.KeyValueTemplate;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
+import static org.eclipse.jnosql.mapping.config.MappingConfigurations.KEY_VALUE_BATCH_PARALLEL;
+import static org.eclipse.jnosql.mapping.config.MappingConfigurations.KEY_VALUE_BATCH_SIZE;
 
 /**
  * This class provides a skeletal implementation of the {@link KeyValueTemplate} interface,
@@ -41,6 +48,11 @@ import static java.util.Objects.requireNonNull;
  */
 public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
 
+    /**
+     * The default number of keys sent at each database call when the template finds several keys
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1_000;
+
     protected abstract KeyValueEntityConverter getConverter();
 
     protected abstract BucketManager getManager();
@@ -120,12 +132,111 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
     public <K, T> Iterable<T> get(Iterable<K> keys, Class<T> type) {
         requireNonNull(keys, "keys is required");
         requireNonNull(type, "type class is required");
-        return StreamSupport.stream(keys.spliterator(), false)
-                .map(k -> getManager().get(k)
-                        .map(v -> KeyValueEntity.of(k, v)))
-                .filter(Optional::isPresent)
-                .map(e -> getConverter().toEntity(type, e.get()))
-                .collect(Collectors.toList());
+        List<List<K>> chunks = chunks(keys);
+        List<T> entities = new ArrayList<>();
+        Optional<Executor> executor = chunks.size() > 1 && isBatchParallel() && getManager().isThreadSafe()
+                ? getBatchExecutor() : Optional.empty();
+        if (executor.isPresent()) {
+            List<CompletableFuture<List<T>>> futures = new ArrayList<>(chunks.size());
+            for (List<K> chunk : chunks) {
+                futures.add(CompletableFuture.supplyAsync(() -> get(chunk, type), executor.get()));
+            }
+            futures.forEach(future -> entities.addAll(join(future)));
+        } else {
+            for (List<K> chunk : chunks) {
+                entities.addAll(get(chunk, type));
+            }
+        }
+        entities.forEach(getEventManager()::firePostEntity);
+        return entities;
+    }
+
+    /**
+     * Returns the number of keys sent at each database call when the template finds several keys.
+     * It is defined by the {@link org.eclipse.jnosql.mapping.config.MappingConfigurations#KEY_VALUE_BATCH_SIZE}
+     * property, the default value is {@link AbstractKeyValueTemplate#DEFAULT_BATCH_SIZE}.
+     *
+     * @return the batch size
+     */
+    protected int getBatchSize() {
+        return MicroProfileSettings.INSTANCE.getOrDefault(KEY_VALUE_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Checks if the chunks of keys are found in parallel when the template finds several keys.
+     * It is defined by the {@link org.eclipse.jnosql.mapping.config.MappingConfigurations#KEY_VALUE_BATCH_PARALLEL}
+     * property, by default it is false. The chunks run in parallel only when the
+     * {@link org.eclipse.jnosql.communication.keyvalue.BucketManager#isThreadSafe()} is true and there is a
+     * {@link AbstractKeyValueTemplate#getBatchExecutor()}.
+     *
+     * @return true when the chunks are found in parallel
+     */
+    protected boolean isBatchParallel() {
+        return MicroProfileSettings.INSTANCE.get(KEY_VALUE_BATCH_PARALLEL, String.class)
+                .map(Boolean::valueOf)
+                .orElse(false);
+    }
+
+    /**
+     * Returns the executor that finds the chunks of keys when {@link AbstractKeyValueTemplate#isBatchParallel()}
+     * is true. The template does not create threads, so by default there is none and the chunks are found one
+     * after the other; the subclasses may return a container managed executor.
+     *
+     * @return the executor of the parallel finds
+     */
+    protected Optional<Executor> getBatchExecutor() {
+        return Optional.empty();
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw exception;
+        }
+    }
+
+    private <K> List<List<K>> chunks(Iterable<K> keys) {
+        int size = Math.max(1, getBatchSize());
+        List<List<K>> chunks = new ArrayList<>();
+        List<K> chunk = new ArrayList<>();
+        for (K key : keys) {
+            chunk.add(requireNonNull(key, "key is required"));
+            if (chunk.size() == size) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    /**
+     * The values of a chunk come bound to their keys from a single bulk call, so the keys not found are just not
+     * at the result.
+     */
+    private <K, T> List<T> get(List<K> keys, Class<T> type) {
+        Map<K, Value> values = getManager().getAll(keys);
+        List<T> entities = new ArrayList<>(values.size());
+        for (K key : keys) {
+            Value value = values.get(key);
+            if (value != null) {
+                T entity = getConverter().toEntity(type, KeyValueEntity.of(key, value));
+                if (entity != null) {
+                    entities.add(entity);
+                }
+            }
+        }
+        return entities;
     }
 
     @Override
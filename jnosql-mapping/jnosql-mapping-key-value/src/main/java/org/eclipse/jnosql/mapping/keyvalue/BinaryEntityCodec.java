@@ -0,0 +1,311 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import jakarta.data.exceptions.MappingException;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.mapping.AttributeConverter;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.FieldMapping;
+import org.eclipse.jnosql.mapping.reflection.GenericFieldMapping;
+import org.eclipse.jnosql.mapping.reflection.MappingType;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.jnosql.mapping.keyvalue.BinaryValues.LIST;
+import static org.eclipse.jnosql.mapping.keyvalue.BinaryValues.NULL;
+import static org.eclipse.jnosql.mapping.keyvalue.BinaryValues.OBJECT;
+
+/**
+ * A compact binary codec to the entities at the key-value databases, driven by {@link EntityMetadata}.
+ * The payload starts with a header, a magic byte, the version and the fingerprint of the {@link BinarySchema},
+ * followed by the fields that are not null: the id of the field as a variable-length integer and its value,
+ * written by {@link BinaryValues}. The id field is not written, the key of the bucket already holds it.
+ * The embedded entities are written as nested objects with the same layout without the header.
+ * The reading does not copy the payload; it reads straight from a {@link ByteBuffer}.
+ */
+final class BinaryEntityCodec {
+
+    static final byte MAGIC = (byte) 0xC1;
+
+    static final byte VERSION = 1;
+
+    private static final int HEADER = 2 + Integer.BYTES;
+
+    private static final BinaryValues VALUES = BinaryValues.INSTANCE;
+
+    private final EntitiesMetadata entities;
+
+    private final Converters converters;
+
+    private final Map<Class<?>, BinarySchema> schemas = new ConcurrentHashMap<>();
+
+    BinaryEntityCodec(EntitiesMetadata entities, Converters converters) {
+        this.entities = entities;
+        this.converters = converters;
+    }
+
+    /**
+     * Checks if the codec can write the entity
+     *
+     * @param type the entity type
+     * @return true when the codec can write the entity
+     * @see BinarySchema#isSupported()
+     */
+    boolean test(Class<?> type) {
+        return schema(type).isSupported();
+    }
+
+    byte[] encode(Object entity) {
+        BinarySchema schema = schema(entity.getClass());
+        BinaryOutput output = new BinaryOutput(64);
+        output.write(MAGIC);
+        output.write(VERSION);
+        output.writeInt(schema.fingerprint());
+        writeFields(output, schema, entity, true);
+        return output.toByteArray();
+    }
+
+    <T> T decode(Class<T> type, Object value) {
+        BinarySchema schema = schema(type);
+        ByteBuffer input = body(schema, value);
+        try {
+            return readObject(input, schema, input.limit());
+        } catch (BufferUnderflowException exception) {
+            throw VALUES.malformed("the value ended before the field " + input.position());
+        }
+    }
+
+    <T> BinaryEntityView<T> view(Class<T> type, Object value, Object key) {
+        BinarySchema schema = schema(type);
+        return new BinaryEntityView<>(this, schema, body(schema, value), key);
+    }
+
+    /**
+     * Checks if the value was written by this codec: either a byte array or a {@link ByteBuffer} with the header
+     *
+     * @param value the value
+     * @return true when the value starts with the header
+     */
+    static boolean isBinary(Object value) {
+        if (value instanceof byte[]) {
+            byte[] bytes = (byte[]) value;
+            return bytes.length >= HEADER && bytes[0] == MAGIC && bytes[1] == VERSION;
+        }
+        if (value instanceof ByteBuffer) {
+            ByteBuffer buffer = (ByteBuffer) value;
+            int position = buffer.position();
+            return buffer.remaining() >= HEADER && buffer.get(position) == MAGIC
+                    && buffer.get(position + 1) == VERSION;
+        }
+        return false;
+    }
+
+    <T> T readObject(ByteBuffer input, BinarySchema schema, int end) {
+        T bean = schema.mapping().newInstance();
+        while (input.position() < end) {
+            FieldMapping field = schema.field((int) VALUES.readVarint(input));
+            Object value = readField(input, field);
+            if (value != null) {
+                field.write(bean, value);
+            }
+        }
+        if (input.position() != end) {
+            throw VALUES.malformed("the fields of " + schema.mapping().type().getName() + " exceed the object");
+        }
+        return bean;
+    }
+
+    /**
+     * Reads the value of the field converted to the field type
+     *
+     * @param input the input at the tag of the value
+     * @param field the field
+     * @return the value or null
+     */
+    <X, Y> Object readField(ByteBuffer input, FieldMapping field) {
+        byte tag = input.get();
+        if (tag == NULL) {
+            return null;
+        }
+        if (isObject(field)) {
+            return readNested(input, tag, schema(field.nativeField().getType()));
+        }
+        if (isEmbeddableCollection(field)) {
+            GenericFieldMapping genericField = (GenericFieldMapping) field;
+            BinarySchema element = schema(genericField.getElementType());
+            expect(tag, LIST);
+            VALUES.length(input);
+            int size = (int) VALUES.readVarint(input);
+            Collection<Object> collection = (Collection<Object>) genericField.getCollectionInstance();
+            for (int index = 0; index < size; index++) {
+                byte elementTag = input.get();
+                collection.add(elementTag == NULL ? null : readNested(input, elementTag, element));
+            }
+            return collection;
+        }
+        Object value = VALUES.read(input, tag);
+        Optional<Class<? extends AttributeConverter<X, Y>>> converter = field.getConverter();
+        if (converter.isPresent()) {
+            AttributeConverter<X, Y> attributeConverter = converters.get(converter.get());
+            value = attributeConverter.convertToEntityAttribute((Y) value);
+        }
+        return value == null ? null : field.value(Value.of(value));
+    }
+
+    BinarySchema schema(Class<?> type) {
+        BinarySchema schema = schemas.get(type);
+        if (schema != null) {
+            return schema;
+        }
+        EntityMetadata mapping = entities.get(type);
+        CRC32 checksum = new CRC32();
+        boolean supported = describe(mapping, checksum, new HashSet<>());
+        schema = new BinarySchema(mapping, (int) checksum.getValue(), supported);
+        BinarySchema previous = schemas.putIfAbsent(type, schema);
+        return previous == null ? schema : previous;
+    }
+
+    private boolean describe(EntityMetadata mapping, CRC32 checksum, Set<Class<?>> visited) {
+        checksum.update(mapping.type().getName().getBytes(UTF_8));
+        if (!visited.add(mapping.type())) {
+            return true;
+        }
+        boolean supported = mapping.constructor().isDefault() && !mapping.isInheritance();
+        for (FieldMapping field : mapping.fields()) {
+            String description = field.fieldName() + ':' + field.nativeField().getGenericType().getTypeName() + ';';
+            checksum.update(description.getBytes(UTF_8));
+            Class<?> nested = nested(field);
+            if (nested != null) {
+                supported &= describe(entities.get(nested), checksum, visited);
+            }
+        }
+        return supported;
+    }
+
+    private Object readNested(ByteBuffer input, byte tag, BinarySchema schema) {
+        expect(tag, OBJECT);
+        int length = VALUES.length(input);
+        return readObject(input, schema, input.position() + length);
+    }
+
+    private void writeFields(BinaryOutput output, BinarySchema schema, Object bean, boolean root) {
+        FieldMapping[] fields = schema.fields();
+        for (int id = 0; id < fields.length; id++) {
+            FieldMapping field = fields[id];
+            if (root && field.isId()) {
+                continue;
+            }
+            Object value = field.read(bean);
+            if (value != null) {
+                output.writeVarint(id);
+                writeField(output, field, value);
+            }
+        }
+    }
+
+    private <X, Y> void writeField(BinaryOutput output, FieldMapping field, Object value) {
+        if (isObject(field)) {
+            writeNested(output, schema(field.nativeField().getType()), value);
+        } else if (isEmbeddableCollection(field)) {
+            BinarySchema element = schema(((GenericFieldMapping) field).getElementType());
+            Collection<?> collection = (Collection<?>) value;
+            output.write(LIST);
+            int start = output.begin();
+            output.writeVarint(collection.size());
+            for (Object item : collection) {
+                if (item == null) {
+                    output.write(NULL);
+                } else {
+                    writeNested(output, element, item);
+                }
+            }
+            output.end(start);
+        } else {
+            Optional<Class<? extends AttributeConverter<X, Y>>> converter = field.getConverter();
+            if (converter.isPresent()) {
+                AttributeConverter<X, Y> attributeConverter = converters.get(converter.get());
+                VALUES.write(output, attributeConverter.convertToDatabaseColumn((X) value));
+            } else {
+                VALUES.write(output, value);
+            }
+        }
+    }
+
+    private void writeNested(BinaryOutput output, BinarySchema schema, Object value) {
+        output.write(OBJECT);
+        int start = output.begin();
+        writeFields(output, schema, value, false);
+        output.end(start);
+    }
+
+    private ByteBuffer body(BinarySchema schema, Object value) {
+        Class<?> type = schema.mapping().type();
+        if (!isBinary(value)) {
+            throw new MappingException("The value of the entity " + type.getName()
+                    + " was not written by the binary codec");
+        }
+        ByteBuffer input = value instanceof byte[] ? ByteBuffer.wrap((byte[]) value)
+                : ((ByteBuffer) value).duplicate();
+        input.position(input.position() + 2);
+        if (input.getInt() != schema.fingerprint()) {
+            throw new MappingException("The value was written by another version of the entity " + type.getName()
+                    + ", it must be written again or removed from the bucket");
+        }
+        return input.slice();
+    }
+
+    private static void expect(byte tag, byte expected) {
+        if (tag != expected) {
+            throw VALUES.malformed("the tag " + tag + " was found instead of " + expected);
+        }
+    }
+
+    private static Class<?> nested(FieldMapping field) {
+        if (isObject(field)) {
+            return field.nativeField().getType();
+        }
+        if (isEmbeddableCollection(field)) {
+            return ((GenericFieldMapping) field).getElementType();
+        }
+        return null;
+    }
+
+    private static boolean isObject(FieldMapping field) {
+        return MappingType.EMBEDDED.equals(field.type()) || MappingType.ENTITY.equals(field.type());
+    }
+
+    private static boolean isEmbeddableCollection(FieldMapping field) {
+        return MappingType.COLLECTION.equals(field.type()) && ((GenericFieldMapping) field).isEmbeddable();
+    }
+
+    @Override
+    public String toString() {
+        return "BinaryEntityCodec{" +
+                "schemas=" + schemas.keySet() +
+                '}';
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import org.eclipse.jnosql.mapping.reflection.FieldMapping;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A read-only view of an entity written by the binary codec of {@link KeyValueEntityConverter}.
+ * The view reads the fields straight from the payload: it finds the position of the fields at the first access,
+ * skipping the values, and it decodes only the fields that are read. Thus, it fits when a few fields of a large
+ * entity are needed, e.g. a session attribute. The view does not copy the payload, so it must not change while
+ * the view is in use. This class is not thread-safe.
+ *
+ * @param <T> the entity type
+ * @see KeyValueEntityConverter#toView(Class, org.eclipse.jnosql.communication.keyvalue.KeyValueEntity)
+ */
+public final class BinaryEntityView<T> {
+
+    private static final int ABSENT = -1;
+
+    private final BinaryEntityCodec codec;
+
+    private final BinarySchema schema;
+
+    private final ByteBuffer payload;
+
+    private final Object key;
+
+    private int[] positions;
+
+    BinaryEntityView(BinaryEntityCodec codec, BinarySchema schema, ByteBuffer payload, Object key) {
+        this.codec = codec;
+        this.schema = schema;
+        this.payload = payload;
+        this.key = key;
+    }
+
+    /**
+     * Returns the entity type
+     *
+     * @return the entity type
+     */
+    public Class<T> type() {
+        return (Class<T>) schema.mapping().type();
+    }
+
+    /**
+     * Checks if the payload has a value to the field
+     *
+     * @param field the Java field name
+     * @return true when the field is not null
+     * @throws NullPointerException     when the field is null
+     * @throws IllegalArgumentException when the entity does not have the field
+     */
+    public boolean contains(String field) {
+        Objects.requireNonNull(field, "field is required");
+        int id = schema.id(field);
+        if (schema.fields()[id].isId()) {
+            return key != null;
+        }
+        return positions()[id] != ABSENT;
+    }
+
+    /**
+     * Decodes the value of a single field, the other fields are not decoded
+     *
+     * @param field the Java field name
+     * @param <V>   the field type
+     * @return the field value or {@link Optional#empty()} when it is null
+     * @throws NullPointerException     when the field is null
+     * @throws IllegalArgumentException when the entity does not have the field
+     */
+    public <V> Optional<V> get(String field) {
+        Objects.requireNonNull(field, "field is required");
+        int id = schema.id(field);
+        FieldMapping mapping = schema.fields()[id];
+        if (mapping.isId()) {
+            return Optional.ofNullable((V) key);
+        }
+        int position = positions()[id];
+        if (position == ABSENT) {
+            return Optional.empty();
+        }
+        ByteBuffer input = payload.duplicate();
+        input.position(position);
+        return Optional.ofNullable((V) codec.readField(input, mapping));
+    }
+
+    /**
+     * Decodes the whole entity
+     *
+     * @return the entity
+     */
+    public T toEntity() {
+        ByteBuffer input = payload.duplicate();
+        T entity = codec.readObject(input, schema, input.limit());
+        if (key != null) {
+            schema.mapping().id().ifPresent(id -> id.write(entity, key));
+        }
+        return entity;
+    }
+
+    private int[] positions() {
+        if (positions == null) {
+            BinaryValues values = BinaryValues.INSTANCE;
+            int[] indexes = new int[schema.fields().length];
+            Arrays.fill(indexes, ABSENT);
+            ByteBuffer input = payload.duplicate();
+            try {
+                while (input.hasRemaining()) {
+                    int id = (int) values.readVarint(input);
+                    schema.field(id);
+                    indexes[id] = input.position();
+                    values.skip(input, input.get());
+                }
+            } catch (BufferUnderflowException | IllegalArgumentException exception) {
+                throw values.malformed("the value ended before the field " + input.position());
+            }
+            positions = indexes;
+        }
+        return positions;
+    }
+
+    @Override
+    public String toString() {
+        return "BinaryEntityView{" +
+                "type=" + schema.mapping().type().getName() +
+                ", key=" + key +
+                ", size=" + payload.remaining() +
+                '}';
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import java.util.Arrays;
+
+/**
+ * A growable byte array used by {@link BinaryEntityCodec} to write the entities. It writes the variable-length
+ * integers and the length prefixes of the nested values, so a reader can skip a value without decoding it.
+ */
+final class BinaryOutput {
+
+    private byte[] bytes;
+
+    private int position;
+
+    BinaryOutput(int capacity) {
+        this.bytes = new byte[capacity];
+    }
+
+    void write(int value) {
+        ensure(1);
+        bytes[position++] = (byte) value;
+    }
+
+    void write(byte[] source) {
+        ensure(source.length);
+        System.arraycopy(source, 0, bytes, position, source.length);
+        position += source.length;
+    }
+
+    void writeInt(int value) {
+        ensure(Integer.BYTES);
+        bytes[position++] = (byte) (value >>> 24);
+        bytes[position++] = (byte) (value >>> 16);
+        bytes[position++] = (byte) (value >>> 8);
+        bytes[position++] = (byte) value;
+    }
+
+    void writeLong(long value) {
+        writeInt((int) (value >>> 32));
+        writeInt((int) value);
+    }
+
+    /**
+     * Writes an unsigned variable-length integer, seven bits per byte
+     *
+     * @param value the value
+     */
+    void writeVarint(long value) {
+        ensure(10);
+        while ((value & ~0x7FL) != 0) {
+            bytes[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[position++] = (byte) value;
+    }
+
+    /**
+     * Writes a signed variable-length integer using the zigzag encoding, thus, the small negative numbers
+     * take few bytes as well
+     *
+     * @param value the value
+     */
+    void writeSignedVarint(long value) {
+        writeVarint((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Reserves the length prefix of a nested value
+     *
+     * @return the position of the prefix that must be given to {@link BinaryOutput#end(int)}
+     */
+    int begin() {
+        ensure(1);
+        return position++;
+    }
+
+    /**
+     * Writes the length of the value started at {@link BinaryOutput#begin()}, moving the value when the length
+     * does not fit at the reserved byte.
+     *
+     * @param start the position returned by {@link BinaryOutput#begin()}
+     */
+    void end(int start) {
+        int length = position - start - 1;
+        int size = size(length);
+        if (size > 1) {
+            ensure(size - 1);
+            System.arraycopy(bytes, start + 1, bytes, start + size, length);
+        }
+        int current = start;
+        int value = length;
+        while ((value & ~0x7F) != 0) {
+            bytes[current++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[current] = (byte) value;
+        position = start + size + length;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, position);
+    }
+
+    private void ensure(int size) {
+        if (position + size > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length << 1, position + size));
+        }
+    }
+
+    private static int size(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "BinaryOutput{" +
+                "position=" + position +
+                ", capacity=" + bytes.length +
+                '}';
+    }
+}
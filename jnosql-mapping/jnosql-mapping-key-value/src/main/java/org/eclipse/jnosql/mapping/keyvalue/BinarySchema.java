@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.FieldMapping;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The layout of an entity at {@link BinaryEntityCodec}. The id of each field is its position at
+ * {@link EntityMetadata#fields()}, thus, the payload carries neither the field names nor the type names.
+ * The fingerprint identifies the field names and types, including the ones of the embedded entities,
+ * so a payload written by another version of the entity is refused instead of being read at the wrong fields.
+ */
+final class BinarySchema {
+
+    private final EntityMetadata mapping;
+
+    private final FieldMapping[] fields;
+
+    private final Map<String, Integer> ids;
+
+    private final int fingerprint;
+
+    private final boolean supported;
+
+    BinarySchema(EntityMetadata mapping, int fingerprint, boolean supported) {
+        List<FieldMapping> fields = mapping.fields();
+        this.mapping = mapping;
+        this.fields = fields.toArray(new FieldMapping[0]);
+        this.ids = new HashMap<>();
+        for (int index = 0; index < this.fields.length; index++) {
+            ids.put(this.fields[index].fieldName(), index);
+        }
+        this.fingerprint = fingerprint;
+        this.supported = supported;
+    }
+
+    EntityMetadata mapping() {
+        return mapping;
+    }
+
+    FieldMapping[] fields() {
+        return fields;
+    }
+
+    /**
+     * Returns the field from its id
+     *
+     * @param id the id read from the payload
+     * @return the field
+     * @throws jakarta.data.exceptions.MappingException when there is no field with this id
+     */
+    FieldMapping field(int id) {
+        if (id < 0 || id >= fields.length) {
+            throw BinaryValues.INSTANCE.malformed("there is no field " + id + " at " + mapping.type().getName());
+        }
+        return fields[id];
+    }
+
+    /**
+     * Returns the id of the field
+     *
+     * @param fieldName the Java field name
+     * @return the id
+     * @throws IllegalArgumentException when the entity does not have this field
+     */
+    int id(String fieldName) {
+        Integer id = ids.get(fieldName);
+        if (id == null) {
+            throw new IllegalArgumentException("The entity " + mapping.type().getName()
+                    + " does not have the field " + fieldName);
+        }
+        return id;
+    }
+
+    int fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Checks if the codec can write the entity: the entity and its embedded entities must have a default
+     * constructor and must not use inheritance.
+     *
+     * @return true when the codec can write the entity
+     */
+    boolean isSupported() {
+        return supported;
+    }
+
+    @Override
+    public String toString() {
+        return "BinarySchema{" +
+                "type=" + mapping.type().getName() +
+                ", fields=" + ids.keySet() +
+                ", fingerprint=" + fingerprint +
+                ", supported=" + supported +
+                '}';
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import jakarta.data.exceptions.MappingException;
+import org.eclipse.jnosql.communication.ValueWriter;
+import org.eclipse.jnosql.communication.ValueWriterDecorator;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Writes and reads the values of the fields of {@link BinaryEntityCodec}. Each value starts with a tag byte that
+ * defines its encoding: the integers use the zigzag variable-length encoding, the floating points use fixed
+ * width and the strings, byte arrays, lists, maps and objects have a length prefix, thus, they can be skipped
+ * without being decoded. The types without a tag are written through {@link ValueWriter}, e.g. enums.
+ */
+enum BinaryValues {
+
+    INSTANCE;
+
+    static final byte NULL = 0;
+    static final byte TRUE = 1;
+    static final byte FALSE = 2;
+    static final byte BYTE = 3;
+    static final byte SHORT = 4;
+    static final byte INT = 5;
+    static final byte LONG = 6;
+    static final byte FLOAT = 7;
+    static final byte DOUBLE = 8;
+    static final byte CHAR = 9;
+    static final byte STRING = 10;
+    static final byte BYTES = 11;
+    static final byte BIG_INTEGER = 12;
+    static final byte BIG_DECIMAL = 13;
+    static final byte LOCAL_DATE = 14;
+    static final byte LOCAL_DATE_TIME = 15;
+    static final byte INSTANT = 16;
+    static final byte DATE = 17;
+    static final byte LIST = 18;
+    static final byte MAP = 19;
+    static final byte OBJECT = 20;
+
+    private static final ValueWriter WRITER = ValueWriterDecorator.getInstance();
+
+    private static final int MAX_VARINT = 10;
+
+    void write(BinaryOutput output, Object value) {
+        if (value == null) {
+            output.write(NULL);
+        } else if (value instanceof String) {
+            writeBytes(output, STRING, ((String) value).getBytes(UTF_8));
+        } else if (value instanceof Integer) {
+            output.write(INT);
+            output.writeSignedVarint((Integer) value);
+        } else if (value instanceof Long) {
+            output.write(LONG);
+            output.writeSignedVarint((Long) value);
+        } else if (value instanceof Boolean) {
+            output.write((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Double) {
+            output.write(DOUBLE);
+            output.writeLong(Double.doubleToRawLongBits((Double) value));
+        } else if (value instanceof Float) {
+            output.write(FLOAT);
+            output.writeInt(Float.floatToRawIntBits((Float) value));
+        } else if (value instanceof Short) {
+            output.write(SHORT);
+            output.writeSignedVarint((Short) value);
+        } else if (value instanceof Byte) {
+            output.write(BYTE);
+            output.write((Byte) value);
+        } else if (value instanceof Character) {
+            output.write(CHAR);
+            output.writeVarint((Character) value);
+        } else if (value instanceof byte[]) {
+            writeBytes(output, BYTES, (byte[]) value);
+        } else if (value instanceof BigInteger) {
+            writeBytes(output, BIG_INTEGER, ((BigInteger) value).toByteArray());
+        } else if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            output.write(BIG_DECIMAL);
+            output.writeSignedVarint(decimal.scale());
+            byte[] unscaled = decimal.unscaledValue().toByteArray();
+            output.writeVarint(unscaled.length);
+            output.write(unscaled);
+        } else if (value instanceof LocalDate) {
+            output.write(LOCAL_DATE);
+            output.writeSignedVarint(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalDateTime) {
+            LocalDateTime dateTime = (LocalDateTime) value;
+            output.write(LOCAL_DATE_TIME);
+            output.writeSignedVarint(dateTime.toLocalDate().toEpochDay());
+            output.writeVarint(dateTime.toLocalTime().toNanoOfDay());
+        } else if (value instanceof Instant) {
+            Instant instant = (Instant) value;
+            output.write(INSTANT);
+            output.writeSignedVarint(instant.getEpochSecond());
+            output.writeVarint(instant.getNano());
+        } else if (value instanceof Date) {
+            output.write(DATE);
+            output.writeSignedVarint(((Date) value).getTime());
+        } else if (value instanceof Optional) {
+            write(output, ((Optional<?>) value).orElse(null));
+        } else if (value instanceof Iterable) {
+            writeList(output, (Iterable<?>) value);
+        } else if (value instanceof Map) {
+            writeMap(output, (Map<?, ?>) value);
+        } else if (WRITER.test(value.getClass())) {
+            write(output, WRITER.write(value));
+        } else {
+            throw new MappingException("The binary codec does not support the type " + value.getClass().getName()
+                    + ", use an AttributeConverter to the field");
+        }
+    }
+
+    Object read(ByteBuffer input, byte tag) {
+        switch (tag) {
+            case NULL:
+                return null;
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case BYTE:
+                return input.get();
+            case SHORT:
+                return (short) readSignedVarint(input);
+            case INT:
+                return (int) readSignedVarint(input);
+            case LONG:
+                return readSignedVarint(input);
+            case FLOAT:
+                return input.getFloat();
+            case DOUBLE:
+                return input.getDouble();
+            case CHAR:
+                return (char) readVarint(input);
+            case STRING:
+                return readString(input);
+            case BYTES:
+                return readBytes(input);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(input));
+            case BIG_DECIMAL:
+                int scale = (int) readSignedVarint(input);
+                return new BigDecimal(new BigInteger(readBytes(input)), scale);
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(readSignedVarint(input));
+            case LOCAL_DATE_TIME:
+                LocalDate date = LocalDate.ofEpochDay(readSignedVarint(input));
+                return LocalDateTime.of(date, LocalTime.ofNanoOfDay(readVarint(input)));
+            case INSTANT:
+                long seconds = readSignedVarint(input);
+                return Instant.ofEpochSecond(seconds, readVarint(input));
+            case DATE:
+                return new Date(readSignedVarint(input));
+            case LIST:
+                return readList(input);
+            case MAP:
+                return readMap(input);
+            default:
+                throw malformed("unexpected tag " + tag);
+        }
+    }
+
+    /**
+     * Moves the position to the end of the value without decoding it
+     *
+     * @param input the input
+     * @param tag   the tag of the value
+     */
+    void skip(ByteBuffer input, byte tag) {
+        switch (tag) {
+            case NULL:
+            case TRUE:
+            case FALSE:
+                return;
+            case BYTE:
+                advance(input, 1);
+                return;
+            case FLOAT:
+                advance(input, Float.BYTES);
+                return;
+            case DOUBLE:
+                advance(input, Double.BYTES);
+                return;
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case LOCAL_DATE:
+            case DATE:
+                readVarint(input);
+                return;
+            case LOCAL_DATE_TIME:
+            case INSTANT:
+                readVarint(input);
+                readVarint(input);
+                return;
+            case BIG_DECIMAL:
+                readVarint(input);
+                advance(input, length(input));
+                return;
+            case STRING:
+            case BYTES:
+            case BIG_INTEGER:
+            case LIST:
+            case MAP:
+            case OBJECT:
+                advance(input, length(input));
+                return;
+            default:
+                throw malformed("unexpected tag " + tag);
+        }
+    }
+
+    long readVarint(ByteBuffer input) {
+        long value = 0;
+        for (int index = 0; index < MAX_VARINT; index++) {
+            byte current = input.get();
+            value |= (long) (current & 0x7F) << (7 * index);
+            if (current >= 0) {
+                return value;
+            }
+        }
+        throw malformed("the variable-length integer is too long");
+    }
+
+    /**
+     * Reads a length prefix and checks it against the remaining bytes
+     *
+     * @param input the input
+     * @return the length
+     */
+    int length(ByteBuffer input) {
+        long length = readVarint(input);
+        if (length > input.remaining()) {
+            throw malformed("the length " + length + " exceeds the value");
+        }
+        return (int) length;
+    }
+
+    MappingException malformed(String message) {
+        return new MappingException("The binary value is malformed: " + message);
+    }
+
+    private long readSignedVarint(ByteBuffer input) {
+        long value = readVarint(input);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private String readString(ByteBuffer input) {
+        int length = length(input);
+        if (input.hasArray()) {
+            String value = new String(input.array(), input.arrayOffset() + input.position(), length, UTF_8);
+            advance(input, length);
+            return value;
+        }
+        ByteBuffer slice = input.slice();
+        slice.limit(length);
+        advance(input, length);
+        return UTF_8.decode(slice).toString();
+    }
+
+    private byte[] readBytes(ByteBuffer input) {
+        byte[] bytes = new byte[length(input)];
+        input.get(bytes);
+        return bytes;
+    }
+
+    private List<Object> readList(ByteBuffer input) {
+        length(input);
+        int size = (int) readVarint(input);
+        List<Object> list = new ArrayList<>(Math.min(size, input.remaining()));
+        for (int index = 0; index < size; index++) {
+            list.add(read(input, input.get()));
+        }
+        return list;
+    }
+
+    private Map<Object, Object> readMap(ByteBuffer input) {
+        length(input);
+        int size = (int) readVarint(input);
+        Map<Object, Object> map = new LinkedHashMap<>();
+        for (int index = 0; index < size; index++) {
+            Object key = read(input, input.get());
+            map.put(key, read(input, input.get()));
+        }
+        return map;
+    }
+
+    private void writeBytes(BinaryOutput output, byte tag, byte[] bytes) {
+        output.write(tag);
+        output.writeVarint(bytes.length);
+        output.write(bytes);
+    }
+
+    private void writeList(BinaryOutput output, Iterable<?> values) {
+        Collection<?> collection = values instanceof Collection ? (Collection<?>) values : toList(values);
+        output.write(LIST);
+        int start = output.begin();
+        output.writeVarint(collection.size());
+        for (Object value : collection) {
+            write(output, value);
+        }
+        output.end(start);
+    }
+
+    private void writeMap(BinaryOutput output, Map<?, ?> map) {
+        output.write(MAP);
+        int start = output.begin();
+        output.writeVarint(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            write(output, entry.getKey());
+            write(output, entry.getValue());
+        }
+        output.end(start);
+    }
+
+    private static List<Object> toList(Iterable<?> values) {
+        List<Object> list = new ArrayList<>();
+        values.forEach(list::add);
+        return list;
+    }
+
+    private static void advance(ByteBuffer input, int length) {
+        input.position(input.position() + length);
+    }
+}
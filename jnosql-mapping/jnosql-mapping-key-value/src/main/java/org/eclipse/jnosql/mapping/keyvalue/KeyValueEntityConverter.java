@@ -19,6 +19,7 @@ import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 import org.eclipse.jnosql.mapping.Converters;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.reflection.FieldMapping;
@@ -26,18 +27,31 @@ import org.eclipse.jnosql.mapping.reflection.FieldMapping;
 import java.util.Objects;
 
 import static java.util.Objects.requireNonNull;
+import static org.eclipse.jnosql.mapping.config.MappingConfigurations.KEY_VALUE_CODEC;
 
 /**
  * This interface represents the converter between an entity and the {@link KeyValueEntity}
  */
 public abstract class KeyValueEntityConverter {
 
+    /**
+     * The value of {@link org.eclipse.jnosql.mapping.config.MappingConfigurations#KEY_VALUE_CODEC} that writes
+     * the entities with the binary codec
+     */
+    public static final String BINARY_CODEC = "binary";
+
+    private volatile BinaryEntityCodec codec;
+
+    private volatile Boolean binaryCodec;
+
     protected abstract EntitiesMetadata getEntities();
 
     protected abstract Converters getConverters();
 
     /**
-     * Converts the instance entity to {@link KeyValueEntity}
+     * Converts the instance entity to {@link KeyValueEntity}. When the binary codec is active, see
+     * {@link KeyValueEntityConverter#isBinaryCodec()}, the value is the entity written as a byte array;
+     * otherwise, the value is the entity itself.
      *
      * @param entity the instance
      * @return a {@link KeyValueEntity} instance
@@ -51,11 +65,16 @@ public abstract class KeyValueEntityConverter {
         Object value = key.read(entity);
 
         requireNonNull(value, String.format("The key field %s is required", key.name()));
-        return KeyValueEntity.of(getKey(value, type, false), entity);
+        Object keyValue = getKey(value, type, false);
+        if (isBinaryCodec() && getCodec().test(type)) {
+            return KeyValueEntity.of(keyValue, getCodec().encode(entity));
+        }
+        return KeyValueEntity.of(keyValue, entity);
     }
 
     /**
-     * Converts a {@link KeyValueEntity} to entity
+     * Converts a {@link KeyValueEntity} to entity. A value written by the binary codec, either a byte array or a
+     * {@link java.nio.ByteBuffer}, is decoded even when the codec is not active.
      *
      * @param type   the entity class
      * @param entity the {@link KeyValueEntity} to be converted
@@ -66,7 +85,8 @@ public abstract class KeyValueEntityConverter {
     public <T> T toEntity(Class<T> type, KeyValueEntity entity) {
         requireNonNull(type, "type is required");
         requireNonNull(entity, "entity is required");
-        T bean = entity.value(type);
+        Object value = entity.value();
+        T bean = BinaryEntityCodec.isBinary(value) ? getCodec().decode(type, value) : entity.value(type);
         if (Objects.isNull(bean)) {
             return null;
         }
@@ -77,6 +97,53 @@ public abstract class KeyValueEntityConverter {
         return bean;
     }
 
+    /**
+     * Creates a view of a {@link KeyValueEntity} written by the binary codec that decodes the fields only when
+     * they are read.
+     *
+     * @param type   the entity class
+     * @param entity the {@link KeyValueEntity} with a value written by the binary codec
+     * @param <T>    the entity type
+     * @return the {@link BinaryEntityView} instance
+     * @throws NullPointerException when there is null parameter
+     * @throws jakarta.data.exceptions.MappingException when the value was not written by the binary codec,
+     *                                                   or it was written by another version of the entity
+     */
+    public <T> BinaryEntityView<T> toView(Class<T> type, KeyValueEntity entity) {
+        requireNonNull(type, "type is required");
+        requireNonNull(entity, "entity is required");
+        return getCodec().view(type, entity.value(), getKey(entity.key(), type, true));
+    }
+
+    /**
+     * Checks if the entities are written with the binary codec. It is defined by the
+     * {@link org.eclipse.jnosql.mapping.config.MappingConfigurations#KEY_VALUE_CODEC} property,
+     * by default the entity is handed to the driver.
+     * The entities with inheritance or without a default constructor are always handed to the driver.
+     * The property is read once, at the first conversion.
+     *
+     * @return true when the entities are written with the binary codec
+     */
+    protected boolean isBinaryCodec() {
+        Boolean current = binaryCodec;
+        if (current == null) {
+            current = MicroProfileSettings.INSTANCE.get(KEY_VALUE_CODEC, String.class)
+                    .map(BINARY_CODEC::equalsIgnoreCase)
+                    .orElse(false);
+            binaryCodec = current;
+        }
+        return current;
+    }
+
+    private BinaryEntityCodec getCodec() {
+        BinaryEntityCodec current = codec;
+        if (current == null) {
+            current = new BinaryEntityCodec(getEntities(), getConverters());
+            codec = current;
+        }
+        return current;
+    }
+
     private <T> Object getKey(Object key, Class<T> type, boolean toEntity) {
         FieldMapping id = getId(type);
         if (id.getConverter().isPresent()) {
@@ -17,8 +17,10 @@ package org.eclipse.jnosql.mapping.keyvalue;
 
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.mapping.EntityPostPersist;
 import org.eclipse.jnosql.mapping.EntityPrePersist;
@@ -32,6 +34,24 @@ public class KeyValueEventPersistManager {
     @Inject
     private Event<EntityPostPersist> entityPostPersistEvent;
 
+    @Inject
+    private BeanManager beanManager;
+
+    private boolean prePersistObserved = true;
+
+    private boolean postPersistObserved = true;
+
+    /**
+     * Checks once whether there are observers to the persist events, when there is none,
+     * the events are neither created nor fired.
+     */
+    @PostConstruct
+    void init() {
+        Object probe = new Object();
+        this.prePersistObserved = !beanManager.resolveObserverMethods(EntityPrePersist.of(probe)).isEmpty();
+        this.postPersistObserved = !beanManager.resolveObserverMethods(EntityPostPersist.of(probe)).isEmpty();
+    }
+
     /**
      * Fire an event once the method is called
      *
@@ -39,7 +59,9 @@ public class KeyValueEventPersistManager {
      * @param <T>    the entity type
      */
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        if (prePersistObserved) {
+            entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        }
     }
 
     /**
@@ -50,6 +72,8 @@ public class KeyValueEventPersistManager {
      * @param <T>    the entity kind
      */
     public <T> void firePostEntity(T entity) {
-        entityPostPersistEvent.fire(EntityPostPersist.of(entity));
+        if (postPersistObserved) {
+            entityPostPersistEvent.fire(EntityPostPersist.of(entity));
+        }
     }
 }
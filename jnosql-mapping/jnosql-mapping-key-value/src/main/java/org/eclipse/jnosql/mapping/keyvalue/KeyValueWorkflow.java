@@ -15,9 +15,9 @@
 package org.eclipse.jnosql.mapping.keyvalue;
 
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.mapping.PersistScope;
 
 import java.util.Objects;
-import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 /**
@@ -47,36 +47,17 @@ public abstract class KeyValueWorkflow {
      * DocumentTemplate#update(Object)
      */
     public <T> T flow(T entity, UnaryOperator<KeyValueEntity> action) {
-
-        Function<T, T> flow = getFlow(entity, action);
-
-        return flow.apply(entity);
-
-    }
-
-    private <T> Function<T, T> getFlow(T entity, UnaryOperator<KeyValueEntity> action) {
-        UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
-
-        UnaryOperator<T> firePreEntity = t -> {
-            getEventManager().firePreEntity(t);
-            return t;
-        };
-
-
-        Function<T, KeyValueEntity> convertKeyValue = t -> getConverter().toKeyValue(t);
-
-        Function<KeyValueEntity, T> converterEntity = t -> getConverter().toEntity((Class<T>) entity.getClass(), t);
-
-        UnaryOperator<T> firePostEntity = t -> {
-            getEventManager().firePostEntity(t);
-            return t;
-        };
-
-        return validation
-                .andThen(firePreEntity)
-                .andThen(convertKeyValue)
-                .andThen(action)
-                .andThen(converterEntity)
-                .andThen(firePostEntity);
+        Objects.requireNonNull(entity, "entity is required");
+        PersistScope.open();
+        try {
+            getEventManager().firePreEntity(entity);
+            KeyValueEntity keyValue = getConverter().toKeyValue(entity);
+            KeyValueEntity response = action.apply(keyValue);
+            T result = getConverter().toEntity((Class<T>) entity.getClass(), response);
+            getEventManager().firePostEntity(result);
+            return result;
+        } finally {
+            PersistScope.close();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,245 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.Convert;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.keyvalue.spi.KeyValueExtension;
+import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.test.entities.Device;
+import org.eclipse.jnosql.mapping.test.entities.Job;
+import org.eclipse.jnosql.mapping.test.entities.Money;
+import org.eclipse.jnosql.mapping.test.entities.Person;
+import org.eclipse.jnosql.mapping.test.entities.Session;
+import org.eclipse.jnosql.mapping.test.entities.Worker;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableAutoWeld
+@AddPackages(value = {Convert.class, KeyValueWorkflow.class})
+@AddPackages(MockProducer.class)
+@AddExtensions({EntityMetadataExtension.class, KeyValueExtension.class})
+class BinaryEntityCodecTest {
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private Converters converters;
+
+    private BinaryEntityCodec codec;
+
+    @BeforeEach
+    public void setUp() {
+        this.codec = new BinaryEntityCodec(entities, converters);
+    }
+
+    @Test
+    public void shouldWriteAndReadEntity() {
+        Person person = Person.builder().withId(10L).withName("Ada").withAge(30)
+                .withPhones(List.of("123", "456")).build();
+
+        byte[] bytes = codec.encode(person);
+        Person result = codec.decode(Person.class, bytes);
+
+        assertThat(BinaryEntityCodec.isBinary(bytes)).isTrue();
+        assertThat(result.getId()).isZero();
+        assertThat(result.getName()).isEqualTo("Ada");
+        assertThat(result.getAge()).isEqualTo(30);
+        assertThat(result.getPhones()).containsExactly("123", "456");
+    }
+
+    @Test
+    public void shouldNotWriteFieldNames() {
+        Person person = Person.builder().withId(10L).withName("Ada").withAge(30)
+                .withPhones(List.of("123")).build();
+
+        byte[] bytes = codec.encode(person);
+        String content = new String(bytes, StandardCharsets.ISO_8859_1);
+
+        assertThat(content).doesNotContain("name", "age", "phones");
+        assertThat(bytes).hasSize(24);
+    }
+
+    @Test
+    public void shouldSkipNullFields() {
+        Person person = Person.builder().withName("Ada").build();
+        Person result = codec.decode(Person.class, codec.encode(person));
+        assertThat(result.getName()).isEqualTo("Ada");
+        assertThat(result.getPhones()).isNull();
+    }
+
+    @Test
+    public void shouldWriteEmbeddedAndConverter() {
+        Job job = new Job();
+        job.setCity("London");
+        job.setDescription("Developer");
+        Worker worker = new Worker();
+        worker.setName("Ada");
+        worker.setJob(job);
+        worker.setSalary(new Money("USD", BigDecimal.valueOf(10.0)));
+
+        Worker result = codec.decode(Worker.class, codec.encode(worker));
+
+        assertThat(result.getName()).isEqualTo("Ada");
+        assertThat(result.getJob()).isEqualTo(job);
+        assertThat(result.getSalary()).isEqualTo(worker.getSalary());
+    }
+
+    @Test
+    public void shouldWriteEntityFieldsCollectionsAndMaps() {
+        Session session = session();
+
+        Session result = codec.decode(Session.class, codec.encode(session));
+
+        assertThat(result.getId()).isNull();
+        assertThat(result.getOwner()).isEqualTo(session.getOwner());
+        assertThat(result.getOwner().getId()).isEqualTo(10L);
+        assertThat(result.getStatus()).isEqualTo(Session.Status.ACTIVE);
+        assertThat(result.getCreated()).isEqualTo(session.getCreated());
+        assertThat(result.getToken()).containsExactly(1, 2, 3, 4);
+        assertThat(result.getRoles()).containsExactlyInAnyOrder("admin", "user");
+        assertThat(result.getAttributes()).isEqualTo(session.getAttributes());
+        assertThat(result.getDevices()).containsExactlyElementsOf(session.getDevices());
+    }
+
+    @Test
+    public void shouldReadByteBufferWithoutChangingIt() {
+        Person person = Person.builder().withName("Ada").withAge(30).build();
+        byte[] bytes = codec.encode(person);
+        byte[] padded = new byte[bytes.length + 6];
+        System.arraycopy(bytes, 0, padded, 3, bytes.length);
+        ByteBuffer heap = ByteBuffer.wrap(padded, 3, bytes.length).slice();
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+
+        assertThat(codec.decode(Person.class, heap).getName()).isEqualTo("Ada");
+        assertThat(codec.decode(Person.class, direct).getName()).isEqualTo("Ada");
+        assertThat(heap.position()).isZero();
+        assertThat(direct.position()).isZero();
+    }
+
+    @Test
+    public void shouldWriteValues() {
+        BinaryOutput output = new BinaryOutput(1);
+        List<Object> values = Arrays.asList(null, true, false, (byte) -1, (short) -300, Integer.MIN_VALUE,
+                Long.MAX_VALUE, 1.5F, -2.25D, 'J', "Olá", new BigInteger("123456789012345678901234567890"),
+                new BigDecimal("-1234.5678"), LocalDate.of(1815, 12, 10),
+                LocalDateTime.of(2023, 1, 2, 3, 4, 5, 6), Instant.ofEpochSecond(-10, 20), new Date(1000L),
+                List.of(1, "two"), Map.of("key", 1L));
+        values.forEach(v -> BinaryValues.INSTANCE.write(output, v));
+
+        ByteBuffer input = ByteBuffer.wrap(output.toByteArray());
+        for (Object value : values) {
+            assertThat(BinaryValues.INSTANCE.read(input, input.get())).isEqualTo(value);
+        }
+        input.rewind();
+        values.forEach(v -> BinaryValues.INSTANCE.skip(input, input.get()));
+        assertThat(input.hasRemaining()).isFalse();
+    }
+
+    @Test
+    public void shouldWriteEnumAsName() {
+        BinaryOutput output = new BinaryOutput(8);
+        BinaryValues.INSTANCE.write(output, Session.Status.EXPIRED);
+        ByteBuffer input = ByteBuffer.wrap(output.toByteArray());
+        assertThat(BinaryValues.INSTANCE.read(input, input.get())).isEqualTo("EXPIRED");
+    }
+
+    @Test
+    public void shouldWriteLongNestedValue() {
+        String text = "a".repeat(20_000);
+        Person person = Person.builder().withName(text).withPhones(List.of(text, text)).build();
+        Person result = codec.decode(Person.class, codec.encode(person));
+        assertThat(result.getName()).isEqualTo(text);
+        assertThat(result.getPhones()).containsExactly(text, text);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTheSchemaIsDifferent() {
+        byte[] bytes = codec.encode(Person.builder().withName("Ada").build());
+        bytes[2]++;
+        Assertions.assertThrows(MappingException.class, () -> codec.decode(Person.class, bytes));
+        Assertions.assertThrows(MappingException.class, () -> codec.decode(Session.class,
+                codec.encode(Person.builder().withName("Ada").build())));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTheValueIsMalformed() {
+        byte[] bytes = codec.encode(Person.builder().withName("Ada").withAge(30).build());
+        Assertions.assertThrows(MappingException.class, () -> codec.decode(Person.class,
+                Arrays.copyOf(bytes, bytes.length - 2)));
+        Assertions.assertThrows(MappingException.class, () -> codec.decode(Person.class, new byte[]{1, 2}));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTypeIsNotSupported() {
+        BinaryOutput output = new BinaryOutput(8);
+        Assertions.assertThrows(MappingException.class, () -> BinaryValues.INSTANCE.write(output, new Object()));
+    }
+
+    @Test
+    public void shouldCheckIfIsBinary() {
+        assertThat(BinaryEntityCodec.isBinary("value")).isFalse();
+        assertThat(BinaryEntityCodec.isBinary(new byte[]{1, 2, 3, 4, 5, 6})).isFalse();
+        assertThat(BinaryEntityCodec.isBinary(ByteBuffer.allocate(2))).isFalse();
+    }
+
+    @Test
+    public void shouldSupportEntityWithDefaultConstructor() {
+        assertThat(codec.test(Person.class)).isTrue();
+        assertThat(codec.test(Session.class)).isTrue();
+    }
+
+    static Session session() {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        attributes.put("theme", "dark");
+        attributes.put("language", "pt");
+        Session session = new Session();
+        session.setId("session");
+        session.setOwner(Person.builder().withId(10L).withName("Ada").withAge(30).build());
+        session.setStatus(Session.Status.ACTIVE);
+        session.setCreated(Instant.parse("2023-05-01T10:15:30.123Z"));
+        session.setToken(new byte[]{1, 2, 3, 4});
+        session.setRoles(Set.of("admin", "user"));
+        session.setAttributes(attributes);
+        session.setDevices(List.of(new Device("phone", LocalDateTime.of(2023, 5, 1, 10, 0)),
+                new Device("laptop", null)));
+        return session;
+    }
+}
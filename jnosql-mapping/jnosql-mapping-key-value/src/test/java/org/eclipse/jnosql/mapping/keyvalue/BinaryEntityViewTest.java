@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.mapping.Convert;
+import org.eclipse.jnosql.mapping.keyvalue.spi.KeyValueExtension;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.test.entities.Device;
+import org.eclipse.jnosql.mapping.test.entities.Person;
+import org.eclipse.jnosql.mapping.test.entities.Session;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.mapping.config.MappingConfigurations.KEY_VALUE_CODEC;
+
+@EnableAutoWeld
+@AddPackages(value = {Convert.class, KeyValueWorkflow.class})
+@AddPackages(MockProducer.class)
+@AddExtensions({EntityMetadataExtension.class, KeyValueExtension.class})
+class BinaryEntityViewTest {
+
+    @Inject
+    private KeyValueEntityConverter converter;
+
+    @BeforeEach
+    public void setUp() {
+        System.setProperty(KEY_VALUE_CODEC.get(), KeyValueEntityConverter.BINARY_CODEC);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty(KEY_VALUE_CODEC.get());
+    }
+
+    @Test
+    public void shouldReturnNPEWhenParameterIsNull() {
+        KeyValueEntity entity = converter.toKeyValue(BinaryEntityCodecTest.session());
+        Assertions.assertThrows(NullPointerException.class, () -> converter.toView(null, entity));
+        Assertions.assertThrows(NullPointerException.class, () -> converter.toView(Session.class, null));
+        Assertions.assertThrows(NullPointerException.class, () -> converter.toView(Session.class, entity)
+                .get(null));
+    }
+
+    @Test
+    public void shouldReadSingleField() {
+        Session session = BinaryEntityCodecTest.session();
+        BinaryEntityView<Session> view = converter.toView(Session.class, converter.toKeyValue(session));
+
+        assertThat(view.type()).isEqualTo(Session.class);
+        assertThat(view.<Session.Status>get("status")).contains(Session.Status.ACTIVE);
+        assertThat(view.<Map<String, String>>get("attributes")).contains(session.getAttributes());
+        assertThat(view.<List<Device>>get("devices")).contains(session.getDevices());
+        assertThat(view.<Person>get("owner")).contains(session.getOwner());
+        assertThat(view.<String>get("id")).contains("session");
+    }
+
+    @Test
+    public void shouldCheckFields() {
+        Session session = BinaryEntityCodecTest.session();
+        session.setToken(null);
+        BinaryEntityView<Session> view = converter.toView(Session.class, converter.toKeyValue(session));
+
+        assertThat(view.contains("id")).isTrue();
+        assertThat(view.contains("created")).isTrue();
+        assertThat(view.contains("token")).isFalse();
+        assertThat(view.get("token")).isEmpty();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> view.contains("unknown"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> view.get("unknown"));
+    }
+
+    @Test
+    public void shouldReadEntity() {
+        Session session = BinaryEntityCodecTest.session();
+        BinaryEntityView<Session> view = converter.toView(Session.class, converter.toKeyValue(session));
+
+        Session result = view.toEntity();
+        assertThat(result.getId()).isEqualTo("session");
+        assertThat(result.getOwner()).isEqualTo(session.getOwner());
+        assertThat(result.getDevices()).isEqualTo(session.getDevices());
+        assertThat(view.<String>get("id")).contains("session");
+    }
+
+    @Test
+    public void shouldReadFromByteBuffer() {
+        KeyValueEntity entity = converter.toKeyValue(BinaryEntityCodecTest.session());
+        ByteBuffer buffer = ByteBuffer.wrap((byte[]) entity.value());
+        BinaryEntityView<Session> view = converter.toView(Session.class, KeyValueEntity.of("other", buffer));
+
+        assertThat(view.<String>get("id")).contains("other");
+        assertThat(view.<Session.Status>get("status")).contains(Session.Status.ACTIVE);
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    public void shouldReturnErrorWhenValueIsNotBinary() {
+        Session session = BinaryEntityCodecTest.session();
+        Assertions.assertThrows(MappingException.class, () -> converter.toView(Session.class,
+                KeyValueEntity.of("session", session)));
+    }
+}
@@ -17,7 +17,9 @@ package org.eclipse.jnosql.mapping.keyvalue;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 import org.eclipse.jnosql.mapping.Convert;
+import org.eclipse.jnosql.mapping.Converters;
 import org.eclipse.jnosql.mapping.keyvalue.spi.KeyValueExtension;
+import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
 import org.eclipse.jnosql.mapping.test.entities.Car;
 import org.eclipse.jnosql.mapping.test.entities.Person;
@@ -33,6 +35,10 @@ import org.junit.jupiter.api.Test;
 
 import jakarta.inject.Inject;
 
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.mapping.config.MappingConfigurations.KEY_VALUE_CODEC;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @EnableAutoWeld
@@ -44,6 +50,12 @@ public class DefaultKeyValueEntityConverterTest {
     @Inject
     private KeyValueEntityConverter converter;
 
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private Converters converters;
+
     @Test
     public void shouldReturnNPEWhenEntityIsNull() {
         Assertions.assertThrows(NullPointerException.class, () -> converter.toKeyValue(null));
@@ -156,4 +168,61 @@ public class DefaultKeyValueEntityConverterTest {
         Assertions.assertEquals(123L, entity.key());
     }
 
+    @Test
+    public void shouldConvertToBinaryWhenCodecIsBinary() {
+        System.setProperty(KEY_VALUE_CODEC.get(), KeyValueEntityConverter.BINARY_CODEC);
+        try {
+            Person person = Person.builder().withId(123L).withName("Ada").withAge(30).build();
+            KeyValueEntity entity = converter.toKeyValue(person);
+
+            Assertions.assertEquals(123L, entity.key());
+            assertThat(entity.value()).isInstanceOf(byte[].class);
+            Person ada = converter.toEntity(Person.class, entity);
+            assertEquals(person, ada);
+            assertEquals(30, ada.getAge());
+        } finally {
+            System.clearProperty(KEY_VALUE_CODEC.get());
+        }
+    }
+
+    @Test
+    public void shouldReadTheCodecOnce() {
+        Person person = Person.builder().withId(123L).withName("Ada").build();
+        assertThat(converter.toKeyValue(person).value()).isSameAs(person);
+        System.setProperty(KEY_VALUE_CODEC.get(), KeyValueEntityConverter.BINARY_CODEC);
+        try {
+            assertThat(converter.toKeyValue(person).value()).isSameAs(person);
+        } finally {
+            System.clearProperty(KEY_VALUE_CODEC.get());
+        }
+    }
+
+    @Test
+    public void shouldConvertBinaryToEntityWhenCodecIsNotBinary() {
+        KeyValueEntityConverter binary = new KeyValueEntityConverter() {
+            @Override
+            protected EntitiesMetadata getEntities() {
+                return entities;
+            }
+
+            @Override
+            protected Converters getConverters() {
+                return converters;
+            }
+
+            @Override
+            protected boolean isBinaryCodec() {
+                return true;
+            }
+        };
+        KeyValueEntity entity = binary.toKeyValue(Person.builder().withId(123L).withName("Ada").build());
+        Person person = Person.builder().withId(10L).withName("Ada").build();
+        assertThat(converter.toKeyValue(person).value()).isSameAs(person);
+
+        Person ada = converter.toEntity(Person.class, KeyValueEntity.of(123L,
+                Value.of(ByteBuffer.wrap((byte[]) entity.value()))));
+        Assertions.assertEquals(123L, ada.getId());
+        Assertions.assertEquals("Ada", ada.getName());
+    }
+
 }
\ No newline at end of file
@@ -44,7 +44,10 @@ import org.mockito.quality.Strictness;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 import static java.util.Collections.singletonList;
@@ -238,7 +241,7 @@ public class DefaultKeyValueTemplateTest {
     public void shouldGetIterable() {
         User user = new User(KEY, "otavio", 27);
 
-        when(manager.get(KEY)).thenReturn(Optional.of(Value.of(user)));
+        when(manager.getAll(singletonList(KEY))).thenReturn(Map.of(KEY, Value.of(user)));
         List<User> userOptional = stream(template.get(singletonList(KEY), User.class).spliterator(), false)
                 .collect(toList());
 
@@ -246,11 +249,103 @@ public class DefaultKeyValueTemplateTest {
         assertEquals(user, userOptional.get(0));
     }
 
+    @Test
+    public void shouldGetIterableWithOneDatabaseCall() {
+        User otavio = new User(KEY, "otavio", 27);
+        User ada = new User("ada", "ada", 30);
+        List<String> keys = List.of(KEY, "ada");
+
+        when(manager.getAll(keys)).thenReturn(Map.of(KEY, Value.of(otavio), "ada", Value.of(ada)));
+        List<User> users = stream(template.get(keys, User.class).spliterator(), false)
+                .collect(toList());
+
+        assertThat(users).containsExactly(otavio, ada);
+        Mockito.verify(manager).getAll(keys);
+        Mockito.verify(manager, Mockito.never()).get(Mockito.anyIterable());
+        Mockito.verify(manager, Mockito.never()).get(KEY);
+        Mockito.verify(manager, Mockito.never()).get("ada");
+    }
+
+    @Test
+    public void shouldGetIterableInParallelChunks() {
+        User otavio = new User(KEY, "otavio", 27);
+        User ada = new User("ada", "ada", 30);
+        List<Runnable> tasks = new CopyOnWriteArrayList<>();
+        KeyValueTemplate template = parallelTemplate(task -> {
+            tasks.add(task);
+            task.run();
+        });
+
+        when(manager.isThreadSafe()).thenReturn(true);
+        when(manager.getAll(List.of(KEY))).thenReturn(Map.of(KEY, Value.of(otavio)));
+        when(manager.getAll(List.of("ada"))).thenReturn(Map.of("ada", Value.of(ada)));
+        List<User> users = stream(template.get(List.of(KEY, "ada"), User.class).spliterator(), false)
+                .collect(toList());
+
+        assertThat(users).containsExactly(otavio, ada);
+        assertThat(tasks).hasSize(2);
+    }
+
+    @Test
+    public void shouldGetIterableInSequenceWhenTheManagerIsNotThreadSafe() {
+        User otavio = new User(KEY, "otavio", 27);
+        User ada = new User("ada", "ada", 30);
+        List<Runnable> tasks = new CopyOnWriteArrayList<>();
+        KeyValueTemplate template = parallelTemplate(tasks::add);
+
+        when(manager.isThreadSafe()).thenReturn(false);
+        when(manager.getAll(List.of(KEY))).thenReturn(Map.of(KEY, Value.of(otavio)));
+        when(manager.getAll(List.of("ada"))).thenReturn(Map.of("ada", Value.of(ada)));
+        List<User> users = stream(template.get(List.of(KEY, "ada"), User.class).spliterator(), false)
+                .collect(toList());
+
+        assertThat(users).containsExactly(otavio, ada);
+        assertThat(tasks).isEmpty();
+    }
+
+    @Test
+    public void shouldSkipTheKeysNotFound() {
+        User ada = new User("ada", "ada", 30);
+        List<String> keys = List.of(KEY, "ada");
+
+        when(manager.getAll(keys)).thenReturn(Map.of("ada", Value.of(ada)));
+        List<User> users = stream(template.get(keys, User.class).spliterator(), false)
+                .collect(toList());
+
+        assertThat(users).containsExactly(ada);
+        Mockito.verify(manager, Mockito.never()).get(KEY);
+        Mockito.verify(manager, Mockito.never()).get("ada");
+    }
+
+    @Test
+    public void shouldGetIterableInChunks() {
+        User otavio = new User(KEY, "otavio", 27);
+        User ada = new User("ada", "ada", 30);
+        KeyValueEventPersistManager events = Mockito.mock(KeyValueEventPersistManager.class);
+        Instance<BucketManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(manager);
+        KeyValueTemplate template = new DefaultKeyValueTemplate(converter, instance, flow, events) {
+            @Override
+            protected int getBatchSize() {
+                return 1;
+            }
+        };
+
+        when(manager.getAll(List.of(KEY))).thenReturn(Map.of(KEY, Value.of(otavio)));
+        when(manager.getAll(List.of("ada"))).thenReturn(Map.of("ada", Value.of(ada)));
+        List<User> users = stream(template.get(List.of(KEY, "ada"), User.class).spliterator(), false)
+                .collect(toList());
+
+        assertThat(users).containsExactly(otavio, ada);
+        Mockito.verify(events).firePostEntity(otavio);
+        Mockito.verify(events).firePostEntity(ada);
+    }
+
     @Test
     public void shouldReturnEmptyIterable() {
         User user = new User(KEY, "otavio", 27);
 
-        when(manager.get(KEY)).thenReturn(Optional.empty());
+        when(manager.getAll(singletonList(KEY))).thenReturn(Map.of());
         List<User> userOptional = stream(template.get(singletonList(KEY), User.class).spliterator(), false)
                 .collect(toList());
 
@@ -353,4 +448,25 @@ public class DefaultKeyValueTemplateTest {
     public void shouldUnsupportedExceptionOnDelete() {
         assertThrows(UnsupportedOperationException.class, ()-> template.delete(Person.class));
     }
-}
\ No newline at end of file
+
+    private KeyValueTemplate parallelTemplate(Executor executor) {
+        Instance<BucketManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(manager);
+        return new DefaultKeyValueTemplate(converter, instance, flow, eventManager) {
+            @Override
+            protected int getBatchSize() {
+                return 1;
+            }
+
+            @Override
+            protected boolean isBatchParallel() {
+                return true;
+            }
+
+            @Override
+            protected Optional<Executor> getBatchExecutor() {
+                return Optional.of(executor);
+            }
+        };
+    }
+}
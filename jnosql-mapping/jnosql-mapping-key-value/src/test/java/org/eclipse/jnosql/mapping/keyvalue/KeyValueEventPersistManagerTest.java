@@ -24,9 +24,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +50,9 @@ public class KeyValueEventPersistManagerTest {
     @Mock
     private Event<EntityPostPersist> entityPostPersistEvent;
 
+    @Mock
+    private BeanManager beanManager;
+
 
     @Test
     public void shouldFirePreEntity() {
@@ -66,6 +77,26 @@ public class KeyValueEventPersistManagerTest {
     }
 
 
+    @Test
+    public void shouldNotFireEventsWhenThereIsNoObserver() {
+        subject.init();
+        Actor actor = new Actor();
+        subject.firePreEntity(actor);
+        subject.firePostEntity(actor);
+        verifyNoInteractions(entityPrePersistEvent, entityPostPersistEvent);
+    }
+
+    @Test
+    public void shouldFireEventsWhenThereIsObserver() {
+        doReturn(Set.of(mock(ObserverMethod.class))).when(beanManager).resolveObserverMethods(any());
+        subject.init();
+        Actor actor = new Actor();
+        subject.firePreEntity(actor);
+        subject.firePostEntity(actor);
+        verify(entityPrePersistEvent).fire(any(EntityPrePersist.class));
+        verify(entityPostPersistEvent).fire(any(EntityPostPersist.class));
+    }
+
     static class Actor {
         private String name;
     }
@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.test.entities;
+
+import jakarta.nosql.Column;
+import org.eclipse.jnosql.mapping.Embeddable;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Embeddable
+public class Device {
+
+    @Column
+    private String name;
+
+    @Column
+    private LocalDateTime lastAccess;
+
+    Device() {
+    }
+
+    public Device(String name, LocalDateTime lastAccess) {
+        this.name = name;
+        this.lastAccess = lastAccess;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LocalDateTime getLastAccess() {
+        return lastAccess;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Device device = (Device) o;
+        return Objects.equals(name, device.name) && Objects.equals(lastAccess, device.lastAccess);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, lastAccess);
+    }
+
+    @Override
+    public String toString() {
+        return "Device{" +
+                "name='" + name + '\'' +
+                ", lastAccess=" + lastAccess +
+                '}';
+    }
+}
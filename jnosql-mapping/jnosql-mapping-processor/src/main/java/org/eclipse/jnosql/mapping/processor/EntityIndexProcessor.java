@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * An annotation processor that writes, at compile time, the index of the classes that the mapping layer would
+ * otherwise find through a classpath scan: the classes with the Entity and Embeddable annotations and the
+ * interfaces with the Repository annotation. Each kind is written at its own resource, one class name per line,
+ * at {@link EntityIndexProcessor#ENTITIES}, {@link EntityIndexProcessor#EMBEDDABLES} and
+ * {@link EntityIndexProcessor#REPOSITORIES}.
+ * On incremental compilations, the entries of the previous index are kept while their types still exist.
+ */
+public class EntityIndexProcessor extends AbstractProcessor {
+
+    /**
+     * The resource with the classes that have the Entity annotation
+     */
+    public static final String ENTITIES = "META-INF/jnosql/entities";
+
+    /**
+     * The resource with the classes that have the Embeddable annotation
+     */
+    public static final String EMBEDDABLES = "META-INF/jnosql/embeddables";
+
+    /**
+     * The resource with the interfaces that have the Repository annotation
+     */
+    public static final String REPOSITORIES = "META-INF/jnosql/repositories";
+
+    static final String ENTITY = "jakarta.nosql.Entity";
+
+    static final String EMBEDDABLE = "org.eclipse.jnosql.mapping.Embeddable";
+
+    static final String REPOSITORY = "jakarta.data.repository.Repository";
+
+    private final Map<String, Set<String>> index = new TreeMap<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(ENTITY, EMBEDDABLE, REPOSITORY);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        if (round.processingOver()) {
+            write(ENTITIES, ENTITY);
+            write(EMBEDDABLES, EMBEDDABLE);
+            write(REPOSITORIES, REPOSITORY);
+            return false;
+        }
+        for (TypeElement annotation : annotations) {
+            String annotationName = annotation.getQualifiedName().toString();
+            for (Element element : round.getElementsAnnotatedWith(annotation)) {
+                if (isIndexed(annotationName, element)) {
+                    String name = processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString();
+                    index.computeIfAbsent(annotationName, k -> new TreeSet<>()).add(name);
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isIndexed(String annotation, Element element) {
+        if (REPOSITORY.equals(annotation)) {
+            return element.getKind() == ElementKind.INTERFACE;
+        }
+        return element.getKind().isClass() && element.getKind() != ElementKind.ENUM;
+    }
+
+    private void write(String resource, String annotation) {
+        Set<String> names = new TreeSet<>(index.getOrDefault(annotation, Set.of()));
+        names.addAll(previous(resource, annotation));
+        if (names.isEmpty()) {
+            return;
+        }
+        Filer filer = processingEnv.getFiler();
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", resource);
+            try (Writer writer = file.openWriter()) {
+                for (String name : names) {
+                    writer.write(name);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write the JNoSQL index " + resource + ": " + exception.getMessage());
+        }
+    }
+
+    private Set<String> previous(String resource, String annotation) {
+        Set<String> names = new TreeSet<>();
+        Elements elements = processingEnv.getElementUtils();
+        try {
+            FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", resource);
+            try (Reader reader = file.openReader(true);
+                 BufferedReader lines = new BufferedReader(reader)) {
+                lines.lines().map(String::trim)
+                        .filter(name -> !name.isEmpty())
+                        .filter(name -> isAnnotated(elements.getTypeElement(name.replace('$', '.')), annotation))
+                        .forEach(names::add);
+            }
+        } catch (IOException | IllegalArgumentException exception) {
+            //there is no previous index
+        }
+        return names;
+    }
+
+    private boolean isAnnotated(TypeElement element, String annotation) {
+        return element != null && element.getAnnotationMirrors().stream()
+                .map(a -> ((TypeElement) a.getAnnotationType().asElement()).getQualifiedName().toString())
+                .anyMatch(annotation::equals);
+    }
+
+    @Override
+    public String toString() {
+        return "EntityIndexProcessor{" +
+                "index=" + index +
+                '}';
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityIndexProcessorTest {
+
+    @TempDir
+    Path output;
+
+    @Test
+    public void shouldWriteIndex() throws IOException {
+        List<JavaFileObject> sources = annotations();
+        sources.add(source("sample.Person", "package sample; @jakarta.nosql.Entity public class Person {"
+                + " @org.eclipse.jnosql.mapping.Embeddable public static class Address {} }"));
+        sources.add(source("sample.Job", "package sample; @org.eclipse.jnosql.mapping.Embeddable public class Job {}"));
+        sources.add(source("sample.PersonRepository",
+                "package sample; @jakarta.data.repository.Repository public interface PersonRepository {}"));
+        sources.add(source("sample.Animal", "package sample; public class Animal {}"));
+
+        assertThat(compile(sources)).isTrue();
+
+        assertThat(read(EntityIndexProcessor.ENTITIES)).containsExactly("sample.Person");
+        assertThat(read(EntityIndexProcessor.EMBEDDABLES)).containsExactly("sample.Job", "sample.Person$Address");
+        assertThat(read(EntityIndexProcessor.REPOSITORIES)).containsExactly("sample.PersonRepository");
+    }
+
+    @Test
+    public void shouldKeepPreviousIndexOnIncrementalCompilation() throws IOException {
+        List<JavaFileObject> sources = annotations();
+        sources.add(source("sample.Person", "package sample; @jakarta.nosql.Entity public class Person {}"));
+        sources.add(source("sample.Book", "package sample; @jakarta.nosql.Entity public class Book {}"));
+        assertThat(compile(sources)).isTrue();
+
+        List<JavaFileObject> changed = new ArrayList<>();
+        changed.add(source("sample.Book", "package sample; public class Book {}"));
+        changed.add(source("sample.Car", "package sample; @jakarta.nosql.Entity public class Car {}"));
+        assertThat(compile(changed)).isTrue();
+
+        assertThat(read(EntityIndexProcessor.ENTITIES)).containsExactly("sample.Car", "sample.Person");
+    }
+
+    @Test
+    public void shouldNotWriteIndexWhenThereIsNoAnnotation() throws IOException {
+        List<JavaFileObject> sources = annotations();
+        sources.add(source("sample.Animal", "package sample; public class Animal {}"));
+        assertThat(compile(sources)).isTrue();
+        assertThat(output.resolve(EntityIndexProcessor.ENTITIES)).doesNotExist();
+    }
+
+    private boolean compile(List<JavaFileObject> sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager manager = compiler.getStandardFileManager(null, null, null)) {
+            manager.setLocationFromPaths(StandardLocation.CLASS_OUTPUT, List.of(output));
+            manager.setLocationFromPaths(StandardLocation.CLASS_PATH, List.of(output));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, manager, null, null, null, sources);
+            task.setProcessors(List.of(new EntityIndexProcessor()));
+            return task.call();
+        }
+    }
+
+    private List<String> read(String resource) throws IOException {
+        return Files.readAllLines(output.resolve(resource));
+    }
+
+    private List<JavaFileObject> annotations() {
+        List<JavaFileObject> sources = new ArrayList<>();
+        sources.add(source("jakarta.nosql.Entity", "package jakarta.nosql; public @interface Entity {}"));
+        sources.add(source("org.eclipse.jnosql.mapping.Embeddable",
+                "package org.eclipse.jnosql.mapping; public @interface Embeddable {}"));
+        sources.add(source("jakarta.data.repository.Repository",
+                "package jakarta.data.repository; public @interface Repository {}"));
+        return sources;
+    }
+
+    private static JavaFileObject source(String name, String code) {
+        URI uri = URI.create("string:///" + name.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
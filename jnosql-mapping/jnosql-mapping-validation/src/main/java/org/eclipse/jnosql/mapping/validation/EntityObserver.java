@@ -15,29 +15,90 @@
 package org.eclipse.jnosql.mapping.validation;
 
 
+import org.eclipse.jnosql.mapping.EntitiesPrePersist;
 import org.eclipse.jnosql.mapping.EntityPostPersist;
 import org.eclipse.jnosql.mapping.EntityPrePersist;
+import org.eclipse.jnosql.mapping.PersistScope;
 import org.eclipse.jnosql.mapping.reflection.ConstructorEvent;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Validates the entities following the {@link ValidationPolicy}. The templates fire the {@link EntityPostPersist}
+ * both after a write and to each entity read from the database, so the observer checks the {@link PersistScope}
+ * that the workflows open around each write: when it is not open, it is a read.
+ * The entities validated together at the {@link EntitiesPrePersist} are kept at the scope, thus, they are not
+ * validated again at their {@link EntityPrePersist} and they are discarded when the write ends, even if it fails.
+ */
 @ApplicationScoped
 class EntityObserver {
 
     @Inject
     private MappingValidator validator;
 
+    private ValidationPolicy policy;
+
+    private int sampling;
+
+    private final AtomicLong reads = new AtomicLong();
+
+    EntityObserver() {
+    }
+
+    EntityObserver(MappingValidator validator, ValidationPolicy policy, int sampling) {
+        this.validator = validator;
+        this.policy = policy;
+        this.sampling = sampling;
+    }
+
+    @PostConstruct
+    void init() {
+        this.policy = ValidationPolicy.get();
+        this.sampling = ValidationPolicy.sampling();
+    }
+
+    void validate(@Observes EntitiesPrePersist entities) {
+        Set<Object> validated = validated();
+        validated.clear();
+        this.validator.validateAll(entities.get());
+        validated.addAll(entities.get());
+    }
+
     void validate(@Observes EntityPrePersist entity) {
-        this.validator.validate(entity.get());
+        if (!validated().remove(entity.get())) {
+            this.validator.validate(entity.get());
+        }
     }
 
     void validate(@Observes EntityPostPersist entity) {
-        this.validator.validate(entity.get());
+        if (PersistScope.isOpen()) {
+            if (policy.isPostPersist()) {
+                this.validator.validate(entity.get());
+            }
+        } else if (isReadValidated()) {
+            this.validator.validate(entity.get());
+        }
     }
 
     void validate(@Observes ConstructorEvent event) {
-        this.validator.validate(event);
+        if (isReadValidated()) {
+            this.validator.validate(event);
+        }
+    }
+
+    private boolean isReadValidated() {
+        return policy == ValidationPolicy.ALL || policy.isRead(reads.incrementAndGet(), sampling);
+    }
+
+    private static Set<Object> validated() {
+        return PersistScope.attribute(EntityObserver.class,
+                () -> Collections.newSetFromMap(new IdentityHashMap<>()));
     }
 }
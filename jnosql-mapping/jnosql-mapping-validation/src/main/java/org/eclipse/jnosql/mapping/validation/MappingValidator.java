@@ -27,9 +27,12 @@ import jakarta.validation.ValidatorFactory;
 import jakarta.validation.executable.ExecutableValidator;
 import org.eclipse.jnosql.mapping.reflection.ConstructorEvent;
 
+import java.lang.reflect.Constructor;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -46,6 +49,10 @@ public class MappingValidator {
 
     private Validator validator;
 
+    private final Map<Class<?>, Boolean> constrainedTypes = new ConcurrentHashMap<>();
+
+    private final Map<Constructor<?>, Boolean> constrainedConstructors = new ConcurrentHashMap<>();
+
     /**
      * Validate an entity using entity validation
      *
@@ -56,6 +63,9 @@ public class MappingValidator {
      */
     public void validate(Object entity) {
         Objects.requireNonNull(entity, "entity is required");
+        if (!isConstrained(entity.getClass())) {
+            return;
+        }
         Set<ConstraintViolation<Object>> violations = validator.validate(entity);
 
         if (!violations.isEmpty()) {
@@ -64,6 +74,29 @@ public class MappingValidator {
 
     }
 
+    /**
+     * Validate several entities at once, it collects the violations of all entities
+     * instead of stopping at the first invalid one.
+     *
+     * @param entities the entities to be validated
+     * @throws NullPointerException                            when either the entities or an entity is null
+     * @throws jakarta.validation.ConstraintViolationException when {@link jakarta.validation.Validator#validate(Object, Class[])}
+     *                                                         returns a non-empty collection to any entity
+     */
+    public void validateAll(Iterable<?> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        Set<ConstraintViolation<?>> violations = new HashSet<>();
+        for (Object entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            if (isConstrained(entity.getClass())) {
+                violations.addAll(validator.validate(entity));
+            }
+        }
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+    }
+
     /**
      * Validate an entity using entity validation
      *
@@ -74,6 +107,9 @@ public class MappingValidator {
      */
     public void validate(ConstructorEvent event) {
         Objects.requireNonNull(event, "event is required");
+        if (!isConstrained(event.getConstructor())) {
+            return;
+        }
         ExecutableValidator executableValidator = validator.forExecutables();
         Set<? extends ConstraintViolation<?>> violations =
                 executableValidator.validateConstructorParameters(event.getConstructor(),
@@ -84,6 +120,24 @@ public class MappingValidator {
         }
     }
 
+    /**
+     * Checks once for each type whether it has constraints, so the types without constraints skip the
+     * {@link Validator}.
+     *
+     * @param type the type
+     * @return true when the type has either constraints or cascaded properties
+     */
+    boolean isConstrained(Class<?> type) {
+        return constrainedTypes.computeIfAbsent(type,
+                t -> validator.getConstraintsForClass(t).isBeanConstrained());
+    }
+
+    boolean isConstrained(Constructor<?> constructor) {
+        return constrainedConstructors.computeIfAbsent(constructor,
+                c -> validator.getConstraintsForClass(c.getDeclaringClass())
+                        .getConstraintsForConstructor(c.getParameterTypes()) != null);
+    }
+
     /**
      * Defines the {@link Validator} that it's going to be used during the validation process
      *
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.validation;
+
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+
+import java.util.Locale;
+import java.util.Objects;
+
+import static org.eclipse.jnosql.mapping.config.MappingConfigurations.VALIDATION_POLICY;
+import static org.eclipse.jnosql.mapping.config.MappingConfigurations.VALIDATION_SAMPLING;
+
+/**
+ * Defines when the entities are validated. It is defined by the jnosql.validation.policy property, e.g.:
+ * jnosql.validation.policy=writes. Either the "-" or the "_" separator is accepted, so pre-persist
+ * and PRE_PERSIST are the same policy.
+ *
+ * @see org.eclipse.jnosql.mapping.config.MappingConfigurations#VALIDATION_POLICY
+ */
+public enum ValidationPolicy {
+
+    /**
+     * Validates the entities before and after they are either saved or updated, and every entity
+     * read from the database. It is the default policy.
+     */
+    ALL,
+    /**
+     * Validates the entities before and after they are either saved or updated, thus, it is off for reads.
+     */
+    WRITES,
+    /**
+     * Validates the entities only before they are either saved or updated.
+     */
+    PRE_PERSIST,
+    /**
+     * Validates the entities before and after they are either saved or updated, and one of each N entities
+     * read from the database, where N is defined by the jnosql.validation.sampling property.
+     *
+     * @see org.eclipse.jnosql.mapping.config.MappingConfigurations#VALIDATION_SAMPLING
+     */
+    SAMPLED;
+
+    static final int DEFAULT_SAMPLING = 100;
+
+    /**
+     * Checks whether the entities are validated after they are either saved or updated.
+     *
+     * @return true when the entities are validated after the database action
+     */
+    public boolean isPostPersist() {
+        return this != PRE_PERSIST;
+    }
+
+    /**
+     * Checks whether the entity read from the database is validated.
+     *
+     * @param read     the sequence of the read entity, starting at one
+     * @param sampling the number of read entities to validate one
+     * @return true when the read entity is validated
+     */
+    public boolean isRead(long read, int sampling) {
+        switch (this) {
+            case ALL:
+                return true;
+            case SAMPLED:
+                return read % sampling == 0;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the policy from the name, it ignores the case and accepts either "-" or "_" as separator.
+     *
+     * @param name the name
+     * @return the policy
+     * @throws NullPointerException     when the name is null
+     * @throws IllegalArgumentException when there is no policy with the name
+     */
+    public static ValidationPolicy parse(String name) {
+        Objects.requireNonNull(name, "name is required");
+        return valueOf(name.trim().replace('-', '_').toUpperCase(Locale.US));
+    }
+
+    /**
+     * Returns the policy defined at the jnosql.validation.policy property, by default {@link ValidationPolicy#ALL}.
+     *
+     * @return the configured policy
+     */
+    static ValidationPolicy get() {
+        return MicroProfileSettings.INSTANCE.get(VALIDATION_POLICY, String.class)
+                .map(ValidationPolicy::parse)
+                .orElse(ALL);
+    }
+
+    /**
+     * Returns the jnosql.validation.sampling property, by default 100.
+     *
+     * @return the configured sampling
+     * @throws IllegalArgumentException when the sampling is not positive
+     */
+    static int sampling() {
+        int sampling = MicroProfileSettings.INSTANCE.getOrDefault(VALIDATION_SAMPLING, DEFAULT_SAMPLING);
+        if (sampling <= 0) {
+            throw new IllegalArgumentException("The validation sampling should be positive, sampling: " + sampling);
+        }
+        return sampling;
+    }
+}
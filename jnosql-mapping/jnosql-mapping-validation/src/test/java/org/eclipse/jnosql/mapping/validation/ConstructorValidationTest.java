@@ -60,6 +60,14 @@ public class ConstructorValidationTest {
 
     }
 
+    @Test
+    public void shouldSkipConstructorWithoutConstraints() throws NoSuchMethodException {
+        Constructor<Person> constructor = Person.class.getConstructor();
+        validator.validate(ConstructorEvent.of(constructor, new Object[0]));
+        Assertions.assertFalse(validator.isConstrained(constructor));
+        Assertions.assertTrue(validator.isConstrained(getConstructor()));
+    }
+
     private Constructor<Computer> getConstructor() {
         try {
             return Computer.class.getConstructor(String.class,int.class, String.class);
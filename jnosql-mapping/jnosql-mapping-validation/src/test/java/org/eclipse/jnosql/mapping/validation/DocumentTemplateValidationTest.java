@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Set;
 
 import static java.util.Collections.singletonList;
@@ -90,6 +91,25 @@ public class DocumentTemplateValidationTest {
 
     }
 
+    @Test
+    public void shouldCollectValidationsOnBatch() {
+        Person ada = Person.builder()
+                .withAge(10)
+                .withName("Ada")
+                .withSalary(BigDecimal.ONE)
+                .withPhones(singletonList("123131231"))
+                .build();
+        Person poliana = Person.builder()
+                .withAge(21)
+                .withName("Poliana")
+                .withSalary(BigDecimal.valueOf(12991))
+                .withPhones(singletonList("123131231"))
+                .build();
+        ConstraintViolationException exception = Assertions.assertThrows(ConstraintViolationException.class,
+                () -> template.insert(List.of(ada, poliana)));
+        assertEquals(2, exception.getConstraintViolations().size());
+    }
+
     @Test
     public void shouldValidateOnUpdate() {
 
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.validation;
+
+import org.eclipse.jnosql.mapping.EntitiesPrePersist;
+import org.eclipse.jnosql.mapping.EntityPostPersist;
+import org.eclipse.jnosql.mapping.EntityPrePersist;
+import org.eclipse.jnosql.mapping.PersistScope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class EntityObserverTest {
+
+    private MappingValidator validator;
+
+    @BeforeEach
+    public void setUp() {
+        this.validator = Mockito.mock(MappingValidator.class);
+    }
+
+    @Test
+    public void shouldValidateAll() {
+        EntityObserver observer = new EntityObserver(validator, ValidationPolicy.ALL, 10);
+        Person person = new Person();
+        write(observer, person);
+        observer.validate(EntityPostPersist.of(person));
+        verify(validator, times(3)).validate(person);
+    }
+
+    @Test
+    public void shouldNotValidateReadsOnWrites() {
+        EntityObserver observer = new EntityObserver(validator, ValidationPolicy.WRITES, 10);
+        Person person = new Person();
+        write(observer, person);
+        verify(validator, times(2)).validate(person);
+
+        Person read = new Person();
+        observer.validate(EntityPostPersist.of(read));
+        verify(validator, never()).validate(read);
+    }
+
+    @Test
+    public void shouldValidatePrePersist() {
+        EntityObserver observer = new EntityObserver(validator, ValidationPolicy.PRE_PERSIST, 10);
+        Person person = new Person();
+        write(observer, person);
+        observer.validate(EntityPostPersist.of(person));
+        verify(validator, times(1)).validate(person);
+    }
+
+    @Test
+    public void shouldSampleReads() {
+        EntityObserver observer = new EntityObserver(validator, ValidationPolicy.SAMPLED, 3);
+        Person person = new Person();
+        for (int index = 0; index < 9; index++) {
+            observer.validate(EntityPostPersist.of(person));
+        }
+        verify(validator, times(3)).validate(person);
+    }
+
+    @Test
+    public void shouldValidateBatchOnce() {
+        EntityObserver observer = new EntityObserver(validator, ValidationPolicy.PRE_PERSIST, 10);
+        Person ada = new Person();
+        Person poliana = new Person();
+        List<Person> people = List.of(ada, poliana);
+        PersistScope.open();
+        try {
+            observer.validate(EntitiesPrePersist.of(people));
+            people.forEach(p -> observer.validate(EntityPrePersist.of(p)));
+        } finally {
+            PersistScope.close();
+        }
+
+        verify(validator).validateAll(people);
+        verify(validator, never()).validate(ada);
+        verify(validator, never()).validate(poliana);
+    }
+
+    @Test
+    public void shouldNotValidateReadsAfterFailedWrite() {
+        EntityObserver observer = new EntityObserver(validator, ValidationPolicy.WRITES, 10);
+        Person ada = new Person();
+        Person poliana = new Person();
+        List<Person> people = List.of(ada, poliana);
+        PersistScope.open();
+        try {
+            observer.validate(EntitiesPrePersist.of(people));
+            people.forEach(p -> observer.validate(EntityPrePersist.of(p)));
+        } finally {
+            PersistScope.close();
+        }
+
+        Person read = new Person();
+        observer.validate(EntityPostPersist.of(read));
+        observer.validate(EntityPostPersist.of(read));
+        verify(validator, never()).validate(read);
+        assertFalse(PersistScope.isOpen());
+
+        write(observer, ada);
+        verify(validator, times(2)).validate(ada);
+    }
+
+    private void write(EntityObserver observer, Person person) {
+        PersistScope.open();
+        try {
+            observer.validate(EntityPrePersist.of(person));
+            observer.validate(EntityPostPersist.of(person));
+        } finally {
+            PersistScope.close();
+        }
+    }
+}
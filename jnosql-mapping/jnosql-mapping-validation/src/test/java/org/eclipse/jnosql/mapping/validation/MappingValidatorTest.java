@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.validation;
+
+import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import org.eclipse.jnosql.mapping.Convert;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableAutoWeld
+@AddPackages(value = {Convert.class})
+@AddPackages(Person.class)
+@AddExtensions({EntityMetadataExtension.class})
+public class MappingValidatorTest {
+
+    @Inject
+    private MappingValidator validator;
+
+    @Test
+    public void shouldCheckConstraints() {
+        assertThat(validator.isConstrained(Person.class)).isTrue();
+        assertThat(validator.isConstrained(Animal.class)).isFalse();
+    }
+
+    @Test
+    public void shouldSkipTypeWithoutConstraints() {
+        validator.validate(new Animal());
+        validator.validateAll(List.of(new Animal(), new Animal()));
+    }
+
+    @Test
+    public void shouldCollectViolationsOfAllEntities() {
+        Person ada = person("Ada", 10);
+        Person poliana = person("Poliana", 12);
+        ConstraintViolationException exception = Assertions.assertThrows(ConstraintViolationException.class,
+                () -> validator.validateAll(List.of(ada, new Animal(), poliana)));
+        List<Object> beans = exception.getConstraintViolations().stream()
+                .map(ConstraintViolation::getRootBean)
+                .collect(Collectors.toList());
+        assertThat(beans).containsExactlyInAnyOrder(ada, poliana);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenValidateAllIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> validator.validateAll(null));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> validator.validateAll(singletonList(null)));
+    }
+
+    private static Person person(String name, int age) {
+        return Person.builder()
+                .withAge(age)
+                .withName(name)
+                .withSalary(BigDecimal.ONE)
+                .withPhones(singletonList("123131231"))
+                .build();
+    }
+
+    public static class Animal {
+
+        private String name;
+    }
+}
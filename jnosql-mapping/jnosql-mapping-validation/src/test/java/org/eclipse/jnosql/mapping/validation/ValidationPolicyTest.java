@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.validation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValidationPolicyTest {
+
+    @Test
+    public void shouldParse() {
+        assertThat(ValidationPolicy.parse("all")).isEqualTo(ValidationPolicy.ALL);
+        assertThat(ValidationPolicy.parse("Writes")).isEqualTo(ValidationPolicy.WRITES);
+        assertThat(ValidationPolicy.parse("pre-persist")).isEqualTo(ValidationPolicy.PRE_PERSIST);
+        assertThat(ValidationPolicy.parse(" PRE_PERSIST ")).isEqualTo(ValidationPolicy.PRE_PERSIST);
+        assertThat(ValidationPolicy.parse("sampled")).isEqualTo(ValidationPolicy.SAMPLED);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParseIsInvalid() {
+        Assertions.assertThrows(NullPointerException.class, () -> ValidationPolicy.parse(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ValidationPolicy.parse("reads"));
+    }
+
+    @Test
+    public void shouldCheckPostPersist() {
+        assertThat(ValidationPolicy.ALL.isPostPersist()).isTrue();
+        assertThat(ValidationPolicy.WRITES.isPostPersist()).isTrue();
+        assertThat(ValidationPolicy.SAMPLED.isPostPersist()).isTrue();
+        assertThat(ValidationPolicy.PRE_PERSIST.isPostPersist()).isFalse();
+    }
+
+    @Test
+    public void shouldCheckRead() {
+        assertThat(ValidationPolicy.ALL.isRead(1, 10)).isTrue();
+        assertThat(ValidationPolicy.WRITES.isRead(10, 10)).isFalse();
+        assertThat(ValidationPolicy.PRE_PERSIST.isRead(10, 10)).isFalse();
+        assertThat(ValidationPolicy.SAMPLED.isRead(9, 10)).isFalse();
+        assertThat(ValidationPolicy.SAMPLED.isRead(10, 10)).isTrue();
+    }
+
+    @Test
+    public void shouldUseDefaultPolicy() {
+        assertThat(ValidationPolicy.get()).isEqualTo(ValidationPolicy.ALL);
+        assertThat(ValidationPolicy.sampling()).isEqualTo(ValidationPolicy.DEFAULT_SAMPLING);
+    }
+}